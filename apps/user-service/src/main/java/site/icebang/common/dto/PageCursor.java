@@ -0,0 +1,103 @@
+package site.icebang.common.dto;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import site.icebang.common.exception.InvalidQueryParameterException;
+
+/**
+ * 커서 기반(Keyset) 페이징에서 마지막으로 조회한 행의 위치를 나타내는 불변 객체입니다.
+ *
+ * <p>목록은 {@code (created_at DESC, id DESC)} 순으로 정렬되며, 다음 페이지는 커서가 가리키는 행보다 뒤에 있는 행부터 조회합니다. {@code
+ * created_at}이 같은 행이 여러 개여도 {@code id}로 순서가 확정되므로 중복이나 누락 없이 이어서 조회할 수 있습니다.
+ *
+ * <p>클라이언트에는 내부 구조를 드러내지 않도록 URL-safe Base64로 인코딩된 불투명(opaque) 문자열로 전달됩니다.
+ *
+ * <pre>{@code
+ * String cursor = PageCursor.of(row.getCreatedAt(), row.getId()).encode();
+ * PageCursor decoded = PageCursor.decode(cursor);
+ * }</pre>
+ *
+ * @since v0.1.0
+ */
+public final class PageCursor {
+
+  private static final String DELIMITER = "|";
+
+  private final Instant createdAt;
+  private final BigInteger id;
+
+  private PageCursor(Instant createdAt, BigInteger id) {
+    this.createdAt = createdAt;
+    this.id = id;
+  }
+
+  /**
+   * 행의 생성 시각과 ID로 커서를 생성합니다.
+   *
+   * @param createdAt 행의 생성 시각
+   * @param id 행의 ID
+   * @return 생성된 커서
+   */
+  public static PageCursor of(Instant createdAt, BigInteger id) {
+    if (createdAt == null || id == null) {
+      throw new IllegalArgumentException("커서를 생성하려면 createdAt과 id가 모두 필요합니다.");
+    }
+    return new PageCursor(createdAt, id);
+  }
+
+  /**
+   * 클라이언트가 전달한 커서 문자열을 해석합니다.
+   *
+   * @param cursor {@link #encode()}로 생성된 커서 문자열
+   * @return 해석된 커서
+   * @throws InvalidQueryParameterException 커서 형식이 올바르지 않은 경우
+   */
+  public static PageCursor decode(String cursor) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      int delimiterIndex = raw.lastIndexOf(DELIMITER);
+      if (delimiterIndex < 0) {
+        throw new InvalidQueryParameterException("잘못된 커서입니다: " + cursor);
+      }
+      return new PageCursor(
+          Instant.parse(raw.substring(0, delimiterIndex)),
+          new BigInteger(raw.substring(delimiterIndex + 1)));
+    } catch (IllegalArgumentException | DateTimeParseException e) {
+      throw new InvalidQueryParameterException("잘못된 커서입니다: " + cursor, e);
+    }
+  }
+
+  /**
+   * 커서를 클라이언트에 전달할 불투명 문자열로 인코딩합니다.
+   *
+   * @return URL-safe Base64로 인코딩된 커서 문자열
+   */
+  public String encode() {
+    String raw = createdAt + DELIMITER + id;
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * 커서가 가리키는 행의 생성 시각을 반환합니다.
+   *
+   * @return 생성 시각
+   */
+  public Instant getCreatedAt() {
+    return createdAt;
+  }
+
+  /**
+   * 커서가 가리키는 행의 ID를 반환합니다.
+   *
+   * @return 행 ID
+   */
+  public BigInteger getId() {
+    return id;
+  }
+}
@@ -8,6 +8,10 @@ import lombok.Data;
  * <p>목록 조회 API에서 공통적으로 사용되는 요청 파라미터를 정의합니다. 현재 페이지 번호({@link #current}), 페이지 크기({@link #pageSize}),
  * 검색어({@link #search}), 정렬 조건({@link #sorters}), 필터 조건({@link #filters})를 포함합니다.
  *
+ * <p>{@link #cursor}가 지정되면 OFFSET 대신 커서 기반(Keyset) 페이징으로 동작합니다. 이 경우 {@code current}는 무시되고, 커서가
+ * 가리키는 행 다음부터 {@code pageSize}개를 조회하므로 얼마나 깊이 스크롤하더라도 조회 비용이 일정합니다. 커서 모드에서는 기본적으로 전체 개수를 세지 않으며,
+ * 필요하면 {@link #includeTotal}로 명시적으로 요청할 수 있습니다.
+ *
  * <p><b>사용 예시:</b>
  *
  * <pre>{@code
@@ -63,6 +67,21 @@ public class PageParams {
    */
   private String[] filters;
 
+  /**
+   * 커서 기반 페이징에 사용할 커서.
+   *
+   * <p>이전 응답의 {@code nextCursor} 값을 그대로 전달합니다. {@code null}이거나 빈 문자열인 경우 OFFSET 기반 페이징이 적용됩니다.
+   */
+  private String cursor;
+
+  /**
+   * 전체 개수 조회 여부.
+   *
+   * <p>{@code null}이면 OFFSET 모드에서는 전체 개수를 조회하고, 커서 모드에서는 조회하지 않습니다. 대용량 테이블에서 {@code COUNT(*)} 비용을
+   * 피하려면 {@code false}로 지정합니다.
+   */
+  private Boolean includeTotal;
+
   /**
    * 페이징 처리를 위한 offset(시작 위치)을 계산합니다.
    *
@@ -72,6 +91,45 @@ public class PageParams {
     return (current - 1) * pageSize;
   }
 
+  /**
+   * 다음 페이지 존재 여부를 판단하기 위해 실제로 조회할 행 수를 반환합니다.
+   *
+   * <p>한 행을 더 조회하여, 추가 행이 존재하면 다음 페이지가 있는 것으로 판단합니다.
+   *
+   * @return pageSize + 1
+   */
+  public int getFetchSize() {
+    return pageSize + 1;
+  }
+
+  /**
+   * 커서 기반 페이징 모드인지 확인합니다.
+   *
+   * @return 커서가 null이 아니고 공백이 아닌 경우 true
+   */
+  public boolean isCursorMode() {
+    return cursor != null && !cursor.isBlank();
+  }
+
+  /**
+   * 전체 개수를 조회해야 하는지 확인합니다.
+   *
+   * @return {@link #includeTotal}이 지정되면 그 값, 아니면 OFFSET 모드일 때 true
+   */
+  public boolean shouldCountTotal() {
+    return includeTotal != null ? includeTotal : !isCursorMode();
+  }
+
+  /**
+   * 커서 문자열을 해석한 결과를 반환합니다.
+   *
+   * @return 해석된 커서, 커서 모드가 아니면 {@code null}
+   * @throws site.icebang.common.exception.InvalidQueryParameterException 커서 형식이 올바르지 않은 경우
+   */
+  public PageCursor getDecodedCursor() {
+    return isCursorMode() ? PageCursor.decode(cursor) : null;
+  }
+
   /**
    * 검색어가 유효하게 존재하는지 확인합니다.
    *
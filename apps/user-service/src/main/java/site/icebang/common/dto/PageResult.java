@@ -1,6 +1,8 @@
 package site.icebang.common.dto;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import lombok.Data;
@@ -13,6 +15,9 @@ import lombok.NoArgsConstructor;
  * 번호({@link #current}), 페이지 크기({@link #pageSize}), 전체 페이지 수({@link #totalPages}), 다음/이전 페이지 여부를
  * 포함합니다.
  *
+ * <p>커서 기반 페이징({@link PageParams#isCursorMode()})으로 조회한 경우 다음 페이지를 조회할 수 있는 {@link #nextCursor}를 함께
+ * 반환하며, 전체 개수를 조회하지 않았다면 {@link #total}과 {@link #totalPages}는 {@code null}입니다.
+ *
  * <p><b>사용 예시:</b>
  *
  * <pre>{@code
@@ -41,8 +46,8 @@ public class PageResult<T> {
   /** 현재 페이지에 포함된 데이터 목록. */
   private List<T> data;
 
-  /** 전체 데이터 개수. */
-  private int total;
+  /** 전체 데이터 개수. 전체 개수를 조회하지 않은 경우 {@code null}입니다. */
+  private Integer total;
 
   /** 현재 페이지 번호 (1부터 시작). */
   private int current;
@@ -50,8 +55,8 @@ public class PageResult<T> {
   /** 한 페이지에 포함되는 데이터 개수. */
   private int pageSize;
 
-  /** 전체 페이지 수. */
-  private int totalPages;
+  /** 전체 페이지 수. 전체 개수를 조회하지 않은 경우 {@code null}입니다. */
+  private Integer totalPages;
 
   /** 다음 페이지가 존재하는지 여부. */
   private boolean hasNext;
@@ -59,6 +64,9 @@ public class PageResult<T> {
   /** 이전 페이지가 존재하는지 여부. */
   private boolean hasPrevious;
 
+  /** 다음 페이지 조회에 사용할 커서. 다음 페이지가 없으면 {@code null}입니다. */
+  private String nextCursor;
+
   /**
    * 생성자.
    *
@@ -131,6 +139,51 @@ public class PageResult<T> {
     return new PageResult<>(data, total, pageParams.getCurrent(), pageParams.getPageSize());
   }
 
+  /**
+   * OFFSET/커서 기반 페이징을 모두 지원하는 PageResult를 생성합니다.
+   *
+   * <p>{@code dataSupplier}는 {@link PageParams#getFetchSize()}만큼(페이지 크기 + 1) 조회해야 하며, 추가로 조회된 한 행으로
+   * 다음 페이지 존재 여부를 판단한 뒤 결과에서 제외합니다. 다음 페이지가 있으면 마지막 행의 위치를 {@link #nextCursor}로 반환하므로, OFFSET 모드로 첫
+   * 페이지를 조회한 뒤 커서 모드로 이어서 조회할 수 있습니다. 전체 개수는 {@link PageParams#shouldCountTotal()}이 true인 경우에만
+   * 조회합니다.
+   *
+   * @param pageParams 요청 파라미터 ({@link PageParams})
+   * @param dataSupplier 데이터 조회 함수 (페이지 크기 + 1개 조회)
+   * @param countSupplier 전체 개수 조회 함수
+   * @param cursorExtractor 행으로부터 커서를 생성하는 함수 (커서를 지원하지 않는 정렬이면 {@code null})
+   * @param <T> 데이터 타입
+   * @return PageResult 객체
+   * @throws site.icebang.common.exception.InvalidQueryParameterException 커서 형식이 올바르지 않은 경우
+   */
+  public static <T> PageResult<T> from(
+      PageParams pageParams,
+      Supplier<List<T>> dataSupplier,
+      Supplier<Integer> countSupplier,
+      Function<T, PageCursor> cursorExtractor) {
+    // 잘못된 커서는 쿼리 실행 전에 검증하여 400 응답으로 처리
+    pageParams.getDecodedCursor();
+    int pageSize = pageParams.getPageSize();
+    List<T> rows = dataSupplier.get();
+    boolean hasMore = rows.size() > pageSize;
+    List<T> data = hasMore ? new ArrayList<>(rows.subList(0, pageSize)) : rows;
+
+    PageResult<T> result = new PageResult<>();
+    result.data = data;
+    result.current = pageParams.getCurrent();
+    result.pageSize = pageSize;
+    if (pageParams.shouldCountTotal()) {
+      int total = countSupplier.get();
+      result.total = total;
+      result.totalPages = total > 0 ? (int) Math.ceil((double) total / pageSize) : 0;
+    }
+    result.hasNext = hasMore;
+    result.hasPrevious = pageParams.isCursorMode() || pageParams.getCurrent() > 1;
+    if (hasMore && cursorExtractor != null) {
+      result.nextCursor = cursorExtractor.apply(data.get(data.size() - 1)).encode();
+    }
+    return result;
+  }
+
   /**
    * 비어 있는 페이지 결과를 생성합니다.
    *
@@ -173,9 +226,11 @@ public class PageResult<T> {
   /**
    * 현재 페이지가 마지막 페이지인지 확인합니다.
    *
+   * <p>전체 개수를 조회하지 않은 경우 다음 페이지 존재 여부로 판단합니다.
+   *
    * @return 마지막 페이지면 true
    */
   public boolean isLastPage() {
-    return current == totalPages;
+    return totalPages != null ? current == totalPages : !hasNext;
   }
 }
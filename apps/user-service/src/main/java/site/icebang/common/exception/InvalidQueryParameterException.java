@@ -0,0 +1,31 @@
+package site.icebang.common.exception;
+
+/**
+ * 목록 조회 요청의 쿼리 파라미터가 올바르지 않을 때 발생하는 예외 클래스입니다.
+ *
+ * <p>해석할 수 없는 페이징 커서, 허용되지 않은 필터/정렬 필드 등 클라이언트가 잘못된 조회 조건을 전달한 경우에 사용되며, {@code
+ * GlobalExceptionHandler}에서 {@code 400 Bad Request}로 변환됩니다.
+ *
+ * @since v0.1.0
+ */
+public class InvalidQueryParameterException extends RuntimeException {
+
+  /**
+   * 지정된 상세 메시지와 함께 새로운 {@code InvalidQueryParameterException}을 생성합니다.
+   *
+   * @param message 상세 메시지
+   */
+  public InvalidQueryParameterException(String message) {
+    super(message);
+  }
+
+  /**
+   * 지정된 상세 메시지와 원인과 함께 새로운 {@code InvalidQueryParameterException}을 생성합니다.
+   *
+   * @param message 상세 메시지
+   * @param cause 원인
+   */
+  public InvalidQueryParameterException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
@@ -0,0 +1,31 @@
+package site.icebang.common.exception;
+
+/**
+ * 워크플로우 실행의 현재 상태에서 요청한 작업을 수행할 수 없을 때 발생하는 예외 클래스입니다.
+ *
+ * <p>존재하지 않거나 실패하지 않은 실행을 재개하려는 경우 등에 사용되며, {@code GlobalExceptionHandler}에서 {@code 409 Conflict}로
+ * 변환됩니다.
+ *
+ * @since v0.1.0
+ */
+public class InvalidWorkflowStateException extends RuntimeException {
+
+  /**
+   * 지정된 상세 메시지와 함께 새로운 {@code InvalidWorkflowStateException}을 생성합니다.
+   *
+   * @param message 상세 메시지
+   */
+  public InvalidWorkflowStateException(String message) {
+    super(message);
+  }
+
+  /**
+   * 지정된 상세 메시지와 원인과 함께 새로운 {@code InvalidWorkflowStateException}을 생성합니다.
+   *
+   * @param message 상세 메시지
+   * @param cause 원인
+   */
+  public InvalidWorkflowStateException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
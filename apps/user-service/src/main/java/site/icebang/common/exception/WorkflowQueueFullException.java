@@ -0,0 +1,21 @@
+package site.icebang.common.exception;
+
+/**
+ * 실행 대기 중인 워크플로우가 허용된 최대 수에 이르러 새 실행 요청을 받을 수 없을 때 발생하는 예외 클래스입니다.
+ *
+ * <p>{@code GlobalExceptionHandler}에서 {@code 503 Service Unavailable}로 변환되며, 요청한 쪽은 잠시 후 다시 시도할 수
+ * 있습니다.
+ *
+ * @since v0.1.0
+ */
+public class WorkflowQueueFullException extends RuntimeException {
+
+  /**
+   * 지정된 상세 메시지와 함께 새로운 {@code WorkflowQueueFullException}을 생성합니다.
+   *
+   * @param message 상세 메시지
+   */
+  public WorkflowQueueFullException(String message) {
+    super(message);
+  }
+}
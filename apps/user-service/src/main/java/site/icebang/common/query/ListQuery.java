@@ -0,0 +1,58 @@
+package site.icebang.common.query;
+
+import java.util.List;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import site.icebang.common.dto.PageParams;
+
+/**
+ * {@link ListQuerySpec}으로 검증된 목록 조회 조건입니다.
+ *
+ * <p>Mapper XML에 그대로 전달되어 {@code ListQueryMapper.xml}의 공통 SQL 조각({@code conditions}, {@code
+ * orderBy}, {@code limit})으로 WHERE, ORDER BY, LIMIT 절을 생성합니다. 컬럼명과 연산자는 서버에서 등록한 값만 포함하므로 {@code
+ * ${}}로 치환해도 안전하며, 클라이언트가 전달한 값은 {@code #{}} 바인딩으로만 사용됩니다.
+ *
+ * @since v0.1.0
+ */
+@Getter
+@RequiredArgsConstructor
+public class ListQuery {
+
+  /** 원본 페이징 파라미터 (페이지 크기, OFFSET, 커서) */
+  private final PageParams page;
+
+  /** AND로 결합되는 필터 조건 목록 */
+  private final List<Condition> conditions;
+
+  /** 정렬 조건 목록 (마지막은 항상 ID 컬럼) */
+  private final List<Order> orders;
+
+  /** 기본 정렬(생성 시각 DESC, ID DESC) 여부. 커서 기반 페이징은 기본 정렬에서만 사용됩니다. */
+  private final boolean defaultSort;
+
+  /** 커서 비교에 사용되는 생성 시각 컬럼 */
+  private final String createdAtColumn;
+
+  /** 커서 비교에 사용되는 ID 컬럼 */
+  private final String idColumn;
+
+  /** 단일 필터 조건. {@code values}가 있으면 IN 조건, 없으면 {@code operator}와 {@code value}로 비교합니다. */
+  @Getter
+  @RequiredArgsConstructor
+  public static class Condition {
+    private final String column;
+    private final String operator;
+    private final Object value;
+    private final List<Object> values;
+  }
+
+  /** 단일 정렬 조건 */
+  @Getter
+  @RequiredArgsConstructor
+  public static class Order {
+    private final String column;
+    private final String direction;
+  }
+}
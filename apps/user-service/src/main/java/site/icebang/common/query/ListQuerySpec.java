@@ -0,0 +1,288 @@
+package site.icebang.common.query;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+import site.icebang.common.dto.PageParams;
+import site.icebang.common.exception.InvalidQueryParameterException;
+
+/**
+ * 목록 조회 API에서 허용할 필터/정렬 필드를 정의하는 화이트리스트입니다.
+ *
+ * <p>클라이언트가 {@link PageParams}로 전달한 {@code filters}({@code "필드:값"})와 {@code sorters}({@code
+ * "필드:asc|desc"})를 이 명세에 등록된 필드만 허용하여 {@link ListQuery}로 변환합니다. 실제 SQL에 들어가는 컬럼명과 연산자는 모두 서버에서 등록한
+ * 값이며, 클라이언트가 전달한 값은 항상 바인딩 파라미터({@code #{}})로만 사용되므로 SQL 인젝션이 불가능합니다. 등록되지 않은 필드나 해석할 수 없는 값은
+ * {@link InvalidQueryParameterException}으로 거부됩니다.
+ *
+ * <pre>{@code
+ * ListQuerySpec spec =
+ *     ListQuerySpec.builder("wr.created_at", "wr.id")
+ *         .filter("status", "wr.status", Operator.IN, ListQuerySpec::upperCase)
+ *         .filter("createdFrom", "wr.created_at", Operator.GTE, ListQuerySpec::startInstant)
+ *         .sorter("startedAt", "wr.started_at")
+ *         .build();
+ *
+ * // filters=status:FAILED,SUCCESS&sorters=startedAt:asc
+ * ListQuery query = spec.resolve(pageParams);
+ * }</pre>
+ *
+ * <p>정렬의 마지막에는 항상 ID 컬럼이 추가되어 정렬 순서가 확정되며, 커서 기반 페이징은 기본 정렬({@code 생성 시각 DESC, ID DESC})에서만 사용할 수
+ * 있습니다.
+ *
+ * @since v0.1.0
+ */
+public final class ListQuerySpec {
+
+  private static final String DEFAULT_SORT_KEY = "createdAt";
+
+  private final String createdAtColumn;
+  private final String idColumn;
+  private final Map<String, FilterField> filters;
+  private final Map<String, String> sorters;
+
+  private ListQuerySpec(Builder builder) {
+    this.createdAtColumn = builder.createdAtColumn;
+    this.idColumn = builder.idColumn;
+    this.filters = Map.copyOf(builder.filters);
+    this.sorters = Map.copyOf(builder.sorters);
+  }
+
+  /**
+   * 명세 빌더를 생성합니다.
+   *
+   * <p>생성 시각 컬럼은 기본 정렬과 커서 기반 페이징에, ID 컬럼은 정렬 순서 확정에 사용되며 {@code createdAt}, {@code id} 정렬 필드로 자동
+   * 등록됩니다.
+   *
+   * @param createdAtColumn 생성 시각 컬럼 (예: {@code wr.created_at})
+   * @param idColumn ID 컬럼 (예: {@code wr.id})
+   * @return 빌더
+   */
+  public static Builder builder(String createdAtColumn, String idColumn) {
+    return new Builder(createdAtColumn, idColumn);
+  }
+
+  /**
+   * 요청 파라미터의 필터와 정렬 조건을 검증하여 조회 조건으로 변환합니다.
+   *
+   * @param pageParams 요청 파라미터
+   * @return 변환된 조회 조건
+   * @throws InvalidQueryParameterException 허용되지 않은 필드, 잘못된 값 또는 기본 정렬이 아닌 상태에서 커서를 사용한 경우
+   */
+  public ListQuery resolve(PageParams pageParams) {
+    List<ListQuery.Condition> conditions = new ArrayList<>();
+    if (pageParams.getFilters() != null) {
+      for (String filter : pageParams.getFilters()) {
+        conditions.add(resolveFilter(filter));
+      }
+    }
+
+    List<ListQuery.Order> orders = new ArrayList<>();
+    if (pageParams.hasSorters()) {
+      for (String sorter : pageParams.getSorters()) {
+        orders.add(resolveSorter(sorter));
+      }
+    }
+    boolean defaultSort =
+        orders.isEmpty()
+            || (orders.size() == 1
+                && orders.get(0).getColumn().equals(createdAtColumn)
+                && orders.get(0).getDirection().equals("DESC"));
+    if (orders.isEmpty()) {
+      orders.add(new ListQuery.Order(createdAtColumn, "DESC"));
+    }
+    if (orders.stream().noneMatch(order -> order.getColumn().equals(idColumn))) {
+      orders.add(new ListQuery.Order(idColumn, orders.get(orders.size() - 1).getDirection()));
+    }
+
+    if (pageParams.isCursorMode() && !defaultSort) {
+      throw new InvalidQueryParameterException(
+          "커서 기반 페이징은 기본 정렬(" + DEFAULT_SORT_KEY + ":desc)에서만 사용할 수 있습니다.");
+    }
+    return new ListQuery(
+        pageParams,
+        List.copyOf(conditions),
+        List.copyOf(orders),
+        defaultSort,
+        createdAtColumn,
+        idColumn);
+  }
+
+  private ListQuery.Condition resolveFilter(String filter) {
+    String[] parts = filter.split(":", 2);
+    FilterField field = filters.get(parts[0].trim());
+    if (field == null) {
+      throw new InvalidQueryParameterException("허용되지 않은 필터입니다: " + parts[0]);
+    }
+    if (parts.length < 2 || parts[1].isBlank()) {
+      throw new InvalidQueryParameterException("필터 값이 비어 있습니다: " + filter);
+    }
+
+    try {
+      if (field.operator() == Operator.IN) {
+        List<Object> values = new ArrayList<>();
+        for (String value : parts[1].split(",")) {
+          if (!value.isBlank()) {
+            values.add(field.parser().apply(value.trim()));
+          }
+        }
+        if (values.isEmpty()) {
+          throw new InvalidQueryParameterException("필터 값이 비어 있습니다: " + filter);
+        }
+        return new ListQuery.Condition(field.column(), field.operator().getSql(), null, values);
+      }
+      Object value = field.parser().apply(parts[1].trim());
+      return new ListQuery.Condition(field.column(), field.operator().getSql(), value, null);
+    } catch (IllegalArgumentException | DateTimeParseException e) {
+      throw new InvalidQueryParameterException("필터 값을 해석할 수 없습니다: " + filter, e);
+    }
+  }
+
+  private ListQuery.Order resolveSorter(String sorter) {
+    String[] parts = sorter.split(":", 2);
+    String column = sorters.get(parts[0].trim());
+    if (column == null) {
+      throw new InvalidQueryParameterException("허용되지 않은 정렬 필드입니다: " + parts[0]);
+    }
+    String direction = parts.length < 2 ? "ASC" : parts[1].trim().toUpperCase(Locale.ROOT);
+    if (!direction.equals("ASC") && !direction.equals("DESC")) {
+      throw new InvalidQueryParameterException("정렬 방향은 asc 또는 desc만 허용됩니다: " + sorter);
+    }
+    return new ListQuery.Order(column, direction);
+  }
+
+  /**
+   * 문자열 값을 대문자로 변환합니다. 상태값처럼 대문자로 저장되는 컬럼의 필터에 사용합니다.
+   *
+   * @param value 필터 값
+   * @return 대문자로 변환된 값
+   */
+  public static Object upperCase(String value) {
+    return value.toUpperCase(Locale.ROOT);
+  }
+
+  /**
+   * 문자열 값을 불리언으로 해석합니다. {@code true}/{@code false} 외의 값은 거부합니다.
+   *
+   * @param value 필터 값
+   * @return 불리언 값
+   */
+  public static Object booleanValue(String value) {
+    if (!value.equalsIgnoreCase("true") && !value.equalsIgnoreCase("false")) {
+      throw new IllegalArgumentException("true 또는 false만 허용됩니다: " + value);
+    }
+    return Boolean.valueOf(value);
+  }
+
+  /**
+   * 기간 필터의 시작 시각을 해석합니다.
+   *
+   * <p>ISO-8601 시각({@code 2025-09-01T00:00:00Z}) 또는 날짜({@code 2025-09-01}, UTC 기준 해당 날짜의 시작)를
+   * 허용합니다.
+   *
+   * @param value 필터 값
+   * @return 시작 시각 (포함)
+   */
+  public static Object startInstant(String value) {
+    if (value.length() == 10) {
+      return LocalDate.parse(value).atStartOfDay(ZoneOffset.UTC).toInstant();
+    }
+    return Instant.parse(value);
+  }
+
+  /**
+   * 기간 필터의 종료 시각을 해석합니다.
+   *
+   * <p>ISO-8601 시각 또는 날짜를 허용하며, 날짜가 주어지면 해당 날짜 전체가 포함되도록 다음 날의 시작(UTC)을 반환합니다.
+   *
+   * @param value 필터 값
+   * @return 종료 시각 (미포함)
+   */
+  public static Object endInstant(String value) {
+    if (value.length() == 10) {
+      return LocalDate.parse(value).plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+    }
+    return Instant.parse(value);
+  }
+
+  /** 필터 비교 연산자 */
+  public enum Operator {
+    /** 일치 (쉼표로 구분된 여러 값은 IN 조건) */
+    IN("IN"),
+    /** 이상 (기간 시작) */
+    GTE(">="),
+    /** 미만 (기간 종료) */
+    LT("<");
+
+    private final String sql;
+
+    Operator(String sql) {
+      this.sql = sql;
+    }
+
+    String getSql() {
+      return sql;
+    }
+  }
+
+  private record FilterField(String column, Operator operator, Function<String, Object> parser) {}
+
+  /** {@link ListQuerySpec} 빌더 */
+  public static final class Builder {
+
+    private final String createdAtColumn;
+    private final String idColumn;
+    private final Map<String, FilterField> filters = new LinkedHashMap<>();
+    private final Map<String, String> sorters = new LinkedHashMap<>();
+
+    private Builder(String createdAtColumn, String idColumn) {
+      this.createdAtColumn = createdAtColumn;
+      this.idColumn = idColumn;
+      sorters.put(DEFAULT_SORT_KEY, createdAtColumn);
+      sorters.put("id", idColumn);
+    }
+
+    /**
+     * 허용할 필터 필드를 등록합니다.
+     *
+     * @param key 클라이언트가 사용하는 필드명
+     * @param column SQL 컬럼명
+     * @param operator 비교 연산자
+     * @param parser 필터 값을 바인딩할 Java 값으로 변환하는 함수
+     * @return 빌더
+     */
+    public Builder filter(
+        String key, String column, Operator operator, Function<String, Object> parser) {
+      filters.put(key, new FilterField(column, operator, parser));
+      return this;
+    }
+
+    /**
+     * 허용할 정렬 필드를 등록합니다.
+     *
+     * @param key 클라이언트가 사용하는 필드명
+     * @param column SQL 컬럼명
+     * @return 빌더
+     */
+    public Builder sorter(String key, String column) {
+      sorters.put(key, column);
+      return this;
+    }
+
+    /**
+     * 명세를 생성합니다.
+     *
+     * @return 불변 명세
+     */
+    public ListQuerySpec build() {
+      return new ListQuerySpec(this);
+    }
+  }
+}
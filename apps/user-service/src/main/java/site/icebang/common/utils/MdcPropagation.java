@@ -0,0 +1,74 @@
+package site.icebang.common.utils;
+
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+import org.slf4j.MDC;
+
+/**
+ * 비동기 실행 경계(스레드 풀, {@code CompletableFuture} 콜백 등)를 넘어 MDC 컨텍스트를 전달하기 위한 유틸리티 클래스입니다.
+ *
+ * <p>워크플로우 실행 로그는 MDC의 traceId, sourceId, executionType을 기준으로 저장되므로, HTTP 클라이언트 스레드나 지연 실행 스레드처럼
+ * {@code ContextPropagatingTaskDecorator}가 적용되지 않은 스레드에서 로그를 남길 때는 이 클래스로 실행 시점의 MDC를 복원해야 합니다.
+ *
+ * @since v0.1.0
+ */
+public final class MdcPropagation {
+
+  private MdcPropagation() {}
+
+  /**
+   * 지정된 MDC 컨텍스트를 적용한 상태로 작업을 실행하고, 실행이 끝나면 기존 MDC를 복원합니다.
+   *
+   * @param mdc 적용할 MDC 컨텍스트 ({@code null}이면 빈 컨텍스트)
+   * @param supplier 실행할 작업
+   * @return 작업의 실행 결과
+   * @param <T> 실행 결과 타입
+   */
+  public static <T> T supplyWithMdc(Map<String, String> mdc, Supplier<T> supplier) {
+    Map<String, String> previous = MDC.getCopyOfContextMap();
+    if (mdc != null) {
+      MDC.setContextMap(mdc);
+    } else {
+      MDC.clear();
+    }
+    try {
+      return supplier.get();
+    } finally {
+      if (previous != null) {
+        MDC.setContextMap(previous);
+      } else {
+        MDC.clear();
+      }
+    }
+  }
+
+  /**
+   * 지정된 MDC 컨텍스트를 적용한 상태로 작업을 실행하고, 실행이 끝나면 기존 MDC를 복원하는 작업을 반환합니다.
+   *
+   * @param mdc 적용할 MDC 컨텍스트 ({@code null}이면 빈 컨텍스트)
+   * @param runnable 실행할 작업
+   * @return MDC가 적용되는 작업
+   */
+  public static Runnable withMdc(Map<String, String> mdc, Runnable runnable) {
+    return () ->
+        supplyWithMdc(
+            mdc,
+            () -> {
+              runnable.run();
+              return null;
+            });
+  }
+
+  /**
+   * 호출 시점의 MDC 컨텍스트를 캡처하여, 제출되는 모든 작업에 적용하는 실행기를 반환합니다.
+   *
+   * @param executor 실제 작업을 실행할 실행기
+   * @return MDC가 전파되는 실행기
+   */
+  public static Executor withCurrentMdc(Executor executor) {
+    Map<String, String> mdc = MDC.getCopyOfContextMap();
+    return runnable -> executor.execute(withMdc(mdc, runnable));
+  }
+}
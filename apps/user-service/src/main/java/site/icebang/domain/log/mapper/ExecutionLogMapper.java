@@ -3,11 +3,15 @@ package site.icebang.domain.log.mapper;
 import java.util.List;
 
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 
+import site.icebang.domain.log.model.ExecutionLogEntry;
 import site.icebang.domain.workflow.dto.ExecutionLogDto;
 import site.icebang.domain.workflow.dto.log.WorkflowLogQueryCriteria;
 
 @Mapper
 public interface ExecutionLogMapper {
   List<ExecutionLogDto> selectLogsByCriteria(WorkflowLogQueryCriteria criteria);
+
+  int insertBatch(@Param("entries") List<ExecutionLogEntry> entries);
 }
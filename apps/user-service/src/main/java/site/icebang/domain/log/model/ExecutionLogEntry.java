@@ -0,0 +1,80 @@
+package site.icebang.domain.log.model;
+
+import java.time.Instant;
+
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.util.ReadOnlyStringMap;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * execution_log 테이블에 저장될 한 건의 워크플로우 실행 로그를 표현하는 불변(Immutable) 객체입니다.
+ *
+ * <p>Log4j2의 {@code LogEvent}는 재사용될 수 있으므로, 로그 발생 시점에 필요한 값(MDC의 실행 컨텍스트, 레벨, 메시지 등)만 복사하여 이 객체로 만든
+ * 뒤 버퍼에 적재합니다.
+ *
+ * @since v0.1.0
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ExecutionLogEntry {
+
+  /** log_message 컬럼의 최대 길이 (VARCHAR(500)) */
+  public static final int MAX_MESSAGE_LENGTH = 500;
+
+  private final String executionType; // WORKFLOW, JOB, TASK
+  private final Long sourceId; // workflow_id, job_run_id, task_run_id
+  private final String logLevel;
+  private final Instant executedAt;
+  private final String logMessage;
+  private final String traceId;
+  private final String spanId;
+
+  /** 실행 로그 생성을 위한 정적 팩토리 메소드 (메시지는 컬럼 길이에 맞게 잘라냄) */
+  public static ExecutionLogEntry of(
+      String executionType,
+      Long sourceId,
+      String logLevel,
+      Instant executedAt,
+      String logMessage,
+      String traceId,
+      String spanId) {
+    return new ExecutionLogEntry(
+        executionType, sourceId, logLevel, executedAt, truncate(logMessage), traceId, spanId);
+  }
+
+  /** Log4j2 로그 이벤트와 MDC로부터 실행 로그를 생성합니다. */
+  public static ExecutionLogEntry from(LogEvent event) {
+    ReadOnlyStringMap contextData = event.getContextData();
+    return of(
+        contextData.getValue("executionType"),
+        parseSourceId(contextData.getValue("sourceId")),
+        event.getLevel().name(),
+        Instant.ofEpochMilli(event.getTimeMillis()),
+        event.getMessage().getFormattedMessage(),
+        contextData.getValue("traceId"),
+        contextData.getValue("spanId"));
+  }
+
+  private static String truncate(String message) {
+    if (message == null) {
+      return "";
+    }
+    return message.length() > MAX_MESSAGE_LENGTH
+        ? message.substring(0, MAX_MESSAGE_LENGTH)
+        : message;
+  }
+
+  private static Long parseSourceId(String sourceId) {
+    if (sourceId == null || sourceId.isBlank()) {
+      return null;
+    }
+    try {
+      return Long.valueOf(sourceId);
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+}
@@ -0,0 +1,69 @@
+package site.icebang.domain.log.sink;
+
+import org.apache.logging.log4j.core.Appender;
+import org.apache.logging.log4j.core.Core;
+import org.apache.logging.log4j.core.Filter;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
+import org.apache.logging.log4j.core.config.Property;
+import org.apache.logging.log4j.core.config.plugins.Plugin;
+import org.apache.logging.log4j.core.config.plugins.PluginAttribute;
+import org.apache.logging.log4j.core.config.plugins.PluginElement;
+import org.apache.logging.log4j.core.config.plugins.PluginFactory;
+import org.apache.logging.log4j.core.config.plugins.validation.constraints.Required;
+
+import site.icebang.domain.log.model.ExecutionLogEntry;
+
+/**
+ * {@code WORKFLOW_HISTORY} 로그를 execution_log 테이블에 저장하기 위한 비동기 Log4j2 appender입니다.
+ *
+ * <p>기존 JDBC appender는 로그 한 건마다 워크플로우 실행 스레드에서 직접 INSERT를 수행했습니다. 이 appender는 로그를 {@link
+ * ExecutionLogBuffer}에 적재만 하고 즉시 반환하며, 실제 저장은 {@link ExecutionLogWriter}가 별도 스레드에서 여러 건을 묶어 수행합니다.
+ *
+ * <h2>설정 예제:</h2>
+ *
+ * <pre>{@code
+ * Appenders:
+ *   ExecutionLog:
+ *     name: workflow-appender
+ *     bufferSize: 8192
+ * }</pre>
+ *
+ * @since v0.1.0
+ */
+@Plugin(
+    name = "ExecutionLog",
+    category = Core.CATEGORY_NAME,
+    elementType = Appender.ELEMENT_TYPE,
+    printObject = true)
+public final class ExecutionLogAppender extends AbstractAppender {
+
+  private final ExecutionLogBuffer buffer;
+
+  private ExecutionLogAppender(String name, Filter filter, ExecutionLogBuffer buffer) {
+    super(name, filter, null, true, Property.EMPTY_ARRAY);
+    this.buffer = buffer;
+  }
+
+  /**
+   * Log4j2 설정으로부터 appender를 생성합니다.
+   *
+   * @param name appender 이름
+   * @param bufferSize 버퍼에 적재할 수 있는 최대 로그 수 (가득 차면 새 로그는 버려짐)
+   * @param filter 적용할 필터
+   * @return 생성된 appender
+   */
+  @PluginFactory
+  public static ExecutionLogAppender createAppender(
+      @PluginAttribute("name") @Required String name,
+      @PluginAttribute(value = "bufferSize", defaultInt = ExecutionLogBuffer.DEFAULT_CAPACITY)
+          int bufferSize,
+      @PluginElement("Filter") Filter filter) {
+    return new ExecutionLogAppender(name, filter, ExecutionLogBuffer.initialize(bufferSize));
+  }
+
+  @Override
+  public void append(LogEvent event) {
+    buffer.offer(ExecutionLogEntry.from(event));
+  }
+}
@@ -0,0 +1,117 @@
+package site.icebang.domain.log.sink;
+
+import java.util.Collection;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import site.icebang.domain.log.model.ExecutionLogEntry;
+
+/**
+ * Log4j2 appender와 DB 저장 스레드 사이에서 실행 로그를 전달하는 고정 크기(bounded) 버퍼입니다.
+ *
+ * <p>appender는 Spring 컨텍스트보다 먼저 Log4j2에 의해 생성되므로, 두 쪽이 같은 버퍼를 공유할 수 있도록 애플리케이션 전역에 하나의 인스턴스만 존재합니다.
+ *
+ * <h2>배압(Backpressure) 정책:</h2>
+ *
+ * <p>버퍼가 가득 찬 경우 새로 들어온 로그를 버리고(drop-newest) 버려진 건수를 기록합니다. 로그를 남기는 워크플로우 실행 스레드는 DB 저장 속도와 무관하게 절대
+ * 대기하지 않습니다.
+ *
+ * @since v0.1.0
+ */
+public class ExecutionLogBuffer {
+
+  /** 별도 설정이 없을 때의 버퍼 크기 */
+  public static final int DEFAULT_CAPACITY = 8192;
+
+  private static ExecutionLogBuffer instance;
+
+  private final BlockingQueue<ExecutionLogEntry> queue;
+  private final int capacity;
+  private final AtomicLong droppedCount = new AtomicLong();
+
+  /**
+   * 지정된 크기의 버퍼를 생성합니다. 애플리케이션에서는 {@link #getInstance()}로 공유 인스턴스를 사용해야 합니다.
+   *
+   * @param capacity 버퍼에 적재할 수 있는 최대 로그 수
+   */
+  public ExecutionLogBuffer(int capacity) {
+    this.capacity = capacity;
+    this.queue = new ArrayBlockingQueue<>(capacity);
+  }
+
+  /**
+   * 공유 버퍼를 지정된 크기로 초기화합니다. 이미 초기화된 경우(설정 재로딩 등) 기존 버퍼를 그대로 반환합니다.
+   *
+   * @param capacity 버퍼에 적재할 수 있는 최대 로그 수
+   * @return 공유 버퍼
+   */
+  public static synchronized ExecutionLogBuffer initialize(int capacity) {
+    if (instance == null) {
+      instance = new ExecutionLogBuffer(capacity);
+    }
+    return instance;
+  }
+
+  /**
+   * 공유 버퍼를 반환합니다. 아직 초기화되지 않았다면 기본 크기로 초기화합니다.
+   *
+   * @return 공유 버퍼
+   */
+  public static ExecutionLogBuffer getInstance() {
+    return initialize(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * 로그를 버퍼에 적재합니다. 버퍼가 가득 찼다면 대기하지 않고 로그를 버립니다.
+   *
+   * @param entry 적재할 로그
+   * @return 적재에 성공하면 true, 버퍼가 가득 차 버려졌다면 false
+   */
+  public boolean offer(ExecutionLogEntry entry) {
+    if (queue.offer(entry)) {
+      return true;
+    }
+    droppedCount.incrementAndGet();
+    return false;
+  }
+
+  /**
+   * 로그가 들어올 때까지 최대 {@code timeout}만큼 기다린 뒤 하나를 꺼냅니다.
+   *
+   * @param timeout 최대 대기 시간
+   * @param unit 대기 시간 단위
+   * @return 꺼낸 로그, 대기 시간 내에 로그가 없으면 null
+   * @throws InterruptedException 대기 중 인터럽트된 경우
+   */
+  public ExecutionLogEntry poll(long timeout, TimeUnit unit) throws InterruptedException {
+    return queue.poll(timeout, unit);
+  }
+
+  /**
+   * 대기 없이 최대 {@code maxEntries}개의 로그를 꺼내 {@code batch}에 담습니다.
+   *
+   * @param batch 로그를 담을 컬렉션
+   * @param maxEntries 꺼낼 최대 로그 수
+   * @return 꺼낸 로그 수
+   */
+  public int drainTo(Collection<? super ExecutionLogEntry> batch, int maxEntries) {
+    return queue.drainTo(batch, maxEntries);
+  }
+
+  /** 현재 버퍼에 적재된 로그 수 */
+  public int size() {
+    return queue.size();
+  }
+
+  /** 버퍼에 적재할 수 있는 최대 로그 수 */
+  public int capacity() {
+    return capacity;
+  }
+
+  /** 버퍼가 가득 차 버려진 로그의 누적 건수 */
+  public long droppedCount() {
+    return droppedCount.get();
+  }
+}
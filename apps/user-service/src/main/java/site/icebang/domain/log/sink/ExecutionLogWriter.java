@@ -0,0 +1,155 @@
+package site.icebang.domain.log.sink;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import site.icebang.domain.log.mapper.ExecutionLogMapper;
+import site.icebang.domain.log.model.ExecutionLogEntry;
+import site.icebang.global.config.properties.ExecutionLogProperties;
+
+/**
+ * {@link ExecutionLogBuffer}에 쌓인 실행 로그를 전용 스레드에서 여러 건씩 묶어 execution_log 테이블에 저장하는 컴포넌트입니다.
+ *
+ * <p>저장은 MyBatis 매퍼를 통해 애플리케이션의 커넥션 풀(HikariCP)을 사용하며, 한 번의 multi-row INSERT로 최대 {@code
+ * batch-size}건을 저장합니다. 저장에 실패한 로그는 재시도하지 않고 버리며, 실패 건수를 메트릭으로 기록합니다.
+ *
+ * <h2>노출 메트릭:</h2>
+ *
+ * <ul>
+ *   <li>{@code execution.log.queue.size}: 버퍼에 대기 중인 로그 수
+ *   <li>{@code execution.log.queue.capacity}: 버퍼의 최대 크기
+ *   <li>{@code execution.log.dropped}: 버퍼가 가득 차 버려진 로그 수
+ *   <li>{@code execution.log.written}: 저장에 성공한 로그 수
+ *   <li>{@code execution.log.write.failed}: 저장에 실패한 로그 수
+ * </ul>
+ *
+ * <p>애플리케이션 종료 시에는 다른 Lifecycle 빈(웹 서버, 스케줄러, 실행기 등)이 모두 정지된 뒤 마지막으로 정지하며, 버퍼에 남은 로그를 모두 저장(flush)한
+ * 뒤 종료합니다.
+ *
+ * @since v0.1.0
+ */
+@Slf4j
+@Component
+public class ExecutionLogWriter implements SmartLifecycle {
+
+  private final ExecutionLogMapper executionLogMapper;
+  private final ExecutionLogProperties properties;
+  private final ExecutionLogBuffer buffer;
+  private final Counter writtenCounter;
+  private final Counter failedCounter;
+
+  private volatile boolean running;
+  private Thread worker;
+
+  public ExecutionLogWriter(
+      ExecutionLogMapper executionLogMapper,
+      ExecutionLogProperties properties,
+      MeterRegistry meterRegistry) {
+    this.executionLogMapper = executionLogMapper;
+    this.properties = properties;
+    this.buffer = ExecutionLogBuffer.getInstance();
+
+    Gauge.builder("execution.log.queue.size", buffer, ExecutionLogBuffer::size)
+        .description("저장 대기 중인 실행 로그 수")
+        .register(meterRegistry);
+    Gauge.builder("execution.log.queue.capacity", buffer, ExecutionLogBuffer::capacity)
+        .description("실행 로그 버퍼의 최대 크기")
+        .register(meterRegistry);
+    FunctionCounter.builder("execution.log.dropped", buffer, ExecutionLogBuffer::droppedCount)
+        .description("버퍼가 가득 차 버려진 실행 로그 수")
+        .register(meterRegistry);
+    this.writtenCounter =
+        Counter.builder("execution.log.written")
+            .description("저장에 성공한 실행 로그 수")
+            .register(meterRegistry);
+    this.failedCounter =
+        Counter.builder("execution.log.write.failed")
+            .description("저장에 실패한 실행 로그 수")
+            .register(meterRegistry);
+  }
+
+  @Override
+  public void start() {
+    running = true;
+    worker = Thread.ofPlatform().name("execution-log-writer").daemon(true).start(this::run);
+  }
+
+  @Override
+  public void stop() {
+    running = false;
+    if (worker != null) {
+      try {
+        worker.join(properties.getShutdownTimeout());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    // 📌 작업 스레드가 끝난 뒤 버퍼에 남아 있는 로그를 모두 저장합니다.
+    int flushed = flush();
+    if (flushed > 0) {
+      log.info("종료 전 남은 실행 로그 {}건 저장 완료", flushed);
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  @Override
+  public int getPhase() {
+    // 실행기/스케줄러 등 로그를 남기는 다른 Lifecycle 빈보다 늦게 정지하여 마지막 로그까지 저장합니다.
+    return 0;
+  }
+
+  private void run() {
+    List<ExecutionLogEntry> batch = new ArrayList<>(properties.getBatchSize());
+    while (running) {
+      try {
+        ExecutionLogEntry first = buffer.poll(properties.getFlushInterval(), TimeUnit.MILLISECONDS);
+        if (first == null) {
+          continue;
+        }
+        batch.add(first);
+        buffer.drainTo(batch, properties.getBatchSize() - 1);
+        write(batch);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      } finally {
+        batch.clear();
+      }
+    }
+  }
+
+  private int flush() {
+    int total = 0;
+    List<ExecutionLogEntry> batch = new ArrayList<>(properties.getBatchSize());
+    while (buffer.drainTo(batch, properties.getBatchSize()) > 0) {
+      write(batch);
+      total += batch.size();
+      batch.clear();
+    }
+    return total;
+  }
+
+  private void write(List<ExecutionLogEntry> batch) {
+    try {
+      executionLogMapper.insertBatch(batch);
+      writtenCounter.increment(batch.size());
+    } catch (Exception e) {
+      failedCounter.increment(batch.size());
+      log.warn("실행 로그 {}건 저장 실패", batch.size(), e);
+    }
+  }
+}
@@ -0,0 +1,128 @@
+package site.icebang.domain.workflow.cache;
+
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import site.icebang.domain.workflow.model.Task;
+import site.icebang.global.config.properties.WorkflowCacheProperties;
+
+/**
+ * 같은 Task에 같은 요청 Body를 보낸 성공 결과를 워크플로우 실행 간에 재사용하는 인메모리 캐시입니다.
+ *
+ * <p>Task의 {@code parameters.cache_ttl_seconds}가 0보다 큰 Task만 캐시되며(opt-in), 항목은 Task마다 지정한 시간이 지나면
+ * 만료됩니다. 키는 Task ID와 요청 Body의 지문(필드 순서와 무관하게 정규화한 JSON의 SHA-256)으로 구성되므로, 실행마다 값이 달라지는 필드(예: {@code
+ * task_run_id})가 Body에 있으면 자연히 적중하지 않습니다.
+ *
+ * <p>캐시 크기는 보관 중인 결과의 문자 수 합계로 제한되며({@code workflow.cache.task-result-max-weight}), 한도를 넘으면 최근에
+ * 사용되지 않은 항목부터 제거됩니다. 적중/미스/제거 통계는 {@code cache.*{cache="taskResult"}} 메트릭으로 Prometheus에 노출됩니다.
+ *
+ * @since v0.1.0
+ */
+@Component
+public class TaskResultCache {
+
+  /** Task 결과의 캐시 유지 시간을 지정하는 {@code task.parameters} 필드 이름 */
+  public static final String TTL_PARAMETER = "cache_ttl_seconds";
+
+  private final Cache<Key, Entry> cache;
+  private final ObjectMapper objectMapper;
+  private final ObjectWriter canonicalWriter;
+
+  public TaskResultCache(
+      ObjectMapper objectMapper, WorkflowCacheProperties properties, MeterRegistry meterRegistry) {
+    this.objectMapper = objectMapper;
+    // 📌 Map으로 변환한 뒤 키 순서대로 직렬화하여, 필드 순서만 다른 Body가 같은 지문을 갖도록 합니다.
+    this.canonicalWriter =
+        objectMapper.writer().with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumWeight(properties.getTaskResultMaxWeight())
+            .weigher((Key key, Entry entry) -> entry.result().length())
+            .expireAfter(Expiry.creating((Key key, Entry entry) -> entry.ttl()))
+            .recordStats()
+            .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, "taskResult");
+  }
+
+  /**
+   * Task와 요청 Body로 캐시 키를 만듭니다.
+   *
+   * @param task 실행할 Task
+   * @param requestBody 최종 요청 Body
+   * @return 캐시 키, 캐시를 사용하지 않는 Task이면 {@code null}
+   */
+  public Key keyOf(Task task, JsonNode requestBody) {
+    if (ttlOf(task) == null) {
+      return null;
+    }
+    try {
+      Object canonical = objectMapper.treeToValue(requestBody, Object.class);
+      byte[] digest =
+          MessageDigest.getInstance("SHA-256").digest(canonicalWriter.writeValueAsBytes(canonical));
+      return new Key(task.getId(), HexFormat.of().formatHex(digest));
+    } catch (IOException | NoSuchAlgorithmException e) {
+      return null;
+    }
+  }
+
+  /**
+   * 캐시된 Task 결과를 조회합니다.
+   *
+   * @param key {@link #keyOf}로 만든 캐시 키
+   * @return 캐시된 결과 (응답 Body), 없거나 만료되었으면 {@code null}
+   */
+  public String get(Key key) {
+    Entry entry = cache.getIfPresent(key);
+    return entry == null ? null : entry.result();
+  }
+
+  /**
+   * 성공한 Task 결과를 Task에 지정된 시간 동안 캐시에 저장합니다.
+   *
+   * @param task 결과를 생성한 Task
+   * @param key {@link #keyOf}로 만든 캐시 키
+   * @param result 성공 결과 (응답 Body)
+   */
+  public void put(Task task, Key key, String result) {
+    Duration ttl = ttlOf(task);
+    if (ttl == null || result == null) {
+      return;
+    }
+    cache.put(key, new Entry(result, ttl));
+  }
+
+  private static Duration ttlOf(Task task) {
+    JsonNode parameters = task.getParameters();
+    if (parameters == null) {
+      return null;
+    }
+    long seconds = parameters.path(TTL_PARAMETER).asLong(0);
+    return seconds > 0 ? Duration.ofSeconds(seconds) : null;
+  }
+
+  /**
+   * 캐시 키입니다.
+   *
+   * @param taskId Task ID
+   * @param fingerprint 정규화한 요청 Body의 SHA-256 (16진수)
+   */
+  public record Key(Long taskId, String fingerprint) {}
+
+  private record Entry(String result, Duration ttl) {}
+}
@@ -0,0 +1,72 @@
+package site.icebang.domain.workflow.cache;
+
+import java.time.Duration;
+
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import site.icebang.domain.workflow.plan.WorkflowExecutionPlan;
+import site.icebang.domain.workflow.plan.WorkflowExecutionPlanCompiler;
+import site.icebang.global.config.properties.WorkflowCacheProperties;
+
+/**
+ * 워크플로우별로 컴파일된 {@link WorkflowExecutionPlan}을 보관하는 인메모리 캐시입니다.
+ *
+ * <p>처음 실행되는 워크플로우만 정의를 조회하여 계획을 컴파일하고, 이후의 실행(스케줄 실행 포함)은 캐시된 계획을 사용하므로 정의 조회 쿼리 없이 바로 시작합니다. 같은
+ * 워크플로우가 동시에 처음 실행되더라도 컴파일은 한 번만 수행됩니다.
+ *
+ * <p>워크플로우나 그에 속한 Job/Task 정의를 변경하는 코드는 반드시 {@link #invalidate(Long)} 또는 {@link #invalidateAll()}을
+ * 호출해야 합니다. 데이터베이스를 직접 수정한 경우에 대비하여 계획은 {@code workflow.cache.plan-expire-after-write}가 지나면 다시
+ * 컴파일됩니다. 적중/미스 통계는 {@code cache.*{cache="workflowExecutionPlan"}} 메트릭으로 노출됩니다.
+ *
+ * @since v0.1.0
+ */
+@Component
+public class WorkflowExecutionPlanCache {
+
+  private final Cache<Long, WorkflowExecutionPlan> cache;
+  private final WorkflowExecutionPlanCompiler compiler;
+
+  public WorkflowExecutionPlanCache(
+      WorkflowExecutionPlanCompiler compiler,
+      WorkflowCacheProperties properties,
+      MeterRegistry meterRegistry) {
+    this.compiler = compiler;
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumSize(properties.getPlanMaxSize())
+            .expireAfterWrite(Duration.ofMillis(properties.getPlanExpireAfterWrite()))
+            .recordStats()
+            .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, "workflowExecutionPlan");
+  }
+
+  /**
+   * 워크플로우의 실행 계획을 조회하며, 캐시에 없으면 컴파일하여 저장합니다.
+   *
+   * @param workflowId 워크플로우 ID
+   * @return 실행 계획
+   */
+  public WorkflowExecutionPlan get(Long workflowId) {
+    return cache.get(workflowId, compiler::compile);
+  }
+
+  /**
+   * 워크플로우의 실행 계획을 제거합니다. 다음 실행 시 정의를 다시 조회하여 컴파일합니다.
+   *
+   * @param workflowId 워크플로우 ID
+   */
+  public void invalidate(Long workflowId) {
+    cache.invalidate(workflowId);
+  }
+
+  /** 모든 실행 계획을 제거합니다. 여러 워크플로우가 공유하는 Job/Task 정의가 변경된 경우에 사용합니다. */
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+}
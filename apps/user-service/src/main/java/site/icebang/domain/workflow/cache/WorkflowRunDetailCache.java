@@ -0,0 +1,101 @@
+package site.icebang.domain.workflow.cache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import site.icebang.domain.workflow.dto.JobRunDto;
+import site.icebang.domain.workflow.dto.WorkflowRunDetailResponse;
+import site.icebang.global.config.properties.WorkflowCacheProperties;
+
+/**
+ * 종료된 워크플로우 실행의 상세 정보(WorkflowRun - JobRun - TaskRun 트리)를 보관하는 인메모리 캐시입니다.
+ *
+ * <p>워크플로우 실행이 SUCCESS 또는 FAILED 상태가 되면 그 실행 트리는 더 이상 변경되지 않으므로, 한 번 조회한 결과를 재사용해도 항상 최신입니다. 진행
+ * 중(RUNNING 등)인 실행은 캐시하지 않습니다.
+ *
+ * <p>캐시 크기는 항목 수가 아니라 실행 트리에 포함된 행 수로 제한되며({@code workflow.cache.run-detail-max-weight}), 한도를 넘으면
+ * 최근에 사용되지 않은 항목부터 제거됩니다. 적중/미스/제거 통계는 {@code cache.*{cache="workflowRunDetail"}} 메트릭으로 Prometheus에
+ * 노출됩니다.
+ *
+ * <p>캐시된 객체는 여러 요청이 공유하므로, 조회한 응답 객체를 수정해서는 안 됩니다.
+ *
+ * @since v0.1.0
+ */
+@Component
+public class WorkflowRunDetailCache {
+
+  /** 실행 트리가 더 이상 변경되지 않는 종료 상태 */
+  private static final Set<String> FINISHED_STATUSES = Set.of("SUCCESS", "FAILED");
+
+  private final Cache<Long, WorkflowRunDetailResponse> cache;
+
+  public WorkflowRunDetailCache(WorkflowCacheProperties properties, MeterRegistry meterRegistry) {
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumWeight(properties.getRunDetailMaxWeight())
+            .weigher((Long runId, WorkflowRunDetailResponse detail) -> weigh(detail))
+            .expireAfterAccess(Duration.ofMillis(properties.getRunDetailExpireAfterAccess()))
+            .recordStats()
+            .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, "workflowRunDetail");
+  }
+
+  /**
+   * 캐시된 실행 상세 정보를 조회합니다.
+   *
+   * @param runId workflow_run.id
+   * @return 캐시된 실행 상세 정보, 없으면 {@code null}
+   */
+  public WorkflowRunDetailResponse get(Long runId) {
+    return cache.getIfPresent(runId);
+  }
+
+  /**
+   * 실행이 종료 상태(SUCCESS, FAILED)인 경우에만 실행 상세 정보를 캐시에 저장합니다.
+   *
+   * @param runId workflow_run.id
+   * @param detail 데이터베이스에서 조회한 실행 상세 정보
+   * @return 캐시에 저장되었으면 true
+   */
+  public boolean putIfFinished(Long runId, WorkflowRunDetailResponse detail) {
+    if (detail == null
+        || detail.getWorkflowRun() == null
+        || !FINISHED_STATUSES.contains(detail.getWorkflowRun().getStatus())) {
+      return false;
+    }
+    cache.put(runId, detail);
+    return true;
+  }
+
+  /**
+   * 캐시된 실행 상세 정보를 제거합니다.
+   *
+   * @param runId workflow_run.id
+   */
+  public void evict(Long runId) {
+    cache.invalidate(runId);
+  }
+
+  private static int weigh(WorkflowRunDetailResponse detail) {
+    List<JobRunDto> jobRuns = detail.getJobRuns();
+    if (jobRuns == null) {
+      return 1;
+    }
+    int weight = 1 + jobRuns.size();
+    for (JobRunDto jobRun : jobRuns) {
+      if (jobRun.getTaskRuns() != null) {
+        weight += jobRun.getTaskRuns().size();
+      }
+    }
+    return weight;
+  }
+}
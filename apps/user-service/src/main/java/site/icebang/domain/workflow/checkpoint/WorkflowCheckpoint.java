@@ -0,0 +1,54 @@
+package site.icebang.domain.workflow.checkpoint;
+
+import java.util.Collections;
+import java.util.Map;
+
+import lombok.Getter;
+
+/**
+ * 실패한 워크플로우 실행을 재개하기 위해 복원한 Task 결과 모음입니다.
+ *
+ * <p>원본 실행(과 그 실행이 재개한 이전 실행들)에서 성공한 Task의 응답 Body를 Task ID별로 보관합니다. 재개된 실행은 여기에 있는 Task를 다시 호출하지
+ * 않고 보관된 결과를 워크플로우 컨텍스트에 채워 넣습니다.
+ *
+ * @since v0.1.0
+ */
+@Getter
+public class WorkflowCheckpoint {
+
+  private static final WorkflowCheckpoint NONE = new WorkflowCheckpoint(null, null, Map.of());
+
+  private final Long workflowId;
+  private final Long workflowRunId;
+  private final Map<Long, RestoredTask> restoredTasks;
+
+  public WorkflowCheckpoint(
+      Long workflowId, Long workflowRunId, Map<Long, RestoredTask> restoredTasks) {
+    this.workflowId = workflowId;
+    this.workflowRunId = workflowRunId;
+    this.restoredTasks = Collections.unmodifiableMap(restoredTasks);
+  }
+
+  /** 복원할 결과가 없는 (처음부터 실행하는) 체크포인트를 반환합니다. */
+  public static WorkflowCheckpoint none() {
+    return NONE;
+  }
+
+  /**
+   * Task의 복원된 결과를 조회합니다.
+   *
+   * @param taskId Task ID
+   * @return 복원된 결과, 다시 실행해야 하는 Task이면 {@code null}
+   */
+  public RestoredTask get(Long taskId) {
+    return restoredTasks.get(taskId);
+  }
+
+  /**
+   * 이전 실행에서 성공한 Task의 결과입니다.
+   *
+   * @param taskRunId 결과를 생성한 원본 Task 실행 ID
+   * @param output Task 응답 Body (JSON 문자열)
+   */
+  public record RestoredTask(Long taskRunId, String output) {}
+}
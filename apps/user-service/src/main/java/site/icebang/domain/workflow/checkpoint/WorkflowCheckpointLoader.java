@@ -0,0 +1,105 @@
+package site.icebang.domain.workflow.checkpoint;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import site.icebang.common.exception.InvalidWorkflowStateException;
+import site.icebang.domain.workflow.io.TaskIoCodec;
+import site.icebang.domain.workflow.mapper.TaskIoDataMapper;
+import site.icebang.domain.workflow.mapper.WorkflowRunMapper;
+import site.icebang.domain.workflow.model.TaskCheckpoint;
+import site.icebang.domain.workflow.model.WorkflowRun;
+
+/**
+ * 실패한 워크플로우 실행의 체크포인트를 task_io_data에서 복원하는 컴포넌트입니다.
+ *
+ * <p>원본 실행에서 성공한 Task의 응답 Body를 읽어 들이며, 원본 실행 역시 재개된 실행이면 {@code resumed_from_run_id}를 따라 이전 실행의
+ * 결과까지 모읍니다. 같은 Task의 결과가 여러 실행에 있으면 가장 최근 실행의 결과를 사용합니다. 응답 Body가 저장되지 않았거나 저장 한도를 넘어 생략된 Task는
+ * 복원하지 않으므로 재개된 실행에서 다시 실행됩니다.
+ *
+ * @since v0.1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WorkflowCheckpointLoader {
+
+  private final WorkflowRunMapper workflowRunMapper;
+  private final TaskIoDataMapper taskIoDataMapper;
+  private final TaskIoCodec taskIoCodec;
+  private final ObjectMapper objectMapper;
+
+  /**
+   * 실패한 워크플로우 실행의 체크포인트를 복원합니다.
+   *
+   * @param workflowRunId 재개할 워크플로우 실행 ID
+   * @return 복원된 체크포인트
+   * @throws InvalidWorkflowStateException 실행이 없거나 실패한 실행이 아닌 경우
+   */
+  public WorkflowCheckpoint load(Long workflowRunId) {
+    WorkflowRun failedRun = workflowRunMapper.findById(workflowRunId);
+    if (failedRun == null) {
+      throw new InvalidWorkflowStateException(
+          "워크플로우 실행을 찾을 수 없습니다: WorkflowRunId=" + workflowRunId);
+    }
+    if (!"FAILED".equals(failedRun.getStatus())) {
+      throw new InvalidWorkflowStateException(
+          "실패한 워크플로우 실행만 재개할 수 있습니다: WorkflowRunId="
+              + workflowRunId
+              + ", Status="
+              + failedRun.getStatus());
+    }
+
+    Map<Long, WorkflowCheckpoint.RestoredTask> restoredTasks = new HashMap<>();
+    Set<Long> visited = new HashSet<>();
+    WorkflowRun run = failedRun;
+    // 📌 재개를 반복한 실행은 최근 실행부터 거슬러 올라가며, 먼저 찾은(최근) 결과를 유지합니다.
+    while (run != null && visited.add(run.getId())) {
+      for (TaskCheckpoint checkpoint :
+          taskIoDataMapper.findCheckpointsByWorkflowRunId(run.getId())) {
+        if (!restoredTasks.containsKey(checkpoint.getTaskId())) {
+          String output = restoreOutput(checkpoint);
+          if (output != null) {
+            restoredTasks.put(
+                checkpoint.getTaskId(),
+                new WorkflowCheckpoint.RestoredTask(checkpoint.getTaskRunId(), output));
+          }
+        }
+      }
+      run =
+          run.getResumedFromRunId() == null
+              ? null
+              : workflowRunMapper.findById(run.getResumedFromRunId());
+    }
+
+    log.info(
+        "워크플로우 실행 체크포인트 복원: WorkflowRunId={}, RestoredTasks={}",
+        workflowRunId,
+        restoredTasks.size());
+    return new WorkflowCheckpoint(failedRun.getWorkflowId(), failedRun.getId(), restoredTasks);
+  }
+
+  private String restoreOutput(TaskCheckpoint checkpoint) {
+    if (checkpoint.getOutput() == null) {
+      return null;
+    }
+    try {
+      JsonNode output = taskIoCodec.decode(checkpoint.getOutput());
+      return output == null ? null : objectMapper.writeValueAsString(output);
+    } catch (IOException e) {
+      log.warn("Task 응답 Body를 복원하지 못해 다시 실행합니다: TaskRunId={}", checkpoint.getTaskRunId(), e);
+      return null;
+    }
+  }
+}
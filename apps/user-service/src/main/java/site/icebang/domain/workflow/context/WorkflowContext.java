@@ -0,0 +1,274 @@
+package site.icebang.domain.workflow.context;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.filter.FilteringParserDelegate;
+import com.fasterxml.jackson.core.filter.JsonPointerBasedFilter;
+import com.fasterxml.jackson.core.filter.TokenFilter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.MissingNode;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 워크플로우 실행 하나의 Task 결과를 보관하는 컨텍스트입니다.
+ *
+ * <p>Task 결과는 직렬화된 JSON의 바이트 수로 크기를 계산하여, 실행별 메모리 한도({@code workflow.context.memory-budget}) 안에서는
+ * 파싱된 {@link JsonNode}로 보관합니다. 한도를 넘거나 {@code workflow.context.spill-threshold}보다 큰 결과는 gzip으로 압축한
+ * 파일로 내려 보내고, 이후 Task가 {@link #at(String, JsonPointer)}로 필요한 부분만 스트리밍으로 읽어 갑니다. 병렬로 실행되는 Task들이 동시에
+ * 결과를 기록하고 읽을 수 있습니다.
+ *
+ * <p>실행이 끝나면 반드시 {@link #close()}를 호출해야 하며, 이때 파일로 저장된 결과가 삭제됩니다.
+ *
+ * @since v0.1.0
+ */
+@Slf4j
+public final class WorkflowContext implements AutoCloseable {
+
+  private final Long workflowRunId;
+  private final WorkflowContextFactory factory;
+  private final ObjectMapper objectMapper;
+  private final long memoryBudget;
+  private final long spillThreshold;
+  private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+  private final AtomicLong memoryBytes = new AtomicLong();
+  private final AtomicLong spilledBytes = new AtomicLong();
+  private volatile boolean closed;
+
+  WorkflowContext(
+      Long workflowRunId,
+      WorkflowContextFactory factory,
+      ObjectMapper objectMapper,
+      long memoryBudget,
+      long spillThreshold) {
+    this.workflowRunId = workflowRunId;
+    this.factory = factory;
+    this.objectMapper = objectMapper;
+    this.memoryBudget = memoryBudget;
+    this.spillThreshold = spillThreshold;
+  }
+
+  /**
+   * Task 결과를 기록합니다. 같은 Task의 결과가 이미 있으면 교체합니다.
+   *
+   * @param taskName 결과를 생성한 Task 이름
+   * @param json Task 결과 JSON 문자열
+   * @throws IOException JSON 형식이 올바르지 않은 경우
+   */
+  public void put(String taskName, String json) throws IOException {
+    if (closed) {
+      throw new IllegalStateException("이미 종료된 워크플로우 컨텍스트입니다: WorkflowRunId=" + workflowRunId);
+    }
+    byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+    long size = bytes.length;
+
+    Entry entry = null;
+    if (size > spillThreshold || !reserveMemory(size)) {
+      entry = spill(taskName, bytes);
+    }
+    if (entry == null) {
+      try {
+        entry = new InMemory(objectMapper.readTree(bytes), size);
+      } catch (IOException e) {
+        releaseMemory(size);
+        throw e;
+      }
+    }
+    release(entries.put(taskName, entry));
+  }
+
+  /**
+   * Task 결과 전체를 조회합니다.
+   *
+   * <p>파일로 저장된 결과는 호출할 때마다 전체를 읽어 들이므로, 결과의 일부만 필요하면 {@link #at(String, JsonPointer)}를 사용합니다.
+   *
+   * @param taskName 결과를 생성한 Task 이름
+   * @return Task 결과, 기록된 결과가 없으면 {@code null}
+   */
+  public JsonNode get(String taskName) {
+    return at(taskName, JsonPointer.empty());
+  }
+
+  /**
+   * Task 결과에서 JSON Pointer가 가리키는 값만 조회합니다.
+   *
+   * @param taskName 결과를 생성한 Task 이름
+   * @param pointer 조회할 값의 JSON Pointer
+   * @return 조회된 값 (경로에 값이 없으면 {@link MissingNode}), 기록된 결과가 없으면 {@code null}
+   */
+  public JsonNode at(String taskName, JsonPointer pointer) {
+    Entry entry = entries.get(taskName);
+    if (entry instanceof InMemory inMemory) {
+      return inMemory.node().at(pointer);
+    }
+    if (entry instanceof Spilled spilled) {
+      return readSpilled(taskName, spilled, pointer);
+    }
+    return null;
+  }
+
+  /**
+   * Task 결과에서 JSON Pointer 표현식이 가리키는 값만 조회합니다.
+   *
+   * @param taskName 결과를 생성한 Task 이름
+   * @param pointerExpression 조회할 값의 JSON Pointer 표현식 (예: {@code /data/keyword})
+   * @return 조회된 값 (경로에 값이 없으면 {@link MissingNode}), 기록된 결과가 없으면 {@code null}
+   */
+  public JsonNode at(String taskName, String pointerExpression) {
+    return at(taskName, JsonPointer.compile(pointerExpression));
+  }
+
+  /**
+   * Task 결과가 파일로 저장되었는지 확인합니다.
+   *
+   * @param taskName 결과를 생성한 Task 이름
+   * @return 파일로 저장되었으면 true
+   */
+  public boolean isSpilled(String taskName) {
+    return entries.get(taskName) instanceof Spilled;
+  }
+
+  /** 메모리에 보관 중인 Task 결과의 크기 (바이트 단위)를 반환합니다. */
+  public long getMemoryBytes() {
+    return memoryBytes.get();
+  }
+
+  /** 파일로 저장된 Task 결과의 크기 (압축 전 바이트 단위)를 반환합니다. */
+  public long getSpilledBytes() {
+    return spilledBytes.get();
+  }
+
+  /** 보관 중인 모든 Task 결과를 해제하고 파일로 저장된 결과를 삭제합니다. */
+  @Override
+  public void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    entries.values().forEach(this::release);
+    entries.clear();
+    factory.onClose();
+  }
+
+  private boolean reserveMemory(long size) {
+    while (true) {
+      long current = memoryBytes.get();
+      if (current + size > memoryBudget) {
+        return false;
+      }
+      if (memoryBytes.compareAndSet(current, current + size)) {
+        factory.addMemoryBytes(size);
+        return true;
+      }
+    }
+  }
+
+  private void releaseMemory(long size) {
+    memoryBytes.addAndGet(-size);
+    factory.addMemoryBytes(-size);
+  }
+
+  /** 결과를 압축 파일로 저장합니다. 파일을 쓸 수 없으면 {@code null}을 반환하여 메모리에 보관하도록 합니다. */
+  private Spilled spill(String taskName, byte[] bytes) throws IOException {
+    // 📌 파일로 저장하는 결과도 메모리 보관과 동일하게 JSON 형식을 검증합니다. 트리를 만들지 않고 토큰만 읽습니다.
+    try (JsonParser parser = objectMapper.createParser(bytes)) {
+      while (parser.nextToken() != null) {
+        // 토큰만 소비합니다.
+      }
+    }
+
+    Path file = null;
+    try {
+      String prefix = "run-" + workflowRunId + "-";
+      file = Files.createTempFile(factory.spillDirectory(), prefix, ".json.gz");
+      try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(file))) {
+        out.write(bytes);
+      }
+    } catch (IOException e) {
+      log.warn(
+          "Task 결과를 파일로 저장하지 못해 메모리에 보관합니다: WorkflowRunId={}, TaskName={}",
+          workflowRunId,
+          taskName,
+          e);
+      deleteQuietly(file);
+      memoryBytes.addAndGet(bytes.length);
+      factory.addMemoryBytes(bytes.length);
+      return null;
+    }
+    spilledBytes.addAndGet(bytes.length);
+    factory.onSpill(bytes.length);
+    log.debug(
+        "Task 결과를 파일로 저장했습니다: WorkflowRunId={}, TaskName={}, Size={}",
+        workflowRunId,
+        taskName,
+        bytes.length);
+    return new Spilled(file, bytes.length);
+  }
+
+  private JsonNode readSpilled(String taskName, Spilled spilled, JsonPointer pointer) {
+    try (InputStream in =
+            new GZIPInputStream(new BufferedInputStream(Files.newInputStream(spilled.file())));
+        JsonParser parser = createParser(in, pointer)) {
+      JsonNode node = objectMapper.readTree(parser);
+      return node == null ? MissingNode.getInstance() : node;
+    } catch (IOException e) {
+      throw new IllegalStateException(
+          "파일로 저장된 Task 결과를 읽지 못했습니다: WorkflowRunId="
+              + workflowRunId
+              + ", TaskName="
+              + taskName,
+          e);
+    }
+  }
+
+  private JsonParser createParser(InputStream in, JsonPointer pointer) throws IOException {
+    JsonParser parser = objectMapper.createParser(in);
+    if (pointer.matches()) {
+      return parser;
+    }
+    // 📌 포인터가 가리키는 하위 트리만 토큰으로 통과시켜, 나머지 부분은 JsonNode로 만들지 않습니다.
+    return new FilteringParserDelegate(
+        parser, new JsonPointerBasedFilter(pointer), TokenFilter.Inclusion.ONLY_INCLUDE_ALL, false);
+  }
+
+  private void release(Entry entry) {
+    if (entry instanceof InMemory inMemory) {
+      releaseMemory(inMemory.size());
+    } else if (entry instanceof Spilled spilled) {
+      spilledBytes.addAndGet(-spilled.size());
+      factory.addSpilledBytes(-spilled.size());
+      deleteQuietly(spilled.file());
+    }
+  }
+
+  private void deleteQuietly(Path file) {
+    if (file == null) {
+      return;
+    }
+    try {
+      Files.deleteIfExists(file);
+    } catch (IOException e) {
+      log.warn("Task 결과 파일을 삭제하지 못했습니다: {}", file, e);
+    }
+  }
+
+  private sealed interface Entry permits InMemory, Spilled {}
+
+  private record InMemory(JsonNode node, long size) implements Entry {}
+
+  private record Spilled(Path file, long size) implements Entry {}
+}
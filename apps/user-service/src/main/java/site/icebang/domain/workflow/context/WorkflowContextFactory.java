@@ -0,0 +1,136 @@
+package site.icebang.domain.workflow.context;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+import site.icebang.global.config.properties.WorkflowContextProperties;
+
+/**
+ * 워크플로우 실행마다 {@link WorkflowContext}를 생성하고, 모든 실행의 컨텍스트 사용량을 집계하는 클래스입니다.
+ *
+ * <p>파일로 저장되는 Task 결과는 애플리케이션 인스턴스마다 새로 만든 하위 디렉터리에 저장되며, 애플리케이션 종료 시 디렉터리째 삭제됩니다.
+ *
+ * <h2>노출 메트릭:</h2>
+ *
+ * <ul>
+ *   <li>{@code workflow.context.bytes} ({@code storage=memory|disk}): 모든 실행의 컨텍스트가 보관 중인 Task 결과 크기
+ *   <li>{@code workflow.context.active}: 실행 중인 워크플로우 컨텍스트 수
+ *   <li>{@code workflow.context.spilled}: 파일로 저장된 Task 결과 수
+ * </ul>
+ *
+ * @since v0.1.0
+ */
+@Slf4j
+@Component
+public class WorkflowContextFactory {
+
+  private final WorkflowContextProperties properties;
+  private final ObjectMapper objectMapper;
+  private final AtomicLong memoryBytes = new AtomicLong();
+  private final AtomicLong spilledBytes = new AtomicLong();
+  private final AtomicInteger activeContexts = new AtomicInteger();
+  private final Counter spilledCounter;
+  private Path spillDirectory;
+
+  public WorkflowContextFactory(
+      WorkflowContextProperties properties,
+      ObjectMapper objectMapper,
+      MeterRegistry meterRegistry) {
+    this.properties = properties;
+    this.objectMapper = objectMapper;
+
+    Gauge.builder("workflow.context.bytes", memoryBytes, AtomicLong::get)
+        .description("모든 실행의 컨텍스트가 메모리에 보관 중인 Task 결과 크기")
+        .tag("storage", "memory")
+        .baseUnit("bytes")
+        .register(meterRegistry);
+    Gauge.builder("workflow.context.bytes", spilledBytes, AtomicLong::get)
+        .description("모든 실행의 컨텍스트가 파일로 저장한 Task 결과 크기")
+        .tag("storage", "disk")
+        .baseUnit("bytes")
+        .register(meterRegistry);
+    Gauge.builder("workflow.context.active", activeContexts, AtomicInteger::get)
+        .description("실행 중인 워크플로우 컨텍스트 수")
+        .register(meterRegistry);
+    this.spilledCounter =
+        Counter.builder("workflow.context.spilled")
+            .description("파일로 저장된 Task 결과 수")
+            .register(meterRegistry);
+  }
+
+  /**
+   * 워크플로우 실행 하나의 컨텍스트를 생성합니다.
+   *
+   * @param workflowRunId 컨텍스트를 사용할 워크플로우 실행 ID
+   * @return 새 워크플로우 컨텍스트
+   */
+  public WorkflowContext create(Long workflowRunId) {
+    activeContexts.incrementAndGet();
+    return new WorkflowContext(
+        workflowRunId,
+        this,
+        objectMapper,
+        properties.getMemoryBudget(),
+        properties.getSpillThreshold());
+  }
+
+  /** 파일 저장 디렉터리를 삭제합니다. */
+  @PreDestroy
+  public synchronized void destroy() {
+    if (spillDirectory == null) {
+      return;
+    }
+    try (Stream<Path> paths = Files.walk(spillDirectory)) {
+      paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+    } catch (IOException e) {
+      log.warn("워크플로우 컨텍스트 디렉터리를 삭제하지 못했습니다: {}", spillDirectory, e);
+    }
+    spillDirectory = null;
+  }
+
+  synchronized Path spillDirectory() throws IOException {
+    if (spillDirectory == null) {
+      String configured = properties.getSpillDirectory();
+      Path base =
+          configured == null || configured.isBlank()
+              ? Paths.get(System.getProperty("java.io.tmpdir"))
+              : Files.createDirectories(Paths.get(configured));
+      spillDirectory = Files.createTempDirectory(base, "icebang-workflow-context-");
+      log.info("워크플로우 컨텍스트 파일 저장 디렉터리: {}", spillDirectory);
+    }
+    return spillDirectory;
+  }
+
+  void addMemoryBytes(long delta) {
+    memoryBytes.addAndGet(delta);
+  }
+
+  void addSpilledBytes(long delta) {
+    spilledBytes.addAndGet(delta);
+  }
+
+  void onSpill(long size) {
+    spilledBytes.addAndGet(size);
+    spilledCounter.increment();
+  }
+
+  void onClose() {
+    activeContexts.decrementAndGet();
+  }
+}
@@ -0,0 +1,30 @@
+package site.icebang.domain.workflow.controller;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import lombok.RequiredArgsConstructor;
+
+import site.icebang.common.dto.ApiResponse;
+import site.icebang.domain.workflow.dto.TaskRunIoResponse;
+import site.icebang.domain.workflow.service.WorkflowHistoryService;
+
+@RestController
+@RequestMapping("/v0/task-runs")
+@RequiredArgsConstructor
+public class TaskRunController {
+  private final WorkflowHistoryService workflowHistoryService;
+
+  /**
+   * Task 실행 입출력 조회
+   *
+   * @param taskRunId task_run.id
+   * @return TaskRunIoResponse
+   */
+  @GetMapping("/{taskRunId}/io")
+  public ApiResponse<TaskRunIoResponse> getTaskRunIo(@PathVariable Long taskRunId) {
+    return ApiResponse.success(workflowHistoryService.getTaskRunIo(taskRunId));
+  }
+}
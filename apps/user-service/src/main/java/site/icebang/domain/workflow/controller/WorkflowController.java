@@ -1,6 +1,7 @@
 package site.icebang.domain.workflow.controller;
 
 import java.math.BigInteger;
+import java.util.Map;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -17,7 +18,7 @@ import site.icebang.domain.auth.model.AuthCredential;
 import site.icebang.domain.workflow.dto.WorkflowCardDto;
 import site.icebang.domain.workflow.dto.WorkflowCreateDto;
 import site.icebang.domain.workflow.dto.WorkflowDetailCardDto;
-import site.icebang.domain.workflow.service.WorkflowExecutionService;
+import site.icebang.domain.workflow.queue.WorkflowRunQueue;
 import site.icebang.domain.workflow.service.WorkflowService;
 
 @RestController
@@ -25,7 +26,7 @@ import site.icebang.domain.workflow.service.WorkflowService;
 @RequiredArgsConstructor
 public class WorkflowController {
   private final WorkflowService workflowService;
-  private final WorkflowExecutionService workflowExecutionService;
+  private final WorkflowRunQueue workflowRunQueue;
 
   @GetMapping("")
   public ApiResponse<PageResult<WorkflowCardDto>> getWorkflowList(
@@ -52,10 +53,12 @@ public class WorkflowController {
   }
 
   @PostMapping("/{workflowId}/run")
-  public ResponseEntity<Void> runWorkflow(@PathVariable Long workflowId) {
-    // HTTP 요청/응답 스레드를 블로킹하지 않도록 비동기 실행
-    workflowExecutionService.executeWorkflow(workflowId);
-    return ResponseEntity.accepted().build();
+  public ResponseEntity<ApiResponse<Map<String, Long>>> runWorkflow(
+      @PathVariable Long workflowId) {
+    // 실행 대기열에 저장만 하고 반환하며, 실행은 디스패처가 동시 실행 수 안에서 시작
+    Long workflowRunId = workflowRunQueue.enqueue(workflowId);
+    return ResponseEntity.accepted()
+        .body(ApiResponse.success(Map.of("workflowRunId", workflowRunId)));
   }
 
   @GetMapping("/{workflowId}/detail")
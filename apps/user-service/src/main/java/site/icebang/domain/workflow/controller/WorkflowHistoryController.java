@@ -1,7 +1,9 @@
 package site.icebang.domain.workflow.controller;
 
 import java.util.List;
+import java.util.Map;
 
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
@@ -15,6 +17,7 @@ import site.icebang.domain.workflow.dto.WorkflowHistoryDTO;
 import site.icebang.domain.workflow.dto.WorkflowRunDetailResponse;
 import site.icebang.domain.workflow.dto.log.ExecutionLogSimpleDto;
 import site.icebang.domain.workflow.dto.log.WorkflowLogQueryCriteria;
+import site.icebang.domain.workflow.queue.WorkflowRunQueue;
 import site.icebang.domain.workflow.service.WorkflowHistoryService;
 
 @RestController
@@ -23,6 +26,7 @@ import site.icebang.domain.workflow.service.WorkflowHistoryService;
 public class WorkflowHistoryController {
   private final WorkflowHistoryService workflowHistoryService;
   private final ExecutionLogService executionLogService;
+  private final WorkflowRunQueue workflowRunQueue;
 
   @GetMapping("")
   public ApiResponse<PageResult<WorkflowHistoryDTO>> getWorkflowHistoryList(
@@ -43,6 +47,23 @@ public class WorkflowHistoryController {
     return ApiResponse.success(response);
   }
 
+  /**
+   * 실패한 워크플로우 실행을 실패한 Task부터 재개
+   *
+   * <p>원본 실행에서 성공한 Task는 다시 실행하지 않으며, 재개된 실행은 원본 실행을 참조하는 새 workflow_run으로 기록됩니다.
+   *
+   * @param runId 재개할 workflow_run.id
+   * @return 202 Accepted와 대기열에 저장된 새 workflow_run.id. 이미 재개된 실행이면 409 Conflict
+   */
+  @PostMapping("/{runId}/resume")
+  public ResponseEntity<ApiResponse<Map<String, Long>>> resumeWorkflowRun(
+      @PathVariable Long runId) {
+    // 재개 가능 여부는 요청 스레드에서 확인하고, 체크포인트 복원과 실행은 대기열을 거쳐 비동기로 진행
+    Long workflowRunId = workflowRunQueue.enqueueResume(runId);
+    return ResponseEntity.accepted()
+        .body(ApiResponse.success(Map.of("workflowRunId", workflowRunId)));
+  }
+
   @GetMapping("/logs")
   public ApiResponse<List<ExecutionLogSimpleDto>> getTaskExecutionLog(
       @Valid @ModelAttribute WorkflowLogQueryCriteria requestDto) {
@@ -0,0 +1,26 @@
+package site.icebang.domain.workflow.dto;
+
+import java.time.Instant;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskIoDataDto {
+  private Long id; // task_io_data.id
+  private String ioType; // INPUT, OUTPUT
+  private String name; // request_body, response_body, error_message
+  private String dataType; // json, string
+  private JsonNode value; // 복원된 값 (저장 한도를 넘어 생략된 경우 null)
+  private Long dataSize; // 원본 크기 (bytes)
+  private boolean compressed; // 압축 저장 여부
+  private boolean truncated; // 저장 한도를 넘어 값이 생략되었는지 여부
+  private Instant createdAt;
+}
@@ -0,0 +1,18 @@
+package site.icebang.domain.workflow.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskRunIoResponse {
+  private Long taskRunId;
+  private List<TaskIoDataDto> inputs;
+  private List<TaskIoDataDto> outputs;
+}
@@ -17,4 +17,5 @@ public class WorkflowHistoryDTO {
   private String triggerType;
   private String runNumber;
   private String status;
+  private Instant createdAt;
 }
@@ -0,0 +1,113 @@
+package site.icebang.domain.workflow.executor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+/**
+ * 실행 순서가 정해진 노드(Task, Job 등) 목록과 노드 간 의존 관계를 표현하는 불변(Immutable) 방향 비순환 그래프(DAG)입니다.
+ *
+ * <p>각 노드는 고유한 키(예: Task 이름)를 가지며, 자신이 읽는 다른 노드의 키 목록을 의존 관계로 선언합니다. 의존 관계는 항상 입력 목록에서 <b>앞선
+ * 노드</b>로만 연결되므로 순환이 생기지 않고, 입력 순서 자체가 하나의 유효한 위상 정렬이 됩니다. 뒤에 위치한 노드나 그래프 밖의 키(이전 Job의 Task 등)를
+ * 가리키는 의존 관계는 이미 충족된 것으로 보고 무시합니다.
+ *
+ * <p>의존 관계를 알 수 없는 노드(추출 함수가 {@code null}을 반환)는 앞선 모든 노드에 의존하는 것으로 간주하여, 기존의 순차 실행 의미를 그대로 보존합니다.
+ *
+ * @param <T> 노드 타입
+ * @since v0.1.0
+ */
+public final class DependencyGraph<T> {
+
+  private final List<T> nodes;
+  private final List<Set<Integer>> dependencies;
+
+  private DependencyGraph(List<T> nodes, List<Set<Integer>> dependencies) {
+    this.nodes = nodes;
+    this.dependencies = dependencies;
+  }
+
+  /**
+   * 정렬된 노드 목록으로부터 의존 관계 그래프를 생성합니다.
+   *
+   * @param orderedNodes 실행 순서대로 정렬된 노드 목록
+   * @param keyExtractor 노드의 고유 키를 추출하는 함수
+   * @param dependencyExtractor 노드가 의존하는 키 목록을 추출하는 함수 (알 수 없으면 {@code null} 반환)
+   * @param <T> 노드 타입
+   * @return 생성된 그래프
+   */
+  public static <T> DependencyGraph<T> of(
+      List<T> orderedNodes,
+      Function<T, String> keyExtractor,
+      Function<T, Collection<String>> dependencyExtractor) {
+    List<T> nodes = List.copyOf(orderedNodes);
+    Map<String, Integer> indexByKey = new HashMap<>();
+    List<Set<Integer>> dependencies = new ArrayList<>(nodes.size());
+
+    for (int i = 0; i < nodes.size(); i++) {
+      T node = nodes.get(i);
+      Collection<String> dependencyKeys = dependencyExtractor.apply(node);
+      Set<Integer> dependencyIndexes = new TreeSet<>();
+
+      if (dependencyKeys == null) {
+        for (int j = 0; j < i; j++) {
+          dependencyIndexes.add(j);
+        }
+      } else {
+        for (String dependencyKey : dependencyKeys) {
+          Integer dependencyIndex = indexByKey.get(dependencyKey);
+          if (dependencyIndex != null) {
+            dependencyIndexes.add(dependencyIndex);
+          }
+        }
+      }
+
+      dependencies.add(Collections.unmodifiableSet(dependencyIndexes));
+      indexByKey.put(keyExtractor.apply(node), i);
+    }
+    return new DependencyGraph<>(nodes, List.copyOf(dependencies));
+  }
+
+  /**
+   * 그래프에 포함된 노드 수를 반환합니다.
+   *
+   * @return 노드 수
+   */
+  public int size() {
+    return nodes.size();
+  }
+
+  /**
+   * 지정된 위치의 노드를 반환합니다.
+   *
+   * @param index 노드 위치 (입력 목록 기준)
+   * @return 노드
+   */
+  public T node(int index) {
+    return nodes.get(index);
+  }
+
+  /**
+   * 지정된 노드가 의존하는 앞선 노드들의 위치를 반환합니다.
+   *
+   * @param index 노드 위치 (입력 목록 기준)
+   * @return 의존하는 노드 위치 집합 (불변)
+   */
+  public Set<Integer> dependenciesOf(int index) {
+    return dependencies.get(index);
+  }
+
+  /**
+   * 그래프의 노드 목록을 입력 순서대로 반환합니다.
+   *
+   * @return 노드 목록 (불변)
+   */
+  public List<T> nodes() {
+    return nodes;
+  }
+}
@@ -0,0 +1,168 @@
+package site.icebang.domain.workflow.executor;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import lombok.extern.slf4j.Slf4j;
+
+import site.icebang.common.utils.MdcPropagation;
+
+/**
+ * {@link DependencyGraph}의 노드를 의존 관계에 맞춰 병렬로 실행하는 실행기입니다.
+ *
+ * <p>선행 노드가 모두 끝난 노드만 실행 대상이 되며, 실행 가능한 노드가 여러 개일 경우 그래프의 입력 순서대로 최대 {@code maxConcurrency}개까지 동시에
+ * 제출합니다. 따라서 동시 실행 수를 1로 지정하면 기존의 순차 실행과 완전히 동일하게 동작합니다.
+ *
+ * <p>노드의 작업은 스레드 풀에서 실행되는 동기 작업({@link #execute})이거나, {@link CompletableFuture}를 반환하는 비동기 작업({@link
+ * #executeAsync})일 수 있습니다. 호출 스레드는 모든 노드가 끝날 때까지 대기하며, 동기 작업의 경우 호출 스레드의 MDC(traceId, 실행 컨텍스트 등)는 각
+ * 노드를 실행하는 워커 스레드로 복사됩니다. 노드 실행 중 발생한 예외는 해당 노드의 완료로 취급되어 후속 노드의 실행을 막지 않습니다. 실패 처리는 {@code action}
+ * 내부에서 수행해야 합니다.
+ *
+ * <p>{@code cancelled}를 지정하면 노드를 시작하기 전마다 확인하여, 취소된 뒤에는 아직 시작하지 않은 노드를 실행하지 않고 실행 중인 노드가 끝나는 대로
+ * 반환합니다.
+ *
+ * @since v0.1.0
+ */
+@Slf4j
+public final class DependencyGraphExecutor {
+
+  private DependencyGraphExecutor() {}
+
+  /**
+   * 그래프의 모든 노드를 실행하고, 모두 끝날 때까지 대기합니다.
+   *
+   * @param graph 실행할 의존 관계 그래프
+   * @param maxConcurrency 동시에 실행할 수 있는 최대 노드 수
+   * @param executor 노드를 실행할 스레드 풀
+   * @param action 각 노드에 대해 수행할 작업
+   * @param <T> 노드 타입
+   */
+  public static <T> void execute(
+      DependencyGraph<T> graph, int maxConcurrency, Executor executor, Consumer<T> action) {
+    execute(graph, maxConcurrency, executor, () -> false, action);
+  }
+
+  /**
+   * 그래프의 노드를 취소되기 전까지 실행하고, 실행 중인 노드가 모두 끝날 때까지 대기합니다.
+   *
+   * @param graph 실행할 의존 관계 그래프
+   * @param maxConcurrency 동시에 실행할 수 있는 최대 노드 수
+   * @param executor 노드를 실행할 스레드 풀
+   * @param cancelled 노드를 시작하기 전마다 확인하는 취소 여부
+   * @param action 각 노드에 대해 수행할 작업
+   * @param <T> 노드 타입
+   */
+  public static <T> void execute(
+      DependencyGraph<T> graph,
+      int maxConcurrency,
+      Executor executor,
+      BooleanSupplier cancelled,
+      Consumer<T> action) {
+    Executor mdcExecutor = MdcPropagation.withCurrentMdc(executor);
+    executeAsync(
+        graph,
+        maxConcurrency,
+        cancelled,
+        node -> CompletableFuture.runAsync(() -> action.accept(node), mdcExecutor));
+  }
+
+  /**
+   * 각 노드의 작업이 {@link CompletableFuture}를 반환하는 비동기 작업일 때, 그래프의 모든 노드를 실행하고 모두 끝날 때까지 대기합니다.
+   *
+   * <p>{@code action}은 호출 스레드에서 호출되며 작업을 시작만 한 뒤 즉시 반환해야 합니다. 실제 작업(HTTP 호출 등)이 진행되는 동안에는 어떤 스레드도
+   * 점유하지 않으므로, 동시 실행 수만큼의 스레드가 필요하지 않습니다.
+   *
+   * @param graph 실행할 의존 관계 그래프
+   * @param maxConcurrency 동시에 실행할 수 있는 최대 노드 수
+   * @param action 각 노드에 대해 비동기 작업을 시작하는 함수
+   * @param <T> 노드 타입
+   */
+  public static <T> void executeAsync(
+      DependencyGraph<T> graph, int maxConcurrency, Function<T, CompletableFuture<?>> action) {
+    executeAsync(graph, maxConcurrency, () -> false, action);
+  }
+
+  /**
+   * 각 노드의 작업이 {@link CompletableFuture}를 반환하는 비동기 작업일 때, 그래프의 노드를 취소되기 전까지 실행하고 실행 중인 노드가 모두 끝날 때까지
+   * 대기합니다.
+   *
+   * @param graph 실행할 의존 관계 그래프
+   * @param maxConcurrency 동시에 실행할 수 있는 최대 노드 수
+   * @param cancelled 노드를 시작하기 전마다 확인하는 취소 여부
+   * @param action 각 노드에 대해 비동기 작업을 시작하는 함수
+   * @param <T> 노드 타입
+   */
+  public static <T> void executeAsync(
+      DependencyGraph<T> graph,
+      int maxConcurrency,
+      BooleanSupplier cancelled,
+      Function<T, CompletableFuture<?>> action) {
+    int size = graph.size();
+    int concurrency = Math.max(1, maxConcurrency);
+    boolean[] started = new boolean[size];
+    Set<Integer> completed = new HashSet<>();
+    Map<Integer, CompletableFuture<?>> running = new LinkedHashMap<>();
+
+    while (completed.size() < size) {
+      for (int i = 0; i < size && running.size() < concurrency; i++) {
+        if (!started[i] && completed.containsAll(graph.dependenciesOf(i))) {
+          // 📌 취소된 뒤에는 새 노드를 시작하지 않고, 실행 중인 노드가 끝나기만 기다립니다.
+          if (cancelled.getAsBoolean()) {
+            break;
+          }
+          started[i] = true;
+          running.put(i, start(action, graph.node(i)));
+        }
+      }
+
+      if (running.isEmpty() && cancelled.getAsBoolean()) {
+        log.warn("실행이 취소되어 시작하지 않은 노드 {}개를 실행하지 않습니다", size - completed.size());
+        return;
+      }
+      if (running.isEmpty()) {
+        throw new IllegalStateException("실행 가능한 노드가 없습니다. 의존 관계 그래프를 확인하세요.");
+      }
+
+      CompletableFuture.anyOf(running.values().toArray(CompletableFuture[]::new))
+          .exceptionally(e -> null)
+          .join();
+
+      List<Integer> finished = new ArrayList<>();
+      running.forEach(
+          (index, future) -> {
+            if (future.isDone()) {
+              finished.add(index);
+            }
+          });
+      for (Integer index : finished) {
+        CompletableFuture<?> future = running.remove(index);
+        if (future.isCompletedExceptionally()) {
+          future.exceptionally(
+              e -> {
+                log.error("그래프 노드 실행 중 처리되지 않은 예외 발생: index={}", index, e);
+                return null;
+              });
+        }
+        completed.add(index);
+      }
+    }
+  }
+
+  private static <T> CompletableFuture<?> start(Function<T, CompletableFuture<?>> action, T node) {
+    try {
+      CompletableFuture<?> future = action.apply(node);
+      return future != null ? future : CompletableFuture.completedFuture(null);
+    } catch (RuntimeException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+}
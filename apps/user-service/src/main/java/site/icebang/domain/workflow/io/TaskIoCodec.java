@@ -0,0 +1,126 @@
+package site.icebang.domain.workflow.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.TextNode;
+
+import lombok.RequiredArgsConstructor;
+
+import site.icebang.domain.workflow.model.TaskIoData;
+import site.icebang.global.config.properties.TaskIoProperties;
+
+/**
+ * Task 입출력 값을 task_io_data 행으로 변환하고, 저장된 행을 다시 원래 값으로 복원하는 클래스입니다.
+ *
+ * <h2>저장 형식:</h2>
+ *
+ * <ul>
+ *   <li>{@code json}: 값을 그대로 JSON으로 저장합니다.
+ *   <li>{@code string}: 값을 JSON 문자열로 저장합니다.
+ *   <li>{@code json+gzip}, {@code string+gzip}: {@code workflow.task-io.compress-threshold}보다 큰 값은
+ *       gzip으로 압축한 뒤 Base64 JSON 문자열로 저장합니다.
+ *   <li>{@code workflow.task-io.max-size}보다 큰 값은 저장하지 않고 ({@code data_value = NULL}) 원본 크기만 기록합니다.
+ * </ul>
+ *
+ * @since v0.1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskIoCodec {
+
+  public static final String JSON = "json";
+  public static final String STRING = "string";
+  public static final String GZIP_SUFFIX = "+gzip";
+
+  private final ObjectMapper objectMapper;
+  private final TaskIoProperties properties;
+
+  /**
+   * Task 입출력 값을 저장할 행으로 변환합니다.
+   *
+   * @param taskRunId Task 실행 ID
+   * @param ioType INPUT 또는 OUTPUT
+   * @param name 입출력 이름
+   * @param dataType {@link #JSON} 또는 {@link #STRING}
+   * @param raw 원본 값 ({@code json}이면 JSON 문자열)
+   * @param createdAt 기록 시각
+   * @return 저장할 행
+   * @throws IOException 값을 압축하거나 직렬화하지 못한 경우
+   */
+  public TaskIoData encode(
+      Long taskRunId, String ioType, String name, String dataType, String raw, Instant createdAt)
+      throws IOException {
+    byte[] bytes = raw.getBytes(StandardCharsets.UTF_8);
+    long size = bytes.length;
+    if (size > properties.getMaxSize()) {
+      return new TaskIoData(null, taskRunId, ioType, name, dataType, null, size, createdAt);
+    }
+    if (size > properties.getCompressThreshold()) {
+      // 📌 Base64 문자는 JSON 문자열에서 이스케이프가 필요 없으므로 따옴표만 붙입니다.
+      String encoded = '"' + Base64.getEncoder().encodeToString(gzip(bytes)) + '"';
+      return new TaskIoData(
+          null, taskRunId, ioType, name, dataType + GZIP_SUFFIX, encoded, size, createdAt);
+    }
+    String value = JSON.equals(dataType) ? raw : objectMapper.writeValueAsString(raw);
+    return new TaskIoData(null, taskRunId, ioType, name, dataType, value, size, createdAt);
+  }
+
+  /**
+   * 저장된 행의 값을 원래 값으로 복원합니다.
+   *
+   * @param data 저장된 행
+   * @return 복원된 값, 저장 한도를 넘어 생략된 값이면 {@code null}
+   * @throws IOException 저장된 값을 해석하지 못한 경우
+   */
+  public JsonNode decode(TaskIoData data) throws IOException {
+    if (data.getDataValue() == null) {
+      return null;
+    }
+    JsonNode stored = objectMapper.readTree(data.getDataValue());
+    if (!isCompressed(data)) {
+      return stored;
+    }
+    byte[] bytes = gunzip(Base64.getDecoder().decode(stored.asText()));
+    String raw = new String(bytes, StandardCharsets.UTF_8);
+    return baseType(data).equals(JSON) ? objectMapper.readTree(raw) : TextNode.valueOf(raw);
+  }
+
+  /** 압축되어 저장된 행인지 확인합니다. */
+  public static boolean isCompressed(TaskIoData data) {
+    return data.getDataType() != null && data.getDataType().endsWith(GZIP_SUFFIX);
+  }
+
+  /** 압축 여부를 제외한 값의 타입({@code json}, {@code string})을 반환합니다. */
+  public static String baseType(TaskIoData data) {
+    String dataType = data.getDataType();
+    return isCompressed(data)
+        ? dataType.substring(0, dataType.length() - GZIP_SUFFIX.length())
+        : dataType;
+  }
+
+  private static byte[] gzip(byte[] bytes) throws IOException {
+    ByteArrayOutputStream buffer = new ByteArrayOutputStream(bytes.length / 4 + 64);
+    try (OutputStream out = new GZIPOutputStream(buffer)) {
+      out.write(bytes);
+    }
+    return buffer.toByteArray();
+  }
+
+  private static byte[] gunzip(byte[] bytes) throws IOException {
+    try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+      return in.readAllBytes();
+    }
+  }
+}
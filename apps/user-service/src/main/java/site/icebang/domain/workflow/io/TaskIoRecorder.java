@@ -0,0 +1,231 @@
+package site.icebang.domain.workflow.io;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import site.icebang.domain.workflow.mapper.TaskIoDataMapper;
+import site.icebang.domain.workflow.model.TaskIoData;
+import site.icebang.global.config.properties.TaskIoProperties;
+
+/**
+ * Task의 요청/응답 Body를 워크플로우 실행 경로 밖에서 task_io_data 테이블에 저장하는 컴포넌트입니다.
+ *
+ * <p>실행 스레드는 값을 고정 크기 대기열에 넣기만 하고 바로 다음 작업을 진행합니다. 직렬화, 압축과 저장은 전용 스레드에서 수행되며, 한 번의 multi-row
+ * INSERT로 최대 {@code workflow.task-io.batch-size}건을 저장합니다. 대기열이 가득 차거나 저장에 실패한 입출력은 재시도하지 않고 버리며,
+ * 버려진 건수를 메트릭으로 기록합니다.
+ *
+ * <h2>노출 메트릭:</h2>
+ *
+ * <ul>
+ *   <li>{@code workflow.task.io.queue.size}: 저장 대기 중인 입출력 수
+ *   <li>{@code workflow.task.io.dropped}: 대기열이 가득 차 버려진 입출력 수
+ *   <li>{@code workflow.task.io.written}: 저장에 성공한 입출력 수
+ *   <li>{@code workflow.task.io.write.failed}: 저장에 실패한 입출력 수
+ * </ul>
+ *
+ * @since v0.1.0
+ */
+@Slf4j
+@Component
+public class TaskIoRecorder implements SmartLifecycle {
+
+  public static final String INPUT = "INPUT";
+  public static final String OUTPUT = "OUTPUT";
+
+  private final TaskIoDataMapper taskIoDataMapper;
+  private final TaskIoCodec codec;
+  private final ObjectMapper objectMapper;
+  private final TaskIoProperties properties;
+  private final BlockingQueue<Capture> queue;
+  private final Counter droppedCounter;
+  private final Counter writtenCounter;
+  private final Counter failedCounter;
+
+  private volatile boolean running;
+  private Thread worker;
+
+  public TaskIoRecorder(
+      TaskIoDataMapper taskIoDataMapper,
+      TaskIoCodec codec,
+      ObjectMapper objectMapper,
+      TaskIoProperties properties,
+      MeterRegistry meterRegistry) {
+    this.taskIoDataMapper = taskIoDataMapper;
+    this.codec = codec;
+    this.objectMapper = objectMapper;
+    this.properties = properties;
+    this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+
+    Gauge.builder("workflow.task.io.queue.size", queue, BlockingQueue::size)
+        .description("저장 대기 중인 Task 입출력 수")
+        .register(meterRegistry);
+    this.droppedCounter =
+        Counter.builder("workflow.task.io.dropped")
+            .description("대기열이 가득 차 버려진 Task 입출력 수")
+            .register(meterRegistry);
+    this.writtenCounter =
+        Counter.builder("workflow.task.io.written")
+            .description("저장에 성공한 Task 입출력 수")
+            .register(meterRegistry);
+    this.failedCounter =
+        Counter.builder("workflow.task.io.write.failed")
+            .description("저장에 실패한 Task 입출력 수")
+            .register(meterRegistry);
+  }
+
+  /**
+   * Task 요청 Body를 기록합니다. 기록 이후에는 Body를 수정하지 않아야 합니다.
+   *
+   * @param taskRunId Task 실행 ID
+   * @param requestBody FastAPI로 전송한 요청 Body
+   */
+  public void recordInput(Long taskRunId, JsonNode requestBody) {
+    offer(new Capture(taskRunId, INPUT, "request_body", TaskIoCodec.JSON, requestBody));
+  }
+
+  /**
+   * Task 응답 Body를 기록합니다.
+   *
+   * @param taskRunId Task 실행 ID
+   * @param responseBody FastAPI 응답 Body (JSON 문자열)
+   */
+  public void recordOutput(Long taskRunId, String responseBody) {
+    offer(new Capture(taskRunId, OUTPUT, "response_body", TaskIoCodec.JSON, responseBody));
+  }
+
+  /**
+   * 실패한 Task의 오류 메시지를 기록합니다.
+   *
+   * @param taskRunId Task 실행 ID
+   * @param message 오류 메시지
+   */
+  public void recordError(Long taskRunId, String message) {
+    offer(new Capture(taskRunId, OUTPUT, "error_message", TaskIoCodec.STRING, message));
+  }
+
+  @Override
+  public void start() {
+    running = true;
+    worker = Thread.ofPlatform().name("task-io-recorder").daemon(true).start(this::run);
+  }
+
+  @Override
+  public void stop() {
+    running = false;
+    if (worker != null) {
+      try {
+        worker.join(properties.getShutdownTimeout());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    // 📌 작업 스레드가 끝난 뒤 대기열에 남아 있는 입출력을 모두 저장합니다.
+    List<Capture> batch = new ArrayList<>(properties.getBatchSize());
+    while (queue.drainTo(batch, properties.getBatchSize()) > 0) {
+      write(batch);
+      batch.clear();
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  @Override
+  public int getPhase() {
+    // 실행기보다 늦게 정지하여 마지막 Task의 입출력까지 저장합니다.
+    return 0;
+  }
+
+  private void offer(Capture capture) {
+    if (!properties.isEnabled() || capture.taskRunId() == null || capture.payload() == null) {
+      return;
+    }
+    if (!queue.offer(capture)) {
+      droppedCounter.increment();
+    }
+  }
+
+  private void run() {
+    List<Capture> batch = new ArrayList<>(properties.getBatchSize());
+    while (running) {
+      try {
+        Capture first = queue.poll(properties.getFlushInterval(), TimeUnit.MILLISECONDS);
+        if (first == null) {
+          continue;
+        }
+        batch.add(first);
+        queue.drainTo(batch, properties.getBatchSize() - 1);
+        write(batch);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      } finally {
+        batch.clear();
+      }
+    }
+  }
+
+  private void write(List<Capture> batch) {
+    List<TaskIoData> rows = new ArrayList<>(batch.size());
+    for (Capture capture : batch) {
+      try {
+        String raw =
+            capture.payload() instanceof JsonNode node
+                ? objectMapper.writeValueAsString(node)
+                : capture.payload().toString();
+        rows.add(
+            codec.encode(
+                capture.taskRunId(),
+                capture.ioType(),
+                capture.name(),
+                capture.dataType(),
+                raw,
+                capture.capturedAt()));
+      } catch (Exception e) {
+        failedCounter.increment();
+        log.warn("Task 입출력 변환 실패: TaskRunId={}", capture.taskRunId(), e);
+      }
+    }
+    if (rows.isEmpty()) {
+      return;
+    }
+    try {
+      taskIoDataMapper.insertBatch(rows);
+      writtenCounter.increment(rows.size());
+    } catch (Exception e) {
+      failedCounter.increment(rows.size());
+      log.warn("Task 입출력 {}건 저장 실패", rows.size(), e);
+    }
+  }
+
+  /** 대기열에 적재되는 입출력 하나입니다. 직렬화는 저장 스레드에서 수행합니다. */
+  private record Capture(
+      Long taskRunId,
+      String ioType,
+      String name,
+      String dataType,
+      Object payload,
+      Instant capturedAt) {
+
+    private Capture(Long taskRunId, String ioType, String name, String dataType, Object payload) {
+      this(taskRunId, ioType, name, dataType, payload, Instant.now());
+    }
+  }
+}
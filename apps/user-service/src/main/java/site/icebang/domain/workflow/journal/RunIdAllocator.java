@@ -0,0 +1,101 @@
+package site.icebang.domain.workflow.journal;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import site.icebang.domain.workflow.mapper.RunIdBlockMapper;
+import site.icebang.global.config.properties.RunJournalProperties;
+
+/**
+ * job_run, task_run의 ID를 INSERT 전에 미리 할당하는 Hi-Lo 방식의 ID 할당기입니다.
+ *
+ * <p>run_id_block 테이블에서 {@code workflow.run-journal.id-block-size}개씩 ID 구간을 잠금({@code SELECT ...
+ * FOR UPDATE})과 함께 예약하고, 구간 안의 ID는 메모리에서 순서대로 나누어 줍니다. 여러 애플리케이션 인스턴스가 동시에 할당해도 구간이 겹치지 않으며, 테이블에
+ * 직접 INSERT된 행(초기 데이터 등)이 있으면 그 이후부터 할당합니다.
+ *
+ * @since v0.1.0
+ */
+@Component
+public class RunIdAllocator {
+
+  private static final String JOB_RUN = "job_run";
+  private static final String TASK_RUN = "task_run";
+
+  private final RunIdBlockMapper runIdBlockMapper;
+  private final RunJournalProperties properties;
+  private final TransactionTemplate transactionTemplate;
+  private final Map<String, Block> blocks = new HashMap<>();
+
+  public RunIdAllocator(
+      RunIdBlockMapper runIdBlockMapper,
+      RunJournalProperties properties,
+      PlatformTransactionManager transactionManager) {
+    this.runIdBlockMapper = runIdBlockMapper;
+    this.properties = properties;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setPropagationBehavior(
+        TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+  }
+
+  /**
+   * 새 job_run ID를 할당합니다.
+   *
+   * @return 할당된 ID
+   */
+  public Long nextJobRunId() {
+    return next(JOB_RUN);
+  }
+
+  /**
+   * 새 task_run ID를 할당합니다.
+   *
+   * @return 할당된 ID
+   */
+  public Long nextTaskRunId() {
+    return next(TASK_RUN);
+  }
+
+  private synchronized Long next(String name) {
+    Block block = blocks.get(name);
+    if (block == null || block.next >= block.limit) {
+      block = reserve(name);
+      blocks.put(name, block);
+    }
+    return block.next++;
+  }
+
+  private Block reserve(String name) {
+    int blockSize = properties.getIdBlockSize();
+    return transactionTemplate.execute(
+        status -> {
+          Long nextValue = runIdBlockMapper.selectNextValueForUpdate(name);
+          if (nextValue == null) {
+            try {
+              runIdBlockMapper.insert(name, 1L);
+            } catch (DuplicateKeyException e) {
+              // 다른 인스턴스가 먼저 생성한 경우 그대로 사용합니다.
+            }
+            nextValue = runIdBlockMapper.selectNextValueForUpdate(name);
+          }
+          long start = Math.max(nextValue, runIdBlockMapper.selectMaxId(name) + 1);
+          runIdBlockMapper.updateNextValue(name, start + blockSize);
+          return new Block(start, start + blockSize);
+        });
+  }
+
+  private static final class Block {
+    private long next;
+    private final long limit;
+
+    private Block(long next, long limit) {
+      this.next = next;
+      this.limit = limit;
+    }
+  }
+}
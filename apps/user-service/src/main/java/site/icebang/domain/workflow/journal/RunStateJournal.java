@@ -0,0 +1,303 @@
+package site.icebang.domain.workflow.journal;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import site.icebang.domain.workflow.mapper.JobRunMapper;
+import site.icebang.domain.workflow.mapper.TaskRunMapper;
+import site.icebang.domain.workflow.mapper.WorkflowRunMapper;
+import site.icebang.domain.workflow.model.JobRun;
+import site.icebang.domain.workflow.model.TaskRun;
+import site.icebang.domain.workflow.model.WorkflowRun;
+import site.icebang.global.config.properties.RunJournalProperties;
+
+/**
+ * Job/Task 실행 상태 변경을 메모리에 모아 두었다가 MyBatis 배치 실행기로 한꺼번에 저장하는 지연 저장(write-behind) 저널입니다.
+ *
+ * <p>실행 스레드는 {@link #record(JobRun)}, {@link #record(TaskRun)}으로 상태를 기록만 하고 바로 다음 작업을 진행합니다. 같은 실행의
+ * 상태가 저장 전에 여러 번 바뀌면 마지막 상태만 저장되므로, 짧게 끝나는 Task는 시작/종료가 INSERT 한 번으로 합쳐집니다. 모인 상태는 {@code
+ * workflow.run-journal.flush-interval}마다 전용 스레드에서 하나의 트랜잭션으로 저장되며, 같은 SQL은 JDBC 배치로 묶여 전송됩니다.
+ *
+ * <p>워크플로우 실행의 종료 상태는 {@link #complete(WorkflowRun)}로 기록합니다. 종료 상태는 남아 있는 Job/Task 상태와 <b>같은 트랜잭션의
+ * 마지막</b>에 저장되므로, workflow_run이 종료 상태로 보이는 시점에는 그 실행의 모든 Job/Task 종료 상태가 이미 저장되어 있습니다. 저장에 실패한 상태는
+ * 버리지 않고 다음 저장 시 다시 시도합니다.
+ *
+ * <h2>노출 메트릭:</h2>
+ *
+ * <ul>
+ *   <li>{@code workflow.run.journal.pending}: 저장 대기 중인 실행 상태 수
+ *   <li>{@code workflow.run.journal.flushed}: 저장된 실행 상태 수
+ *   <li>{@code workflow.run.journal.flush.failed}: 저장에 실패한 횟수
+ * </ul>
+ *
+ * @since v0.1.0
+ */
+@Slf4j
+@Component
+public class RunStateJournal implements SmartLifecycle {
+
+  private final RunJournalProperties properties;
+  private final TransactionTemplate transactionTemplate;
+  private final JobRunMapper batchJobRunMapper;
+  private final TaskRunMapper batchTaskRunMapper;
+  private final WorkflowRunMapper batchWorkflowRunMapper;
+  private final SqlSessionTemplate batchSqlSessionTemplate;
+  private final Counter flushedCounter;
+  private final Counter failedCounter;
+
+  // 📌 저장 대기 중인 상태 (ID별 마지막 상태만 유지)
+  private Map<Long, JobRun> pendingJobRuns = new LinkedHashMap<>();
+  private Map<Long, TaskRun> pendingTaskRuns = new LinkedHashMap<>();
+  private Map<Long, WorkflowRun> pendingWorkflowRuns = new LinkedHashMap<>();
+
+  // 📌 INSERT가 끝났지만 아직 종료되지 않은 실행 ID (다음 저장 시 UPDATE 대상). flushLock 안에서만 접근합니다.
+  private final Set<Long> insertedJobRunIds = new HashSet<>();
+  private final Set<Long> insertedTaskRunIds = new HashSet<>();
+  private final ReentrantLock flushLock = new ReentrantLock();
+
+  private volatile boolean running;
+  private Thread worker;
+
+  public RunStateJournal(
+      SqlSessionFactory sqlSessionFactory,
+      PlatformTransactionManager transactionManager,
+      RunJournalProperties properties,
+      MeterRegistry meterRegistry) {
+    this.properties = properties;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setPropagationBehavior(
+        TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    this.batchSqlSessionTemplate = new SqlSessionTemplate(sqlSessionFactory, ExecutorType.BATCH);
+    this.batchJobRunMapper = batchSqlSessionTemplate.getMapper(JobRunMapper.class);
+    this.batchTaskRunMapper = batchSqlSessionTemplate.getMapper(TaskRunMapper.class);
+    this.batchWorkflowRunMapper = batchSqlSessionTemplate.getMapper(WorkflowRunMapper.class);
+
+    Gauge.builder("workflow.run.journal.pending", this, RunStateJournal::pendingCount)
+        .description("저장 대기 중인 실행 상태 수")
+        .register(meterRegistry);
+    this.flushedCounter =
+        Counter.builder("workflow.run.journal.flushed")
+            .description("저장된 실행 상태 수")
+            .register(meterRegistry);
+    this.failedCounter =
+        Counter.builder("workflow.run.journal.flush.failed")
+            .description("실행 상태 저장에 실패한 횟수")
+            .register(meterRegistry);
+  }
+
+  /**
+   * Job 실행의 현재 상태를 기록합니다. 실제 저장은 다음 저장 주기에 수행됩니다.
+   *
+   * @param jobRun 상태가 변경된 Job 실행 (ID가 할당되어 있어야 함)
+   */
+  public void record(JobRun jobRun) {
+    JobRun snapshot = jobRun.snapshot();
+    synchronized (this) {
+      pendingJobRuns.put(snapshot.getId(), snapshot);
+    }
+  }
+
+  /**
+   * Task 실행의 현재 상태를 기록합니다. 실제 저장은 다음 저장 주기에 수행됩니다.
+   *
+   * @param taskRun 상태가 변경된 Task 실행 (ID가 할당되어 있어야 함)
+   */
+  public void record(TaskRun taskRun) {
+    TaskRun snapshot = taskRun.snapshot();
+    synchronized (this) {
+      pendingTaskRuns.put(snapshot.getId(), snapshot);
+    }
+  }
+
+  /**
+   * 워크플로우 실행의 종료 상태를 기록하고, 남아 있는 모든 상태와 함께 즉시 저장합니다.
+   *
+   * <p>저장에 실패하면 상태는 저널에 남아 다음 저장 주기에 다시 저장되며, 그때까지 workflow_run은 이전 상태로 유지됩니다.
+   *
+   * @param workflowRun 종료 처리된 워크플로우 실행
+   * @return 종료 상태까지 저장되었으면 true
+   */
+  public boolean complete(WorkflowRun workflowRun) {
+    synchronized (this) {
+      pendingWorkflowRuns.put(workflowRun.getId(), workflowRun);
+    }
+    return flush();
+  }
+
+  /**
+   * 저장 대기 중인 모든 상태를 하나의 트랜잭션으로 저장합니다.
+   *
+   * @return 저장에 성공했거나 저장할 상태가 없으면 true
+   */
+  public boolean flush() {
+    flushLock.lock();
+    try {
+      Batch batch = drain();
+      if (batch.isEmpty()) {
+        return true;
+      }
+      try {
+        transactionTemplate.executeWithoutResult(status -> write(batch));
+      } catch (Exception e) {
+        restore(batch);
+        failedCounter.increment();
+        log.warn("실행 상태 {}건 저장 실패, 다음 주기에 다시 저장합니다", batch.size(), e);
+        return false;
+      }
+      markPersisted(batch);
+      flushedCounter.increment(batch.size());
+      return true;
+    } finally {
+      flushLock.unlock();
+    }
+  }
+
+  @Override
+  public void start() {
+    running = true;
+    worker = Thread.ofPlatform().name("run-state-journal").daemon(true).start(this::run);
+  }
+
+  @Override
+  public void stop() {
+    running = false;
+    if (worker != null) {
+      try {
+        worker.join(properties.getShutdownTimeout());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    // 📌 작업 스레드가 끝난 뒤 남아 있는 상태를 모두 저장합니다.
+    flush();
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  @Override
+  public int getPhase() {
+    // 워크플로우 실행기보다 늦게 정지하여 마지막 상태까지 저장합니다.
+    return 0;
+  }
+
+  private void run() {
+    while (running) {
+      try {
+        Thread.sleep(properties.getFlushInterval());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+      flush();
+    }
+  }
+
+  private synchronized int pendingCount() {
+    return pendingJobRuns.size() + pendingTaskRuns.size() + pendingWorkflowRuns.size();
+  }
+
+  private synchronized Batch drain() {
+    Batch batch =
+        new Batch(
+            new ArrayList<>(pendingJobRuns.values()),
+            new ArrayList<>(pendingTaskRuns.values()),
+            new ArrayList<>(pendingWorkflowRuns.values()));
+    pendingJobRuns = new LinkedHashMap<>();
+    pendingTaskRuns = new LinkedHashMap<>();
+    pendingWorkflowRuns = new LinkedHashMap<>();
+    return batch;
+  }
+
+  // 저장에 실패한 상태를 되돌립니다. 그사이 더 새로운 상태가 기록되었다면 새로운 상태를 유지합니다.
+  private synchronized void restore(Batch batch) {
+    for (JobRun jobRun : batch.jobRuns()) {
+      pendingJobRuns.putIfAbsent(jobRun.getId(), jobRun);
+    }
+    for (TaskRun taskRun : batch.taskRuns()) {
+      pendingTaskRuns.putIfAbsent(taskRun.getId(), taskRun);
+    }
+    for (WorkflowRun workflowRun : batch.workflowRuns()) {
+      pendingWorkflowRuns.putIfAbsent(workflowRun.getId(), workflowRun);
+    }
+  }
+
+  // 📌 같은 SQL이 연속되도록 INSERT(Job → Task), UPDATE(Job → Task), workflow_run 종료 순으로 실행합니다.
+  private void write(Batch batch) {
+    for (JobRun jobRun : batch.jobRuns()) {
+      if (!insertedJobRunIds.contains(jobRun.getId())) {
+        batchJobRunMapper.insert(jobRun);
+      }
+    }
+    for (TaskRun taskRun : batch.taskRuns()) {
+      if (!insertedTaskRunIds.contains(taskRun.getId())) {
+        batchTaskRunMapper.insert(taskRun);
+      }
+    }
+    for (JobRun jobRun : batch.jobRuns()) {
+      if (insertedJobRunIds.contains(jobRun.getId())) {
+        batchJobRunMapper.update(jobRun);
+      }
+    }
+    for (TaskRun taskRun : batch.taskRuns()) {
+      if (insertedTaskRunIds.contains(taskRun.getId())) {
+        batchTaskRunMapper.update(taskRun);
+      }
+    }
+    for (WorkflowRun workflowRun : batch.workflowRuns()) {
+      batchWorkflowRunMapper.update(workflowRun);
+    }
+    batchSqlSessionTemplate.flushStatements();
+  }
+
+  // 종료된 실행은 더 이상 변경되지 않으므로 추적 대상에서 제거합니다.
+  private void markPersisted(Batch batch) {
+    for (JobRun jobRun : batch.jobRuns()) {
+      if (jobRun.getFinishedAt() != null) {
+        insertedJobRunIds.remove(jobRun.getId());
+      } else {
+        insertedJobRunIds.add(jobRun.getId());
+      }
+    }
+    for (TaskRun taskRun : batch.taskRuns()) {
+      if (taskRun.getFinishedAt() != null) {
+        insertedTaskRunIds.remove(taskRun.getId());
+      } else {
+        insertedTaskRunIds.add(taskRun.getId());
+      }
+    }
+  }
+
+  private record Batch(
+      List<JobRun> jobRuns, List<TaskRun> taskRuns, List<WorkflowRun> workflowRuns) {
+
+    boolean isEmpty() {
+      return size() == 0;
+    }
+
+    int size() {
+      return jobRuns.size() + taskRuns.size() + workflowRuns.size();
+    }
+  }
+}
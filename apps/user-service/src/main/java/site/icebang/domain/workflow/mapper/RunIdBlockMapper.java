@@ -0,0 +1,15 @@
+package site.icebang.domain.workflow.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+@Mapper
+public interface RunIdBlockMapper {
+  Long selectNextValueForUpdate(@Param("name") String name);
+
+  Long selectMaxId(@Param("name") String name);
+
+  void insert(@Param("name") String name, @Param("nextValue") long nextValue);
+
+  void updateNextValue(@Param("name") String name, @Param("nextValue") long nextValue);
+}
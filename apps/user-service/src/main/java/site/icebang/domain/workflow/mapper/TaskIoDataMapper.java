@@ -0,0 +1,18 @@
+package site.icebang.domain.workflow.mapper;
+
+import java.util.List;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import site.icebang.domain.workflow.model.TaskCheckpoint;
+import site.icebang.domain.workflow.model.TaskIoData;
+
+@Mapper
+public interface TaskIoDataMapper {
+  int insertBatch(@Param("entries") List<TaskIoData> entries);
+
+  List<TaskIoData> findByTaskRunId(@Param("taskRunId") Long taskRunId);
+
+  List<TaskCheckpoint> findCheckpointsByWorkflowRunId(@Param("workflowRunId") Long workflowRunId);
+}
@@ -1,6 +1,9 @@
 package site.icebang.domain.workflow.mapper;
 
+import java.time.Instant;
+
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 
 import site.icebang.domain.workflow.model.TaskRun;
 
@@ -9,4 +12,8 @@ public interface TaskRunMapper {
   void insert(TaskRun taskRun);
 
   void update(TaskRun taskRun);
+
+  /** 종료되지 않은 채 남은 워크플로우 실행의 Task 실행을 실패로 종료합니다. */
+  int failUnfinished(
+      @Param("workflowRunId") Long workflowRunId, @Param("finishedAt") Instant finishedAt);
 }
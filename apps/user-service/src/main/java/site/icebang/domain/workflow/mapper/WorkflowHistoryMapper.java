@@ -4,11 +4,9 @@ import java.util.List;
 
 import org.apache.ibatis.annotations.Mapper;
 
-import site.icebang.common.dto.PageParams;
-import site.icebang.domain.workflow.dto.JobRunDto;
-import site.icebang.domain.workflow.dto.TaskRunDto;
+import site.icebang.common.query.ListQuery;
 import site.icebang.domain.workflow.dto.WorkflowHistoryDTO;
-import site.icebang.domain.workflow.dto.WorkflowRunDto;
+import site.icebang.domain.workflow.dto.WorkflowRunDetailResponse;
 
 /**
  * 워크플로우 실행 히스토리 관련 데이터베이스 매퍼 인터페이스입니다.
@@ -21,50 +19,26 @@ import site.icebang.domain.workflow.dto.WorkflowRunDto;
 @Mapper
 public interface WorkflowHistoryMapper {
   /**
-   * 워크플로우 실행 정보를 조회합니다.
+   * 워크플로우 실행 상세 정보를 Job, Task 실행 정보까지 포함하여 단일 쿼리로 조회합니다.
    *
    * @param runId workflow_run.id
-   * @return 워크플로우 실행 정보
+   * @return 워크플로우 실행 상세 정보, 실행 정보가 없으면 {@code null}
    */
-  WorkflowRunDto selectWorkflowRun(Long runId);
+  WorkflowRunDetailResponse selectWorkflowRunDetail(Long runId);
 
   /**
-   * 워크플로우 실행의 작업 목록을 조회합니다.
+   * 필터, 정렬, 페이지네이션을 적용한 워크플로우 히스토리 목록을 조회합니다.
    *
-   * @param workflowRunId workflow_run.id
-   * @return 작업 실행 정보 목록
+   * @param query 화이트리스트로 검증된 조회 조건
+   * @return 워크플로우 히스토리 정보 목록 (다음 페이지 판단을 위해 최대 pageSize + 1건)
    */
-  List<JobRunDto> selectJobRunsByWorkflowRunId(Long workflowRunId);
+  List<WorkflowHistoryDTO> selectWorkflowHistoryList(ListQuery query);
 
   /**
-   * 작업 실행의 태스크 목록을 조회합니다.
+   * 필터 조건에 해당하는 워크플로우 런 인스턴스의 총 개수를 조회합니다.
    *
-   * @param jobRunId job_run.id
-   * @return 태스크 실행 정보 목록
-   */
-  List<TaskRunDto> selectTaskRunsByJobRunId(Long jobRunId);
-
-  /**
-   * 워크플로우 실행 TraceId를 조회합니다.
-   *
-   * @param runId workflow_run.id
-   * @return 추적 ID 문자열
-   */
-  String selectTraceIdByRunId(Long runId);
-
-  /**
-   * 페이지네이션을 적용한 워크플로우 히스토리 목록을 조회합니다.
-   *
-   * @param pageParams 페이지 매개변수
-   * @return 워크플로우 히스토리 정보 목록
-   */
-  List<WorkflowHistoryDTO> selectWorkflowHistoryList(PageParams pageParams);
-
-  /**
-   * 워크플로우 런 인스턴스의 총 개수를 조회합니다.
-   *
-   * @param pageParams 페이지 매개변수
+   * @param query 화이트리스트로 검증된 조회 조건
    * @return 총 결과 개수
    */
-  int selectWorkflowHistoryCount(PageParams pageParams);
+  int selectWorkflowHistoryCount(ListQuery query);
 }
@@ -3,15 +3,15 @@ package site.icebang.domain.workflow.mapper;
 import java.math.BigInteger;
 import java.util.*;
 
-import site.icebang.common.dto.PageParams;
+import site.icebang.common.query.ListQuery;
 import site.icebang.domain.workflow.dto.ScheduleDto;
 import site.icebang.domain.workflow.dto.WorkflowCardDto;
 import site.icebang.domain.workflow.dto.WorkflowDetailCardDto;
 
 public interface WorkflowMapper {
-  List<WorkflowCardDto> selectWorkflowList(PageParams pageParams);
+  List<WorkflowCardDto> selectWorkflowList(ListQuery query);
 
-  int selectWorkflowCount(PageParams pageParams);
+  int selectWorkflowCount(ListQuery query);
 
   int insertWorkflow(Map<String, Object> params); // insert workflow
 
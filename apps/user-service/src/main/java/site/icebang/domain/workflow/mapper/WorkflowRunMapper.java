@@ -1,6 +1,10 @@
 package site.icebang.domain.workflow.mapper;
 
+import java.time.Instant;
+import java.util.List;
+
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 
 import site.icebang.domain.workflow.model.WorkflowRun;
 
@@ -9,4 +13,53 @@ public interface WorkflowRunMapper {
   void insert(WorkflowRun workflowRun);
 
   void update(WorkflowRun workflowRun);
+
+  WorkflowRun findById(Long id);
+
+  /**
+   * 워크플로우 실행에 행 잠금을 걸고 조회합니다. 같은 실행의 재개 요청이 동시에 들어와도 하나씩 처리되도록 합니다.
+   *
+   * <p>트랜잭션 안에서 호출해야 하며, 잠금은 트랜잭션이 끝날 때 풀립니다.
+   */
+  WorkflowRun lockById(@Param("id") Long id);
+
+  /** 실패하지 않은(대기, 실행 중이거나 성공한) 재개 실행 수를 조회합니다. */
+  long countActiveResumes(@Param("resumedFromRunId") Long resumedFromRunId);
+
+  /**
+   * 오래 기다린 순서대로 실행 대기 중(PENDING)인 워크플로우 실행에 행 잠금을 겁니다. 다른 인스턴스가 잠근 행은 기다리지 않고 건너뜁니다.
+   *
+   * <p>트랜잭션 안에서 호출해야 하며, 잠금은 트랜잭션이 끝날 때 풀립니다.
+   */
+  List<Long> lockPendingIds(@Param("limit") int limit);
+
+  /** 잠근 실행 대기 중인 워크플로우 실행을 이 인스턴스가 실행 중인 것으로 변경합니다. */
+  int lease(
+      @Param("ids") List<Long> ids,
+      @Param("owner") String owner,
+      @Param("startedAt") Instant startedAt,
+      @Param("leaseExpiresAt") Instant leaseExpiresAt);
+
+  List<WorkflowRun> findLeased(@Param("ids") List<Long> ids, @Param("owner") String owner);
+
+  /** 이 인스턴스가 실행 중인 워크플로우 실행의 임대 만료 시각을 늦춥니다. */
+  int renewLeases(@Param("owner") String owner, @Param("leaseExpiresAt") Instant leaseExpiresAt);
+
+  /** 이 인스턴스가 실행 중인 것으로 기록된 워크플로우 실행 ID를 조회합니다. */
+  List<Long> findLeasedIds(@Param("owner") String owner);
+
+  /** 실행기에 제출하지 못한 워크플로우 실행을 다시 실행 대기 상태로 되돌립니다. */
+  int markPending(@Param("id") Long id, @Param("owner") String owner);
+
+  /**
+   * 임대가 만료된(갱신하던 인스턴스가 종료된) 실행 중인 워크플로우 실행에 행 잠금을 겁니다. 다른 인스턴스가 잠근 행은 건너뜁니다.
+   *
+   * <p>트랜잭션 안에서 호출해야 하며, 잠금은 트랜잭션이 끝날 때 풀립니다.
+   */
+  List<WorkflowRun> lockExpiredLeases(@Param("now") Instant now, @Param("limit") int limit);
+
+  /** 임대가 만료된 워크플로우 실행을 실패로 종료합니다. 그사이 임대가 갱신되었으면 0을 반환합니다. */
+  int failExpiredLease(@Param("id") Long id, @Param("now") Instant now);
+
+  long countByStatus(@Param("status") String status);
 }
@@ -12,6 +12,7 @@ public class JobRun {
   private Long id;
   private Long workflowRunId;
   private Long jobId;
+  private Integer executionOrder;
   private String status; // PENDING, RUNNING, SUCCESS, FAILED
   private Instant startedAt;
   private Instant finishedAt;
@@ -25,9 +26,16 @@ public class JobRun {
     this.createdAt = this.startedAt;
   }
 
-  /** Job 실행 시작을 위한 정적 팩토리 메소드 */
-  public static JobRun start(Long workflowRunId, Long jobId) {
-    return new JobRun(workflowRunId, jobId);
+  /**
+   * Job 실행 시작을 위한 정적 팩토리 메소드
+   *
+   * <p>ID는 INSERT 전에 {@code RunIdAllocator}로 미리 할당받아 전달합니다.
+   */
+  public static JobRun start(Long id, Long workflowRunId, Long jobId, Integer executionOrder) {
+    JobRun jobRun = new JobRun(workflowRunId, jobId);
+    jobRun.id = id;
+    jobRun.executionOrder = executionOrder;
+    return jobRun;
   }
 
   /** Job 실행 완료 처리 */
@@ -35,4 +43,18 @@ public class JobRun {
     this.status = status;
     this.finishedAt = Instant.now();
   }
+
+  /** 현재 상태의 복사본을 반환합니다. 저장을 기다리는 동안 상태가 바뀌어도 기록 시점의 값이 저장됩니다. */
+  public JobRun snapshot() {
+    JobRun copy = new JobRun();
+    copy.id = id;
+    copy.workflowRunId = workflowRunId;
+    copy.jobId = jobId;
+    copy.executionOrder = executionOrder;
+    copy.status = status;
+    copy.startedAt = startedAt;
+    copy.finishedAt = finishedAt;
+    copy.createdAt = createdAt;
+    return copy;
+  }
 }
@@ -0,0 +1,21 @@
+package site.icebang.domain.workflow.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 성공한 Task 실행과 그 응답 Body(task_io_data)를 함께 조회한 결과입니다.
+ *
+ * <p>응답 Body가 저장되지 않은 Task 실행이면 {@code output}이 {@code null}입니다.
+ *
+ * @since v0.1.0
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskCheckpoint {
+  private Long taskRunId;
+  private Long taskId;
+  private TaskIoData output;
+}
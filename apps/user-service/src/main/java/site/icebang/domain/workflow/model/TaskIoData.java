@@ -0,0 +1,41 @@
+package site.icebang.domain.workflow.model;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * task_io_data 테이블의 한 행으로, Task 실행 하나의 입력(요청 Body) 또는 출력(응답 Body)을 표현합니다.
+ *
+ * <p>{@code dataValue}는 JSON 컬럼에 저장되는 JSON 문자열이며, 압축된 값은 {@code dataType}에 {@code +gzip} 접미사가 붙고
+ * Base64로 인코딩된 JSON 문자열로 저장됩니다. 저장 한도를 넘어 값이 생략된 경우 {@code dataValue}는 {@code null}이고 {@code
+ * dataSize}에 원본 크기만 남습니다.
+ *
+ * @since v0.1.0
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskIoData {
+
+  private Long id;
+  private Long taskRunId;
+  private String ioType; // INPUT, OUTPUT
+  private String name; // request_body, response_body, error_message
+  private String dataType; // json, string, json+gzip, string+gzip
+  private String dataValue; // JSON 문자열
+  private Long dataSize; // 압축 전 원본 크기 (bytes)
+  private Instant createdAt;
+
+  /**
+   * JSON 컬럼에 바인딩할 값을 UTF-8 바이트로 반환합니다.
+   *
+   * <p>H2는 문자열을 JSON 컬럼에 바인딩하면 JSON 문자열 값으로 감싸 저장하므로, MariaDB와 동일하게 JSON으로 해석되도록 바이트로 전달합니다.
+   */
+  public byte[] getDataValueBytes() {
+    return dataValue == null ? null : dataValue.getBytes(StandardCharsets.UTF_8);
+  }
+}
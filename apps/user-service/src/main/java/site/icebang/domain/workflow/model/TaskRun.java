@@ -27,9 +27,14 @@ public class TaskRun {
     this.createdAt = Instant.now();
   }
 
-  /** Task 실행 시작을 위한 정적 팩토리 메서드 */
-  public static TaskRun start(Long jobRunId, Long taskId, Integer executionOrder) {
+  /**
+   * Task 실행 시작을 위한 정적 팩토리 메서드
+   *
+   * <p>ID는 INSERT 전에 {@code RunIdAllocator}로 미리 할당받아 전달합니다.
+   */
+  public static TaskRun start(Long id, Long jobRunId, Long taskId, Integer executionOrder) {
     TaskRun taskRun = new TaskRun(jobRunId, taskId);
+    taskRun.id = id;
     taskRun.executionOrder = executionOrder;
     taskRun.status = "RUNNING";
     taskRun.startedAt = Instant.now();
@@ -42,4 +47,19 @@ public class TaskRun {
     this.resultMessage = resultMessage;
     this.finishedAt = Instant.now();
   }
+
+  /** 현재 상태의 복사본을 반환합니다. 저장을 기다리는 동안 상태가 바뀌어도 기록 시점의 값이 저장됩니다. */
+  public TaskRun snapshot() {
+    TaskRun copy = new TaskRun();
+    copy.id = id;
+    copy.jobRunId = jobRunId;
+    copy.taskId = taskId;
+    copy.executionOrder = executionOrder;
+    copy.status = status;
+    copy.resultMessage = resultMessage;
+    copy.startedAt = startedAt;
+    copy.finishedAt = finishedAt;
+    copy.createdAt = createdAt;
+    return copy;
+  }
 }
@@ -19,24 +19,45 @@ public class WorkflowRun {
   private Instant startedAt;
   private Instant finishedAt;
   private Instant createdAt;
+  private Long resumedFromRunId; // 재개된 실행이면 원본 workflow_run.id
+  private String leaseOwner; // 실행 중인 인스턴스 (WorkflowRunLeases.getOwner())
+  private Instant leaseExpiresAt; // 갱신되지 않으면 다른 인스턴스가 실행을 복구하는 시각
+  private volatile boolean cancelled; // 임대를 잃어 남은 Task를 실행하지 않아야 하는 실행
 
   private WorkflowRun(Long workflowId) {
     this.workflowId = workflowId;
     // MDC에서 현재 요청의 traceId를 가져오거나, 없으면 새로 생성
     this.traceId = MDC.get("traceId") != null ? MDC.get("traceId") : UUID.randomUUID().toString();
-    this.status = "RUNNING";
-    this.startedAt = Instant.now();
-    this.createdAt = this.startedAt;
+    this.status = "PENDING";
+    this.createdAt = Instant.now();
   }
 
-  /** 워크플로우 실행 시작을 위한 정적 팩토리 메소드 */
-  public static WorkflowRun start(Long workflowId) {
+  /** 실행 대기열에 넣을 워크플로우 실행을 위한 정적 팩토리 메소드 */
+  public static WorkflowRun enqueue(Long workflowId) {
     return new WorkflowRun(workflowId);
   }
 
+  /** 실패한 워크플로우 실행을 이어서 실행하도록 대기열에 넣기 위한 정적 팩토리 메소드 */
+  public static WorkflowRun enqueueResume(Long workflowId, Long resumedFromRunId) {
+    WorkflowRun workflowRun = new WorkflowRun(workflowId);
+    workflowRun.resumedFromRunId = resumedFromRunId;
+    return workflowRun;
+  }
+
+  /** 대기열에서 꺼내 실행을 시작한 것으로 처리 */
+  public void markStarted(Instant startedAt) {
+    this.status = "RUNNING";
+    this.startedAt = startedAt;
+  }
+
   /** 워크플로우 실행 완료 처리 */
   public void finish(String status) {
     this.status = status;
     this.finishedAt = Instant.now();
   }
+
+  /** 임대를 잃은 실행의 남은 Task를 실행하지 않도록 취소 처리 */
+  public void cancel() {
+    this.cancelled = true;
+  }
 }
@@ -0,0 +1,65 @@
+package site.icebang.domain.workflow.plan;
+
+import java.util.List;
+
+import lombok.Getter;
+
+import site.icebang.domain.workflow.executor.DependencyGraph;
+import site.icebang.domain.workflow.model.Job;
+import site.icebang.domain.workflow.model.Task;
+import site.icebang.domain.workflow.runner.TaskRunner;
+import site.icebang.domain.workflow.runner.fastapi.body.TaskBodyBuilder;
+
+/**
+ * 워크플로우 정의를 한 번 해석하여 실행에 필요한 모든 정보를 담아둔 불변(Immutable) 실행 계획입니다.
+ *
+ * <p>정렬된 Job/Task 목록, {@code default_config}에서 병합된 Task별 설정, 실행 방식(병렬 여부, 최대 동시 Job 수), Job/Task 의존
+ * 관계 그래프, 그리고 Task마다 사용할 {@link TaskRunner}와 {@link TaskBodyBuilder}를 미리 결정해 둡니다. 실행 계획은 {@code
+ * WorkflowExecutionPlanCache}에 보관되어 여러 실행이 공유하므로, 실행 중에 계획이나 그 안의 {@link Task}를 수정해서는 안 됩니다.
+ *
+ * @since v0.1.0
+ */
+@Getter
+public final class WorkflowExecutionPlan {
+
+  private final Long workflowId;
+  private final boolean parallel;
+  private final int maxConcurrentJobs;
+  private final List<JobPlan> jobs;
+  private final DependencyGraph<JobPlan> jobGraph;
+
+  WorkflowExecutionPlan(
+      Long workflowId,
+      boolean parallel,
+      int maxConcurrentJobs,
+      List<JobPlan> jobs,
+      DependencyGraph<JobPlan> jobGraph) {
+    this.workflowId = workflowId;
+    this.parallel = parallel;
+    this.maxConcurrentJobs = maxConcurrentJobs;
+    this.jobs = List.copyOf(jobs);
+    this.jobGraph = jobGraph;
+  }
+
+  /**
+   * 실행 계획에 포함된 Job 하나입니다.
+   *
+   * @param job Job 정의
+   * @param executionOrder job_run.execution_order로 기록할 정렬된 순서 (1부터)
+   * @param tasks 실행 순서대로 정렬된 Task 목록
+   * @param taskGraph Job 내 Task 간 의존 관계 그래프
+   */
+  public record JobPlan(
+      Job job, int executionOrder, List<TaskPlan> tasks, DependencyGraph<TaskPlan> taskGraph) {}
+
+  /**
+   * 실행 계획에 포함된 Task 하나입니다.
+   *
+   * @param task 워크플로우 설정이 병합된 Task 정의
+   * @param executionOrder task_run.execution_order로 기록할 순서
+   * @param runner Task 타입에 맞는 실행기 (지원하지 않는 타입이면 {@code null})
+   * @param bodyBuilder 요청 Body 생성기 (없으면 {@code null})
+   */
+  public record TaskPlan(
+      Task task, Integer executionOrder, TaskRunner runner, TaskBodyBuilder bodyBuilder) {}
+}
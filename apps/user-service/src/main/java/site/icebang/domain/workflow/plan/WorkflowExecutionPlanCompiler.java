@@ -0,0 +1,190 @@
+package site.icebang.domain.workflow.plan;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+
+import site.icebang.domain.workflow.dto.JobDto;
+import site.icebang.domain.workflow.dto.TaskDto;
+import site.icebang.domain.workflow.dto.WorkflowDetailCardDto;
+import site.icebang.domain.workflow.executor.DependencyGraph;
+import site.icebang.domain.workflow.mapper.JobMapper;
+import site.icebang.domain.workflow.mapper.WorkflowMapper;
+import site.icebang.domain.workflow.model.Job;
+import site.icebang.domain.workflow.model.Task;
+import site.icebang.domain.workflow.plan.WorkflowExecutionPlan.JobPlan;
+import site.icebang.domain.workflow.plan.WorkflowExecutionPlan.TaskPlan;
+import site.icebang.domain.workflow.runner.TaskRunner;
+import site.icebang.domain.workflow.runner.fastapi.body.BodyMappingCompiler;
+import site.icebang.domain.workflow.runner.fastapi.body.TaskBodyBuilder;
+import site.icebang.global.config.properties.WorkflowExecutionProperties;
+
+/**
+ * 데이터베이스의 워크플로우 정의를 조회하여 {@link WorkflowExecutionPlan}으로 컴파일하는 클래스입니다.
+ *
+ * <p>워크플로우 상세 1회, Job 목록 1회, Job별 Task 목록 조회를 수행하며, 이후의 실행은 컴파일된 계획을 재사용하므로 정의 조회 쿼리를 실행하지 않습니다.
+ *
+ * @since v0.1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class WorkflowExecutionPlanCompiler {
+  // default_config에서 실행 방식(병렬 여부, 최대 동시 Job 수)을 담는 키
+  private static final String EXECUTION_CONFIG_KEY = "execution";
+  private static final Comparator<JobDto> JOB_ORDER =
+      Comparator.comparing(
+              JobDto::getExecutionOrder, Comparator.nullsLast(Comparator.naturalOrder()))
+          .thenComparing(JobDto::getId);
+  private static final Comparator<TaskDto> TASK_ORDER =
+      Comparator.comparing(
+              TaskDto::getExecutionOrder, Comparator.nullsLast(Comparator.naturalOrder()))
+          .thenComparing(TaskDto::getId);
+
+  private final WorkflowMapper workflowMapper;
+  private final JobMapper jobMapper;
+  private final ObjectMapper objectMapper;
+  private final Map<String, TaskRunner> taskRunners;
+  private final List<TaskBodyBuilder> bodyBuilders;
+  private final BodyMappingCompiler bodyMappingCompiler;
+  private final WorkflowExecutionProperties executionProperties;
+
+  /**
+   * 워크플로우 정의를 조회하여 실행 계획을 생성합니다.
+   *
+   * @param workflowId 워크플로우 ID
+   * @return 컴파일된 실행 계획
+   * @throws IllegalArgumentException 워크플로우가 존재하지 않거나 Task의 Body 매핑 명세가 올바르지 않은 경우
+   * @throws IllegalStateException default_config를 해석할 수 없는 경우
+   */
+  public WorkflowExecutionPlan compile(Long workflowId) {
+    WorkflowDetailCardDto workflow =
+        workflowMapper.selectWorkflowDetailById(BigInteger.valueOf(workflowId));
+    if (workflow == null) {
+      throw new IllegalArgumentException("워크플로우를 찾을 수 없습니다: " + workflowId);
+    }
+    JsonNode setting = readDefaultConfig(workflowId, workflow.getDefaultConfig());
+
+    List<JobDto> jobDtos = new ArrayList<>(jobMapper.findJobsByWorkflowId(workflowId));
+    jobDtos.sort(JOB_ORDER);
+
+    // 📌 job_run.execution_order는 실행 완료 순서와 무관하게 정렬된 Job 순서(1부터)로 기록합니다.
+    List<JobPlan> jobs = new ArrayList<>(jobDtos.size());
+    for (JobDto jobDto : jobDtos) {
+      List<TaskPlan> tasks = compileTasks(jobDto.getId(), setting);
+      jobs.add(
+          new JobPlan(
+              new Job(jobDto), jobs.size() + 1, List.copyOf(tasks), buildTaskGraph(tasks)));
+    }
+
+    boolean parallel = setting.path(EXECUTION_CONFIG_KEY).path("parallel").asBoolean(false);
+    int maxConcurrentJobs = parallel ? resolveMaxConcurrentJobs(setting) : 1;
+    return new WorkflowExecutionPlan(
+        workflowId, parallel, maxConcurrentJobs, jobs, buildJobGraph(jobs));
+  }
+
+  private JsonNode readDefaultConfig(Long workflowId, String defaultConfig) {
+    if (defaultConfig == null || defaultConfig.isBlank()) {
+      return objectMapper.createObjectNode();
+    }
+    try {
+      return objectMapper.readTree(defaultConfig);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("default_config를 해석할 수 없습니다: WorkflowId=" + workflowId, e);
+    }
+  }
+
+  private List<TaskPlan> compileTasks(Long jobId, JsonNode setting) {
+    List<TaskDto> taskDtos = new ArrayList<>(jobMapper.findTasksByJobId(jobId));
+    taskDtos.sort(TASK_ORDER);
+
+    List<TaskPlan> tasks = new ArrayList<>(taskDtos.size());
+    for (TaskDto taskDto : taskDtos) {
+      JsonNode settingForTask = setting.get(taskDto.getId().toString());
+      if (settingForTask != null) {
+        taskDto.setSettings(settingForTask);
+      }
+      Task task = new Task(taskDto);
+      // 📌 task.parameters에 body_mapping 명세가 있으면 컴파일하여 사용하고, 없으면 기존 BodyBuilder 구현체를 사용합니다.
+      TaskBodyBuilder bodyBuilder =
+          bodyMappingCompiler.compile(task).orElseGet(() -> findBodyBuilder(task.getName()));
+      tasks.add(
+          new TaskPlan(
+              task, taskDto.getExecutionOrder(), findRunner(taskDto.getType()), bodyBuilder));
+    }
+    return tasks;
+  }
+
+  // 📌 각 Task의 BodyBuilder가 읽는 컨텍스트 키로 Job 내 Task 의존 관계 그래프를 구성합니다.
+  private DependencyGraph<TaskPlan> buildTaskGraph(List<TaskPlan> tasks) {
+    return DependencyGraph.of(
+        tasks,
+        taskPlan -> taskPlan.task().getName(),
+        taskPlan ->
+            taskPlan.bodyBuilder() == null ? null : taskPlan.bodyBuilder().getSourceTaskNames());
+  }
+
+  // 📌 Job 안의 Task들이 읽는 컨텍스트 키를 다른 Job의 Task가 만들어낸다면 그 Job에 의존합니다.
+  // BodyBuilder가 없어 읽는 키를 알 수 없는 Task가 하나라도 있으면 앞선 모든 Job에 의존하는 것으로 간주합니다.
+  private DependencyGraph<JobPlan> buildJobGraph(List<JobPlan> jobs) {
+    Map<String, Set<String>> producerJobKeysByTaskName = new HashMap<>();
+    for (JobPlan jobPlan : jobs) {
+      for (TaskPlan taskPlan : jobPlan.tasks()) {
+        producerJobKeysByTaskName
+            .computeIfAbsent(taskPlan.task().getName(), name -> new HashSet<>())
+            .add(jobPlan.job().getId().toString());
+      }
+    }
+
+    return DependencyGraph.of(
+        jobs,
+        jobPlan -> jobPlan.job().getId().toString(),
+        jobPlan -> {
+          Set<String> dependencyJobKeys = new HashSet<>();
+          for (TaskPlan taskPlan : jobPlan.tasks()) {
+            if (taskPlan.bodyBuilder() == null) {
+              return null;
+            }
+            for (String sourceTaskName : taskPlan.bodyBuilder().getSourceTaskNames()) {
+              dependencyJobKeys.addAll(
+                  producerJobKeysByTaskName.getOrDefault(sourceTaskName, Set.of()));
+            }
+          }
+          dependencyJobKeys.remove(jobPlan.job().getId().toString());
+          return dependencyJobKeys;
+        });
+  }
+
+  private int resolveMaxConcurrentJobs(JsonNode setting) {
+    int maxConcurrentJobs =
+        setting
+            .path(EXECUTION_CONFIG_KEY)
+            .path("max_concurrent_jobs")
+            .asInt(executionProperties.getJobParallelism());
+    return Math.max(1, maxConcurrentJobs);
+  }
+
+  // 지원하지 않는 타입은 null로 두고, 실행 시점에 TaskExecutionService가 Task 실패로 처리합니다.
+  private TaskRunner findRunner(String type) {
+    return type == null ? null : taskRunners.get(type.toLowerCase() + "TaskRunner");
+  }
+
+  private TaskBodyBuilder findBodyBuilder(String taskName) {
+    return bodyBuilders.stream()
+        .filter(builder -> builder.supports(taskName))
+        .findFirst()
+        .orElse(null);
+  }
+}
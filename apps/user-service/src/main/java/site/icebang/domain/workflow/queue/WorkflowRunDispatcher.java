@@ -0,0 +1,270 @@
+package site.icebang.domain.workflow.queue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import site.icebang.domain.workflow.mapper.WorkflowRunMapper;
+import site.icebang.domain.workflow.model.WorkflowRun;
+import site.icebang.domain.workflow.service.WorkflowExecutionService;
+import site.icebang.global.config.properties.WorkflowQueueProperties;
+
+/**
+ * {@code PENDING} 상태의 workflow_run을 전체 동시 실행 수 안에서 실행기에 넘기는 디스패처입니다.
+ *
+ * <p>전용 스레드가 새 실행이 대기열에 들어오거나 실행이 끝날 때, 그리고 {@code workflow.queue.poll-interval}마다 대기열을 확인합니다. 빈 슬롯
+ * 수만큼 오래 기다린 실행부터 {@link WorkflowRunLeases}로 임대한 뒤 {@link WorkflowExecutionService#executeQueued}로
+ * 넘깁니다. 실행기가 제출을 거절하면 임대를 반납하여 다음 주기에 다시 시도합니다.
+ *
+ * <p>별도의 하트비트 스레드가 {@code workflow.queue.heartbeat-interval}마다 실행 중인 워크플로우의 임대를 갱신하고, 다른 인스턴스가 남긴
+ * 임대가 만료된 실행을 복구합니다. 대기열 확인이 느려져도 임대 갱신이 밀리지 않도록 두 작업은 서로 다른 스레드에서 수행합니다. 동시 실행 수는 인스턴스마다 적용되므로,
+ * {@code workflow.queue.worker}가 켜진 인스턴스를 늘리면 전체 처리량도 함께 늘어납니다. 갱신하지 못해 임대를 잃은 실행은 {@link
+ * WorkflowRun#cancel()}로 취소되어 남은 Task를 실행하지 않으며, 다른 인스턴스에서 재개됩니다. 이 인스턴스의 종료 상태는 저장되지 않습니다.
+ *
+ * <h2>노출 메트릭:</h2>
+ *
+ * <ul>
+ *   <li>{@code workflow.queue.pending}: 실행 대기 중인 워크플로우 실행 수
+ *   <li>{@code workflow.queue.running}: 이 인스턴스에서 실행 중인 워크플로우 수
+ *   <li>{@code workflow.queue.wait}: 대기열에 저장된 뒤 실행이 시작되기까지 걸린 시간
+ *   <li>{@code workflow.queue.lease.lost}: 갱신하지 못해 임대를 잃은 실행 수
+ *   <li>{@code workflow.queue.recovered}: 임대가 만료되어 재개 실행으로 복구한 실행 수
+ * </ul>
+ *
+ * @since v0.1.0
+ */
+@Slf4j
+@Component
+public class WorkflowRunDispatcher implements SmartLifecycle {
+
+  private final WorkflowRunMapper workflowRunMapper;
+  private final WorkflowRunLeases leases;
+  private final WorkflowExecutionService workflowExecutionService;
+  private final WorkflowQueueProperties properties;
+  private final Semaphore signal = new Semaphore(0);
+  private final Map<Long, WorkflowRun> activeRuns = new ConcurrentHashMap<>();
+  private final Set<Long> lostRuns = ConcurrentHashMap.newKeySet();
+  private final AtomicLong pendingRuns = new AtomicLong();
+  private final Timer waitTimer;
+  private final Counter lostCounter;
+  private final Counter recoveredCounter;
+
+  private volatile boolean running;
+  private Thread worker;
+  private Thread heartbeat;
+
+  public WorkflowRunDispatcher(
+      WorkflowRunMapper workflowRunMapper,
+      WorkflowRunLeases leases,
+      WorkflowExecutionService workflowExecutionService,
+      WorkflowQueueProperties properties,
+      MeterRegistry meterRegistry) {
+    this.workflowRunMapper = workflowRunMapper;
+    this.leases = leases;
+    this.workflowExecutionService = workflowExecutionService;
+    this.properties = properties;
+
+    Gauge.builder("workflow.queue.pending", pendingRuns, AtomicLong::get)
+        .description("실행 대기 중인 워크플로우 실행 수")
+        .register(meterRegistry);
+    Gauge.builder("workflow.queue.running", activeRuns, Map::size)
+        .description("이 인스턴스에서 실행 중인 워크플로우 수")
+        .register(meterRegistry);
+    this.waitTimer =
+        Timer.builder("workflow.queue.wait")
+            .description("대기열에 저장된 뒤 워크플로우 실행이 시작되기까지 걸린 시간")
+            .register(meterRegistry);
+    this.lostCounter =
+        Counter.builder("workflow.queue.lease.lost")
+            .description("갱신하지 못해 임대를 잃은 워크플로우 실행 수")
+            .register(meterRegistry);
+    this.recoveredCounter =
+        Counter.builder("workflow.queue.recovered")
+            .description("임대가 만료되어 재개 실행으로 복구한 워크플로우 실행 수")
+            .register(meterRegistry);
+  }
+
+  /** 다음 확인 주기를 기다리지 않고 대기열을 확인하도록 디스패처 스레드를 깨웁니다. */
+  public void wakeUp() {
+    // 워커가 아니어서 깨울 스레드가 없어도 허가가 계속 쌓이지 않도록 하나까지만 남깁니다.
+    if (signal.availablePermits() == 0) {
+      signal.release();
+    }
+  }
+
+  /**
+   * 빈 실행 슬롯 수만큼 대기 중인 실행을 시작합니다.
+   *
+   * @return 이번에 시작한 실행 수
+   */
+  public synchronized int dispatch() {
+    long pending = workflowRunMapper.countByStatus("PENDING");
+    pendingRuns.set(pending);
+    int available = properties.getMaxConcurrentRuns() - activeRuns.size();
+    if (pending == 0 || available <= 0) {
+      return 0;
+    }
+
+    List<WorkflowRun> leased = leases.acquire(available);
+    int dispatched = 0;
+    for (WorkflowRun workflowRun : leased) {
+      activeRuns.put(workflowRun.getId(), workflowRun);
+      CompletableFuture<Void> completion;
+      try {
+        completion = workflowExecutionService.executeQueued(workflowRun);
+      } catch (RejectedExecutionException e) {
+        // 📌 실행기가 가득 차면 남은 임대를 모두 반납하고, 실행 중인 워크플로우가 끝난 뒤 다시 시도합니다.
+        log.warn("실행기가 가득 차 워크플로우 실행 {}건을 대기열로 되돌립니다", leased.size() - dispatched);
+        for (WorkflowRun unstarted : leased.subList(dispatched, leased.size())) {
+          activeRuns.remove(unstarted.getId());
+          leases.release(unstarted.getId());
+        }
+        break;
+      }
+      waitTimer.record(Duration.between(workflowRun.getCreatedAt(), workflowRun.getStartedAt()));
+      pendingRuns.decrementAndGet();
+      dispatched++;
+      completion.whenComplete(
+          (ignored, error) -> {
+            activeRuns.remove(workflowRun.getId());
+            lostRuns.remove(workflowRun.getId());
+            if (error != null) {
+              log.error("워크플로우 실행 중 예외 발생: WorkflowRunId={}", workflowRun.getId(), error);
+            }
+            wakeUp();
+          });
+    }
+    return dispatched;
+  }
+
+  /**
+   * 실행 중인 워크플로우의 임대를 갱신하고, 임대가 만료된 다른 인스턴스의 실행을 복구합니다.
+   *
+   * @return 이번에 복구한 실행 수
+   */
+  public int maintainLeases() {
+    if (!activeRuns.isEmpty()) {
+      // 📌 갱신 중에 새로 임대한 실행을 잃은 것으로 보지 않도록, 갱신 전에 실행 중인 실행을 먼저 확인합니다.
+      List<WorkflowRun> renewing = List.copyOf(activeRuns.values());
+      Set<Long> owned = leases.renew();
+      for (WorkflowRun workflowRun : renewing) {
+        Long workflowRunId = workflowRun.getId();
+        // 📌 갱신 사이에 끝난 실행은 임대가 해제된 상태이므로, 아직 실행 중인 경우만 임대를 잃은 것으로 봅니다.
+        if (!owned.contains(workflowRunId)
+            && "RUNNING".equals(workflowRun.getStatus())
+            && activeRuns.containsKey(workflowRunId)
+            && lostRuns.add(workflowRunId)) {
+          workflowRun.cancel();
+          lostCounter.increment();
+          log.error(
+              "워크플로우 실행의 임대를 잃어 남은 Task를 실행하지 않습니다. 다른 인스턴스에서 재개됩니다: WorkflowRunId={}",
+              workflowRunId);
+        }
+      }
+    }
+
+    List<WorkflowRun> recovered = leases.recoverExpired();
+    if (!recovered.isEmpty()) {
+      recoveredCounter.increment(recovered.size());
+      wakeUp();
+    }
+    return recovered.size();
+  }
+
+  /**
+   * 이 인스턴스에서 실행 중인 워크플로우 수를 반환합니다.
+   *
+   * @return 실행 중인 워크플로우 수
+   */
+  public int getRunningCount() {
+    return activeRuns.size();
+  }
+
+  @Override
+  public void start() {
+    running = true;
+    worker = Thread.ofPlatform().name("workflow-run-dispatcher").daemon(true).start(this::run);
+    heartbeat =
+        Thread.ofPlatform().name("workflow-run-heartbeat").daemon(true).start(this::heartbeat);
+  }
+
+  @Override
+  public void stop() {
+    running = false;
+    wakeUp();
+    if (heartbeat != null) {
+      heartbeat.interrupt();
+    }
+    try {
+      if (worker != null) {
+        worker.join(properties.getShutdownTimeout());
+      }
+      if (heartbeat != null) {
+        heartbeat.join(properties.getShutdownTimeout());
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  @Override
+  public boolean isAutoStartup() {
+    // 워커가 아닌 인스턴스는 실행 요청을 대기열에 저장하기만 합니다.
+    return properties.isWorker();
+  }
+
+  private void run() {
+    while (running) {
+      try {
+        dispatch();
+      } catch (RuntimeException e) {
+        log.warn("워크플로우 실행 대기열 확인 실패", e);
+      }
+      try {
+        signal.tryAcquire(properties.getPollInterval(), TimeUnit.MILLISECONDS);
+        // 📌 그 사이 여러 번 깨워도 한 번만 확인하면 충분합니다.
+        signal.drainPermits();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+    }
+  }
+
+  private void heartbeat() {
+    while (running) {
+      try {
+        maintainLeases();
+      } catch (RuntimeException e) {
+        log.warn("워크플로우 실행 임대 갱신 실패", e);
+      }
+      try {
+        Thread.sleep(properties.getHeartbeatInterval());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+    }
+  }
+}
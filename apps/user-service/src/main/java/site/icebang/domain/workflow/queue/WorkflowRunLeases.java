@@ -0,0 +1,155 @@
+package site.icebang.domain.workflow.queue;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+import site.icebang.domain.workflow.mapper.JobRunMapper;
+import site.icebang.domain.workflow.mapper.TaskRunMapper;
+import site.icebang.domain.workflow.mapper.WorkflowRunMapper;
+import site.icebang.domain.workflow.model.WorkflowRun;
+import site.icebang.global.config.properties.WorkflowQueueProperties;
+
+/**
+ * 여러 인스턴스가 같은 workflow_run 대기열을 나눠 처리할 수 있도록 실행을 임대(lease)하는 컴포넌트입니다.
+ *
+ * <p>실행을 가져갈 때는 {@code SELECT ... FOR UPDATE SKIP LOCKED}로 다른 인스턴스가 잠근 행을 기다리지 않고 건너뛰므로, 인스턴스가 늘어나도
+ * 서로 막지 않고 각자 다른 실행을 가져갑니다. 가져간 실행에는 이 인스턴스의 이름과 임대 만료 시각이 기록되며, 디스패처가 주기적으로 만료 시각을 늦춥니다. 상태 변경은 모두
+ * 현재 상태와 임대 소유자를 조건으로 하므로 같은 실행이 두 인스턴스에서 종료로 기록되지 않습니다.
+ *
+ * <p>임대가 만료된 실행은 갱신하던 인스턴스가 종료된 것으로 보고, 실패로 종료한 뒤 그 실행을 재개하는 새 실행을 대기열에 넣습니다. 재개된 실행은 체크포인트를 사용하므로
+ * 종료된 인스턴스에서 이미 성공한 Task는 다시 호출하지 않습니다. 만료 시각은 각 인스턴스의 시계로 계산하므로, 인스턴스 간 시계 차이는 {@code
+ * workflow.queue.lease-duration}보다 충분히 작아야 합니다.
+ *
+ * @since v0.1.0
+ */
+@Slf4j
+@Component
+public class WorkflowRunLeases {
+
+  private final WorkflowRunMapper workflowRunMapper;
+  private final JobRunMapper jobRunMapper;
+  private final TaskRunMapper taskRunMapper;
+  private final WorkflowQueueProperties properties;
+  private final TransactionTemplate transactionTemplate;
+  private final String owner;
+
+  public WorkflowRunLeases(
+      WorkflowRunMapper workflowRunMapper,
+      JobRunMapper jobRunMapper,
+      TaskRunMapper taskRunMapper,
+      WorkflowQueueProperties properties,
+      PlatformTransactionManager transactionManager) {
+    this.workflowRunMapper = workflowRunMapper;
+    this.jobRunMapper = jobRunMapper;
+    this.taskRunMapper = taskRunMapper;
+    this.properties = properties;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    String nodeId = properties.getNodeId();
+    this.owner =
+        nodeId == null || nodeId.isBlank()
+            ? hostName() + "-" + UUID.randomUUID().toString().substring(0, 8)
+            : nodeId;
+    log.info("워크플로우 실행 임대 소유자: {}", owner);
+  }
+
+  /**
+   * 오래 기다린 순서대로 실행 대기 중인 워크플로우 실행을 가져와 이 인스턴스에 임대합니다.
+   *
+   * @param limit 가져올 최대 실행 수
+   * @return 이 인스턴스가 임대한 실행 (상태는 {@code RUNNING})
+   */
+  public List<WorkflowRun> acquire(int limit) {
+    return transactionTemplate.execute(
+        status -> {
+          List<Long> ids = workflowRunMapper.lockPendingIds(limit);
+          if (ids.isEmpty()) {
+            return List.of();
+          }
+          Instant now = Instant.now();
+          workflowRunMapper.lease(ids, owner, now, now.plusMillis(properties.getLeaseDuration()));
+          return workflowRunMapper.findLeased(ids, owner);
+        });
+  }
+
+  /**
+   * 이 인스턴스가 임대한 모든 실행의 만료 시각을 늦춥니다.
+   *
+   * @return 갱신 후에도 이 인스턴스가 임대하고 있는 실행 ID
+   */
+  public Set<Long> renew() {
+    workflowRunMapper.renewLeases(owner, Instant.now().plusMillis(properties.getLeaseDuration()));
+    return new HashSet<>(workflowRunMapper.findLeasedIds(owner));
+  }
+
+  /**
+   * 실행하지 못한 실행의 임대를 반납하고 다시 실행 대기 상태로 되돌립니다.
+   *
+   * @param workflowRunId 반납할 workflow_run.id
+   * @return 반납했으면 true, 이미 이 인스턴스의 임대가 아니면 false
+   */
+  public boolean release(Long workflowRunId) {
+    return workflowRunMapper.markPending(workflowRunId, owner) == 1;
+  }
+
+  /**
+   * 임대가 만료된 실행을 실패로 종료하고, 각 실행을 재개하는 새 실행을 대기열에 넣습니다.
+   *
+   * <p>종료된 인스턴스가 남긴 실행 중 상태의 Job/Task 실행도 함께 실패로 종료합니다. 복구로 만든 실행은 대기열 한도와 관계없이 저장됩니다.
+   *
+   * @return 대기열에 넣은 재개 실행
+   */
+  public List<WorkflowRun> recoverExpired() {
+    return transactionTemplate.execute(
+        status -> {
+          Instant now = Instant.now();
+          List<WorkflowRun> recovered = new ArrayList<>();
+          for (WorkflowRun expired :
+              workflowRunMapper.lockExpiredLeases(now, properties.getRecoveryBatchSize())) {
+            if (workflowRunMapper.failExpiredLease(expired.getId(), now) == 0) {
+              continue;
+            }
+            taskRunMapper.failUnfinished(expired.getId(), now);
+            jobRunMapper.failUnfinished(expired.getId(), now);
+            WorkflowRun resumed =
+                WorkflowRun.enqueueResume(expired.getWorkflowId(), expired.getId());
+            workflowRunMapper.insert(resumed);
+            recovered.add(resumed);
+            log.warn(
+                "임대가 만료된 워크플로우 실행을 복구합니다: WorkflowRunId={}, LeaseOwner={}, ResumedRunId={}",
+                expired.getId(),
+                expired.getLeaseOwner(),
+                resumed.getId());
+          }
+          return recovered;
+        });
+  }
+
+  /**
+   * 임대 소유자로 기록되는 이 인스턴스의 이름을 반환합니다.
+   *
+   * @return 이 인스턴스의 이름
+   */
+  public String getOwner() {
+    return owner;
+  }
+
+  private static String hostName() {
+    try {
+      return InetAddress.getLocalHost().getHostName();
+    } catch (UnknownHostException e) {
+      return "unknown";
+    }
+  }
+}
@@ -0,0 +1,139 @@
+package site.icebang.domain.workflow.queue;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import site.icebang.common.exception.InvalidWorkflowStateException;
+import site.icebang.common.exception.WorkflowQueueFullException;
+import site.icebang.domain.workflow.mapper.WorkflowRunMapper;
+import site.icebang.domain.workflow.model.WorkflowRun;
+import site.icebang.global.config.properties.WorkflowQueueProperties;
+
+/**
+ * 워크플로우 실행 요청을 {@code PENDING} 상태의 workflow_run으로 저장하는 실행 대기열입니다.
+ *
+ * <p>요청은 데이터베이스에 저장된 뒤에 바로 반환되므로, 실행기가 모두 사용 중이거나 애플리케이션이 재시작되어도 유실되지 않습니다. 실제 실행은 {@link
+ * WorkflowRunDispatcher}가 전체 동시 실행 수 안에서 오래 기다린 순서대로 시작합니다. 대기 중인 실행이 {@code
+ * workflow.queue.max-pending}에 이르면 새 요청을 저장하지 않고 거절합니다. 한도 확인과 저장은 원자적이지 않으므로, 동시에 들어온 요청만큼 한도를 약간
+ * 넘을 수 있습니다.
+ *
+ * <p>재개 요청은 원본 실행에 행 잠금을 건 트랜잭션 안에서 상태를 확인하고 저장하므로, 같은 실패한 실행을 동시에 여러 번 재개하거나 임대 만료 복구와 겹쳐 재개해도 재개
+ * 실행은 하나만 만들어집니다.
+ *
+ * <h2>노출 메트릭:</h2>
+ *
+ * <ul>
+ *   <li>{@code workflow.queue.enqueued}: 대기열에 저장된 실행 수
+ *   <li>{@code workflow.queue.rejected}: 대기열이 가득 차 거절된 실행 요청 수
+ * </ul>
+ *
+ * @since v0.1.0
+ */
+@Slf4j
+@Component
+public class WorkflowRunQueue {
+
+  private final WorkflowRunMapper workflowRunMapper;
+  private final WorkflowRunDispatcher dispatcher;
+  private final WorkflowQueueProperties properties;
+  private final TransactionTemplate transactionTemplate;
+  private final Counter enqueuedCounter;
+  private final Counter rejectedCounter;
+
+  public WorkflowRunQueue(
+      WorkflowRunMapper workflowRunMapper,
+      WorkflowRunDispatcher dispatcher,
+      WorkflowQueueProperties properties,
+      PlatformTransactionManager transactionManager,
+      MeterRegistry meterRegistry) {
+    this.workflowRunMapper = workflowRunMapper;
+    this.dispatcher = dispatcher;
+    this.properties = properties;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.enqueuedCounter =
+        Counter.builder("workflow.queue.enqueued")
+            .description("대기열에 저장된 워크플로우 실행 수")
+            .register(meterRegistry);
+    this.rejectedCounter =
+        Counter.builder("workflow.queue.rejected")
+            .description("대기열이 가득 차 거절된 워크플로우 실행 요청 수")
+            .register(meterRegistry);
+  }
+
+  /**
+   * 워크플로우 실행을 대기열에 넣습니다.
+   *
+   * @param workflowId 실행할 워크플로우 ID
+   * @return 대기열에 저장된 workflow_run.id
+   * @throws WorkflowQueueFullException 대기 중인 실행이 최대 수에 이른 경우
+   */
+  public Long enqueue(Long workflowId) {
+    Long workflowRunId = offer(WorkflowRun.enqueue(workflowId));
+    // 📌 빈 실행 슬롯이 있으면 다음 확인 주기를 기다리지 않고 바로 실행합니다.
+    dispatcher.wakeUp();
+    return workflowRunId;
+  }
+
+  /**
+   * 실패한 워크플로우 실행을 이어서 실행하도록 대기열에 넣습니다.
+   *
+   * <p>여기서는 실행 상태만 확인하며, 체크포인트는 실행을 시작할 때 복원합니다. 원본 실행의 재개 실행이 이미 대기 중이거나 실행 중이거나 성공했으면 거절합니다. 재개
+   * 실행이 실패했으면 원본 실행을 다시 재개할 수 있습니다.
+   *
+   * @param workflowRunId 재개할 workflow_run.id
+   * @return 대기열에 저장된 workflow_run.id
+   * @throws InvalidWorkflowStateException 실행이 없거나, 실패한 실행이 아니거나, 이미 재개된 경우
+   * @throws WorkflowQueueFullException 대기 중인 실행이 최대 수에 이른 경우
+   */
+  public Long enqueueResume(Long workflowRunId) {
+    Long resumedRunId =
+        transactionTemplate.execute(
+            status -> {
+              WorkflowRun failedRun = workflowRunMapper.lockById(workflowRunId);
+              if (failedRun == null) {
+                throw new InvalidWorkflowStateException(
+                    "워크플로우 실행을 찾을 수 없습니다: WorkflowRunId=" + workflowRunId);
+              }
+              if (!"FAILED".equals(failedRun.getStatus())) {
+                throw new InvalidWorkflowStateException(
+                    "실패한 워크플로우 실행만 재개할 수 있습니다: WorkflowRunId="
+                        + workflowRunId
+                        + ", Status="
+                        + failedRun.getStatus());
+              }
+              if (workflowRunMapper.countActiveResumes(workflowRunId) > 0) {
+                throw new InvalidWorkflowStateException(
+                    "이미 재개된 워크플로우 실행입니다: WorkflowRunId=" + workflowRunId);
+              }
+              return offer(WorkflowRun.enqueueResume(failedRun.getWorkflowId(), workflowRunId));
+            });
+    // 📌 커밋된 뒤에 깨워야 디스패처가 새 실행을 볼 수 있습니다.
+    dispatcher.wakeUp();
+    return resumedRunId;
+  }
+
+  private Long offer(WorkflowRun workflowRun) {
+    long pending = workflowRunMapper.countByStatus("PENDING");
+    if (pending >= properties.getMaxPending()) {
+      rejectedCounter.increment();
+      log.warn(
+          "실행 대기열이 가득 차 요청을 거절합니다: WorkflowId={}, Pending={}",
+          workflowRun.getWorkflowId(),
+          pending);
+      throw new WorkflowQueueFullException(
+          "실행 대기 중인 워크플로우가 너무 많습니다: Pending=" + pending);
+    }
+    workflowRunMapper.insert(workflowRun);
+    enqueuedCounter.increment();
+    log.info(
+        "워크플로우 실행을 대기열에 넣었습니다: WorkflowId={}, WorkflowRunId={}",
+        workflowRun.getWorkflowId(),
+        workflowRun.getId());
+    return workflowRun.getId();
+  }
+}
@@ -0,0 +1,248 @@
+package site.icebang.domain.workflow.ratelimit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+
+import site.icebang.domain.workflow.model.Task;
+import site.icebang.global.config.properties.TaskRateLimitProperties;
+
+/**
+ * 외부 엔드포인트와 게시 계정 등 공유 자원별로 Task 실행 속도를 제한하는 컴포넌트입니다.
+ *
+ * <p>Task마다 적용되는 토큰 버킷({@code workflow.rate-limit})에서 실행 시점을 예약하며, 토큰이 없으면 실패하지 않고 토큰이 채워지는 시점까지
+ * 대기열에서 기다립니다. 예약은 요청 순서대로 이루어지므로 먼저 대기한 Task가 먼저 실행됩니다. 대기는 타이머에 예약되므로 기다리는 동안 어떤 스레드도 점유하지 않습니다.
+ *
+ * <p>여러 버킷이 적용되는 Task는 모든 버킷에서 동시에 실행 시점을 예약하고, 그중 가장 늦은 시점까지 기다립니다. 제한 시간이 있는 Task는 대기가 제한 시간을 넘으면
+ * 토큰을 예약하지 않고 바로 실패하며, 예약한 뒤 실행하지 않은 토큰은 {@link #release}로 돌려줍니다.
+ *
+ * <h2>노출 메트릭:</h2>
+ *
+ * <ul>
+ *   <li>{@code workflow.task.rate.limit.wait} ({@code limit=endpoint:<경로>|setting:<키>}): 속도 제한으로
+ *       대기한 시간
+ *   <li>{@code workflow.task.rate.limit.queued}: 속도 제한으로 대기 중인 Task 수
+ * </ul>
+ *
+ * @since v0.1.0
+ */
+@Component
+public class TaskRateLimiter {
+
+  private final TaskRateLimitProperties properties;
+  private final MeterRegistry meterRegistry;
+  private final ScheduledThreadPoolExecutor timer;
+  private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+  private final Map<String, Timer> waitTimers = new ConcurrentHashMap<>();
+  private final AtomicInteger queued = new AtomicInteger();
+
+  public TaskRateLimiter(TaskRateLimitProperties properties, MeterRegistry meterRegistry) {
+    this.properties = properties;
+    this.meterRegistry = meterRegistry;
+    this.timer =
+        new ScheduledThreadPoolExecutor(
+            1, Thread.ofPlatform().name("task-rate-limit-timer").daemon(true).factory());
+    Gauge.builder("workflow.task.rate.limit.queued", queued, AtomicInteger::get)
+        .description("요청 속도 제한으로 대기 중인 Task 수")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Task의 실행 시점을 예약합니다.
+   *
+   * @param task 실행할 Task
+   * @return 실행해도 되는 시점까지 기다린 대기 시간 (밀리초 단위)으로 완료되는 {@code CompletableFuture}. 대기할 필요가 없으면 이미 완료된
+   *     상태입니다.
+   */
+  public CompletableFuture<Long> acquire(Task task) {
+    return reserve(task, Long.MAX_VALUE);
+  }
+
+  /**
+   * 제한 시간 안에 실행할 수 있을 때만 Task의 실행 시점을 예약합니다.
+   *
+   * <p>적용되는 버킷 중 하나라도 대기가 제한 시간을 넘으면 어떤 버킷의 토큰도 예약하지 않고, {@link TimeoutException}으로 예외 완료된 {@code
+   * CompletableFuture}를 바로 반환합니다.
+   *
+   * @param task 실행할 Task
+   * @param deadline 실행을 시작해야 하는 시각 ({@link System#nanoTime()} 기준)
+   * @return 실행해도 되는 시점까지 기다린 대기 시간 (밀리초 단위)으로 완료되는 {@code CompletableFuture}
+   */
+  public CompletableFuture<Long> acquire(Task task, long deadline) {
+    return reserve(task, deadline - System.nanoTime());
+  }
+
+  /**
+   * 예약했지만 실행하지 않은 Task의 토큰을 돌려줍니다. 제한 시간을 넘겨 실행을 포기한 경우처럼, 예약한 실행 시점에 요청을 보내지 않았을 때 호출합니다.
+   *
+   * @param task 예약한 Task
+   */
+  public void release(Task task) {
+    if (!properties.isEnabled()) {
+      return;
+    }
+    for (String limit : limitsOf(task)) {
+      buckets.get(limit).cancel();
+    }
+  }
+
+  private CompletableFuture<Long> reserve(Task task, long maxWaitNanos) {
+    if (!properties.isEnabled()) {
+      return CompletableFuture.completedFuture(0L);
+    }
+    List<String> limits = limitsOf(task);
+    if (limits.isEmpty()) {
+      return CompletableFuture.completedFuture(0L);
+    }
+
+    long now = System.nanoTime();
+    long waitNanos = 0;
+    for (int i = 0; i < limits.size(); i++) {
+      long reserved = buckets.get(limits.get(i)).tryReserve(now, maxWaitNanos);
+      if (reserved < 0) {
+        // 📌 제한 시간 안에 실행할 수 없으면 먼저 예약한 버킷의 토큰도 돌려주어, 다른 Task의 대기가 늘어나지 않도록 합니다.
+        for (String reservedLimit : limits.subList(0, i)) {
+          buckets.get(reservedLimit).cancel();
+        }
+        return CompletableFuture.failedFuture(
+            new TimeoutException(
+                "요청 속도 제한 대기 시간이 제한 시간을 넘습니다: Limit="
+                    + limits.get(i).substring(0, limits.get(i).indexOf('|'))
+                    + ", Remaining="
+                    + TimeUnit.NANOSECONDS.toMillis(Math.max(0, maxWaitNanos))
+                    + "ms"));
+      }
+      waitNanos = Math.max(waitNanos, reserved);
+    }
+    long waitMillis = TimeUnit.NANOSECONDS.toMillis(waitNanos);
+    for (String limit : limits) {
+      waitTimer(limit.substring(0, limit.indexOf('|'))).record(waitNanos, TimeUnit.NANOSECONDS);
+    }
+    if (waitNanos == 0) {
+      return CompletableFuture.completedFuture(0L);
+    }
+
+    CompletableFuture<Long> permit = new CompletableFuture<>();
+    queued.incrementAndGet();
+    try {
+      timer.schedule(
+          () -> {
+            queued.decrementAndGet();
+            permit.complete(waitMillis);
+          },
+          waitNanos,
+          TimeUnit.NANOSECONDS);
+    } catch (RejectedExecutionException e) {
+      queued.decrementAndGet();
+      permit.completeExceptionally(e);
+    }
+    return permit;
+  }
+
+  /** 타이머를 종료합니다. */
+  @PreDestroy
+  public void shutdown() {
+    timer.shutdownNow();
+  }
+
+  /** Task에 적용되는 버킷의 키 목록을 반환합니다. 키는 {@code <메트릭 limit 태그>|<공유 값>} 형식입니다. */
+  private List<String> limitsOf(Task task) {
+    List<String> limits = new ArrayList<>(2);
+    JsonNode parameters = task.getParameters();
+    if (parameters != null) {
+      String endpoint = parameters.path("endpoint").asText("");
+      TaskRateLimitProperties.Limit limit = properties.getEndpoints().get(endpoint);
+      if (limit != null) {
+        limits.add(register("endpoint:" + endpoint + "|", limit));
+      }
+    }
+    JsonNode settings = task.getSettings();
+    if (settings != null) {
+      properties
+          .getSettings()
+          .forEach(
+              (key, limit) -> {
+                String value = settings.path(key).asText("");
+                if (!value.isEmpty()) {
+                  // 📌 같은 계정 ID라도 게시 플랫폼(tag)이 다르면 다른 계정이므로 별도의 버킷을 사용합니다.
+                  String shared = settings.path("tag").asText("") + ":" + value;
+                  limits.add(register("setting:" + key + "|" + shared, limit));
+                }
+              });
+    }
+    return limits;
+  }
+
+  private String register(String key, TaskRateLimitProperties.Limit limit) {
+    buckets.computeIfAbsent(
+        key, ignored -> new TokenBucket(limit.getCapacity(), limit.getRefillInterval()));
+    return key;
+  }
+
+  private Timer waitTimer(String limit) {
+    return waitTimers.computeIfAbsent(
+        limit,
+        ignored ->
+            Timer.builder("workflow.task.rate.limit.wait")
+                .description("요청 속도 제한으로 Task 실행을 대기한 시간")
+                .tag("limit", limit)
+                .register(meterRegistry));
+  }
+
+  /**
+   * 실행 시점을 예약하는 토큰 버킷입니다 (GCRA).
+   *
+   * <p>다음 토큰이 채워지는 이론적 시점만 기록하므로, 대기 중인 예약이 많아도 상태는 값 하나입니다.
+   */
+  private static final class TokenBucket {
+
+    private final long intervalNanos;
+    private final long burstNanos;
+    private long theoreticalArrival = Long.MIN_VALUE;
+
+    private TokenBucket(int capacity, long refillIntervalMillis) {
+      this.intervalNanos = TimeUnit.MILLISECONDS.toNanos(refillIntervalMillis);
+      this.burstNanos = (capacity - 1) * intervalNanos;
+    }
+
+    /**
+     * 대기 시간이 {@code maxWaitNanos}를 넘지 않으면 토큰 하나를 예약합니다.
+     *
+     * @param now 현재 시각 ({@link System#nanoTime()})
+     * @param maxWaitNanos 허용하는 최대 대기 시간 (나노초 단위)
+     * @return 예약한 토큰을 사용할 수 있을 때까지의 대기 시간 (나노초 단위). 대기가 너무 길어 예약하지 않았으면 -1
+     */
+    private synchronized long tryReserve(long now, long maxWaitNanos) {
+      long arrival = theoreticalArrival == Long.MIN_VALUE ? now : theoreticalArrival;
+      long allowedAt = Math.max(now, arrival - burstNanos);
+      if (allowedAt - now > maxWaitNanos) {
+        return -1;
+      }
+      theoreticalArrival = Math.max(arrival, allowedAt) + intervalNanos;
+      return allowedAt - now;
+    }
+
+    /** 예약한 토큰 하나를 돌려줍니다. 이후의 예약은 돌려준 만큼 일찍 실행될 수 있습니다. */
+    private synchronized void cancel() {
+      if (theoreticalArrival != Long.MIN_VALUE) {
+        theoreticalArrival -= intervalNanos;
+      }
+    }
+  }
+}
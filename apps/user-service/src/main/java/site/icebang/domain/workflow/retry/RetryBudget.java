@@ -0,0 +1,59 @@
+package site.icebang.domain.workflow.retry;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 전체 Task 재시도 횟수를 첫 시도 수에 비례하도록 제한하는 재시도 예산입니다.
+ *
+ * <p>첫 시도마다 {@code ratio}만큼 적립하고 재시도마다 1씩 차감합니다. 적립액은 최근 첫 시도 {@value #MAX_DEPOSITED_ATTEMPTS}건 분량을
+ * 넘지 않으며, 적립액과 별도로 초당 {@code minRetriesPerSecond}회의 재시도는 항상 허용합니다.
+ *
+ * @since v0.1.0
+ */
+final class RetryBudget {
+
+  private static final int MAX_DEPOSITED_ATTEMPTS = 1000;
+  private static final long SECOND_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+  private final double ratio;
+  private final int minRetriesPerSecond;
+  private final double maxBalance;
+  private double balance;
+  private int reserve;
+  private long reserveRefilledAt;
+
+  RetryBudget(double ratio, int minRetriesPerSecond) {
+    this.ratio = ratio;
+    this.minRetriesPerSecond = minRetriesPerSecond;
+    this.maxBalance = ratio * MAX_DEPOSITED_ATTEMPTS;
+    this.reserve = minRetriesPerSecond;
+    this.reserveRefilledAt = System.nanoTime();
+  }
+
+  /** 첫 시도를 기록하여 재시도 예산을 적립합니다. */
+  synchronized void deposit() {
+    balance = Math.min(balance + ratio, maxBalance);
+  }
+
+  /**
+   * 재시도 1회를 차감합니다.
+   *
+   * @return 재시도할 수 있으면 true, 예산이 소진되었으면 false
+   */
+  synchronized boolean tryWithdraw() {
+    long now = System.nanoTime();
+    if (now - reserveRefilledAt >= SECOND_NANOS) {
+      reserve = minRetriesPerSecond;
+      reserveRefilledAt = now;
+    }
+    if (reserve > 0) {
+      reserve--;
+      return true;
+    }
+    if (balance >= 1) {
+      balance -= 1;
+      return true;
+    }
+    return false;
+  }
+}
@@ -0,0 +1,33 @@
+package site.icebang.domain.workflow.retry;
+
+import site.icebang.external.fastapi.exception.FailureType;
+
+/**
+ * 실패한 Task 시도를 재시도할지에 대한 결정입니다.
+ *
+ * @param outcome 결정 결과
+ * @param failureType 직전 시도의 실패 유형
+ * @param delayMillis 재시도까지의 대기 시간 (밀리초 단위, 재시도하지 않으면 0)
+ * @since v0.1.0
+ */
+public record RetryDecision(Outcome outcome, FailureType failureType, long delayMillis) {
+
+  /** 재시도 여부를 반환합니다. */
+  public boolean shouldRetry() {
+    return outcome == Outcome.RETRY;
+  }
+
+  /** 결정 결과입니다. 메트릭의 {@code decision} 태그 값으로도 사용됩니다. */
+  public enum Outcome {
+    /** 대기 후 재시도 */
+    RETRY,
+    /** 재시도 대상이 아닌 실패 유형 */
+    NOT_RETRYABLE,
+    /** 최대 시도 횟수 도달 */
+    EXHAUSTED,
+    /** 재시도 예산 소진 */
+    BUDGET_EXHAUSTED,
+    /** 대기 후에는 실행 제한 시간을 넘김 */
+    DEADLINE
+  }
+}
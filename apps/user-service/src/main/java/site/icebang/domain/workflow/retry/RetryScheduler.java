@@ -0,0 +1,119 @@
+package site.icebang.domain.workflow.retry;
+
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 재시도 대기 중인 Task를 타이머에 예약하여, 대기하는 동안 어떤 실행 스레드도 점유하지 않도록 하는 컴포넌트입니다.
+ *
+ * <p>대기 시간은 전용 타이머 스레드 하나가 관리하며, 대기가 끝나면 타이머 스레드는 재시도를 전달받은 실행기에 넘기기만 합니다. 재시도는 실행기에서 실행되므로, 호출자가
+ * MDC를 전파하는 실행기를 넘기면 재시도 로그에도 원래 Task의 Trace 컨텍스트가 유지됩니다. 애플리케이션이 종료되면 대기 중인 재시도는 취소되어, 기다리던 Task가
+ * 실패로 완료됩니다.
+ *
+ * <h2>노출 메트릭:</h2>
+ *
+ * <ul>
+ *   <li>{@code workflow.task.retry.pending}: 재시도 대기 중인 Task 수
+ * </ul>
+ *
+ * @since v0.1.0
+ */
+@Slf4j
+@Component
+public class RetryScheduler {
+
+  private final ScheduledThreadPoolExecutor timer;
+  private final Set<CompletableFuture<?>> pending = ConcurrentHashMap.newKeySet();
+
+  public RetryScheduler(MeterRegistry meterRegistry) {
+    this.timer =
+        new ScheduledThreadPoolExecutor(
+            1, Thread.ofPlatform().name("task-retry-timer").daemon(true).factory());
+    this.timer.setRemoveOnCancelPolicy(true);
+    Gauge.builder("workflow.task.retry.pending", pending, Set::size)
+        .description("재시도 대기 중인 Task 수")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 대기 시간이 지난 뒤 실행기에서 재시도를 시작합니다.
+   *
+   * @param delayMillis 대기 시간 (밀리초 단위)
+   * @param executor 재시도를 실행할 실행기
+   * @param retry 재시도를 시작하고 그 결과 Future를 반환하는 함수
+   * @param <T> 재시도 결과 타입
+   * @return 재시도 결과로 완료되는 {@code CompletableFuture}
+   */
+  public <T> CompletableFuture<T> schedule(
+      long delayMillis, Executor executor, Supplier<CompletableFuture<T>> retry) {
+    CompletableFuture<T> result = new CompletableFuture<>();
+    pending.add(result);
+    try {
+      timer.schedule(
+          () -> {
+            // 📌 타이머 스레드는 재시도를 실행기에 넘기기만 하고 바로 다음 예약을 처리합니다.
+            pending.remove(result);
+            try {
+              executor.execute(() -> start(retry, result));
+            } catch (RejectedExecutionException e) {
+              result.completeExceptionally(e);
+            }
+          },
+          delayMillis,
+          TimeUnit.MILLISECONDS);
+    } catch (RejectedExecutionException e) {
+      pending.remove(result);
+      result.completeExceptionally(e);
+    }
+    return result;
+  }
+
+  /** 재시도 대기 중인 Task 수를 반환합니다. */
+  public int getPendingCount() {
+    return pending.size();
+  }
+
+  /** 타이머를 종료하고, 대기 중인 재시도를 모두 취소합니다. */
+  @PreDestroy
+  public void shutdown() {
+    timer.shutdownNow();
+    if (!pending.isEmpty()) {
+      log.warn("애플리케이션 종료로 대기 중인 재시도 {}건을 취소합니다.", pending.size());
+    }
+    for (CompletableFuture<?> future : pending) {
+      future.completeExceptionally(new CancellationException("애플리케이션 종료로 재시도가 취소되었습니다."));
+    }
+    pending.clear();
+  }
+
+  private static <T> void start(Supplier<CompletableFuture<T>> retry, CompletableFuture<T> result) {
+    try {
+      retry
+          .get()
+          .whenComplete(
+              (value, throwable) -> {
+                if (throwable != null) {
+                  result.completeExceptionally(throwable);
+                } else {
+                  result.complete(value);
+                }
+              });
+    } catch (RuntimeException e) {
+      result.completeExceptionally(e);
+    }
+  }
+}
@@ -0,0 +1,198 @@
+package site.icebang.domain.workflow.retry;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.RetryPolicy;
+import org.springframework.retry.backoff.BackOffContext;
+import org.springframework.retry.backoff.BackOffInterruptedException;
+import org.springframework.retry.backoff.BackOffPolicy;
+import org.springframework.retry.context.RetryContextSupport;
+import org.springframework.retry.support.RetryTemplate;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import site.icebang.domain.workflow.model.Task;
+import site.icebang.external.fastapi.exception.FailureType;
+import site.icebang.global.config.properties.TaskRetryProperties;
+
+/**
+ * Task 타입별 재시도 정책과 전체 재시도 예산을 관리하는 컴포넌트입니다.
+ *
+ * <p>실패한 시도마다 실패 유형을 분류하여 재시도 여부와 대기 시간을 결정합니다. 비동기 실행은 {@link #decide}의 결정을 그대로 따르고, 동기 실행은 같은 결정을
+ * 따르는 {@link RetryTemplate}을 {@link #retryTemplate}으로 받아 사용합니다.
+ *
+ * <h2>노출 메트릭:</h2>
+ *
+ * <ul>
+ *   <li>{@code workflow.task.retry.decisions} ({@code failure}, {@code decision}): 실패한 시도에 대한 재시도
+ *       결정 수
+ * </ul>
+ *
+ * @since v0.1.0
+ */
+@Component
+public class TaskRetryPolicies {
+
+  private static final String DECISION_ATTRIBUTE = "taskRetryDecision";
+
+  private final TaskRetryPolicy defaultPolicy;
+  private final Map<String, TaskRetryPolicy> policies = new HashMap<>();
+  private final RetryBudget budget;
+  private final MeterRegistry meterRegistry;
+  private final Map<String, RetryTemplate> retryTemplates = new ConcurrentHashMap<>();
+
+  public TaskRetryPolicies(TaskRetryProperties properties, MeterRegistry meterRegistry) {
+    this.defaultPolicy =
+        TaskRetryPolicy.of(properties.getDefaults(), properties.getMaxRetryAfter());
+    properties
+        .getTypes()
+        .forEach(
+            (type, policy) ->
+                policies.put(
+                    type.toLowerCase(Locale.ROOT),
+                    TaskRetryPolicy.of(policy, properties.getMaxRetryAfter())));
+    this.budget =
+        new RetryBudget(properties.getBudgetRatio(), properties.getBudgetMinRetriesPerSecond());
+    this.meterRegistry = meterRegistry;
+  }
+
+  /**
+   * Task에 적용되는 재시도 정책을 반환합니다.
+   *
+   * @param task 실행할 Task
+   * @return Task 타입의 정책, 없으면 기본 정책
+   */
+  public TaskRetryPolicy policyFor(Task task) {
+    if (task.getType() == null) {
+      return defaultPolicy;
+    }
+    return policies.getOrDefault(task.getType().toLowerCase(Locale.ROOT), defaultPolicy);
+  }
+
+  /** Task의 첫 시도를 기록하여 재시도 예산을 적립합니다. */
+  public void onFirstAttempt() {
+    budget.deposit();
+  }
+
+  /**
+   * 실패한 시도를 재시도할지 결정합니다. 재시도로 결정되면 재시도 예산이 1회 차감됩니다.
+   *
+   * @param task 실행 중인 Task
+   * @param attempt 실패한 시도의 순번 (첫 시도가 1)
+   * @param failure 실패 원인
+   * @param remainingMillis 실행 제한 시간까지 남은 시간 (밀리초 단위)
+   * @return 재시도 결정
+   */
+  public RetryDecision decide(Task task, int attempt, Throwable failure, long remainingMillis) {
+    TaskRetryPolicy policy = policyFor(task);
+    FailureType failureType = FailureType.classify(failure);
+
+    RetryDecision decision;
+    if (!policy.isRetryable(failureType)) {
+      decision = new RetryDecision(RetryDecision.Outcome.NOT_RETRYABLE, failureType, 0);
+    } else if (attempt >= policy.maxAttempts()) {
+      decision = new RetryDecision(RetryDecision.Outcome.EXHAUSTED, failureType, 0);
+    } else {
+      long delay = policy.backoffMillis(attempt, failure);
+      if (delay >= remainingMillis) {
+        decision = new RetryDecision(RetryDecision.Outcome.DEADLINE, failureType, 0);
+      } else if (!budget.tryWithdraw()) {
+        decision = new RetryDecision(RetryDecision.Outcome.BUDGET_EXHAUSTED, failureType, 0);
+      } else {
+        decision = new RetryDecision(RetryDecision.Outcome.RETRY, failureType, delay);
+      }
+    }
+    Counter.builder("workflow.task.retry.decisions")
+        .description("실패한 Task 시도에 대한 재시도 결정 수")
+        .tag("failure", failureType.name())
+        .tag("decision", decision.outcome().name())
+        .register(meterRegistry)
+        .increment();
+    return decision;
+  }
+
+  /**
+   * 동기 실행용으로, {@link #decide}와 같은 결정을 따르는 {@link RetryTemplate}을 반환합니다.
+   *
+   * @param task 실행할 Task
+   * @return Task 타입별로 공유되는 RetryTemplate
+   */
+  public RetryTemplate retryTemplate(Task task) {
+    String type = task.getType() == null ? "" : task.getType().toLowerCase(Locale.ROOT);
+    return retryTemplates.computeIfAbsent(type, key -> createRetryTemplate(task));
+  }
+
+  private RetryTemplate createRetryTemplate(Task task) {
+    RetryTemplate retryTemplate = new RetryTemplate();
+    retryTemplate.setRetryPolicy(new DecidingRetryPolicy(task));
+    retryTemplate.setBackOffPolicy(new DecidedBackOffPolicy());
+    return retryTemplate;
+  }
+
+  /** 실패할 때마다 {@link #decide}로 재시도 여부를 결정하고, 결정을 RetryContext에 보관하는 정책입니다. */
+  private final class DecidingRetryPolicy implements RetryPolicy {
+
+    private final Task task;
+
+    private DecidingRetryPolicy(Task task) {
+      this.task = task;
+    }
+
+    @Override
+    public boolean canRetry(RetryContext context) {
+      if (context.getLastThrowable() == null) {
+        return true;
+      }
+      RetryDecision decision = (RetryDecision) context.getAttribute(DECISION_ATTRIBUTE);
+      return decision != null && decision.shouldRetry();
+    }
+
+    @Override
+    public RetryContext open(RetryContext parent) {
+      onFirstAttempt();
+      return new RetryContextSupport(parent);
+    }
+
+    @Override
+    public void close(RetryContext context) {}
+
+    @Override
+    public void registerThrowable(RetryContext context, Throwable throwable) {
+      ((RetryContextSupport) context).registerThrowable(throwable);
+      context.setAttribute(
+          DECISION_ATTRIBUTE, decide(task, context.getRetryCount(), throwable, Long.MAX_VALUE));
+    }
+  }
+
+  /** {@link DecidingRetryPolicy}가 결정한 대기 시간만큼 대기하는 정책입니다. */
+  private static final class DecidedBackOffPolicy implements BackOffPolicy {
+
+    @Override
+    public BackOffContext start(RetryContext context) {
+      return new DecisionContext(context);
+    }
+
+    @Override
+    public void backOff(BackOffContext backOffContext) throws BackOffInterruptedException {
+      RetryContext context = ((DecisionContext) backOffContext).retryContext();
+      RetryDecision decision = (RetryDecision) context.getAttribute(DECISION_ATTRIBUTE);
+      if (decision == null || decision.delayMillis() <= 0) {
+        return;
+      }
+      try {
+        Thread.sleep(decision.delayMillis());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new BackOffInterruptedException("재시도 대기 중 인터럽트되었습니다.", e);
+      }
+    }
+
+    private record DecisionContext(RetryContext retryContext) implements BackOffContext {}
+  }
+}
@@ -0,0 +1,83 @@
+package site.icebang.domain.workflow.retry;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import site.icebang.external.fastapi.exception.FailureType;
+import site.icebang.external.fastapi.exception.FastApiCallException;
+import site.icebang.global.config.properties.TaskRetryProperties;
+
+/**
+ * 하나의 Task 타입에 적용되는 재시도 정책입니다.
+ *
+ * @param maxAttempts 첫 시도를 포함한 최대 시도 횟수
+ * @param initialInterval 첫 재시도 간격의 상한 (밀리초 단위)
+ * @param multiplier 재시도할 때마다 간격의 상한을 늘리는 배수
+ * @param maxInterval 재시도 간격 상한의 최댓값 (밀리초 단위)
+ * @param maxRetryAfter 따를 수 있는 {@code Retry-After}의 최댓값 (밀리초 단위)
+ * @param retryOn 재시도할 실패 유형
+ * @since v0.1.0
+ */
+public record TaskRetryPolicy(
+    int maxAttempts,
+    long initialInterval,
+    double multiplier,
+    long maxInterval,
+    long maxRetryAfter,
+    Set<FailureType> retryOn) {
+
+  static TaskRetryPolicy of(TaskRetryProperties.Policy policy, long maxRetryAfter) {
+    Set<FailureType> retryOn =
+        policy.getRetryOn() == null || policy.getRetryOn().isEmpty()
+            ? EnumSet.noneOf(FailureType.class)
+            : EnumSet.copyOf(policy.getRetryOn());
+    return new TaskRetryPolicy(
+        policy.getMaxAttempts(),
+        policy.getInitialInterval(),
+        policy.getMultiplier(),
+        policy.getMaxInterval(),
+        maxRetryAfter,
+        retryOn);
+  }
+
+  /**
+   * 실패 유형이 재시도 대상인지 확인합니다.
+   *
+   * @param failureType 실패 유형
+   * @return 재시도 대상이면 true
+   */
+  public boolean isRetryable(FailureType failureType) {
+    return retryOn.contains(failureType);
+  }
+
+  /**
+   * 다음 재시도까지의 대기 시간을 계산합니다.
+   *
+   * <p>대기 시간은 0과 {@code min(maxInterval, initialInterval * multiplier^(retry-1))} 사이에서 무작위로 결정되어,
+   * 같은 장애로 실패한 Task들이 동시에 재시도하지 않습니다. 실패에 {@code Retry-After}가 있으면 그보다 짧게 대기하지 않습니다.
+   *
+   * @param retry 재시도 순번 (첫 재시도가 1)
+   * @param failure 직전 시도의 실패 원인
+   * @return 대기 시간 (밀리초 단위)
+   */
+  public long backoffMillis(int retry, Throwable failure) {
+    double ceiling = Math.min(maxInterval, initialInterval * Math.pow(multiplier, retry - 1));
+    long delay = (long) (ThreadLocalRandom.current().nextDouble() * ceiling);
+    Duration retryAfter = retryAfterOf(failure);
+    if (retryAfter != null) {
+      delay = Math.max(delay, Math.min(retryAfter.toMillis(), maxRetryAfter));
+    }
+    return delay;
+  }
+
+  private static Duration retryAfterOf(Throwable failure) {
+    for (Throwable current = failure; current != null; current = current.getCause()) {
+      if (current instanceof FastApiCallException fastApiCallException) {
+        return fastApiCallException.getRetryAfter();
+      }
+    }
+    return null;
+  }
+}
@@ -1,5 +1,7 @@
 package site.icebang.domain.workflow.runner;
 
+import java.util.concurrent.CompletableFuture;
+
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import site.icebang.domain.workflow.model.Task;
@@ -16,6 +18,7 @@ import site.icebang.domain.workflow.model.TaskRun;
  * <ul>
  *   <li><b>TaskExecutionResult</b>: 모든 Task 실행 결과가 따라야 할 표준 응답 형식을 정의하는 내부 Record
  *   <li><b>execute</b>: Task 실행을 위한 단일 추상 메소드
+ *   <li><b>executeAsync</b>: 실행 스레드를 점유하지 않는 비동기 실행 메소드 (기본 구현은 {@code execute}를 감쌈)
  * </ul>
  *
  * @author jihu0210@naver.com
@@ -67,4 +70,25 @@ public interface TaskRunner {
    * @since v0.1.0
    */
   TaskExecutionResult execute(Task task, TaskRun taskRun, ObjectNode requestBody);
+
+  /**
+   * 특정 Task를 비동기로 실행합니다.
+   *
+   * <p>논블로킹 I/O를 지원하는 Runner는 이 메소드를 재정의하여, 외부 호출이 진행되는 동안 스레드를 점유하지 않도록 해야 합니다. 기본 구현은 호출 스레드에서
+   * {@link #execute}를 실행한 뒤 완료된 결과를 반환하며, 실행 중 발생한 예외는 예외로 완료된 Future로 전달합니다.
+   *
+   * @param task 실행할 Task의 정적 정의 (이름, 타입, 파라미터 등)
+   * @param taskRun 현재 실행에 대한 DB 기록 객체 (ID 추적 등에 사용)
+   * @param requestBody {@code TaskBodyBuilder}에 의해 동적으로 생성된 최종 요청 Body
+   * @return Task 실행 결과로 완료되는 {@code CompletableFuture}
+   * @since v0.1.0
+   */
+  default CompletableFuture<TaskExecutionResult> executeAsync(
+      Task task, TaskRun taskRun, ObjectNode requestBody) {
+    try {
+      return CompletableFuture.completedFuture(execute(task, taskRun, requestBody));
+    } catch (RuntimeException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
 }
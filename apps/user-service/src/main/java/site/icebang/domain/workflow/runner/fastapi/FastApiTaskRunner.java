@@ -1,5 +1,7 @@
 package site.icebang.domain.workflow.runner.fastapi;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Component;
 
@@ -26,6 +28,7 @@ import site.icebang.external.fastapi.adapter.FastApiAdapter;
  *   <li>Task 파라미터에서 endpoint와 method 정보 파싱
  *   <li>사전에 생성된 Request Body를 {@code FastApiAdapter}에 전달하여 실행 위임
  *   <li>어댑터의 실행 결과를 {@code TaskExecutionResult} 형식으로 변환하여 반환
+ *   <li>논블로킹 HTTP 클라이언트를 사용하는 비동기 실행 지원
  * </ul>
  *
  * @author jihu0210@naver.com
@@ -35,6 +38,12 @@ import site.icebang.external.fastapi.adapter.FastApiAdapter;
 @RequiredArgsConstructor
 public class FastApiTaskRunner implements TaskRunner {
 
+  /**
+   * 같은 요청을 두 번 보내도 안전한 Task임을 표시하는 {@code task.parameters} 필드 이름입니다. {@code true}이고 엔드포인트가 {@code
+   * api.fastapi.idempotent-endpoints}에 있으면 비동기 실행 시 응답이 늦어질 때 헤지 요청을 보냅니다.
+   */
+  public static final String IDEMPOTENT_PARAMETER = "idempotent";
+
   /** FastAPI 서버와의 통신을 전담하는 어댑터 */
   private final FastApiAdapter fastApiAdapter;
 
@@ -42,7 +51,7 @@ public class FastApiTaskRunner implements TaskRunner {
    * FastAPI 타입의 Task를 실행합니다.
    *
    * <p>Task의 파라미터에서 엔드포인트와 HTTP 메소드를 추출하고, {@code WorkflowExecutionService}로부터 전달받은 동적 Request
-   * Body를 사용하여 {@code FastApiAdapter}를 호출합니다.
+   * Body를 사용하여 {@code FastApiAdapter}를 호출합니다. 호출에 실패하면 {@code FastApiCallException}이 발생합니다.
    *
    * @param task 실행할 Task의 정적 정의
    * @param taskRun 현재 실행에 대한 기록 객체
@@ -56,8 +65,39 @@ public class FastApiTaskRunner implements TaskRunner {
     String endpoint = params.path("endpoint").asText();
     HttpMethod method = HttpMethod.valueOf(params.path("method").asText("POST").toUpperCase());
 
-    String responseBody = fastApiAdapter.call(endpoint, method, requestBody.toString());
+    // 📌 호출 실패는 예외로 전달되어, 재시도 정책이 실패 유형에 따라 재시도 여부를 결정합니다.
+    String responseBody = fastApiAdapter.callOrThrow(endpoint, method, requestBody.toString());
+    return toResult(responseBody);
+  }
+
+  /**
+   * FastAPI 타입의 Task를 비동기로 실행합니다.
+   *
+   * <p>{@code FastApiAdapter}의 논블로킹 호출을 사용하므로, FastAPI 서버의 응답을 기다리는 동안 어떤 스레드도 점유하지 않습니다. 호출에 실패하면
+   * 반환된 Future가 {@code FastApiCallException}으로 예외 완료됩니다. {@code parameters.idempotent}가 {@code
+   * true}인 Task는 엔드포인트가 멱등 엔드포인트 목록에 있을 때만 응답이 늦어지면 헤지 요청을 보냅니다.
+   *
+   * @param task 실행할 Task의 정적 정의
+   * @param taskRun 현재 실행에 대한 기록 객체
+   * @param requestBody {@code TaskBodyBuilder}에 의해 동적으로 생성된 최종 요청 Body
+   * @return {@code FastApiAdapter}의 호출 결과로 완료되는 {@code CompletableFuture}
+   * @since v0.1.0
+   */
+  @Override
+  public CompletableFuture<TaskExecutionResult> executeAsync(
+      Task task, TaskRun taskRun, ObjectNode requestBody) {
+    JsonNode params = task.getParameters();
+    String endpoint = params.path("endpoint").asText();
+    HttpMethod method = HttpMethod.valueOf(params.path("method").asText("POST").toUpperCase());
+
+    boolean idempotent = params.path(IDEMPOTENT_PARAMETER).asBoolean(false);
+
+    return fastApiAdapter
+        .callAsync(endpoint, method, requestBody.toString(), idempotent)
+        .thenApply(this::toResult);
+  }
 
+  private TaskExecutionResult toResult(String responseBody) {
     if (responseBody == null) {
       return TaskExecutionResult.failure("FastApiAdapter 호출에 실패했습니다.");
     }
@@ -1,16 +1,16 @@
 package site.icebang.domain.workflow.runner.fastapi.body;
 
-import java.util.Map;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.stereotype.Component;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import lombok.RequiredArgsConstructor;
 
+import site.icebang.domain.workflow.context.WorkflowContext;
 import site.icebang.domain.workflow.model.Task;
 
 @Component
@@ -27,15 +27,18 @@ public class BlogPublishBodyBuilder implements TaskBodyBuilder {
   }
 
   @Override
-  public ObjectNode build(Task task, Map<String, JsonNode> workflowContext) {
+  public List<String> getSourceTaskNames() {
+    return List.of(RAG_SOURCE_TASK);
+  }
+
+  @Override
+  public ObjectNode build(Task task, WorkflowContext workflowContext) {
     ObjectNode body = objectMapper.createObjectNode();
 
     // RAG에서 생성된 블로그 콘텐츠 가져오기
-    Optional.ofNullable(workflowContext.get(RAG_SOURCE_TASK))
+    Optional.ofNullable(workflowContext.at(RAG_SOURCE_TASK, "/data"))
         .ifPresent(
-            ragResult -> {
-              JsonNode data = ragResult.path("data");
-
+            data -> {
               // 제목, 내용, 태그 설정
               Optional.ofNullable(data.path("title"))
                   .filter(node -> !node.isMissingNode())
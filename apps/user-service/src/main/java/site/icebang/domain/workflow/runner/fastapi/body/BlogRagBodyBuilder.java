@@ -1,16 +1,16 @@
 package site.icebang.domain.workflow.runner.fastapi.body;
 
-import java.util.Map;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.stereotype.Component;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import lombok.RequiredArgsConstructor;
 
+import site.icebang.domain.workflow.context.WorkflowContext;
 import site.icebang.domain.workflow.model.Task;
 
 @Component
@@ -28,16 +28,19 @@ public class BlogRagBodyBuilder implements TaskBodyBuilder {
   }
 
   @Override
-  public ObjectNode build(Task task, Map<String, JsonNode> workflowContext) {
+  public List<String> getSourceTaskNames() {
+    return List.of(KEYWORD_SOURCE_TASK, PRODUCT_SELECT_SOURCE_TASK);
+  }
+
+  @Override
+  public ObjectNode build(Task task, WorkflowContext workflowContext) {
     ObjectNode body = objectMapper.createObjectNode();
 
     // 키워드 정보 가져오기
-    Optional.ofNullable(workflowContext.get(KEYWORD_SOURCE_TASK))
-        .map(node -> node.path("data").path("keyword"))
+    Optional.ofNullable(workflowContext.at(KEYWORD_SOURCE_TASK, "/data/keyword"))
         .ifPresent(keywordNode -> body.set("keyword", keywordNode));
 
-    Optional.ofNullable(workflowContext.get(PRODUCT_SELECT_SOURCE_TASK))
-        .map(node -> node.path("data").path("selected_product"))
+    Optional.ofNullable(workflowContext.at(PRODUCT_SELECT_SOURCE_TASK, "/data/selected_product"))
         .ifPresent(productNode -> body.set("product_info", productNode));
 
     // 기본 콘텐츠 설정
@@ -0,0 +1,111 @@
+package site.icebang.domain.workflow.runner.fastapi.body;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import site.icebang.domain.workflow.model.Task;
+
+/**
+ * {@code task.parameters}에 저장된 선언적 Body 매핑 명세를 {@link MappedBodyBuilder}로 컴파일하는 클래스입니다.
+ *
+ * <p>명세가 있는 Task는 Java 코드 없이 요청 Body를 구성할 수 있으며, 명세가 없는 Task는 기존 {@link TaskBodyBuilder} 구현체를 그대로
+ * 사용합니다. 컴파일은 워크플로우 실행 계획을 만들 때 Task마다 한 번만 수행됩니다.
+ *
+ * <h2>명세 예제:</h2>
+ *
+ * <pre>{@code
+ * {
+ *   "endpoint": "/blogs/rag/create",
+ *   "method": "POST",
+ *   "body_mapping": [
+ *     { "target": "keyword", "source": "키워드 검색 태스크", "pointer": "/data/keyword" },
+ *     { "target": "product_info", "source": "상품 선택 태스크", "pointer": "/data/selected_product" },
+ *     { "target": "tag", "setting": "tag" },
+ *     { "target": "content_type", "default": "review_blog" }
+ *   ]
+ * }
+ * }</pre>
+ *
+ * <ul>
+ *   <li>{@code target}: 요청 Body의 필드명 (필수)
+ *   <li>{@code source}: 값을 읽을 선행 Task 이름. 실행 엔진은 이 값으로 Task 간 의존 관계를 구성합니다.
+ *   <li>{@code setting}: 값을 읽을 Task 설정({@code default_config}) 키. {@code source}와 함께 사용할 수 없습니다.
+ *   <li>{@code pointer}: 선행 Task 결과 또는 설정값 안에서 값을 찾을 JSON Pointer (생략 시 전체)
+ *   <li>{@code default}: 값이 없거나 {@code null}일 때 사용할 기본값. 없으면 필드를 생략합니다.
+ * </ul>
+ *
+ * @since v0.1.0
+ */
+@Component
+public class BodyMappingCompiler {
+
+  /** Body 매핑 명세가 저장되는 {@code task.parameters}의 키 */
+  public static final String BODY_MAPPING_KEY = "body_mapping";
+
+  /**
+   * Task의 Body 매핑 명세를 컴파일합니다.
+   *
+   * @param task 워크플로우 설정이 병합된 Task 정의
+   * @return 컴파일된 BodyBuilder, 명세가 없으면 빈 값
+   * @throws IllegalArgumentException 명세 형식이 올바르지 않은 경우
+   */
+  public Optional<TaskBodyBuilder> compile(Task task) {
+    JsonNode spec =
+        task.getParameters() == null ? null : task.getParameters().get(BODY_MAPPING_KEY);
+    if (spec == null || spec.isNull()) {
+      return Optional.empty();
+    }
+    if (!spec.isArray()) {
+      throw invalid(task, BODY_MAPPING_KEY + "는 배열이어야 합니다");
+    }
+
+    Set<String> sourceTaskNames = new LinkedHashSet<>();
+    List<MappedBodyBuilder.Field> fields = new ArrayList<>(spec.size());
+    for (JsonNode entry : spec) {
+      String target = entry.path("target").asText("");
+      if (target.isBlank()) {
+        throw invalid(task, "target이 비어 있는 매핑이 있습니다");
+      }
+      String source = textOrNull(entry, "source");
+      String setting = textOrNull(entry, "setting");
+      if (source != null && setting != null) {
+        throw invalid(task, "source와 setting은 함께 사용할 수 없습니다: " + target);
+      }
+      JsonPointer pointer;
+      try {
+        pointer = JsonPointer.compile(entry.path("pointer").asText(""));
+      } catch (IllegalArgumentException e) {
+        throw invalid(task, "잘못된 JSON Pointer입니다: " + entry.path("pointer").asText());
+      }
+      JsonNode defaultValue = entry.has("default") ? entry.get("default") : null;
+      if (source == null && setting == null && defaultValue == null) {
+        throw invalid(task, "source, setting, default 중 하나는 필요합니다: " + target);
+      }
+
+      if (source != null) {
+        sourceTaskNames.add(source);
+      }
+      fields.add(new MappedBodyBuilder.Field(target, source, setting, pointer, defaultValue));
+    }
+    return Optional.of(
+        new MappedBodyBuilder(task.getName(), new ArrayList<>(sourceTaskNames), fields));
+  }
+
+  private static String textOrNull(JsonNode entry, String key) {
+    JsonNode node = entry.get(key);
+    return node == null || node.isNull() || node.asText().isBlank() ? null : node.asText();
+  }
+
+  private static IllegalArgumentException invalid(Task task, String message) {
+    return new IllegalArgumentException(
+        "Body 매핑 명세가 올바르지 않습니다 (TaskId=" + task.getId() + "): " + message);
+  }
+}
@@ -1,15 +1,15 @@
 package site.icebang.domain.workflow.runner.fastapi.body;
 
-import java.util.Map;
+import java.util.List;
 
 import org.springframework.stereotype.Component;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import lombok.RequiredArgsConstructor;
 
+import site.icebang.domain.workflow.context.WorkflowContext;
 import site.icebang.domain.workflow.model.Task;
 
 @Component
@@ -25,7 +25,12 @@ public class KeywordSearchBodyBuilder implements TaskBodyBuilder {
   }
 
   @Override
-  public ObjectNode build(Task task, Map<String, JsonNode> workflowContext) {
+  public List<String> getSourceTaskNames() {
+    return List.of();
+  }
+
+  @Override
+  public ObjectNode build(Task task, WorkflowContext workflowContext) {
     // 이 Task는 항상 정적인 Body를 가집니다.
     String tag = task.getSettings().get("tag").asText();
     return objectMapper.createObjectNode().put("tag", tag);
@@ -0,0 +1,86 @@
+package site.icebang.domain.workflow.runner.fastapi.body;
+
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import site.icebang.domain.workflow.context.WorkflowContext;
+import site.icebang.domain.workflow.model.Task;
+
+/**
+ * {@code task.parameters.body_mapping} 명세를 컴파일한 {@link TaskBodyBuilder}입니다.
+ *
+ * <p>{@link BodyMappingCompiler}가 Task마다 한 번 생성하며, JSON Pointer와 기본값은 컴파일 시점에 미리 해석되어 있으므로 Body 생성
+ * 시에는 컨텍스트 조회와 포인터 탐색만 수행합니다. 생성된 Body 외에는 객체를 새로 할당하지 않습니다.
+ *
+ * @since v0.1.0
+ */
+public final class MappedBodyBuilder implements TaskBodyBuilder {
+
+  private final String taskName;
+  private final List<String> sourceTaskNames;
+  private final Field[] fields;
+
+  MappedBodyBuilder(String taskName, List<String> sourceTaskNames, List<Field> fields) {
+    this.taskName = taskName;
+    this.sourceTaskNames = List.copyOf(sourceTaskNames);
+    this.fields = fields.toArray(Field[]::new);
+  }
+
+  @Override
+  public boolean supports(String taskName) {
+    return this.taskName.equals(taskName);
+  }
+
+  @Override
+  public List<String> getSourceTaskNames() {
+    return sourceTaskNames;
+  }
+
+  @Override
+  public ObjectNode build(Task task, WorkflowContext workflowContext) {
+    ObjectNode body = JsonNodeFactory.instance.objectNode();
+    for (Field field : fields) {
+      JsonNode value = field.resolve(task, workflowContext);
+      if (value != null) {
+        body.set(field.target(), value);
+      }
+    }
+    return body;
+  }
+
+  /**
+   * 컴파일된 Body 필드 하나입니다.
+   *
+   * @param target 요청 Body의 필드명
+   * @param source 값을 읽을 선행 Task 이름 ({@code null}이면 Task 설정 또는 기본값 사용)
+   * @param setting 값을 읽을 Task 설정 키 ({@code null}이면 사용하지 않음)
+   * @param pointer 선행 Task 결과 또는 Task 설정에서 값을 찾을 JSON Pointer
+   * @param defaultValue 값이 없을 때 사용할 기본값 ({@code null}이면 필드를 생략)
+   */
+  record Field(
+      String target, String source, String setting, JsonPointer pointer, JsonNode defaultValue) {
+
+    JsonNode resolve(Task task, WorkflowContext workflowContext) {
+      JsonNode value = null;
+      if (source != null) {
+        // 📌 파일로 저장된 선행 Task 결과도 포인터가 가리키는 부분만 읽습니다.
+        value = workflowContext.at(source, pointer);
+      } else if (setting != null && task.getSettings() != null) {
+        JsonNode root = task.getSettings().get(setting);
+        value = root == null ? null : root.at(pointer);
+      }
+      if (value != null && !value.isMissingNode() && !value.isNull()) {
+        return value;
+      }
+      if (defaultValue == null) {
+        return null;
+      }
+      // 📌 배열/객체 기본값은 여러 Body가 공유하지 않도록 복사합니다. 단일 값 노드는 불변이므로 그대로 사용합니다.
+      return defaultValue.isContainerNode() ? defaultValue.deepCopy() : defaultValue;
+    }
+  }
+}
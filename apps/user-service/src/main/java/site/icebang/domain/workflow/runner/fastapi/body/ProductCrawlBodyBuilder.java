@@ -1,6 +1,6 @@
 package site.icebang.domain.workflow.runner.fastapi.body;
 
-import java.util.Map;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.stereotype.Component;
@@ -12,6 +12,7 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import lombok.RequiredArgsConstructor;
 
+import site.icebang.domain.workflow.context.WorkflowContext;
 import site.icebang.domain.workflow.model.Task;
 
 @Component
@@ -28,17 +29,21 @@ public class ProductCrawlBodyBuilder implements TaskBodyBuilder {
   }
 
   @Override
-  public ObjectNode build(Task task, Map<String, JsonNode> workflowContext) {
+  public List<String> getSourceTaskNames() {
+    return List.of(SIMILARITY_SOURCE_TASK);
+  }
+
+  @Override
+  public ObjectNode build(Task task, WorkflowContext workflowContext) {
     ObjectNode body = objectMapper.createObjectNode();
 
     // ArrayNode 준비 (product_urls 배열로 변경)
     ArrayNode productUrls = objectMapper.createArrayNode();
 
     // 유사도 분석에서 선택된 상품들의 URL 가져오기 (복수로 변경)
-    Optional.ofNullable(workflowContext.get(SIMILARITY_SOURCE_TASK))
+    Optional.ofNullable(workflowContext.at(SIMILARITY_SOURCE_TASK, "/data/top_products"))
         .ifPresent(
-            node -> {
-              JsonNode topProducts = node.path("data").path("top_products");
+            topProducts -> {
               if (topProducts.isArray()) {
                 // top_products 배열에서 각 상품의 URL 추출
                 topProducts.forEach(
@@ -1,6 +1,6 @@
 package site.icebang.domain.workflow.runner.fastapi.body;
 
-import java.util.Map;
+import java.util.List;
 
 import org.springframework.stereotype.Component;
 
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import lombok.RequiredArgsConstructor;
 
+import site.icebang.domain.workflow.context.WorkflowContext;
 import site.icebang.domain.workflow.model.Task;
 
 @Component
@@ -26,7 +27,12 @@ public class ProductSearchBodyBuilder implements TaskBodyBuilder {
   }
 
   @Override
-  public ObjectNode build(Task task, Map<String, JsonNode> workflowContext) {
+  public List<String> getSourceTaskNames() {
+    return List.of(SOURCE_TASK_NAME);
+  }
+
+  @Override
+  public ObjectNode build(Task task, WorkflowContext workflowContext) {
     JsonNode sourceResult = workflowContext.get(SOURCE_TASK_NAME);
     String keyword =
         sourceResult != null ? sourceResult.path("data").path("keyword").asText("") : "";
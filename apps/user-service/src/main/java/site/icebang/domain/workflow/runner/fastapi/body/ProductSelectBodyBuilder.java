@@ -1,15 +1,15 @@
 package site.icebang.domain.workflow.runner.fastapi.body;
 
-import java.util.Map;
+import java.util.List;
 
 import org.springframework.stereotype.Component;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import lombok.RequiredArgsConstructor;
 
+import site.icebang.domain.workflow.context.WorkflowContext;
 import site.icebang.domain.workflow.model.Task;
 
 @Component
@@ -18,6 +18,8 @@ public class ProductSelectBodyBuilder implements TaskBodyBuilder {
 
   private final ObjectMapper objectMapper;
   private static final String TASK_NAME = "상품 선택 태스크";
+  // Body에는 없지만, 실행 시 S3 업로드 태스크의 task_run_id가 주입되므로 선행 관계를 가집니다.
+  private static final String S3_UPLOAD_SOURCE_TASK = "S3 업로드 태스크";
 
   @Override
   public boolean supports(String taskName) {
@@ -25,7 +27,12 @@ public class ProductSelectBodyBuilder implements TaskBodyBuilder {
   }
 
   @Override
-  public ObjectNode build(Task task, Map<String, JsonNode> workflowContext) {
+  public List<String> getSourceTaskNames() {
+    return List.of(S3_UPLOAD_SOURCE_TASK);
+  }
+
+  @Override
+  public ObjectNode build(Task task, WorkflowContext workflowContext) {
     ObjectNode body = objectMapper.createObjectNode();
 
     body.put("selection_criteria", "image_count_priority");
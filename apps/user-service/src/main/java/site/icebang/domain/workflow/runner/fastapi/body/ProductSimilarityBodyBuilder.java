@@ -1,16 +1,16 @@
 package site.icebang.domain.workflow.runner.fastapi.body;
 
-import java.util.Map;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.stereotype.Component;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import lombok.RequiredArgsConstructor;
 
+import site.icebang.domain.workflow.context.WorkflowContext;
 import site.icebang.domain.workflow.model.Task;
 
 @Component
@@ -29,22 +29,24 @@ public class ProductSimilarityBodyBuilder implements TaskBodyBuilder {
   }
 
   @Override
-  public ObjectNode build(Task task, Map<String, JsonNode> workflowContext) {
+  public List<String> getSourceTaskNames() {
+    return List.of(KEYWORD_SOURCE_TASK, MATCH_SOURCE_TASK, SEARCH_SOURCE_TASK);
+  }
+
+  @Override
+  public ObjectNode build(Task task, WorkflowContext workflowContext) {
     ObjectNode body = objectMapper.createObjectNode();
 
     // 키워드 정보 가져오기
-    Optional.ofNullable(workflowContext.get(KEYWORD_SOURCE_TASK))
-        .map(node -> node.path("data").path("keyword"))
+    Optional.ofNullable(workflowContext.at(KEYWORD_SOURCE_TASK, "/data/keyword"))
         .ifPresent(keywordNode -> body.set("keyword", keywordNode));
 
     // 매칭된 상품 정보 가져오기
-    Optional.ofNullable(workflowContext.get(MATCH_SOURCE_TASK))
-        .map(node -> node.path("data").path("matched_products"))
+    Optional.ofNullable(workflowContext.at(MATCH_SOURCE_TASK, "/data/matched_products"))
         .ifPresent(matchedNode -> body.set("matched_products", matchedNode));
 
     // 상품 검색 결과 정보 가져오기
-    Optional.ofNullable(workflowContext.get(SEARCH_SOURCE_TASK))
-        .map(node -> node.path("data").path("search_results"))
+    Optional.ofNullable(workflowContext.at(SEARCH_SOURCE_TASK, "/data/search_results"))
         .ifPresent(resultsNode -> body.set("search_results", resultsNode));
 
     return body;
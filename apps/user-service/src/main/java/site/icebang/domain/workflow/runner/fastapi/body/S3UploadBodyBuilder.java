@@ -1,16 +1,16 @@
 package site.icebang.domain.workflow.runner.fastapi.body;
 
-import java.util.Map;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.stereotype.Component;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import lombok.RequiredArgsConstructor;
 
+import site.icebang.domain.workflow.context.WorkflowContext;
 import site.icebang.domain.workflow.model.Task;
 
 @Component
@@ -28,18 +28,21 @@ public class S3UploadBodyBuilder implements TaskBodyBuilder {
   }
 
   @Override
-  public ObjectNode build(Task task, Map<String, JsonNode> workflowContext) {
+  public List<String> getSourceTaskNames() {
+    return List.of(KEYWORD_SOURCE_TASK, CRAWL_SOURCE_TASK);
+  }
+
+  @Override
+  public ObjectNode build(Task task, WorkflowContext workflowContext) {
     ObjectNode body = objectMapper.createObjectNode();
 
     // 키워드 정보 가져오기 (폴더명 생성용 - 스키마 주석 참조)
-    Optional.ofNullable(workflowContext.get(KEYWORD_SOURCE_TASK))
-        .map(node -> node.path("data").path("keyword"))
+    Optional.ofNullable(workflowContext.at(KEYWORD_SOURCE_TASK, "/data/keyword"))
         .filter(node -> !node.isMissingNode() && !node.asText().trim().isEmpty())
         .ifPresent(keywordNode -> body.set("keyword", keywordNode));
 
     // 크롤링된 상품 데이터 가져오기
-    Optional.ofNullable(workflowContext.get(CRAWL_SOURCE_TASK))
-        .map(node -> node.path("data").path("crawled_products"))
+    Optional.ofNullable(workflowContext.at(CRAWL_SOURCE_TASK, "/data/crawled_products"))
         .filter(node -> !node.isMissingNode())
         .ifPresent(crawledProductsNode -> body.set("crawled_products", crawledProductsNode));
 
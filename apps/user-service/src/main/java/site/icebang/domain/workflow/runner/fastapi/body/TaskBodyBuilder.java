@@ -1,10 +1,10 @@
 package site.icebang.domain.workflow.runner.fastapi.body;
 
-import java.util.Map;
+import java.util.List;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
+import site.icebang.domain.workflow.context.WorkflowContext;
 import site.icebang.domain.workflow.model.Task;
 
 public interface TaskBodyBuilder {
@@ -17,6 +17,16 @@ public interface TaskBodyBuilder {
    */
   boolean supports(String taskName);
 
+  /**
+   * 이 빌더가 Body를 생성할 때 읽는 워크플로우 컨텍스트의 키(선행 Task 이름) 목록을 반환합니다.
+   *
+   * <p>실행 엔진은 이 목록으로 Job 내 Task 간 의존 관계 그래프(DAG)를 구성하고, 서로 의존하지 않는 Task를 동시에 실행합니다. 따라서 {@code
+   * build}에서 {@code workflowContext}를 조회하는 키는 반드시 이 목록에 포함되어야 합니다. 컨텍스트를 읽지 않는 빌더는 빈 목록을 반환합니다.
+   *
+   * @return 의존하는 선행 Task 이름 목록
+   */
+  List<String> getSourceTaskNames();
+
   /**
    * 실제 API 요청에 사용될 Body를 생성합니다.
    *
@@ -24,5 +34,5 @@ public interface TaskBodyBuilder {
    * @param workflowContext 이전 Task들의 결과가 담긴 컨텍스트
    * @return 생성된 JSON Body
    */
-  ObjectNode build(Task task, Map<String, JsonNode> workflowContext);
+  ObjectNode build(Task task, WorkflowContext workflowContext);
 }
@@ -7,7 +7,8 @@ import org.springframework.stereotype.Component;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
-import site.icebang.domain.workflow.service.WorkflowExecutionService;
+import site.icebang.common.exception.WorkflowQueueFullException;
+import site.icebang.domain.workflow.queue.WorkflowRunQueue;
 
 /**
  * Spring Quartz 스케줄러에 의해 실행되는 실제 작업(Job) 클래스입니다.
@@ -19,7 +20,7 @@ import site.icebang.domain.workflow.service.WorkflowExecutionService;
  *
  * <ul>
  *   <li>스케줄 실행 시점에 {@code JobDataMap}에서 실행할 워크플로우 ID를 추출
- *   <li>추출된 ID를 사용하여 {@code WorkflowExecutionService}를 호출하여 실제 워크플로우 실행을 위임
+ *   <li>추출된 ID를 사용하여 {@code WorkflowRunQueue}에 실행을 저장하고, 실제 실행은 디스패처에 위임
  * </ul>
  *
  * @author jihu0210@naver.com
@@ -29,14 +30,14 @@ import site.icebang.domain.workflow.service.WorkflowExecutionService;
 @Component
 @RequiredArgsConstructor
 public class WorkflowTriggerJob extends QuartzJobBean {
-  private final WorkflowExecutionService workflowExecutionService;
+  private final WorkflowRunQueue workflowRunQueue;
 
   /**
    * Quartz 스케줄러에 의해 트리거가 발동될 때 호출되는 메인 실행 메소드입니다.
    *
    * <p>이 메소드는 실행 컨텍스트({@code JobExecutionContext})에서 {@code JobDataMap}을 통해 스케줄 등록 시점에 저장된
-   * 'workflowId'를 추출합니다. 그 후, 해당 ID를 파라미터로 하여 {@code WorkflowExecutionService}의 {@code
-   * executeWorkflow} 메소드를 호출하여 실제 비즈니스 로직의 실행을 시작합니다.
+   * 'workflowId'를 추출합니다. 그 후, 해당 ID를 파라미터로 하여 {@code WorkflowRunQueue}의 {@code enqueue} 메소드를 호출합니다.
+   * 실행은 대기열에 저장되므로, 같은 시각에 많은 스케줄이 발동해도 유실되지 않고 동시 실행 수 안에서 차례로 시작됩니다.
    *
    * @param context Quartz가 제공하는 현재 실행에 대한 런타임 정보. JobDetail과 Trigger 정보를 포함합니다.
    * @since v0.1.0
@@ -45,6 +46,10 @@ public class WorkflowTriggerJob extends QuartzJobBean {
   protected void executeInternal(JobExecutionContext context) {
     Long workflowId = context.getJobDetail().getJobDataMap().getLong("workflowId");
     log.info("Quartz가 WorkflowTriggerJob을 실행합니다. WorkflowId={}", workflowId);
-    workflowExecutionService.executeWorkflow(workflowId);
+    try {
+      workflowRunQueue.enqueue(workflowId);
+    } catch (WorkflowQueueFullException e) {
+      log.warn("실행 대기열이 가득 차 이번 스케줄 실행을 건너뜁니다. WorkflowId={}", workflowId);
+    }
   }
 }
@@ -1,9 +1,16 @@
 package site.icebang.domain.workflow.service;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
 import org.springframework.retry.support.RetryTemplate;
 import org.springframework.stereotype.Service;
 
@@ -11,23 +18,37 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import lombok.RequiredArgsConstructor;
 
+import site.icebang.common.utils.MdcPropagation;
+import site.icebang.domain.workflow.cache.TaskResultCache;
 import site.icebang.domain.workflow.model.Task;
 import site.icebang.domain.workflow.model.TaskRun;
+import site.icebang.domain.workflow.ratelimit.TaskRateLimiter;
+import site.icebang.domain.workflow.retry.RetryDecision;
+import site.icebang.domain.workflow.retry.RetryScheduler;
+import site.icebang.domain.workflow.retry.TaskRetryPolicies;
 import site.icebang.domain.workflow.runner.TaskRunner;
+import site.icebang.external.fastapi.exception.FailureType;
+import site.icebang.global.config.properties.WorkflowExecutionProperties;
 
 @Service
 @RequiredArgsConstructor
 public class TaskExecutionService {
   private static final Logger workflowLogger = LoggerFactory.getLogger("WORKFLOW_HISTORY");
   private final Map<String, TaskRunner> taskRunners;
-  private final RetryTemplate taskExecutionRetryTemplate; // 📌 RetryTemplate 주입
+  private final TaskRetryPolicies taskRetryPolicies;
+  private final WorkflowExecutionProperties executionProperties;
+  private final Executor workflowTaskExecutor;
+  private final TaskResultCache taskResultCache;
+  private final RetryScheduler retryScheduler;
+  private final TaskRateLimiter taskRateLimiter;
 
   // 📌 @Retryable, @Recover 어노테이션 제거
   public TaskRunner.TaskExecutionResult executeWithRetry(
       Task task, TaskRun taskRun, ObjectNode requestBody) {
 
-    // RetryTemplate을 사용하여 실행 로직을 감쌉니다.
-    return taskExecutionRetryTemplate.execute(
+    // RetryTemplate을 사용하여 실행 로직을 감쌉니다. 재시도 여부와 간격은 Task 타입별 정책과 실패 유형에 따라 결정됩니다.
+    RetryTemplate retryTemplate = taskRetryPolicies.retryTemplate(task);
+    return retryTemplate.execute(
         // 1. 재시도할 로직 (RetryCallback)
         context -> {
           // 📌 이 블록은 재시도할 때마다 실행되므로, 로그가 누락되지 않습니다.
@@ -37,23 +58,225 @@ public class TaskExecutionService {
               task.getId(),
               taskRun.getId());
 
-          String runnerBeanName = task.getType().toLowerCase() + "TaskRunner";
-          TaskRunner runner = taskRunners.get(runnerBeanName);
+          TaskRunner runner = resolveRunner(task);
 
-          if (runner == null) {
-            throw new IllegalArgumentException("지원하지 않는 Task 타입: " + task.getType());
-          }
+          // 동기 실행은 호출 스레드에서 요청 속도 제한이 허용할 때까지 기다립니다.
+          taskRateLimiter.acquire(task).join();
 
-          // 이 부분에서 RestClientException 발생 시 재시도됩니다.
+          // 이 부분에서 일시적인 실패(연결 실패, 시간 초과, 5xx 등) 발생 시 재시도됩니다.
           return runner.execute(task, taskRun, requestBody);
         },
-        // 2. 모든 재시도가 실패했을 때 실행될 로직 (RecoveryCallback)
-        context -> {
-          Throwable lastThrowable = context.getLastThrowable();
-          workflowLogger.error(
-              "최종 Task 실행 실패 (모든 재시도 소진): TaskRunId={}", taskRun.getId(), lastThrowable);
-          return TaskRunner.TaskExecutionResult.failure(
-              "최대 재시도 횟수 초과: " + lastThrowable.getMessage());
-        });
+        // 2. 재시도하지 않기로 결정되었을 때 실행될 로직 (RecoveryCallback)
+        context -> recover(task, taskRun, context.getLastThrowable()));
+  }
+
+  /**
+   * Task를 비동기로 실행하며, 실패 시 스레드를 점유하지 않고 재시도합니다.
+   *
+   * <p>{@link #executeWithRetry}와 동일한 재시도 정책(실패 유형별 재시도 여부, 최대 시도 횟수, 재시도 간격, 재시도 예산)을 따르지만, 재시도
+   * 대기는 {@link RetryScheduler}의 타이머에 예약되므로 대기 중인 스레드가 없습니다. 재시도를 포함한 전체 실행 시간은 {@code
+   * workflow.execution.task-timeout}으로 제한되며, 반환된 Future는 예외 없이 항상 {@code TaskExecutionResult}로
+   * 완료됩니다. 시도마다 {@link TaskRateLimiter}의 요청 속도 제한을 따르며, 제한에 걸린 시도는 실패하지 않고 대기한 뒤 실행됩니다. 단, 대기가 남은
+   * 제한 시간을 넘으면 토큰을 예약하지 않고 바로 실패하며, 대기하는 사이 제한 시간이 지나면 요청을 보내지 않고 토큰을 돌려줍니다.
+   *
+   * @param task 실행할 Task의 정적 정의
+   * @param taskRun 현재 실행에 대한 기록 객체
+   * @param requestBody {@code TaskBodyBuilder}에 의해 동적으로 생성된 최종 요청 Body
+   * @return 최종 실행 결과로 완료되는 {@code CompletableFuture}
+   */
+  public CompletableFuture<TaskRunner.TaskExecutionResult> executeWithRetryAsync(
+      Task task, TaskRun taskRun, ObjectNode requestBody) {
+    return executeWithRetryAsync(task, null, taskRun, requestBody);
+  }
+
+  /**
+   * 실행 계획에서 미리 결정된 {@link TaskRunner}로 Task를 비동기로 실행합니다.
+   *
+   * <p>재시도와 제한 시간은 {@link #executeWithRetryAsync(Task, TaskRun, ObjectNode)}와 같으며, 시도마다 Task 타입으로
+   * 실행기를 찾지 않습니다. {@code runner}가 {@code null}이면 Task 타입으로 실행기를 찾습니다.
+   *
+   * <p>Task에 {@code parameters.cache_ttl_seconds}가 지정되어 있으면, 같은 요청 Body로 성공한 결과가 캐시에 있을 때 외부 호출 없이
+   * 캐시된 결과로 바로 완료됩니다.
+   *
+   * @param task 실행할 Task의 정적 정의
+   * @param runner Task를 실행할 실행기
+   * @param taskRun 현재 실행에 대한 기록 객체
+   * @param requestBody {@code TaskBodyBuilder}에 의해 동적으로 생성된 최종 요청 Body
+   * @return 최종 실행 결과로 완료되는 {@code CompletableFuture}
+   */
+  public CompletableFuture<TaskRunner.TaskExecutionResult> executeWithRetryAsync(
+      Task task, TaskRunner runner, TaskRun taskRun, ObjectNode requestBody) {
+    TaskResultCache.Key cacheKey = taskResultCache.keyOf(task, requestBody);
+    if (cacheKey != null) {
+      String cached = taskResultCache.get(cacheKey);
+      if (cached != null) {
+        workflowLogger.info(
+            "Task 결과 캐시 적중으로 실행을 생략합니다: TaskId={}, TaskRunId={}",
+            task.getId(),
+            taskRun.getId());
+        return CompletableFuture.completedFuture(TaskRunner.TaskExecutionResult.success(cached));
+      }
+    }
+
+    taskRetryPolicies.onFirstAttempt();
+    Map<String, String> mdc = MDC.getCopyOfContextMap();
+    Executor retryExecutor = MdcPropagation.withCurrentMdc(workflowTaskExecutor);
+    long timeoutMillis = executionProperties.getTaskTimeout();
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+
+    return attemptAsync(task, runner, taskRun, requestBody, 1, deadline, mdc, retryExecutor)
+        .orTimeout(timeoutMillis, TimeUnit.MILLISECONDS)
+        .exceptionally(
+            throwable ->
+                MdcPropagation.supplyWithMdc(
+                    mdc, () -> recoverAsync(task, taskRun, throwable, timeoutMillis)))
+        .thenApply(
+            result -> {
+              // 📌 성공한 결과만 캐시하므로, 실패한 호출은 다음 실행에서 다시 시도됩니다.
+              if (cacheKey != null && !result.isFailure()) {
+                taskResultCache.put(task, cacheKey, result.message());
+              }
+              return result;
+            });
+  }
+
+  private CompletableFuture<TaskRunner.TaskExecutionResult> attemptAsync(
+      Task task,
+      TaskRunner runner,
+      TaskRun taskRun,
+      ObjectNode requestBody,
+      int attempt,
+      long deadline,
+      Map<String, String> mdc,
+      Executor retryExecutor) {
+    workflowLogger.info(
+        "Task 실행 시도 #{}: TaskId={}, TaskRunId={}", attempt, task.getId(), taskRun.getId());
+
+    CompletableFuture<TaskRunner.TaskExecutionResult> result;
+    CompletableFuture<Long> permit = taskRateLimiter.acquire(task, deadline);
+    if (permit.isCompletedExceptionally()) {
+      // 📌 대기가 제한 시간을 넘으면 토큰을 예약하지 않았으므로, 재시도하지 않고 바로 실패합니다.
+      workflowLogger.warn(
+          "요청 속도 제한 대기가 제한 시간을 넘어 Task를 실행하지 않습니다: TaskRunId={}", taskRun.getId());
+      return CompletableFuture.failedFuture(permit.exceptionNow());
+    }
+    if (permit.isDone()) {
+      result = sendAsync(task, runner, taskRun, requestBody);
+    } else {
+      // 📌 요청 속도 제한에 걸리면 실패하지 않고 대기열에서 기다리며, 대기하는 동안에는 스레드를 점유하지 않습니다.
+      result =
+          permit.thenComposeAsync(
+              waitedMillis -> {
+                if (System.nanoTime() - deadline >= 0) {
+                  // 📌 대기하는 사이 제한 시간이 지나 Task가 이미 실패했으므로, 요청을 보내지 않고 예약한 토큰을 돌려줍니다.
+                  taskRateLimiter.release(task);
+                  return CompletableFuture.failedFuture(
+                      new TimeoutException("요청 속도 제한 대기 중 제한 시간이 지났습니다"));
+                }
+                workflowLogger.info(
+                    "요청 속도 제한으로 대기 후 Task 실행: TaskRunId={}, Wait={}ms",
+                    taskRun.getId(),
+                    waitedMillis);
+                return sendAsync(task, runner, taskRun, requestBody);
+              },
+              retryExecutor);
+    }
+
+    // 📌 실패 시 실패 유형과 정책에 따라 재시도를 예약합니다. 영구적인 실패나 대기 후 제한 시간을 넘기는 경우에는 즉시 실패합니다.
+    // 실패는 HTTP 클라이언트 스레드에서 전달되므로, 재시도 결정과 로그는 원래 Task의 MDC 안에서 수행합니다.
+    return result
+        .thenApply(CompletableFuture::completedFuture)
+        .exceptionally(
+            throwable ->
+                MdcPropagation.supplyWithMdc(
+                    mdc,
+                    () ->
+                        scheduleRetry(
+                            task,
+                            runner,
+                            taskRun,
+                            requestBody,
+                            attempt,
+                            deadline,
+                            mdc,
+                            retryExecutor,
+                            throwable)))
+        .thenCompose(Function.identity());
+  }
+
+  private CompletableFuture<TaskRunner.TaskExecutionResult> sendAsync(
+      Task task, TaskRunner runner, TaskRun taskRun, ObjectNode requestBody) {
+    try {
+      TaskRunner resolvedRunner = runner != null ? runner : resolveRunner(task);
+      return resolvedRunner.executeAsync(task, taskRun, requestBody);
+    } catch (RuntimeException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  private CompletableFuture<TaskRunner.TaskExecutionResult> scheduleRetry(
+      Task task,
+      TaskRunner runner,
+      TaskRun taskRun,
+      ObjectNode requestBody,
+      int attempt,
+      long deadline,
+      Map<String, String> mdc,
+      Executor retryExecutor,
+      Throwable throwable) {
+    long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+    RetryDecision decision = taskRetryPolicies.decide(task, attempt, throwable, remainingMillis);
+    if (!decision.shouldRetry()) {
+      return CompletableFuture.failedFuture(throwable);
+    }
+    workflowLogger.warn(
+        "Task 재시도 예약: TaskRunId={}, Failure={}, Delay={}ms",
+        taskRun.getId(),
+        decision.failureType(),
+        decision.delayMillis());
+    // 📌 대기하는 동안에는 스레드를 점유하지 않으며, 대기가 끝나면 MDC를 전파하는 실행기에서 다음 시도를 시작합니다.
+    return retryScheduler.schedule(
+        decision.delayMillis(),
+        retryExecutor,
+        () ->
+            attemptAsync(
+                task, runner, taskRun, requestBody, attempt + 1, deadline, mdc, retryExecutor));
+  }
+
+  private TaskRunner.TaskExecutionResult recoverAsync(
+      Task task, TaskRun taskRun, Throwable throwable, long timeoutMillis) {
+    Throwable cause =
+        throwable instanceof CompletionException && throwable.getCause() != null
+            ? throwable.getCause()
+            : throwable;
+    if (cause instanceof TimeoutException) {
+      workflowLogger.error(
+          "Task 실행 시간 초과: TaskRunId={}, Timeout={}ms", taskRun.getId(), timeoutMillis);
+      return TaskRunner.TaskExecutionResult.failure("Task 실행 시간 초과: " + timeoutMillis + "ms");
+    }
+    return recover(task, taskRun, cause);
+  }
+
+  private TaskRunner.TaskExecutionResult recover(Task task, TaskRun taskRun, Throwable cause) {
+    FailureType failureType = FailureType.classify(cause);
+    if (!taskRetryPolicies.policyFor(task).isRetryable(failureType)) {
+      // 📌 요청 자체가 잘못된 실패(4xx 등)는 재시도하지 않고 바로 실패합니다.
+      workflowLogger.error(
+          "Task 실행 실패 (재시도하지 않는 실패 유형 {}): TaskRunId={}", failureType, taskRun.getId(), cause);
+      return TaskRunner.TaskExecutionResult.failure(
+          "재시도하지 않는 실패 (" + failureType + "): " + cause.getMessage());
+    }
+    workflowLogger.error("최종 Task 실행 실패 (모든 재시도 소진): TaskRunId={}", taskRun.getId(), cause);
+    return TaskRunner.TaskExecutionResult.failure("최대 재시도 횟수 초과: " + cause.getMessage());
+  }
+
+  private TaskRunner resolveRunner(Task task) {
+    String runnerBeanName = task.getType().toLowerCase() + "TaskRunner";
+    TaskRunner runner = taskRunners.get(runnerBeanName);
+
+    if (runner == null) {
+      throw new IllegalArgumentException("지원하지 않는 Task 타입: " + task.getType());
+    }
+    return runner;
   }
 }
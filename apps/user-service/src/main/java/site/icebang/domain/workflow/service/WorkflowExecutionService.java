@@ -1,194 +1,371 @@
 package site.icebang.domain.workflow.service;
 
-import java.math.BigInteger;
-import java.util.Comparator;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonMappingException;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import lombok.RequiredArgsConstructor;
 
-import site.icebang.domain.workflow.dto.JobDto;
-import site.icebang.domain.workflow.dto.TaskDto;
-import site.icebang.domain.workflow.dto.WorkflowDetailCardDto;
+import site.icebang.common.utils.MdcPropagation;
+import site.icebang.domain.workflow.cache.WorkflowExecutionPlanCache;
+import site.icebang.domain.workflow.checkpoint.WorkflowCheckpoint;
+import site.icebang.domain.workflow.checkpoint.WorkflowCheckpointLoader;
+import site.icebang.domain.workflow.context.WorkflowContext;
+import site.icebang.domain.workflow.context.WorkflowContextFactory;
+import site.icebang.domain.workflow.executor.DependencyGraphExecutor;
+import site.icebang.domain.workflow.io.TaskIoRecorder;
+import site.icebang.domain.workflow.journal.RunIdAllocator;
+import site.icebang.domain.workflow.journal.RunStateJournal;
 import site.icebang.domain.workflow.manager.ExecutionMdcManager;
-import site.icebang.domain.workflow.mapper.*;
 import site.icebang.domain.workflow.model.Job;
 import site.icebang.domain.workflow.model.JobRun;
 import site.icebang.domain.workflow.model.Task;
 import site.icebang.domain.workflow.model.TaskRun;
 import site.icebang.domain.workflow.model.WorkflowRun;
+import site.icebang.domain.workflow.plan.WorkflowExecutionPlan;
+import site.icebang.domain.workflow.plan.WorkflowExecutionPlan.JobPlan;
+import site.icebang.domain.workflow.plan.WorkflowExecutionPlan.TaskPlan;
 import site.icebang.domain.workflow.runner.TaskRunner;
-import site.icebang.domain.workflow.runner.fastapi.body.TaskBodyBuilder;
+import site.icebang.global.config.properties.WorkflowExecutionProperties;
 
 @Service
 @RequiredArgsConstructor
 public class WorkflowExecutionService {
   private static final Logger workflowLogger = LoggerFactory.getLogger("WORKFLOW_HISTORY");
-  private final JobMapper jobMapper;
-  private final WorkflowRunMapper workflowRunMapper;
-  private final JobRunMapper jobRunMapper;
-  private final TaskRunMapper taskRunMapper;
+  private final WorkflowCheckpointLoader workflowCheckpointLoader;
+  private final RunIdAllocator runIdAllocator;
+  private final RunStateJournal runStateJournal;
   private final ObjectMapper objectMapper;
-  private final List<TaskBodyBuilder> bodyBuilders;
   private final ExecutionMdcManager mdcManager;
   private final TaskExecutionService taskExecutionService;
-  private final WorkflowMapper workflowMapper;
+  private final TaskIoRecorder taskIoRecorder;
+  private final WorkflowExecutionPlanCache executionPlanCache;
+  private final WorkflowContextFactory workflowContextFactory;
+  private final WorkflowExecutionProperties executionProperties;
+  private final Executor workflowTaskExecutor;
+  private final Executor workflowJobExecutor;
 
+  /**
+   * 대기열에서 꺼낸 워크플로우 실행을 수행합니다.
+   *
+   * <p>실행은 이미 workflow_run에 저장되어 {@code RUNNING}으로 변경된 상태여야 합니다. 재개된 실행이면 원본 실행의 체크포인트를 이 시점에 다시
+   * 복원하므로, 대기하는 동안 원본 실행에 기록된 결과까지 반영됩니다. 체크포인트에 결과가 있는 Task는 다시 호출하지 않고 {@code SKIPPED}로 기록합니다.
+   *
+   * @param workflowRun {@code WorkflowRunDispatcher}가 실행 중으로 변경한 워크플로우 실행
+   * @return 워크플로우 실행이 끝나면 완료되는 Future
+   */
   @Async("traceExecutor")
-  public void executeWorkflow(Long workflowId) {
-    WorkflowRun workflowRun = WorkflowRun.start(workflowId);
-    workflowRunMapper.insert(workflowRun);
+  public CompletableFuture<Void> executeQueued(WorkflowRun workflowRun) {
+    WorkflowCheckpoint checkpoint = WorkflowCheckpoint.none();
+    if (workflowRun.getResumedFromRunId() != null) {
+      try {
+        checkpoint = workflowCheckpointLoader.load(workflowRun.getResumedFromRunId());
+      } catch (RuntimeException e) {
+        mdcManager.setWorkflowContext(workflowRun.getWorkflowId(), workflowRun.getTraceId());
+        try {
+          workflowLogger.error(
+              "체크포인트 복원 실패: ResumedFromRunId={}", workflowRun.getResumedFromRunId(), e);
+          workflowRun.finish("FAILED");
+          runStateJournal.complete(workflowRun);
+        } finally {
+          mdcManager.clearExecutionContext();
+        }
+        return CompletableFuture.completedFuture(null);
+      }
+    }
+    execute(workflowRun, checkpoint);
+    return CompletableFuture.completedFuture(null);
+  }
+
+  private void execute(WorkflowRun workflowRun, WorkflowCheckpoint checkpoint) {
+    Long workflowId = workflowRun.getWorkflowId();
 
     mdcManager.setWorkflowContext(workflowId, workflowRun.getTraceId());
     try {
       workflowLogger.info("========== 워크플로우 실행 시작: WorkflowId={} ==========", workflowId);
+      if (workflowRun.getResumedFromRunId() != null) {
+        workflowLogger.info(
+            "실패한 실행을 재개합니다: ResumedFromRunId={}, 복원된 Task 수={}",
+            workflowRun.getResumedFromRunId(),
+            checkpoint.getRestoredTasks().size());
+      }
+
+      // 📌 정렬된 Job/Task, 병합된 설정, Runner/BodyBuilder는 캐시된 실행 계획에서 가져오므로 정의 조회 쿼리가 없습니다.
+      WorkflowExecutionPlan plan;
+      try {
+        plan = executionPlanCache.get(workflowId);
+      } catch (RuntimeException e) {
+        // 📌 정의를 해석할 수 없으면(잘못된 Body 매핑 명세 등) 실행 중 상태로 남기지 않고 실패로 종료합니다.
+        workflowLogger.error("실행 계획 생성 실패: WorkflowId={}", workflowId, e);
+        workflowRun.finish("FAILED");
+        runStateJournal.complete(workflowRun);
+        return;
+      }
+      workflowLogger.info("실행 계획 로드 성공");
+
+      // 📌 Task 결과는 실행별 메모리 한도 안에서만 힙에 보관하고, 큰 결과는 압축 파일로 내려 보냅니다. 실행이 끝나면 파일도 삭제됩니다.
+      try (WorkflowContext workflowContext = workflowContextFactory.create(workflowRun.getId())) {
+        try {
+          restoreContext(plan, checkpoint, workflowContext);
+        } catch (IOException e) {
+          workflowLogger.error(
+              "체크포인트 복원 실패: ResumedFromRunId={}", workflowRun.getResumedFromRunId(), e);
+          workflowRun.finish("FAILED");
+          runStateJournal.complete(workflowRun);
+          return;
+        }
+        if (plan.isParallel()) {
+          workflowLogger.info(
+              "총 {}개의 Job을 의존 관계에 따라 병렬로 실행합니다. (최대 동시 실행: {})",
+              plan.getJobs().size(),
+              plan.getMaxConcurrentJobs());
+        } else {
+          workflowLogger.info("총 {}개의 Job을 순차적으로 실행합니다.", plan.getJobs().size());
+        }
+        AtomicBoolean hasAnyJobFailed = new AtomicBoolean(false);
+
+        // 📌 순차 모드에서는 호출 스레드에서 바로 실행하여 기존 동작을 그대로 유지합니다.
+        Executor jobExecutor = plan.isParallel() ? workflowJobExecutor : Runnable::run;
+        DependencyGraphExecutor.execute(
+            plan.getJobGraph(),
+            plan.getMaxConcurrentJobs(),
+            jobExecutor,
+            workflowRun::isCancelled,
+            jobPlan -> {
+              boolean succeeded = executeJob(jobPlan, workflowRun, workflowContext, checkpoint);
+              if (!succeeded) {
+                hasAnyJobFailed.set(true);
+              }
+              mdcManager.setWorkflowContext(workflowId);
+            });
+        if (workflowRun.isCancelled()) {
+          // 📌 임대를 잃은 실행은 다른 인스턴스가 이미 실패로 종료하고 재개했으므로, 아래 종료 상태는 저장되지 않습니다.
+          hasAnyJobFailed.set(true);
+          workflowLogger.error("임대를 잃어 워크플로우 실행을 중단했습니다: WorkflowRunId={}", workflowRun.getId());
+        }
+        // 📌 종료 상태는 남은 Job/Task 상태와 함께 한 트랜잭션으로 저장되어, 종료로 보이는 실행의 기록은 항상 완전합니다.
+        workflowRun.finish(hasAnyJobFailed.get() ? "FAILED" : "SUCCESS");
+        if (!runStateJournal.complete(workflowRun)) {
+          workflowLogger.error(
+              "실행 상태 저장에 실패하여 다음 저장 주기에 다시 저장합니다: WorkflowRunId={}", workflowRun.getId());
+        }
+        workflowLogger.info(
+            "========== 워크플로우 실행 {} : WorkflowRunId={} ==========",
+            hasAnyJobFailed.get() ? "실패" : "성공",
+            workflowRun.getId());
+      }
+    } finally {
+      mdcManager.clearExecutionContext();
+    }
+  }
 
-      Map<String, JsonNode> workflowContext = new HashMap<>();
-      WorkflowDetailCardDto settings =
-          workflowMapper.selectWorkflowDetailById(BigInteger.valueOf(workflowId));
-      workflowLogger.info("Workflow 정보 로드 성공");
+  /** 체크포인트에 있는 Task 결과를 실행 전에 컨텍스트에 채워, 이후 Task가 원본 실행의 결과를 참조할 수 있게 합니다. */
+  private void restoreContext(
+      WorkflowExecutionPlan plan, WorkflowCheckpoint checkpoint, WorkflowContext workflowContext)
+      throws IOException {
+    for (JobPlan jobPlan : plan.getJobs()) {
+      for (TaskPlan taskPlan : jobPlan.tasks()) {
+        WorkflowCheckpoint.RestoredTask restored = checkpoint.get(taskPlan.task().getId());
+        if (restored != null) {
+          workflowContext.put(taskPlan.task().getName(), restored.output());
+        }
+      }
+    }
+  }
 
-      workflowLogger.info("Default config 로드 시도");
-      JsonNode setting = objectMapper.readTree(settings.getDefaultConfig());
-      workflowLogger.info("Default config 로드 성공");
+  private boolean executeJob(
+      JobPlan jobPlan,
+      WorkflowRun workflowRun,
+      WorkflowContext workflowContext,
+      WorkflowCheckpoint checkpoint) {
+    Job job = jobPlan.job();
 
-      workflowLogger.info("Job 목록 로드 시도");
-      List<JobDto> jobDtos = jobMapper.findJobsByWorkflowId(workflowId);
-      workflowLogger.info("Job 목록 로드 성공");
+    mdcManager.setJobContext(job.getId());
+    JobRun jobRun =
+        JobRun.start(
+            runIdAllocator.nextJobRunId(),
+            workflowRun.getId(),
+            job.getId(),
+            jobPlan.executionOrder());
+    runStateJournal.record(jobRun);
+    workflowLogger.info(
+        "---------- Job 실행 시작: JobId={}, JobRunId={} ----------", job.getId(), jobRun.getId());
 
-      workflowLogger.info("execution_order 기준으로 정렬 시도");
-      jobDtos.sort(
-          Comparator.comparing(
-                  JobDto::getExecutionOrder, Comparator.nullsLast(Comparator.naturalOrder()))
-              .thenComparing(JobDto::getId));
+    boolean jobSucceeded =
+        executeTasksForJob(jobRun, jobPlan, workflowRun, workflowContext, checkpoint);
+    jobRun.finish(jobSucceeded ? "SUCCESS" : "FAILED");
+    runStateJournal.record(jobRun);
 
-      workflowLogger.info("execution_order 기준으로 성공");
+    if (!jobSucceeded) {
+      workflowLogger.error("Job 실행 실패: JobRunId={}", jobRun.getId());
+    } else {
+      workflowLogger.info("---------- Job 실행 성공: JobRunId={} ----------", jobRun.getId());
+    }
+    return jobSucceeded;
+  }
 
-      workflowLogger.info("총 {}개의 Job을 순차적으로 실행합니다.", jobDtos.size());
-      boolean hasAnyJobFailed = false;
+  private boolean executeTasksForJob(
+      JobRun jobRun,
+      JobPlan jobPlan,
+      WorkflowRun workflowRun,
+      WorkflowContext workflowContext,
+      WorkflowCheckpoint checkpoint) {
+    workflowLogger.info(
+        "Job (JobRunId={}) 내 총 {}개의 Task를 의존 관계에 따라 실행합니다. (최대 동시 실행: {})",
+        jobRun.getId(),
+        jobPlan.tasks().size(),
+        executionProperties.getTaskParallelism());
+    AtomicBoolean hasAnyTaskFailed = new AtomicBoolean(false);
+    // S3 업로드 태스크의 task_run_id 저장용 (상품 선택 태스크는 S3 업로드 태스크에 의존하므로 항상 이후에 읽음)
+    AtomicReference<Long> s3UploadTaskRunId = new AtomicReference<>();
 
-      // 📌 정렬된 JobDto 리스트를 순회합니다.
-      for (JobDto jobDto : jobDtos) {
-        // 📌 DTO로부터 Job 모델을 생성합니다.
-        Job job = new Job(jobDto);
+    // 📌 Task는 비동기로 실행되므로, FastAPI 응답을 기다리는 동안 스레드를 점유하지 않습니다.
+    DependencyGraphExecutor.executeAsync(
+        jobPlan.taskGraph(),
+        executionProperties.getTaskParallelism(),
+        workflowRun::isCancelled,
+        taskPlan ->
+            executeTaskAsync(
+                    taskPlan, jobRun, workflowRun, workflowContext, checkpoint, s3UploadTaskRunId)
+                .thenAccept(
+                    succeeded -> {
+                      if (!succeeded) {
+                        hasAnyTaskFailed.set(true);
+                      }
+                    }));
+    return !hasAnyTaskFailed.get() && !workflowRun.isCancelled();
+  }
 
-        mdcManager.setJobContext(job.getId());
-        JobRun jobRun = JobRun.start(workflowRun.getId(), job.getId());
-        jobRunMapper.insert(jobRun);
-        workflowLogger.info(
-            "---------- Job 실행 시작: JobId={}, JobRunId={} ----------", job.getId(), jobRun.getId());
+  private CompletableFuture<Boolean> executeTaskAsync(
+      TaskPlan taskPlan,
+      JobRun jobRun,
+      WorkflowRun workflowRun,
+      WorkflowContext workflowContext,
+      WorkflowCheckpoint checkpoint,
+      AtomicReference<Long> s3UploadTaskRunId) {
+    Task task = taskPlan.task();
+    // 📌 임대를 잃은 실행은 다른 인스턴스에서 재개되므로, 남은 Task는 FastAPI를 호출하지 않고 실패로 처리합니다.
+    if (workflowRun.isCancelled()) {
+      workflowLogger.warn(
+          "임대를 잃어 Task를 실행하지 않습니다: TaskId={}, Name={}", task.getId(), task.getName());
+      return CompletableFuture.completedFuture(false);
+    }
+    WorkflowCheckpoint.RestoredTask restored = checkpoint.get(task.getId());
+    if (restored != null) {
+      return CompletableFuture.completedFuture(
+          skipTask(taskPlan, jobRun, restored, s3UploadTaskRunId));
+    }
+    try {
+      TaskRun taskRun =
+          TaskRun.start(
+              runIdAllocator.nextTaskRunId(),
+              jobRun.getId(),
+              task.getId(),
+              taskPlan.executionOrder());
+      runStateJournal.record(taskRun);
+      mdcManager.setTaskContext(taskRun.getId());
+      workflowLogger.info("Task 실행 시작: TaskId={}, Name={}", task.getId(), task.getName());
 
-        boolean jobSucceeded = executeTasksForJob(jobRun, workflowContext, setting);
-        jobRun.finish(jobSucceeded ? "SUCCESS" : "FAILED");
-        jobRunMapper.update(jobRun);
+      ObjectNode requestBody =
+          taskPlan.bodyBuilder() != null
+              ? taskPlan.bodyBuilder().build(task, workflowContext)
+              : objectMapper.createObjectNode();
 
-        if (!jobSucceeded) {
-          workflowLogger.error("Job 실행 실패: JobRunId={}", jobRun.getId());
-          hasAnyJobFailed = true;
+      if ("S3 업로드 태스크".equals(task.getName())) {
+        requestBody.put("task_run_id", taskRun.getId());
+        s3UploadTaskRunId.set(taskRun.getId()); // S3 업로드의 task_run_id 저장
+      } else if ("상품 선택 태스크".equals(task.getName())) {
+        // S3 업로드에서 사용한 task_run_id를 사용
+        if (s3UploadTaskRunId.get() != null) {
+          requestBody.put("task_run_id", s3UploadTaskRunId.get());
         } else {
-          workflowLogger.info("---------- Job 실행 성공: JobRunId={} ----------", jobRun.getId());
+          workflowLogger.error("S3 업로드 태스크가 먼저 실행되지 않아 task_run_id를 찾을 수 없습니다.");
+          // 또는 이전 Job에서 S3 업로드를 찾는 로직 추가 가능
         }
-        mdcManager.setWorkflowContext(workflowId);
       }
-      workflowRun.finish(hasAnyJobFailed ? "FAILED" : "SUCCESS");
-      workflowRunMapper.update(workflowRun);
-      workflowLogger.info(
-          "========== 워크플로우 실행 {} : WorkflowRunId={} ==========",
-          hasAnyJobFailed ? "실패" : "성공",
-          workflowRun.getId());
-    } catch (JsonMappingException e) {
-      throw new RuntimeException(e);
-    } catch (JsonProcessingException e) {
-      throw new RuntimeException(e);
+
+      // 📌 요청 Body는 저장 스레드에서 직렬화되어 task_io_data에 기록됩니다. 기록 이후에는 Body를 수정하지 않습니다.
+      taskIoRecorder.recordInput(taskRun.getId(), requestBody);
+
+      // 📌 결과 처리(DB 기록 등)는 HTTP 클라이언트 스레드가 아닌 Task 풀에서 Task의 MDC와 함께 수행합니다.
+      Executor completionExecutor = MdcPropagation.withCurrentMdc(workflowTaskExecutor);
+      return taskExecutionService
+          .executeWithRetryAsync(task, taskPlan.runner(), taskRun, requestBody)
+          .thenApplyAsync(
+              result -> completeTask(task, taskRun, jobRun, result, workflowContext),
+              completionExecutor);
+    } catch (Exception e) {
+      workflowLogger.error(
+          "Task 처리 중 심각한 오류 발생: JobRunId={}, TaskName={}", jobRun.getId(), task.getName(), e);
+      return CompletableFuture.completedFuture(false);
     } finally {
-      mdcManager.clearExecutionContext();
+      mdcManager.setJobContext(jobRun.getId());
     }
   }
 
-  private boolean executeTasksForJob(
-      JobRun jobRun, Map<String, JsonNode> workflowContext, JsonNode setting) {
-    List<TaskDto> taskDtos = jobMapper.findTasksByJobId(jobRun.getJobId());
-    for (TaskDto taskDto : taskDtos) {
-      String taskId = taskDto.getId().toString();
-      JsonNode settingForTask = setting.get(taskId);
-      if (settingForTask != null) {
-        taskDto.setSettings(settingForTask);
-      }
-    }
-    taskDtos.sort(
-        Comparator.comparing(
-                TaskDto::getExecutionOrder, Comparator.nullsLast(Comparator.naturalOrder()))
-            .thenComparing(TaskDto::getId));
+  /** 원본 실행에서 성공한 Task는 다시 호출하지 않고, 건너뛴 기록만 남깁니다. 결과는 이미 컨텍스트에 복원되어 있습니다. */
+  private boolean skipTask(
+      TaskPlan taskPlan,
+      JobRun jobRun,
+      WorkflowCheckpoint.RestoredTask restored,
+      AtomicReference<Long> s3UploadTaskRunId) {
+    Task task = taskPlan.task();
+    TaskRun taskRun =
+        TaskRun.start(
+            runIdAllocator.nextTaskRunId(),
+            jobRun.getId(),
+            task.getId(),
+            taskPlan.executionOrder());
+    taskRun.finish("SKIPPED", "체크포인트에서 복원: TaskRunId=" + restored.taskRunId());
+    runStateJournal.record(taskRun);
 
+    if ("S3 업로드 태스크".equals(task.getName())) {
+      // 업로드된 데이터는 원본 실행의 task_run_id로 저장되어 있으므로 상품 선택 태스크도 원본 ID를 사용
+      s3UploadTaskRunId.set(restored.taskRunId());
+    }
     workflowLogger.info(
-        "Job (JobRunId={}) 내 총 {}개의 Task를 순차 실행합니다.", jobRun.getId(), taskDtos.size());
-    boolean hasAnyTaskFailed = false;
-    Long s3UploadTaskRunId = null; // S3 업로드 태스크의 task_run_id 저장용
-
-    for (TaskDto taskDto : taskDtos) {
-      try {
-        TaskRun taskRun =
-            TaskRun.start(jobRun.getId(), taskDto.getId(), taskDto.getExecutionOrder());
-        taskRunMapper.insert(taskRun);
-        mdcManager.setTaskContext(taskRun.getId());
-        workflowLogger.info("Task 실행 시작: TaskId={}, Name={}", taskDto.getId(), taskDto.getName());
-
-        Task task = new Task(taskDto);
-
-        ObjectNode requestBody =
-            bodyBuilders.stream()
-                .filter(builder -> builder.supports(task.getName()))
-                .findFirst()
-                .map(builder -> builder.build(task, workflowContext))
-                .orElse(objectMapper.createObjectNode());
-
-        if ("S3 업로드 태스크".equals(task.getName())) {
-          requestBody.put("task_run_id", taskRun.getId());
-          s3UploadTaskRunId = taskRun.getId(); // S3 업로드의 task_run_id 저장
-        } else if ("상품 선택 태스크".equals(task.getName())) {
-          // S3 업로드에서 사용한 task_run_id를 사용
-          if (s3UploadTaskRunId != null) {
-            requestBody.put("task_run_id", s3UploadTaskRunId);
-          } else {
-            workflowLogger.error("S3 업로드 태스크가 먼저 실행되지 않아 task_run_id를 찾을 수 없습니다.");
-            // 또는 이전 Job에서 S3 업로드를 찾는 로직 추가 가능
-          }
-        }
+        "Task 건너뜀 (체크포인트에서 복원): TaskId={}, Name={}, OriginalTaskRunId={}",
+        task.getId(),
+        task.getName(),
+        restored.taskRunId());
+    return true;
+  }
 
-        TaskRunner.TaskExecutionResult result =
-            taskExecutionService.executeWithRetry(task, taskRun, requestBody);
-        taskRun.finish(result.status(), result.message());
-        taskRunMapper.update(taskRun);
+  private boolean completeTask(
+      Task task,
+      TaskRun taskRun,
+      JobRun jobRun,
+      TaskRunner.TaskExecutionResult result,
+      WorkflowContext workflowContext) {
+    try {
+      taskRun.finish(result.status(), result.message());
+      runStateJournal.record(taskRun);
 
-        if (result.isFailure()) {
-          workflowLogger.error(
-              "Task 최종 실패: TaskRunId={}, Message={}", taskRun.getId(), result.message());
-          hasAnyTaskFailed = true;
-        } else {
-          JsonNode resultJson = objectMapper.readTree(result.message());
-          workflowContext.put(task.getName(), resultJson);
-          workflowLogger.info("Task 실행 성공: TaskRunId={}", taskRun.getId());
-        }
-      } catch (Exception e) {
+      if (result.isFailure()) {
+        taskIoRecorder.recordError(taskRun.getId(), result.message());
         workflowLogger.error(
-            "Task 처리 중 심각한 오류 발생: JobRunId={}, TaskName={}", jobRun.getId(), taskDto.getName(), e);
-        hasAnyTaskFailed = true;
-      } finally {
-        mdcManager.setJobContext(jobRun.getId());
+            "Task 최종 실패: TaskRunId={}, Message={}", taskRun.getId(), result.message());
+        return false;
       }
+      // 📌 결과 크기에 따라 메모리 또는 압축 파일에 보관되며, JSON 형식이 아니면 예외가 발생합니다.
+      workflowContext.put(task.getName(), result.message());
+      taskIoRecorder.recordOutput(taskRun.getId(), result.message());
+      workflowLogger.info("Task 실행 성공: TaskRunId={}", taskRun.getId());
+      return true;
+    } catch (Exception e) {
+      workflowLogger.error(
+          "Task 처리 중 심각한 오류 발생: JobRunId={}, TaskName={}", jobRun.getId(), task.getName(), e);
+      return false;
     }
-    return !hasAnyTaskFailed;
   }
 }
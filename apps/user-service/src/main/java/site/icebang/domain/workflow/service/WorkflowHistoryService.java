@@ -1,22 +1,36 @@
 package site.icebang.domain.workflow.service;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.fasterxml.jackson.databind.JsonNode;
+
 import lombok.RequiredArgsConstructor;
 
+import site.icebang.common.dto.PageCursor;
 import site.icebang.common.dto.PageParams;
 import site.icebang.common.dto.PageResult;
+import site.icebang.common.query.ListQuery;
+import site.icebang.common.query.ListQuerySpec;
+import site.icebang.common.query.ListQuerySpec.Operator;
 import site.icebang.common.service.PageableService;
-import site.icebang.domain.workflow.dto.JobRunDto;
-import site.icebang.domain.workflow.dto.TaskRunDto;
+import site.icebang.domain.workflow.cache.WorkflowRunDetailCache;
+import site.icebang.domain.workflow.dto.TaskIoDataDto;
+import site.icebang.domain.workflow.dto.TaskRunIoResponse;
 import site.icebang.domain.workflow.dto.WorkflowHistoryDTO;
 import site.icebang.domain.workflow.dto.WorkflowRunDetailResponse;
-import site.icebang.domain.workflow.dto.WorkflowRunDto;
 import site.icebang.domain.workflow.dto.WorkflowRunLogsResponse;
+import site.icebang.domain.workflow.io.TaskIoCodec;
+import site.icebang.domain.workflow.io.TaskIoRecorder;
+import site.icebang.domain.workflow.mapper.TaskIoDataMapper;
 import site.icebang.domain.workflow.mapper.WorkflowHistoryMapper;
+import site.icebang.domain.workflow.model.TaskIoData;
 
 /**
  * 워크플로우 실행 이력(History) 조회 관련 비즈니스 로직을 처리하는 서비스 클래스입니다.
@@ -28,6 +42,7 @@ import site.icebang.domain.workflow.mapper.WorkflowHistoryMapper;
  * <ul>
  *   <li>워크플로우 실행 이력 목록 페이징 조회
  *   <li>워크플로우 실행 상세 정보 조회 (Job 및 Task 실행 이력 포함)
+ *   <li>Task 실행의 입력/출력 조회
  * </ul>
  *
  * @author jihu0210@naver.com
@@ -36,15 +51,35 @@ import site.icebang.domain.workflow.mapper.WorkflowHistoryMapper;
 @Service
 @RequiredArgsConstructor
 public class WorkflowHistoryService implements PageableService<WorkflowHistoryDTO> {
+  /**
+   * 워크플로우 실행 이력 목록에서 허용하는 필터(status, workflowId, triggerType, 생성 기간)와 정렬(createdAt, startedAt,
+   * finishedAt, id)
+   */
+  private static final ListQuerySpec WORKFLOW_RUN_LIST_SPEC =
+      ListQuerySpec.builder("wr.created_at", "wr.id")
+          .filter("status", "wr.status", Operator.IN, ListQuerySpec::upperCase)
+          .filter("workflowId", "wr.workflow_id", Operator.IN, Long::valueOf)
+          .filter("triggerType", "wr.trigger_type", Operator.IN, value -> value)
+          .filter("createdFrom", "wr.created_at", Operator.GTE, ListQuerySpec::startInstant)
+          .filter("createdTo", "wr.created_at", Operator.LT, ListQuerySpec::endInstant)
+          .sorter("startedAt", "wr.started_at")
+          .sorter("finishedAt", "wr.finished_at")
+          .build();
+
   private final WorkflowHistoryMapper workflowHistoryMapper;
+  private final WorkflowRunDetailCache workflowRunDetailCache;
+  private final TaskIoDataMapper taskIoDataMapper;
+  private final TaskIoCodec taskIoCodec;
 
   /**
    * 워크플로우 실행 이력 목록을 페이징 처리하여 조회합니다.
    *
    * <p>이 메소드는 {@code PageableService} 인터페이스를 구현하며, {@code PageResult} 유틸리티를 사용하여 전체 카운트 쿼리와 목록 조회
-   * 쿼리를 실행하고 페이징 결과를 생성합니다.
+   * 쿼리를 실행하고 페이징 결과를 생성합니다. {@code filters}와 {@code sorters}는 화이트리스트에 등록된 필드만 허용되며 인덱스를 타는 조건으로
+   * 변환됩니다. {@code cursor}가 지정되면 {@code (created_at, id)} 기준 커서 기반 페이징으로 조회하며, 이 경우 전체 카운트 쿼리는
+   * {@code includeTotal=true}일 때만 실행됩니다.
    *
-   * @param pageParams 페이징 처리에 필요한 파라미터 (페이지 번호, 페이지 크기 등)
+   * @param pageParams 페이징 처리에 필요한 파라미터 (페이지 번호, 페이지 크기, 커서 등)
    * @return 페이징 처리된 워크플로우 실행 이력 목록
    * @see PageResult
    * @since v0.1.0
@@ -53,47 +88,85 @@ public class WorkflowHistoryService implements PageableService<WorkflowHistoryDT
   @Transactional(readOnly = true)
   public PageResult<WorkflowHistoryDTO> getPagedResult(PageParams pageParams) {
 
+    ListQuery query = WORKFLOW_RUN_LIST_SPEC.resolve(pageParams);
+    Function<WorkflowHistoryDTO, PageCursor> cursorExtractor =
+        query.isDefaultSort() ? row -> PageCursor.of(row.getCreatedAt(), row.getId()) : null;
     return PageResult.from(
         pageParams,
-        () -> workflowHistoryMapper.selectWorkflowHistoryList(pageParams),
-        () -> workflowHistoryMapper.selectWorkflowHistoryCount(pageParams));
+        () -> workflowHistoryMapper.selectWorkflowHistoryList(query),
+        () -> workflowHistoryMapper.selectWorkflowHistoryCount(query),
+        cursorExtractor);
   }
 
   /**
    * 특정 워크플로우 실행 건의 상세 정보를 조회합니다.
    *
    * <p>지정된 실행 ID(`runId`)에 해당하는 워크플로우 실행 정보와, 그에 속한 모든 Job 실행 정보, 그리고 각 Job에 속한 모든 Task 실행 정보를
-   * 계층적으로 조회하여 반환합니다.
+   * 계층적으로 조회하여 반환합니다. 전체 트리는 중첩 resultMap을 사용한 단일 쿼리로 조회되므로, Job/Task 수와 관계없이 데이터베이스 왕복은 1회입니다.
+   *
+   * <p>종료(SUCCESS, FAILED)된 실행은 결과가 더 이상 바뀌지 않으므로 {@link WorkflowRunDetailCache}에 보관하며, 캐시에 있으면
+   * 데이터베이스를 조회하지 않습니다. 단일 쿼리만 실행하므로 캐시 적중 시 커넥션을 점유하지 않도록 트랜잭션을 사용하지 않습니다.
    *
    * @param runId 조회할 워크플로우 실행의 ID (`workflow_run.id`)
    * @return 워크플로우, Job, Task 실행 정보를 포함하는 상세 응답 객체
    * @since v0.1.0
    */
-  @Transactional(readOnly = true)
   public WorkflowRunDetailResponse getWorkflowRunDetail(Long runId) {
-    // 1. 워크플로우 실행 정보 조회
-    WorkflowRunDto workflowRunDto = workflowHistoryMapper.selectWorkflowRun(runId);
-
-    // 2. Job 실행 목록 조회
-    List<JobRunDto> jobRunDtos = workflowHistoryMapper.selectJobRunsByWorkflowRunId(runId);
+    WorkflowRunDetailResponse cached = workflowRunDetailCache.get(runId);
+    if (cached != null) {
+      return cached;
+    }
 
-    // 3. 각 Job의 Task 실행 목록 조회
-    if (jobRunDtos != null) {
-      jobRunDtos.forEach(
-          jobRun -> {
-            List<TaskRunDto> taskRuns =
-                workflowHistoryMapper.selectTaskRunsByJobRunId(jobRun.getId());
-            jobRun.setTaskRuns(taskRuns);
-          });
+    // 워크플로우 - Job - Task 실행 트리와 TraceId를 단일 쿼리로 조회
+    WorkflowRunDetailResponse detail = workflowHistoryMapper.selectWorkflowRunDetail(runId);
+    if (detail == null) {
+      return WorkflowRunDetailResponse.builder().jobRuns(new ArrayList<>()).build();
     }
+    workflowRunDetailCache.putIfFinished(runId, detail);
+    return detail;
+  }
 
-    // 4. TraceId 조회
-    String traceId = workflowHistoryMapper.selectTraceIdByRunId(runId);
+  /**
+   * 특정 Task 실행의 입력(요청 Body)과 출력(응답 Body 또는 오류 메시지)을 조회합니다.
+   *
+   * <p>입출력은 워크플로우 실행과 별도로 비동기 저장되므로, 실행 직후에는 아직 조회되지 않을 수 있습니다. 압축 저장된 값은 복원하여 반환하며, 저장 한도를 넘어 생략된
+   * 값은 {@code truncated=true}와 원본 크기만 반환합니다.
+   *
+   * @param taskRunId 조회할 Task 실행의 ID (`task_run.id`)
+   * @return Task 실행의 입력/출력 목록
+   * @since v0.1.0
+   */
+  public TaskRunIoResponse getTaskRunIo(Long taskRunId) {
+    List<TaskIoDataDto> inputs = new ArrayList<>();
+    List<TaskIoDataDto> outputs = new ArrayList<>();
+    for (TaskIoData data : taskIoDataMapper.findByTaskRunId(taskRunId)) {
+      TaskIoDataDto dto = toDto(data);
+      if (TaskIoRecorder.INPUT.equals(data.getIoType())) {
+        inputs.add(dto);
+      } else {
+        outputs.add(dto);
+      }
+    }
+    return TaskRunIoResponse.builder().taskRunId(taskRunId).inputs(inputs).outputs(outputs).build();
+  }
 
-    return WorkflowRunDetailResponse.builder()
-        .workflowRun(workflowRunDto)
-        .jobRuns(jobRunDtos)
-        .traceId(traceId)
+  private TaskIoDataDto toDto(TaskIoData data) {
+    JsonNode value;
+    try {
+      value = taskIoCodec.decode(data);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Task 입출력을 복원하지 못했습니다: id=" + data.getId(), e);
+    }
+    return TaskIoDataDto.builder()
+        .id(data.getId())
+        .ioType(data.getIoType())
+        .name(data.getName())
+        .dataType(TaskIoCodec.baseType(data))
+        .value(value)
+        .dataSize(data.getDataSize())
+        .compressed(TaskIoCodec.isCompressed(data))
+        .truncated(data.getDataValue() == null)
+        .createdAt(data.getCreatedAt())
         .build();
   }
 
@@ -6,6 +6,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 
 import org.quartz.CronExpression;
 import org.springframework.stereotype.Service;
@@ -14,9 +15,13 @@ import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import site.icebang.common.dto.PageCursor;
 import site.icebang.common.dto.PageParams;
 import site.icebang.common.dto.PageResult;
 import site.icebang.common.exception.DuplicateDataException;
+import site.icebang.common.query.ListQuery;
+import site.icebang.common.query.ListQuerySpec;
+import site.icebang.common.query.ListQuerySpec.Operator;
 import site.icebang.common.service.PageableService;
 import site.icebang.domain.schedule.mapper.ScheduleMapper;
 import site.icebang.domain.schedule.model.Schedule;
@@ -48,6 +53,15 @@ import site.icebang.domain.workflow.mapper.WorkflowMapper;
 @RequiredArgsConstructor
 public class WorkflowService implements PageableService<WorkflowCardDto> {
 
+  /** 워크플로우 목록에서 허용하는 필터(isEnabled, 생성 기간)와 정렬(name, createdAt, id) */
+  private static final ListQuerySpec WORKFLOW_LIST_SPEC =
+      ListQuerySpec.builder("w.created_at", "w.id")
+          .filter("isEnabled", "w.is_enabled", Operator.IN, ListQuerySpec::booleanValue)
+          .filter("createdFrom", "w.created_at", Operator.GTE, ListQuerySpec::startInstant)
+          .filter("createdTo", "w.created_at", Operator.LT, ListQuerySpec::endInstant)
+          .sorter("name", "w.name")
+          .build();
+
   private final WorkflowMapper workflowMapper;
   private final ScheduleMapper scheduleMapper;
   private final QuartzScheduleService quartzScheduleService;
@@ -56,9 +70,11 @@ public class WorkflowService implements PageableService<WorkflowCardDto> {
    * 워크플로우 목록을 페이징 처리하여 조회합니다.
    *
    * <p>이 메소드는 {@code PageableService} 인터페이스를 구현하며, {@code PageResult} 유틸리티를 사용하여 전체 카운트 쿼리와 목록 조회
-   * 쿼리를 실행하고 페이징 결과를 생성합니다.
+   * 쿼리를 실행하고 페이징 결과를 생성합니다. {@code filters}와 {@code sorters}는 화이트리스트에 등록된 필드만 허용되며 인덱스를 타는 조건으로
+   * 변환됩니다. {@code cursor}가 지정되면 {@code (created_at, id)} 기준 커서 기반 페이징으로 조회하며, 이 경우 전체 카운트 쿼리는
+   * {@code includeTotal=true}일 때만 실행됩니다.
    *
-   * @param pageParams 페이징 처리에 필요한 파라미터 (페이지 번호, 페이지 크기 등)
+   * @param pageParams 페이징 처리에 필요한 파라미터 (페이지 번호, 페이지 크기, 커서 등)
    * @return 페이징 처리된 워크플로우 카드 목록
    * @see PageResult
    * @since v0.1.0
@@ -66,10 +82,14 @@ public class WorkflowService implements PageableService<WorkflowCardDto> {
   @Override
   @Transactional(readOnly = true)
   public PageResult<WorkflowCardDto> getPagedResult(PageParams pageParams) {
+    ListQuery query = WORKFLOW_LIST_SPEC.resolve(pageParams);
+    Function<WorkflowCardDto, PageCursor> cursorExtractor =
+        query.isDefaultSort() ? row -> PageCursor.of(row.getCreatedAt(), row.getId()) : null;
     return PageResult.from(
         pageParams,
-        () -> workflowMapper.selectWorkflowList(pageParams),
-        () -> workflowMapper.selectWorkflowCount(pageParams));
+        () -> workflowMapper.selectWorkflowList(query),
+        () -> workflowMapper.selectWorkflowCount(query),
+        cursorExtractor);
   }
 
   /**
@@ -1,21 +1,49 @@
 package site.icebang.external.fastapi.adapter;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.Header;
 import org.slf4j.MDC;
 import org.springframework.http.*;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestClientResponseException;
 import org.springframework.web.client.RestTemplate;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import site.icebang.common.utils.MdcPropagation;
+import site.icebang.external.fastapi.exception.FailureType;
+import site.icebang.external.fastapi.exception.FastApiCallException;
 import site.icebang.global.config.properties.FastApiProperties;
 
 /**
  * 외부 FastAPI 서버와의 모든 HTTP 통신을 전담하는 어댑터 클래스입니다.
  *
  * <p>이 클래스는 내부 시스템의 다른 부분들이 외부 시스템의 상세한 통신 방법을 알 필요가 없도록 HTTP 요청/응답 로직을 캡슐화합니다. {@code
- * RestTemplate}을 사용하여 실제 통신을 수행하며, 모든 FastAPI 요청은 이 클래스의 {@code call} 메소드를 통해 이루어져야 합니다.
+ * RestTemplate}을 사용하여 실제 통신을 수행하며, 모든 FastAPI 요청은 이 클래스의 {@code call} 메소드를 통해 이루어져야 합니다. 응답을 기다리는
+ * 동안 스레드를 점유하지 않아야 하는 경우에는 논블로킹 {@code CloseableHttpAsyncClient} 기반의 {@code callAsync} 메소드를 사용하며, 두
+ * 클라이언트 모두 {@link FastApiProperties}의 커넥션 풀 설정과 풀 대기 타임아웃을 따릅니다.
+ *
+ * <p>멱등 요청은 {@link FastApiRequestCoalescer}를 거치므로, 동일한 요청이 동시에 들어오면 FastAPI 서버에는 한 번만 전송됩니다. 실제로
+ * 전송되는 요청은 {@link FastApiCircuitBreakers}의 엔드포인트별 회로 차단기와 동시 호출 제한을 거치며, 장애가 난 엔드포인트로의 요청은 보내지 않고
+ * 즉시 실패합니다.
  *
  * <h2>사용 예제:</h2>
  *
@@ -35,7 +63,12 @@ import site.icebang.global.config.properties.FastApiProperties;
 public class FastApiAdapter {
 
   private final RestTemplate restTemplate;
+  private final CloseableHttpAsyncClient fastApiHttpClient;
   private final FastApiProperties properties;
+  private final FastApiRequestCoalescer requestCoalescer;
+  private final FastApiCircuitBreakers circuitBreakers;
+  private final FastApiRequestHedger requestHedger;
+  private final Set<String> nonIdempotentHedgeWarnings = ConcurrentHashMap.newKeySet();
 
   /**
    * FastAPI 서버에 API 요청을 보내는 범용 메소드입니다.
@@ -51,6 +84,140 @@ public class FastApiAdapter {
    * @since v0.1.0
    */
   public String call(String endpoint, HttpMethod method, String requestBody) {
+    try {
+      return callOrThrow(endpoint, method, requestBody);
+    } catch (FastApiCallException e) {
+      return null;
+    }
+  }
+
+  /**
+   * FastAPI 서버에 API 요청을 보내고, 실패하면 실패 유형을 담은 예외를 던집니다.
+   *
+   * <p>{@link #call}과 동일한 요청을 보내지만, 실패 시 null 대신 {@link FastApiCallException}을 던지므로 호출자가 연결 실패, 시간
+   * 초과, 4xx/5xx 응답, 429 응답의 {@code Retry-After}를 구분하여 재시도 여부를 결정할 수 있습니다.
+   *
+   * @param endpoint 호출할 엔드포인트 경로 (예: "/keywords/search")
+   * @param method 사용할 HTTP 메소드 (예: HttpMethod.POST)
+   * @param requestBody 요청에 담을 JSON 문자열
+   * @return API 응답 Body 문자열
+   * @throws FastApiCallException 호출에 실패한 경우
+   * @since v0.1.0
+   */
+  public String callOrThrow(String endpoint, HttpMethod method, String requestBody) {
+    if (!requestCoalescer.isCoalescable(endpoint, method)) {
+      return guardedExchange(endpoint, method, requestBody);
+    }
+    // 📌 먼저 도착한 요청의 스레드가 호출하고, 동일한 요청의 스레드들은 그 결과를 기다립니다.
+    try {
+      return requestCoalescer
+          .execute(
+              endpoint,
+              method,
+              requestBody,
+              () ->
+                  CompletableFuture.completedFuture(
+                      guardedExchange(endpoint, method, requestBody)))
+          .join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * FastAPI 서버에 API 요청을 논블로킹 방식으로 보내는 범용 메소드입니다.
+   *
+   * <p>{@link #call}과 동일한 요청을 보내지만, 응답을 기다리는 동안 호출 스레드를 점유하지 않고 즉시 {@code CompletableFuture}를
+   * 반환합니다. 통신 성공(2xx) 시 응답 Body 문자열로 완료되고, 실패 시 에러 로그를 남기고 실패 유형을 담은 {@link FastApiCallException}으로
+   * 예외 완료됩니다. 풀 대기 시간은 {@code api.fastapi.connection-request-timeout}으로, 응답 대기 시간은 {@code
+   * api.fastapi.timeout}으로 제한됩니다.
+   *
+   * @param endpoint 호출할 엔드포인트 경로 (예: "/keywords/search")
+   * @param method 사용할 HTTP 메소드 (예: HttpMethod.POST)
+   * @param requestBody 요청에 담을 JSON 문자열
+   * @return 성공 시 API 응답 Body 문자열로, 실패 시 {@link FastApiCallException}으로 완료되는 {@code
+   *     CompletableFuture}
+   * @see CloseableHttpAsyncClient#execute
+   * @since v0.1.0
+   */
+  public CompletableFuture<String> callAsync(
+      String endpoint, HttpMethod method, String requestBody) {
+    return callAsync(endpoint, method, requestBody, false);
+  }
+
+  /**
+   * FastAPI 서버에 API 요청을 논블로킹 방식으로 보내며, 멱등 요청이면 응답이 늦어질 때 헤지 요청을 보냅니다.
+   *
+   * <p>{@code idempotent}가 true이면 {@link FastApiRequestHedger}를 거치므로, 응답이 엔드포인트의 최근 응답 시간 백분위수보다
+   * 늦어지면 동일한 요청을 한 번 더 보내고 먼저 도착한 응답을 사용합니다. 단, {@link FastApiRequestCoalescer#isIdempotent}가 멱등
+   * 요청으로 보지 않는 요청(업로드, 발행 등)은 {@code idempotent}가 true여도 경고를 남기고 헤지하지 않습니다.
+   *
+   * @param endpoint 호출할 엔드포인트 경로 (예: "/keywords/search")
+   * @param method 사용할 HTTP 메소드 (예: HttpMethod.POST)
+   * @param requestBody 요청에 담을 JSON 문자열
+   * @param idempotent 같은 요청을 두 번 보내도 안전한 요청이면 true
+   * @return 성공 시 API 응답 Body 문자열로, 실패 시 {@link FastApiCallException}으로 완료되는 {@code
+   *     CompletableFuture}
+   * @since v0.1.0
+   */
+  public CompletableFuture<String> callAsync(
+      String endpoint, HttpMethod method, String requestBody, boolean idempotent) {
+    // 📌 멱등 엔드포인트 목록에 없는 요청은 업로드/발행처럼 두 번 보내면 안 되는 요청일 수 있으므로 헤지하지 않습니다.
+    boolean hedged = idempotent && requestCoalescer.isIdempotent(endpoint, method);
+    if (idempotent && !hedged && nonIdempotentHedgeWarnings.add(endpoint)) {
+      log.warn("멱등 엔드포인트 목록에 없는 요청은 헤지하지 않습니다: Endpoint={}, Method={}", endpoint, method);
+    }
+    if (!hedged) {
+      return requestCoalescer.execute(
+          endpoint, method, requestBody, () -> guardedExchangeAsync(endpoint, method, requestBody));
+    }
+    // 📌 합쳐진 요청들은 헤지된 하나의 호출 결과를 공유하며, 헤지 요청도 회로 차단기와 동시 호출 제한을 거칩니다.
+    return requestCoalescer.execute(
+        endpoint,
+        method,
+        requestBody,
+        () ->
+            requestHedger.execute(
+                endpoint, () -> guardedExchangeAsync(endpoint, method, requestBody)));
+  }
+
+  private String guardedExchange(String endpoint, HttpMethod method, String requestBody) {
+    FastApiCircuitBreakers.Permit permit = circuitBreakers.acquire(endpoint);
+    try {
+      String responseBody = exchange(endpoint, method, requestBody);
+      permit.onSuccess();
+      return responseBody;
+    } catch (RuntimeException e) {
+      permit.onFailure(e);
+      throw e;
+    }
+  }
+
+  private CompletableFuture<String> guardedExchangeAsync(
+      String endpoint, HttpMethod method, String requestBody) {
+    FastApiCircuitBreakers.Permit permit = circuitBreakers.acquire(endpoint);
+    CompletableFuture<String> response;
+    try {
+      response = exchangeAsync(endpoint, method, requestBody);
+    } catch (RuntimeException e) {
+      permit.onFailure(e);
+      throw e;
+    }
+    // 📌 응답이 도착하거나 실패한 시점에 허가를 반환하므로, 응답을 기다리는 동안에도 동시 호출 수에 포함됩니다.
+    return response.whenComplete(
+        (responseBody, throwable) -> {
+          if (throwable != null) {
+            permit.onFailure(throwable);
+          } else {
+            permit.onSuccess();
+          }
+        });
+  }
+
+  private String exchange(String endpoint, HttpMethod method, String requestBody) {
     String fullUrl = properties.getUrl() + endpoint;
     HttpHeaders headers = new HttpHeaders();
     headers.setContentType(MediaType.APPLICATION_JSON);
@@ -70,8 +237,110 @@ public class FastApiAdapter {
       String responseBody = responseEntity.getBody();
       log.debug("FastAPI 응답: Status={}, Body={}", responseEntity.getStatusCode(), responseBody);
       return responseBody;
+    } catch (RestClientResponseException e) {
+      int statusCode = e.getStatusCode().value();
+      log.error("FastAPI 호출 실패: URL={}, Status={}", fullUrl, statusCode);
+      HttpHeaders responseHeaders = e.getResponseHeaders();
+      throw new FastApiCallException(
+          statusCode,
+          parseRetryAfter(
+              responseHeaders == null ? null : responseHeaders.getFirst(HttpHeaders.RETRY_AFTER)),
+          "FastAPI 호출 실패: URL=" + fullUrl + ", Status=" + statusCode);
     } catch (RestClientException e) {
-      log.error("FastAPI 호출 실패: URL={}, Error={}", fullUrl, e.getMessage());
+      FailureType failureType = FailureType.classify(e);
+      log.error(
+          "FastAPI 호출 실패: URL={}, Failure={}, Error={}", fullUrl, failureType, e.getMessage());
+      throw new FastApiCallException(
+          failureType, "FastAPI 호출 실패: URL=" + fullUrl + ", Error=" + e.getMessage(), e);
+    }
+  }
+
+  private CompletableFuture<String> exchangeAsync(
+      String endpoint, HttpMethod method, String requestBody) {
+    String fullUrl = properties.getUrl() + endpoint;
+    SimpleRequestBuilder requestBuilder =
+        SimpleRequestBuilder.create(method.name())
+            .setUri(fullUrl)
+            .setBody(requestBody, ContentType.APPLICATION_JSON);
+
+    String traceId = MDC.get("traceId");
+    if (traceId != null) {
+      requestBuilder.addHeader("X-Request-ID", traceId);
+      log.debug("TraceID 헤더 추가: {}", traceId);
+    }
+
+    log.debug("FastAPI 비동기 요청: URL={}, Method={}, Body={}", fullUrl, method, requestBody);
+    // 응답 콜백은 HttpClient의 I/O 스레드에서 실행되므로, 요청 시점의 MDC를 복원하여 로그를 남깁니다.
+    Map<String, String> mdc = MDC.getCopyOfContextMap();
+    CompletableFuture<SimpleHttpResponse> response = new CompletableFuture<>();
+    fastApiHttpClient.execute(
+        requestBuilder.build(),
+        new FutureCallback<>() {
+          @Override
+          public void completed(SimpleHttpResponse result) {
+            response.complete(result);
+          }
+
+          @Override
+          public void failed(Exception ex) {
+            response.completeExceptionally(ex);
+          }
+
+          @Override
+          public void cancelled() {
+            response.cancel(false);
+          }
+        });
+    return response.handle(
+        (result, throwable) ->
+            MdcPropagation.supplyWithMdc(mdc, () -> toResponseBody(fullUrl, result, throwable)));
+  }
+
+  private String toResponseBody(String fullUrl, SimpleHttpResponse response, Throwable throwable) {
+    if (throwable != null) {
+      FailureType failureType = FailureType.classify(throwable);
+      log.error(
+          "FastAPI 호출 실패: URL={}, Failure={}, Error={}",
+          fullUrl,
+          failureType,
+          throwable.getMessage());
+      throw new FastApiCallException(
+          failureType,
+          "FastAPI 호출 실패: URL=" + fullUrl + ", Error=" + throwable.getMessage(),
+          throwable);
+    }
+    HttpStatusCode statusCode = HttpStatusCode.valueOf(response.getCode());
+    if (!statusCode.is2xxSuccessful()) {
+      log.error("FastAPI 호출 실패: URL={}, Status={}", fullUrl, statusCode);
+      Header retryAfter = response.getFirstHeader(HttpHeaders.RETRY_AFTER);
+      throw new FastApiCallException(
+          statusCode.value(),
+          parseRetryAfter(retryAfter == null ? null : retryAfter.getValue()),
+          "FastAPI 호출 실패: URL=" + fullUrl + ", Status=" + statusCode.value());
+    }
+    // 📌 FastAPI는 charset 없이 application/json으로 응답하므로, 본문은 항상 UTF-8로 해석합니다.
+    byte[] body = response.getBodyBytes();
+    String responseBody = body == null ? null : new String(body, StandardCharsets.UTF_8);
+    log.debug("FastAPI 응답: Status={}, Body={}", statusCode, responseBody);
+    return responseBody;
+  }
+
+  /** {@code Retry-After} 헤더 값(초 단위 숫자 또는 HTTP 날짜)을 대기 시간으로 변환합니다. 해석할 수 없으면 {@code null}입니다. */
+  private static Duration parseRetryAfter(String value) {
+    if (value == null || value.isBlank()) {
+      return null;
+    }
+    try {
+      return Duration.ofSeconds(Math.max(0, Long.parseLong(value.trim())));
+    } catch (NumberFormatException e) {
+      // HTTP 날짜 형식
+    }
+    try {
+      ZonedDateTime retryAt =
+          ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+      Duration delay = Duration.between(Instant.now(), retryAt.toInstant());
+      return delay.isNegative() ? Duration.ZERO : delay;
+    } catch (DateTimeParseException e) {
       return null;
     }
   }
@@ -0,0 +1,331 @@
+package site.icebang.external.fastapi.adapter;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import site.icebang.external.fastapi.exception.FailureType;
+import site.icebang.external.fastapi.exception.FastApiCallException;
+import site.icebang.global.config.properties.FastApiResilienceProperties;
+
+/**
+ * FastAPI 엔드포인트마다 회로 차단기(circuit breaker)와 동시 호출 제한(bulkhead)을 적용하는 컴포넌트입니다.
+ *
+ * <p>엔드포인트별로 최근 {@code sliding-window-size}번의 호출 결과를 기록하여, 실패율이나 느린 호출 비율이 임계값을 넘으면 회로를 엽니다. 회로가 열려
+ * 있는 동안에는 요청을 보내지 않고 즉시 {@link FailureType#REJECTED} 유형의 {@link FastApiCallException}으로 실패하며,
+ * {@code wait-duration-in-open-state}가 지나면 반열림(half-open) 상태에서 소수의 시험 호출로 회복 여부를 확인합니다. 또한 엔드포인트마다
+ * 동시에 보낼 수 있는 호출 수를 제한하여, 응답이 느려진 엔드포인트 하나가 실행 스레드를 모두 점유하지 못하도록 합니다.
+ *
+ * <p>4xx 응답은 서버가 정상적으로 응답한 것이므로 실패로 집계하지 않습니다. 상태 전환은 호출이 시작되거나 끝날 때 일어나므로, 열린 회로는 대기 시간이 지난 뒤 첫
+ * 요청이 들어와야 반열림 상태가 됩니다.
+ *
+ * <h2>노출 메트릭:</h2>
+ *
+ * <ul>
+ *   <li>{@code fastapi.circuitbreaker.state} ({@code endpoint}, {@code
+ *       state=closed|open|half_open}): 현재 상태이면 1, 아니면 0
+ *   <li>{@code fastapi.circuitbreaker.failure.rate} ({@code endpoint}): 최근 호출의 실패율 (퍼센트, 호출 수가 부족하면
+ *       -1)
+ *   <li>{@code fastapi.circuitbreaker.calls} ({@code endpoint}, {@code outcome=success|failure}):
+ *       완료된 호출 수
+ *   <li>{@code fastapi.circuitbreaker.slow.calls} ({@code endpoint}): 느린 호출 수
+ *   <li>{@code fastapi.circuitbreaker.rejected} ({@code endpoint}, {@code
+ *       reason=circuit_open|bulkhead_full}): 보내지 않고 거절한 호출 수
+ *   <li>{@code fastapi.bulkhead.active} ({@code endpoint}): 진행 중인 호출 수
+ * </ul>
+ *
+ * @since v0.1.0
+ */
+@Slf4j
+@Component
+public class FastApiCircuitBreakers {
+
+  /** 회로 차단기의 상태입니다. */
+  public enum State {
+    CLOSED,
+    OPEN,
+    HALF_OPEN
+  }
+
+  private final FastApiResilienceProperties properties;
+  private final MeterRegistry meterRegistry;
+  private final Map<String, EndpointGuard> guards = new ConcurrentHashMap<>();
+
+  public FastApiCircuitBreakers(
+      FastApiResilienceProperties properties, MeterRegistry meterRegistry) {
+    this.properties = properties;
+    this.meterRegistry = meterRegistry;
+  }
+
+  /**
+   * 엔드포인트 호출 허가를 얻습니다. 호출이 끝나면 반드시 {@link Permit#onSuccess()} 또는 {@link
+   * Permit#onFailure(Throwable)}를 호출해야 합니다.
+   *
+   * @param endpoint 호출할 엔드포인트 경로
+   * @return 호출 허가
+   * @throws FastApiCallException 회로가 열려 있거나 동시 호출 수가 한도에 도달한 경우
+   */
+  public Permit acquire(String endpoint) {
+    if (!properties.isEnabled()) {
+      return Permit.NOOP;
+    }
+    return guards.computeIfAbsent(endpoint, this::createGuard).acquire();
+  }
+
+  /**
+   * 엔드포인트의 현재 회로 차단기 상태를 반환합니다.
+   *
+   * @param endpoint 엔드포인트 경로
+   * @return 회로 차단기 상태, 호출한 적이 없으면 {@link State#CLOSED}
+   */
+  public State stateOf(String endpoint) {
+    EndpointGuard guard = guards.get(endpoint);
+    return guard == null ? State.CLOSED : guard.state();
+  }
+
+  private EndpointGuard createGuard(String endpoint) {
+    return new EndpointGuard(endpoint, properties.settingsFor(endpoint), meterRegistry);
+  }
+
+  /** 엔드포인트 호출 허가입니다. 결과는 한 번만 기록됩니다. */
+  public static final class Permit {
+
+    private static final Permit NOOP = new Permit(null, 0);
+
+    private final EndpointGuard guard;
+    private final long generation;
+    private final long startedAt = System.nanoTime();
+    private final AtomicBoolean completed = new AtomicBoolean();
+
+    private Permit(EndpointGuard guard, long generation) {
+      this.guard = guard;
+      this.generation = generation;
+    }
+
+    /** 호출이 성공했음을 기록합니다. */
+    public void onSuccess() {
+      complete(false);
+    }
+
+    /**
+     * 호출이 실패했음을 기록합니다.
+     *
+     * @param throwable 실패 원인
+     */
+    public void onFailure(Throwable throwable) {
+      // 📌 4xx 응답은 서버가 정상적으로 처리한 것이므로 엔드포인트 장애로 보지 않습니다.
+      complete(FailureType.classify(throwable) != FailureType.CLIENT_ERROR);
+    }
+
+    private void complete(boolean failure) {
+      if (guard != null && completed.compareAndSet(false, true)) {
+        guard.onComplete(generation, System.nanoTime() - startedAt, failure);
+      }
+    }
+  }
+
+  /** 엔드포인트 하나의 회로 차단기 상태와 동시 호출 제한입니다. */
+  private static final class EndpointGuard {
+
+    private static final int FAILURE = 1;
+    private static final int SLOW = 2;
+
+    private final String endpoint;
+    private final FastApiResilienceProperties.Settings settings;
+    private final long slowCallNanos;
+    private final long waitNanos;
+    private final Semaphore bulkhead;
+    private final byte[] window;
+    private final Counter successCounter;
+    private final Counter failureCounter;
+    private final Counter slowCounter;
+    private final Counter circuitRejectedCounter;
+    private final Counter bulkheadRejectedCounter;
+
+    private State state = State.CLOSED;
+    private long generation;
+    private long openUntil;
+    private int windowIndex;
+    private int windowCount;
+    private int windowFailures;
+    private int windowSlowCalls;
+    private int halfOpenStarted;
+    private int halfOpenSucceeded;
+
+    private EndpointGuard(
+        String endpoint,
+        FastApiResilienceProperties.Settings settings,
+        MeterRegistry meterRegistry) {
+      this.endpoint = endpoint;
+      this.settings = settings;
+      this.slowCallNanos = TimeUnit.MILLISECONDS.toNanos(settings.getSlowCallDuration());
+      this.waitNanos = TimeUnit.MILLISECONDS.toNanos(settings.getWaitDurationInOpenState());
+      this.bulkhead = new Semaphore(settings.getMaxConcurrentCalls());
+      this.window = new byte[settings.getSlidingWindowSize()];
+
+      for (State candidate : State.values()) {
+        Gauge.builder(
+                "fastapi.circuitbreaker.state", this, guard -> guard.state() == candidate ? 1 : 0)
+            .description("FastAPI 엔드포인트의 회로 차단기 상태 (현재 상태이면 1)")
+            .tag("endpoint", endpoint)
+            .tag("state", candidate.name().toLowerCase())
+            .register(meterRegistry);
+      }
+      Gauge.builder("fastapi.circuitbreaker.failure.rate", this, EndpointGuard::failureRate)
+          .description("FastAPI 엔드포인트의 최근 호출 실패율 (퍼센트, 호출 수가 부족하면 -1)")
+          .tag("endpoint", endpoint)
+          .register(meterRegistry);
+      Gauge.builder(
+              "fastapi.bulkhead.active",
+              bulkhead,
+              semaphore -> settings.getMaxConcurrentCalls() - semaphore.availablePermits())
+          .description("FastAPI 엔드포인트에 진행 중인 호출 수")
+          .tag("endpoint", endpoint)
+          .register(meterRegistry);
+      this.successCounter = callCounter(meterRegistry, "success");
+      this.failureCounter = callCounter(meterRegistry, "failure");
+      this.slowCounter =
+          Counter.builder("fastapi.circuitbreaker.slow.calls")
+              .description("FastAPI 엔드포인트의 느린 호출 수")
+              .tag("endpoint", endpoint)
+              .register(meterRegistry);
+      this.circuitRejectedCounter = rejectedCounter(meterRegistry, "circuit_open");
+      this.bulkheadRejectedCounter = rejectedCounter(meterRegistry, "bulkhead_full");
+    }
+
+    private Permit acquire() {
+      long generationAtAcquire;
+      synchronized (this) {
+        if (state == State.OPEN) {
+          long remaining = openUntil - System.nanoTime();
+          if (remaining > 0) {
+            throw rejectByCircuit(Duration.ofNanos(remaining));
+          }
+          transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN
+            && halfOpenStarted >= settings.getPermittedCallsInHalfOpenState()) {
+          // 시험 호출이 모두 진행 중이므로, 결과가 나올 때까지 다른 호출은 보내지 않습니다.
+          throw rejectByCircuit(null);
+        }
+        if (!bulkhead.tryAcquire()) {
+          bulkheadRejectedCounter.increment();
+          throw new FastApiCallException(
+              FailureType.REJECTED,
+              null,
+              "FastAPI 동시 호출 한도 초과: Endpoint="
+                  + endpoint
+                  + ", MaxConcurrentCalls="
+                  + settings.getMaxConcurrentCalls());
+        }
+        if (state == State.HALF_OPEN) {
+          halfOpenStarted++;
+        }
+        generationAtAcquire = generation;
+      }
+      return new Permit(this, generationAtAcquire);
+    }
+
+    private void onComplete(long permitGeneration, long elapsedNanos, boolean failure) {
+      bulkhead.release();
+      boolean slow = elapsedNanos >= slowCallNanos;
+      (failure ? failureCounter : successCounter).increment();
+      if (slow) {
+        slowCounter.increment();
+      }
+
+      synchronized (this) {
+        // 📌 상태가 바뀌기 전에 시작된 호출의 결과는 새 상태의 판단에 반영하지 않습니다.
+        if (permitGeneration != generation) {
+          return;
+        }
+        if (state == State.HALF_OPEN) {
+          if (failure || slow) {
+            transitionTo(State.OPEN);
+          } else if (++halfOpenSucceeded >= settings.getPermittedCallsInHalfOpenState()) {
+            transitionTo(State.CLOSED);
+          }
+          return;
+        }
+        record((failure ? FAILURE : 0) | (slow ? SLOW : 0));
+        if (windowCount >= settings.getMinimumCalls()
+            && (windowFailures * 100 >= settings.getFailureRateThreshold() * windowCount
+                || windowSlowCalls * 100 >= settings.getSlowCallRateThreshold() * windowCount)) {
+          transitionTo(State.OPEN);
+        }
+      }
+    }
+
+    private void record(int outcome) {
+      if (windowCount == window.length) {
+        int evicted = window[windowIndex];
+        windowFailures -= evicted & FAILURE;
+        windowSlowCalls -= (evicted & SLOW) >> 1;
+      } else {
+        windowCount++;
+      }
+      window[windowIndex] = (byte) outcome;
+      windowFailures += outcome & FAILURE;
+      windowSlowCalls += (outcome & SLOW) >> 1;
+      windowIndex = (windowIndex + 1) % window.length;
+    }
+
+    private void transitionTo(State next) {
+      log.warn("FastAPI 회로 차단기 상태 변경: Endpoint={}, {} -> {}", endpoint, state, next);
+      state = next;
+      generation++;
+      windowIndex = 0;
+      windowCount = 0;
+      windowFailures = 0;
+      windowSlowCalls = 0;
+      halfOpenStarted = 0;
+      halfOpenSucceeded = 0;
+      if (next == State.OPEN) {
+        openUntil = System.nanoTime() + waitNanos;
+      }
+    }
+
+    private FastApiCallException rejectByCircuit(Duration retryAfter) {
+      circuitRejectedCounter.increment();
+      return new FastApiCallException(
+          FailureType.REJECTED, retryAfter, "FastAPI 회로 차단기 열림: Endpoint=" + endpoint);
+    }
+
+    private synchronized State state() {
+      return state;
+    }
+
+    private synchronized double failureRate() {
+      if (state != State.CLOSED || windowCount < settings.getMinimumCalls()) {
+        return -1;
+      }
+      return windowFailures * 100.0 / windowCount;
+    }
+
+    private Counter callCounter(MeterRegistry meterRegistry, String outcome) {
+      return Counter.builder("fastapi.circuitbreaker.calls")
+          .description("FastAPI 엔드포인트의 완료된 호출 수")
+          .tag("endpoint", endpoint)
+          .tag("outcome", outcome)
+          .register(meterRegistry);
+    }
+
+    private Counter rejectedCounter(MeterRegistry meterRegistry, String reason) {
+      return Counter.builder("fastapi.circuitbreaker.rejected")
+          .description("회로 차단기나 동시 호출 제한으로 보내지 않고 거절한 FastAPI 호출 수")
+          .tag("endpoint", endpoint)
+          .tag("reason", reason)
+          .register(meterRegistry);
+    }
+  }
+}
@@ -0,0 +1,140 @@
+package site.icebang.external.fastapi.adapter;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import site.icebang.global.config.properties.FastApiProperties;
+
+/**
+ * 동시에 진행 중인 동일한 FastAPI 요청을 하나의 호출로 합치는 컴포넌트입니다 (single-flight).
+ *
+ * <p>같은 엔드포인트, HTTP 메소드, 요청 Body의 호출이 이미 진행 중이면 새 요청을 보내지 않고 진행 중인 호출의 결과를 함께 받습니다. 호출이 끝나면 즉시
+ * 대기열에서 제거되므로, 결과를 보관하지는 않습니다. 결과를 공유해도 안전한 멱등(idempotent) 요청만 합치며, GET/HEAD 요청과 {@code
+ * api.fastapi.idempotent-endpoints}에 지정된 엔드포인트가 대상입니다. 합쳐진 요청은 먼저 도착한 요청의 {@code X-Request-ID}로
+ * 전송됩니다.
+ *
+ * <h2>노출 메트릭:</h2>
+ *
+ * <ul>
+ *   <li>{@code fastapi.coalescing.requests} ({@code endpoint}, {@code result=leader|coalesced}): 멱등
+ *       요청 중 실제로 전송된 요청(leader)과 진행 중인 요청에 합쳐진 요청(coalesced) 수
+ *   <li>{@code fastapi.coalescing.in.flight}: 합치기 대상으로 진행 중인 요청 수
+ * </ul>
+ *
+ * @since v0.1.0
+ */
+@Slf4j
+@Component
+public class FastApiRequestCoalescer {
+
+  private static final Set<HttpMethod> IDEMPOTENT_METHODS = Set.of(HttpMethod.GET, HttpMethod.HEAD);
+
+  private final FastApiProperties properties;
+  private final MeterRegistry meterRegistry;
+  private final Map<Key, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+
+  public FastApiRequestCoalescer(FastApiProperties properties, MeterRegistry meterRegistry) {
+    this.properties = properties;
+    this.meterRegistry = meterRegistry;
+    Gauge.builder("fastapi.coalescing.in.flight", inFlight, Map::size)
+        .description("합치기 대상으로 진행 중인 FastAPI 요청 수")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 요청을 실행하거나, 동일한 요청이 진행 중이면 그 결과를 공유합니다.
+   *
+   * @param endpoint 호출할 엔드포인트 경로
+   * @param method HTTP 메소드
+   * @param requestBody 요청 Body
+   * @param upstream 실제 요청을 보내는 함수
+   * @return 요청 결과로 완료되는 {@code CompletableFuture}
+   */
+  public CompletableFuture<String> execute(
+      String endpoint,
+      HttpMethod method,
+      String requestBody,
+      Supplier<CompletableFuture<String>> upstream) {
+    if (!isCoalescable(endpoint, method)) {
+      return invoke(upstream);
+    }
+
+    Key key = new Key(endpoint, method, requestBody);
+    CompletableFuture<String> shared = new CompletableFuture<>();
+    CompletableFuture<String> existing = inFlight.putIfAbsent(key, shared);
+    if (existing != null) {
+      count(endpoint, "coalesced");
+      log.debug("진행 중인 FastAPI 요청에 합칩니다: Endpoint={}, Method={}", endpoint, method);
+      return existing;
+    }
+    count(endpoint, "leader");
+    invoke(upstream)
+        .whenComplete(
+            (responseBody, throwable) -> {
+              // 📌 결과를 전달하기 전에 제거하여, 완료 이후의 요청은 새로 전송되도록 합니다.
+              inFlight.remove(key, shared);
+              if (throwable != null) {
+                shared.completeExceptionally(throwable);
+              } else {
+                shared.complete(responseBody);
+              }
+            });
+    return shared;
+  }
+
+  /**
+   * 합치기 대상 요청인지 확인합니다.
+   *
+   * @param endpoint 호출할 엔드포인트 경로
+   * @param method HTTP 메소드
+   * @return 합치기가 켜져 있고 멱등 요청이면 true
+   */
+  public boolean isCoalescable(String endpoint, HttpMethod method) {
+    return properties.isCoalescingEnabled() && isIdempotent(endpoint, method);
+  }
+
+  /**
+   * 같은 요청을 두 번 보내도 안전한 멱등 요청인지 확인합니다.
+   *
+   * <p>합치기 사용 여부와 관계없이 GET/HEAD 요청과 {@code api.fastapi.idempotent-endpoints}에 지정된 엔드포인트만 멱등 요청으로
+   * 봅니다. 헤지 요청도 이 기준을 따릅니다.
+   *
+   * @param endpoint 호출할 엔드포인트 경로
+   * @param method HTTP 메소드
+   * @return 멱등 요청이면 true
+   */
+  public boolean isIdempotent(String endpoint, HttpMethod method) {
+    return IDEMPOTENT_METHODS.contains(method)
+        || properties.getIdempotentEndpoints().contains(endpoint);
+  }
+
+  private static CompletableFuture<String> invoke(Supplier<CompletableFuture<String>> upstream) {
+    try {
+      return upstream.get();
+    } catch (RuntimeException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  private void count(String endpoint, String result) {
+    Counter.builder("fastapi.coalescing.requests")
+        .description("멱등 FastAPI 요청 중 전송된 요청(leader)과 진행 중인 요청에 합쳐진 요청(coalesced) 수")
+        .tag("endpoint", endpoint)
+        .tag("result", result)
+        .register(meterRegistry)
+        .increment();
+  }
+
+  private record Key(String endpoint, HttpMethod method, String requestBody) {}
+}
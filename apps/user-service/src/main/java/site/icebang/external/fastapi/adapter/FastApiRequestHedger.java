@@ -0,0 +1,251 @@
+package site.icebang.external.fastapi.adapter;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.slf4j.MDC;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+import site.icebang.common.utils.MdcPropagation;
+import site.icebang.global.config.properties.FastApiHedgingProperties;
+
+/**
+ * 응답이 늦어지는 멱등 FastAPI 요청에 동일한 요청을 한 번 더 보내, 먼저 도착한 응답을 사용하는 컴포넌트입니다 (hedged request).
+ *
+ * <p>엔드포인트별로 최근 성공 호출의 응답 시간을 기록하여, 호출이 {@code api.fastapi.hedging.percentile} 백분위수의 응답 시간 안에 끝나지
+ * 않으면 두 번째 요청을 보냅니다. 둘 중 먼저 성공한 응답으로 완료되며, 늦게 도착한 응답은 버립니다. 먼저 보낸 요청이 헤지 요청을 보내기 전에 실패하면 헤지 없이 바로
+ * 실패하고, 두 요청이 모두 실패하면 실패로 완료됩니다. 헤지 요청으로 늘어나는 부하는 헤지 예산({@code budget-ratio})으로 제한됩니다.
+ *
+ * <p>헤지 요청은 타이머 스레드에서 논블로킹 호출로 전송되며, 원래 요청의 MDC(Trace ID)를 유지합니다. 외부 상태를 변경하는 요청에 사용해서는 안 됩니다.
+ *
+ * <h2>노출 메트릭:</h2>
+ *
+ * <ul>
+ *   <li>{@code fastapi.hedging.delay} ({@code endpoint}): 현재 헤지 요청 대기 시간 (밀리초 단위, 표본이 부족하면 -1)
+ *   <li>{@code fastapi.hedging.requests} ({@code endpoint}): 헤지 대상 호출 수
+ *   <li>{@code fastapi.hedging.sent} ({@code endpoint}): 전송된 헤지 요청 수
+ *   <li>{@code fastapi.hedging.wins} ({@code endpoint}): 헤지 요청이 먼저 응답한 호출 수
+ *   <li>{@code fastapi.hedging.budget.exhausted} ({@code endpoint}): 헤지 예산이 부족하여 헤지 요청을 보내지 않은 호출 수
+ * </ul>
+ *
+ * @since v0.1.0
+ */
+@Slf4j
+@Component
+public class FastApiRequestHedger {
+
+  private static final int MAX_DEPOSITED_REQUESTS = 1000;
+
+  private final FastApiHedgingProperties properties;
+  private final MeterRegistry meterRegistry;
+  private final ScheduledThreadPoolExecutor timer;
+  private final Map<String, EndpointStats> stats = new ConcurrentHashMap<>();
+  private double budget;
+
+  public FastApiRequestHedger(FastApiHedgingProperties properties, MeterRegistry meterRegistry) {
+    this.properties = properties;
+    this.meterRegistry = meterRegistry;
+    this.timer =
+        new ScheduledThreadPoolExecutor(
+            1, Thread.ofPlatform().name("fastapi-hedge-timer").daemon(true).factory());
+    this.timer.setRemoveOnCancelPolicy(true);
+  }
+
+  /**
+   * 요청을 보내고, 응답이 늦어지면 동일한 요청을 한 번 더 보냅니다.
+   *
+   * @param endpoint 호출할 엔드포인트 경로
+   * @param upstream 실제 요청을 보내는 함수 (헤지 요청을 보낼 때 한 번 더 호출됨)
+   * @return 먼저 성공한 응답으로 완료되는 {@code CompletableFuture}
+   */
+  public CompletableFuture<String> execute(
+      String endpoint, Supplier<CompletableFuture<String>> upstream) {
+    if (!properties.isEnabled()) {
+      return invoke(upstream);
+    }
+    EndpointStats endpointStats = stats.computeIfAbsent(endpoint, this::createStats);
+    endpointStats.requests.increment();
+    deposit();
+
+    HedgedCall call = new HedgedCall(endpointStats);
+    call.attach(invoke(upstream), false);
+    long delay = endpointStats.hedgeDelayMillis();
+    if (delay >= 0 && !call.result.isDone()) {
+      Map<String, String> mdc = MDC.getCopyOfContextMap();
+      call.timer =
+          timer.schedule(
+              MdcPropagation.withMdc(mdc, () -> call.hedge(upstream)),
+              delay,
+              TimeUnit.MILLISECONDS);
+      if (call.result.isDone()) {
+        call.timer.cancel(false);
+      }
+    }
+    return call.result;
+  }
+
+  /** 타이머를 종료합니다. 예약된 헤지 요청은 보내지 않으며, 먼저 보낸 요청의 결과는 그대로 전달됩니다. */
+  @PreDestroy
+  public void shutdown() {
+    timer.shutdownNow();
+  }
+
+  private synchronized void deposit() {
+    double ratio = properties.getBudgetRatio();
+    budget = Math.min(budget + ratio, ratio * MAX_DEPOSITED_REQUESTS);
+  }
+
+  private synchronized boolean tryWithdraw() {
+    if (budget >= 1) {
+      budget -= 1;
+      return true;
+    }
+    return false;
+  }
+
+  private EndpointStats createStats(String endpoint) {
+    return new EndpointStats(endpoint);
+  }
+
+  private static CompletableFuture<String> invoke(Supplier<CompletableFuture<String>> upstream) {
+    try {
+      return upstream.get();
+    } catch (RuntimeException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  /** 먼저 보낸 요청과 헤지 요청 중 먼저 성공한 응답으로 완료되는 호출 하나입니다. */
+  private final class HedgedCall {
+
+    private final EndpointStats endpointStats;
+    private final CompletableFuture<String> result = new CompletableFuture<>();
+    // 📌 아직 완료되지 않은 요청 수입니다. 0이 되면 모든 요청이 실패한 것입니다.
+    private final AtomicInteger outstanding = new AtomicInteger(1);
+    private final AtomicBoolean succeeded = new AtomicBoolean();
+    private volatile Throwable lastFailure;
+    private volatile ScheduledFuture<?> timer;
+
+    private HedgedCall(EndpointStats endpointStats) {
+      this.endpointStats = endpointStats;
+    }
+
+    private void attach(CompletableFuture<String> attempt, boolean hedge) {
+      long startedAt = System.nanoTime();
+      attempt.whenComplete(
+          (responseBody, throwable) -> {
+            if (throwable != null) {
+              lastFailure = throwable;
+              release();
+              return;
+            }
+            endpointStats.record(System.nanoTime() - startedAt);
+            if (succeeded.compareAndSet(false, true)) {
+              cancelTimer();
+              if (hedge) {
+                endpointStats.wins.increment();
+              }
+              result.complete(responseBody);
+            }
+          });
+    }
+
+    private void hedge(Supplier<CompletableFuture<String>> upstream) {
+      // 먼저 보낸 요청이 이미 실패했다면 헤지 요청을 보내지 않습니다.
+      if (result.isDone() || outstanding.getAndUpdate(n -> n == 0 ? 0 : n + 1) == 0) {
+        return;
+      }
+      if (!tryWithdraw()) {
+        endpointStats.budgetExhausted.increment();
+        release();
+        return;
+      }
+      endpointStats.sent.increment();
+      log.debug("FastAPI 헤지 요청 전송: Endpoint={}", endpointStats.endpoint);
+      attach(invoke(upstream), true);
+    }
+
+    private void release() {
+      if (outstanding.decrementAndGet() == 0) {
+        cancelTimer();
+        result.completeExceptionally(lastFailure);
+      }
+    }
+
+    private void cancelTimer() {
+      ScheduledFuture<?> scheduled = timer;
+      if (scheduled != null) {
+        scheduled.cancel(false);
+      }
+    }
+  }
+
+  /** 엔드포인트 하나의 최근 응답 시간과 헤지 메트릭입니다. */
+  private final class EndpointStats {
+
+    private final String endpoint;
+    private final long[] latencies;
+    private final Counter requests;
+    private final Counter sent;
+    private final Counter wins;
+    private final Counter budgetExhausted;
+    private int index;
+    private int count;
+
+    private EndpointStats(String endpoint) {
+      this.endpoint = endpoint;
+      this.latencies = new long[properties.getLatencyWindowSize()];
+      Gauge.builder("fastapi.hedging.delay", this, EndpointStats::hedgeDelayMillis)
+          .description("현재 헤지 요청 대기 시간 (밀리초 단위, 표본이 부족하면 -1)")
+          .tag("endpoint", endpoint)
+          .register(meterRegistry);
+      this.requests = counter("fastapi.hedging.requests", "헤지 대상 FastAPI 호출 수");
+      this.sent = counter("fastapi.hedging.sent", "전송된 FastAPI 헤지 요청 수");
+      this.wins = counter("fastapi.hedging.wins", "헤지 요청이 먼저 응답한 FastAPI 호출 수");
+      this.budgetExhausted =
+          counter("fastapi.hedging.budget.exhausted", "헤지 예산이 부족하여 헤지 요청을 보내지 않은 FastAPI 호출 수");
+    }
+
+    private synchronized void record(long elapsedNanos) {
+      latencies[index] = elapsedNanos;
+      index = (index + 1) % latencies.length;
+      count = Math.min(count + 1, latencies.length);
+    }
+
+    /** 최근 응답 시간의 백분위수로 헤지 요청 대기 시간을 계산합니다. 표본이 부족하면 -1입니다. */
+    private long hedgeDelayMillis() {
+      long[] samples;
+      synchronized (this) {
+        if (count < properties.getMinSamples()) {
+          return -1;
+        }
+        samples = Arrays.copyOf(latencies, count);
+      }
+      Arrays.sort(samples);
+      int rank = (int) Math.ceil(properties.getPercentile() / 100.0 * samples.length) - 1;
+      long delay = TimeUnit.NANOSECONDS.toMillis(samples[Math.max(0, rank)]);
+      return Math.max(delay, properties.getMinDelay());
+    }
+
+    private Counter counter(String name, String description) {
+      return Counter.builder(name)
+          .description(description)
+          .tag("endpoint", endpoint)
+          .register(meterRegistry);
+    }
+  }
+}
@@ -0,0 +1,89 @@
+package site.icebang.external.fastapi.exception;
+
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.net.http.HttpConnectTimeoutException;
+import java.net.http.HttpTimeoutException;
+import java.util.concurrent.TimeoutException;
+
+import org.apache.hc.client5.http.ConnectTimeoutException;
+import org.apache.hc.core5.http.ConnectionRequestTimeoutException;
+import org.springframework.web.client.RestClientResponseException;
+
+/**
+ * 외부 API 호출 실패의 유형입니다.
+ *
+ * <p>재시도 정책은 이 유형에 따라 재시도 여부와 대기 시간을 결정합니다. 일시적인 실패(연결 실패, 시간 초과, 5xx, 429)는 재시도하고, 요청 자체가 잘못된 4xx
+ * 응답은 재시도하지 않는 것이 기본 정책입니다.
+ *
+ * @since v0.1.0
+ */
+public enum FailureType {
+  /** 서버에 연결하지 못함 (연결 거부, 연결 시간 초과 등) */
+  CONNECT,
+  /** 응답을 기다리다 시간 초과 */
+  TIMEOUT,
+  /** 429를 제외한 4xx 응답 */
+  CLIENT_ERROR,
+  /** 5xx 응답 */
+  SERVER_ERROR,
+  /** 429 Too Many Requests 응답 */
+  RATE_LIMITED,
+  /** 회로 차단기가 열려 있거나 동시 호출 수가 한도에 도달하여 요청을 보내지 않음 */
+  REJECTED,
+  /** 그 외 분류되지 않은 실패 */
+  UNKNOWN;
+
+  /**
+   * HTTP 응답 상태 코드로 실패 유형을 결정합니다.
+   *
+   * @param statusCode 2xx가 아닌 HTTP 상태 코드
+   * @return 실패 유형
+   */
+  public static FailureType fromStatus(int statusCode) {
+    if (statusCode == 429) {
+      return RATE_LIMITED;
+    }
+    if (statusCode >= 400 && statusCode < 500) {
+      return CLIENT_ERROR;
+    }
+    if (statusCode >= 500) {
+      return SERVER_ERROR;
+    }
+    return UNKNOWN;
+  }
+
+  /**
+   * 예외로부터 실패 유형을 결정합니다. {@code CompletionException}, {@code ResourceAccessException} 등으로 감싸진 예외는 원인
+   * 예외를 따라가며 판단합니다.
+   *
+   * @param throwable 실패 원인
+   * @return 실패 유형
+   */
+  public static FailureType classify(Throwable throwable) {
+    Throwable current = throwable;
+    while (current != null) {
+      if (current instanceof FastApiCallException fastApiCallException) {
+        return fastApiCallException.getFailureType();
+      }
+      if (current instanceof RestClientResponseException responseException) {
+        return fromStatus(responseException.getStatusCode().value());
+      }
+      // 📌 HttpConnectTimeoutException은 HttpTimeoutException의 하위 타입이므로 먼저 확인합니다.
+      if (current instanceof HttpConnectTimeoutException
+          || current instanceof ConnectTimeoutException
+          || current instanceof ConnectException) {
+        return CONNECT;
+      }
+      // 커넥션 풀에서 연결을 얻지 못한 경우도 일시적인 실패이므로 시간 초과로 분류합니다.
+      if (current instanceof HttpTimeoutException
+          || current instanceof SocketTimeoutException
+          || current instanceof ConnectionRequestTimeoutException
+          || current instanceof TimeoutException) {
+        return TIMEOUT;
+      }
+      current = current.getCause();
+    }
+    return UNKNOWN;
+  }
+}
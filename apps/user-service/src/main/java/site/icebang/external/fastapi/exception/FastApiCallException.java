@@ -0,0 +1,67 @@
+package site.icebang.external.fastapi.exception;
+
+import java.time.Duration;
+
+import lombok.Getter;
+
+/**
+ * FastAPI 서버 호출이 실패했을 때 발생하는 예외 클래스입니다.
+ *
+ * <p>실패 유형({@link FailureType})과 응답 상태 코드, 429 응답의 {@code Retry-After} 값을 담고 있어, 재시도 정책이 일시적인 실패와
+ * 영구적인 실패를 구분할 수 있습니다.
+ *
+ * @since v0.1.0
+ */
+@Getter
+public class FastApiCallException extends RuntimeException {
+
+  private final FailureType failureType;
+
+  /** HTTP 응답 상태 코드, 응답을 받지 못한 실패이면 {@code null} */
+  private final Integer statusCode;
+
+  /** 서버가 {@code Retry-After} 헤더로 요청했거나 회로 차단기가 다시 열릴 때까지의 대기 시간, 없으면 {@code null} */
+  private final Duration retryAfter;
+
+  /**
+   * 응답을 받지 못한 실패(연결 실패, 시간 초과 등)로 새로운 {@code FastApiCallException}을 생성합니다.
+   *
+   * @param failureType 실패 유형
+   * @param message 상세 메시지
+   * @param cause 원인
+   */
+  public FastApiCallException(FailureType failureType, String message, Throwable cause) {
+    super(message, cause);
+    this.failureType = failureType;
+    this.statusCode = null;
+    this.retryAfter = null;
+  }
+
+  /**
+   * 요청을 보내기 전에 거절된 실패(회로 차단기, 동시 호출 제한 등)로 새로운 {@code FastApiCallException}을 생성합니다.
+   *
+   * @param failureType 실패 유형
+   * @param retryAfter 다시 시도할 수 있을 때까지의 대기 시간, 알 수 없으면 {@code null}
+   * @param message 상세 메시지
+   */
+  public FastApiCallException(FailureType failureType, Duration retryAfter, String message) {
+    super(message);
+    this.failureType = failureType;
+    this.statusCode = null;
+    this.retryAfter = retryAfter;
+  }
+
+  /**
+   * 2xx가 아닌 응답으로 새로운 {@code FastApiCallException}을 생성합니다.
+   *
+   * @param statusCode HTTP 응답 상태 코드
+   * @param retryAfter {@code Retry-After} 헤더 값, 없으면 {@code null}
+   * @param message 상세 메시지
+   */
+  public FastApiCallException(int statusCode, Duration retryAfter, String message) {
+    super(message);
+    this.failureType = FailureType.fromStatus(statusCode);
+    this.statusCode = statusCode;
+    this.retryAfter = retryAfter;
+  }
+}
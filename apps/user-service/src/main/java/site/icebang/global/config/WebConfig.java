@@ -1,29 +1,48 @@
 package site.icebang.global.config;
 
-import java.time.Duration;
 import java.util.TimeZone;
 
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+
+import site.icebang.global.config.properties.FastApiProperties;
+
 /**
  * 애플리케이션의 웹 관련 설정을 담당하는 Java 기반 설정 클래스입니다.
  *
- * <p>이 클래스는 애플리케이션 전역에서 사용될 웹 관련 빈(Bean)들을 생성하고 구성합니다. 현재는 외부 API 통신을 위한 {@code RestTemplate} 빈을
- * 중앙에서 관리하는 역할을 합니다.
+ * <p>이 클래스는 애플리케이션 전역에서 사용될 웹 관련 빈(Bean)들을 생성하고 구성합니다. 현재는 외부 API 통신을 위한 {@code RestTemplate} 빈과 그
+ * 하부의 HTTP 커넥션 풀을 중앙에서 관리하는 역할을 합니다.
  *
  * <h2>주요 기능:</h2>
  *
  * <ul>
- *   <li>커넥션 및 읽기 타임아웃이 설정된 RestTemplate 빈 생성
+ *   <li>Keep-Alive 연결을 재사용하는 HTTP 커넥션 풀 생성
+ *   <li>연결/읽기/풀 대기 타임아웃이 설정된 RestTemplate 빈 생성
+ *   <li>커넥션 풀 사용률 메트릭 노출
+ *   <li>같은 풀 설정과 메트릭을 사용하는 논블로킹 HttpClient 빈 생성
  * </ul>
  *
  * @author jihu0210@naver.com
@@ -32,32 +51,169 @@ import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 @Configuration
 public class WebConfig {
 
+  /**
+   * FastAPI 서버와의 연결을 재사용하기 위한 HTTP 커넥션 풀을 생성합니다.
+   *
+   * <p>호스트당 최대 연결 수와 전체 최대 연결 수, 연결 타임아웃, 읽기 타임아웃은 모두 {@link FastApiProperties}에서 읽어옵니다. 애플리케이션 종료
+   * 시 풀에 남아 있는 연결은 모두 닫힙니다.
+   *
+   * @param properties FastAPI 연동 설정
+   * @return HTTP 커넥션 풀
+   * @since v0.1.0
+   */
+  @Bean(destroyMethod = "close")
+  public PoolingHttpClientConnectionManager httpConnectionManager(FastApiProperties properties) {
+    ConnectionConfig connectionConfig =
+        ConnectionConfig.custom()
+            .setConnectTimeout(Timeout.ofMilliseconds(properties.getConnectTimeout()))
+            .setSocketTimeout(Timeout.ofMilliseconds(properties.getTimeout()))
+            .build();
+
+    return PoolingHttpClientConnectionManagerBuilder.create()
+        .setMaxConnTotal(properties.getMaxConnTotal())
+        .setMaxConnPerRoute(properties.getMaxConnPerRoute())
+        .setDefaultConnectionConfig(connectionConfig)
+        .build();
+  }
+
+  /**
+   * HTTP 커넥션 풀의 사용률(사용 중/유휴/대기 중인 연결 수 등)을 Micrometer 메트릭으로 노출합니다.
+   *
+   * <p>메트릭은 {@code httpcomponents.httpclient.pool.*} 이름과 {@code httpclient=fastapi} 태그로 등록됩니다.
+   *
+   * @param connectionManager HTTP 커넥션 풀
+   * @return 커넥션 풀 메트릭 바인더
+   * @since v0.1.0
+   */
+  @Bean
+  public MeterBinder httpConnectionPoolMetrics(
+      PoolingHttpClientConnectionManager connectionManager) {
+    return new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "fastapi");
+  }
+
   /**
    * 외부 API 통신을 위한 RestTemplate 빈을 생성하여 스프링 컨테이너에 등록합니다.
    *
-   * <p>기본 {@code RestTemplateBuilder}를 사용하되, 커넥션 및 읽기 타임아웃을 각각 30초로 명시적으로 설정하기 위해 {@code
-   * SimpleClientHttpRequestFactory}를 구성하여 주입합니다. 이렇게 생성된 RestTemplate 빈은 애플리케이션의 다른 컴포넌트에서 주입받아 외부
-   * 시스템과의 HTTP 통신에 사용됩니다.
+   * <p>기본 {@code RestTemplateBuilder}를 사용하되, 요청마다 새 연결을 여는 대신 {@code httpConnectionManager}의 연결을
+   * 재사용하는 Apache HttpClient 5 기반 {@code HttpComponentsClientHttpRequestFactory}를 구성하여 주입합니다. 풀에서
+   * 연결을 얻기까지의 대기 시간과 응답 대기 시간은 {@link FastApiProperties}의 값으로 제한됩니다.
    *
    * @param builder Spring Boot가 자동으로 구성해주는 RestTemplateBuilder 객체
-   * @return 타임아웃이 설정된 RestTemplate 인스턴스
+   * @param properties FastAPI 연동 설정
+   * @param connectionManager HTTP 커넥션 풀
+   * @return 커넥션 풀과 타임아웃이 설정된 RestTemplate 인스턴스
    * @see RestTemplate
    * @see RestTemplateBuilder
    * @since v0.1.0
    */
   @Bean
-  public RestTemplate restTemplate(RestTemplateBuilder builder) {
-    // 1. SimpleClientHttpRequestFactory 객체를 직접 생성
-    SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+  public RestTemplate restTemplate(
+      RestTemplateBuilder builder,
+      FastApiProperties properties,
+      PoolingHttpClientConnectionManager connectionManager) {
+    // 1. 풀 대기 및 응답 대기 타임아웃 설정
+    RequestConfig requestConfig =
+        RequestConfig.custom()
+            .setConnectionRequestTimeout(
+                Timeout.ofMilliseconds(properties.getConnectionRequestTimeout()))
+            .setResponseTimeout(Timeout.ofMilliseconds(properties.getTimeout()))
+            .build();
 
-    // 2. 타임아웃 설정 (이 메서드들은 deprecated 아님)
-    requestFactory.setConnectTimeout(Duration.ofSeconds(30000));
-    requestFactory.setReadTimeout(Duration.ofSeconds(30000));
+    // 2. 커넥션 풀을 공유하고 Keep-Alive 연결을 재사용하는 HttpClient 생성
+    TimeValue keepAlive = TimeValue.ofMilliseconds(properties.getKeepAlive());
+    CloseableHttpClient httpClient =
+        HttpClients.custom()
+            .setConnectionManager(connectionManager)
+            .setDefaultRequestConfig(requestConfig)
+            .setKeepAliveStrategy((response, context) -> keepAlive)
+            .evictExpiredConnections()
+            .evictIdleConnections(keepAlive)
+            .build();
 
-    // 3. 빌더에 직접 생성한 requestFactory를 설정
+    // 3. 빌더에 HttpClient 기반 requestFactory를 설정
+    HttpComponentsClientHttpRequestFactory requestFactory =
+        new HttpComponentsClientHttpRequestFactory(httpClient);
     return builder.requestFactory(() -> requestFactory).build();
   }
 
+  /**
+   * FastAPI 서버를 논블로킹 방식으로 호출하기 위한 비동기 HTTP 커넥션 풀을 생성합니다.
+   *
+   * <p>블로킹 호출용 {@code httpConnectionManager}와 같은 {@link FastApiProperties} 값(호스트당/전체 최대 연결 수, 연결
+   * 타임아웃, 읽기 타임아웃)으로 구성되지만, 논블로킹 I/O를 사용하므로 별도의 풀입니다. 따라서 FastAPI 서버로 열리는 연결 수는 두 풀의 합까지 늘어날 수
+   * 있습니다.
+   *
+   * @param properties FastAPI 연동 설정
+   * @return 비동기 HTTP 커넥션 풀
+   * @since v0.1.0
+   */
+  @Bean(destroyMethod = "close")
+  public PoolingAsyncClientConnectionManager asyncHttpConnectionManager(
+      FastApiProperties properties) {
+    ConnectionConfig connectionConfig =
+        ConnectionConfig.custom()
+            .setConnectTimeout(Timeout.ofMilliseconds(properties.getConnectTimeout()))
+            .setSocketTimeout(Timeout.ofMilliseconds(properties.getTimeout()))
+            .build();
+
+    return PoolingAsyncClientConnectionManagerBuilder.create()
+        .setMaxConnTotal(properties.getMaxConnTotal())
+        .setMaxConnPerRoute(properties.getMaxConnPerRoute())
+        .setDefaultConnectionConfig(connectionConfig)
+        .build();
+  }
+
+  /**
+   * 비동기 HTTP 커넥션 풀의 사용률을 Micrometer 메트릭으로 노출합니다.
+   *
+   * <p>메트릭은 {@code httpcomponents.httpclient.pool.*} 이름과 {@code httpclient=fastapi-async} 태그로
+   * 등록됩니다.
+   *
+   * @param connectionManager 비동기 HTTP 커넥션 풀
+   * @return 커넥션 풀 메트릭 바인더
+   * @since v0.1.0
+   */
+  @Bean
+  public MeterBinder asyncHttpConnectionPoolMetrics(
+      PoolingAsyncClientConnectionManager connectionManager) {
+    return new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "fastapi-async");
+  }
+
+  /**
+   * FastAPI 서버를 논블로킹 방식으로 호출하기 위한 Apache HttpClient 5 비동기 클라이언트 빈을 생성합니다.
+   *
+   * <p>응답을 기다리는 동안 스레드를 점유하지 않으므로, 수백 개의 크롤링/RAG 호출이 동시에 진행되어도 그만큼의 스레드가 필요하지 않습니다. {@code
+   * restTemplate}과 마찬가지로 풀에서 연결을 얻기까지의 대기 시간과 응답 대기 시간은 {@link FastApiProperties}의 값으로 제한되고, 호스트당
+   * 최대 연결 수를 넘는 요청은 연결이 반납될 때까지 풀에서 기다립니다. 평문 HTTP로 통신하는 FastAPI(uvicorn) 서버와는 HTTP/1.1을 사용합니다.
+   *
+   * @param properties FastAPI 연동 설정
+   * @param connectionManager 비동기 HTTP 커넥션 풀
+   * @return 시작된 논블로킹 HTTP 클라이언트
+   * @since v0.1.0
+   */
+  @Bean(destroyMethod = "close")
+  public CloseableHttpAsyncClient fastApiHttpClient(
+      FastApiProperties properties, PoolingAsyncClientConnectionManager connectionManager) {
+    RequestConfig requestConfig =
+        RequestConfig.custom()
+            .setConnectionRequestTimeout(
+                Timeout.ofMilliseconds(properties.getConnectionRequestTimeout()))
+            .setResponseTimeout(Timeout.ofMilliseconds(properties.getTimeout()))
+            .build();
+
+    TimeValue keepAlive = TimeValue.ofMilliseconds(properties.getKeepAlive());
+    CloseableHttpAsyncClient httpClient =
+        HttpAsyncClients.custom()
+            .setConnectionManager(connectionManager)
+            .setDefaultRequestConfig(requestConfig)
+            .setKeepAliveStrategy((response, context) -> keepAlive)
+            .evictExpiredConnections()
+            .evictIdleConnections(keepAlive)
+            .build();
+    httpClient.start();
+    return httpClient;
+  }
+
   /**
    * Z 포함 UTC 형식으로 시간을 직렬화하는 ObjectMapper 빈을 생성합니다.
    *
@@ -5,6 +5,8 @@ import java.lang.reflect.Method;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
@@ -12,13 +14,29 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import lombok.extern.slf4j.Slf4j;
 
+import site.icebang.global.config.properties.WorkflowExecutionProperties;
+import site.icebang.global.config.properties.WorkflowExecutionProperties.ExecutorType;
+
 @Slf4j
 @Configuration
 @EnableAsync
 public class AsyncConfig implements AsyncConfigurer {
 
+  /**
+   * 워크플로우 실행({@code @Async("traceExecutor")})에 사용되는 실행기입니다.
+   *
+   * <p>{@code workflow.execution.executor-type}이 {@code virtual}이면 실행마다 가상 스레드를 생성하며, 동시 실행 수는
+   * {@code virtual-concurrency-limit}으로 제한됩니다. 어느 모드든 {@link ContextPropagatingTaskDecorator}로 MDC와
+   * Trace 컨텍스트를 전파합니다.
+   *
+   * @param properties 워크플로우 실행 설정
+   * @return 워크플로우 실행기
+   */
   @Bean("traceExecutor")
-  public ThreadPoolTaskExecutor traceExecutor() {
+  public AsyncTaskExecutor traceExecutor(WorkflowExecutionProperties properties) {
+    if (properties.getExecutorType() == ExecutorType.VIRTUAL) {
+      return virtualThreadExecutor("trace-", properties.getVirtualConcurrencyLimit());
+    }
     ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
     executor.setCorePoolSize(10);
     executor.setMaxPoolSize(50);
@@ -29,6 +47,66 @@ public class AsyncConfig implements AsyncConfigurer {
     return executor;
   }
 
+  /**
+   * Task의 완료 처리와 재시도를 실행하는 전용 스레드 풀입니다.
+   *
+   * <p>FastAPI 응답을 기다리는 동안에는 이 풀의 스레드를 점유하지 않습니다. 워크플로우 실행 스레드({@code traceExecutor})는 이 풀에서 처리되는
+   * Task 완료를 기다리므로, 교착 상태를 피하기 위해 두 풀은 반드시 분리되어야 합니다.
+   *
+   * @param properties 워크플로우 실행 설정
+   * @return Task 병렬 실행용 스레드 풀
+   */
+  @Bean("workflowTaskExecutor")
+  public AsyncTaskExecutor workflowTaskExecutor(WorkflowExecutionProperties properties) {
+    if (properties.getExecutorType() == ExecutorType.VIRTUAL) {
+      return virtualThreadExecutor("workflow-task-", SimpleAsyncTaskExecutor.UNBOUNDED_CONCURRENCY);
+    }
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(properties.getTaskPoolSize());
+    executor.setMaxPoolSize(properties.getTaskPoolSize());
+    executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+    executor.setThreadNamePrefix("workflow-task-");
+    executor.initialize();
+    return executor;
+  }
+
+  /**
+   * 병렬 모드 워크플로우에서 서로 의존하지 않는 Job들을 동시에 실행하기 위한 전용 스레드 풀입니다.
+   *
+   * <p>Job 실행 스레드는 다시 {@code workflowTaskExecutor}에 Task를 제출하고 완료를 기다리므로, 교착 상태를 피하기 위해 Task 풀과
+   * 분리합니다.
+   *
+   * @param properties 워크플로우 실행 설정
+   * @return Job 병렬 실행용 스레드 풀
+   */
+  @Bean("workflowJobExecutor")
+  public AsyncTaskExecutor workflowJobExecutor(WorkflowExecutionProperties properties) {
+    if (properties.getExecutorType() == ExecutorType.VIRTUAL) {
+      return virtualThreadExecutor("workflow-job-", SimpleAsyncTaskExecutor.UNBOUNDED_CONCURRENCY);
+    }
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(properties.getJobPoolSize());
+    executor.setMaxPoolSize(properties.getJobPoolSize());
+    executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+    executor.setThreadNamePrefix("workflow-job-");
+    executor.initialize();
+    return executor;
+  }
+
+  /**
+   * 작업마다 새 가상 스레드를 생성하는 실행기를 만듭니다.
+   *
+   * <p>Task/Job 실행기는 이미 그래프 실행기에서 동시 실행 수를 제한하므로 별도의 한도 없이 생성합니다.
+   */
+  private SimpleAsyncTaskExecutor virtualThreadExecutor(
+      String threadNamePrefix, int concurrencyLimit) {
+    SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+    executor.setVirtualThreads(true);
+    executor.setConcurrencyLimit(concurrencyLimit);
+    executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+    return executor;
+  }
+
   @Override
   public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
     return new AsyncUncaughtExceptionHandler() {
@@ -0,0 +1,51 @@
+package site.icebang.global.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 워크플로우 실행 로그(execution_log) 저장 방식을 application.yml에서 타입-세이프하게 바인딩하는 클래스입니다.
+ *
+ * <p>'workflow.execution-log' 경로의 설정값을 주입받으며, 버퍼에 쌓인 로그를 DB에 한 번에 저장하는 건수와 주기, 종료 시 남은 로그를 저장하기 위해
+ * 기다리는 시간을 제어합니다. 버퍼 크기는 Log4j2 설정의 {@code ExecutionLog} appender에서 지정합니다.
+ *
+ * <h2>설정 예제:</h2>
+ *
+ * <pre>{@code
+ * workflow:
+ *   execution-log:
+ *     batch-size: 200
+ *     flush-interval: 500
+ *     shutdown-timeout: 10000
+ * }</pre>
+ *
+ * @since v0.1.0
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "workflow.execution-log")
+@Validated
+public class ExecutionLogProperties {
+
+  /** 한 번의 INSERT로 저장하는 최대 로그 수입니다. */
+  @Min(1)
+  private int batchSize = 200;
+
+  /**
+   * 버퍼가 비어 있을 때 새 로그를 기다리는 최대 시간 (밀리초 단위)입니다.
+   *
+   * <p>로그가 batch-size만큼 모이지 않아도 이 시간 안에 들어온 로그는 바로 저장됩니다.
+   */
+  @Min(1)
+  private long flushInterval = 500;
+
+  /** 애플리케이션 종료 시 버퍼에 남은 로그를 저장하기 위해 기다리는 최대 시간 (밀리초 단위)입니다. */
+  @Min(0)
+  private long shutdownTimeout = 10000;
+}
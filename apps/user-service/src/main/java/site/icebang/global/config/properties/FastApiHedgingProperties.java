@@ -0,0 +1,61 @@
+package site.icebang.global.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * FastAPI 헤지 요청(hedged request) 설정을 application.yml에서 타입-세이프하게 바인딩하는 클래스입니다.
+ *
+ * <p>'api.fastapi.hedging' 경로의 설정값을 주입받습니다. 헤지 요청은 {@code task.parameters.idempotent}가 {@code
+ * true}인 Task의 비동기 호출 중, GET/HEAD 요청이거나 엔드포인트가 {@code api.fastapi.idempotent-endpoints}에 있는 호출에만
+ * 적용됩니다.
+ *
+ * @since v0.1.0
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "api.fastapi.hedging")
+@Validated
+public class FastApiHedgingProperties {
+
+  /** 헤지 요청을 사용할지 여부입니다. 사용하더라도 멱등으로 표시된 Task의 멱등 요청에만 적용됩니다. */
+  private boolean enabled = true;
+
+  /**
+   * 헤지 요청을 보내기까지 기다리는 응답 시간의 백분위수입니다.
+   *
+   * <p>95이면 엔드포인트의 최근 응답 시간 중 95%보다 오래 걸리는 호출에만 두 번째 요청을 보냅니다.
+   */
+  @DecimalMin("1.0")
+  @DecimalMax("99.9")
+  private double percentile = 95.0;
+
+  /** 헤지 요청을 보내기까지 기다리는 최소 시간 (밀리초 단위)입니다. */
+  @Min(1)
+  private long minDelay = 50;
+
+  /** 엔드포인트별로 응답 시간 백분위수를 계산하는 최근 성공 호출 수입니다. */
+  @Min(1)
+  private int latencyWindowSize = 200;
+
+  /** 헤지 요청을 보내기 위해 필요한 최소 응답 시간 표본 수입니다. 표본이 부족하면 헤지 요청을 보내지 않습니다. */
+  @Min(1)
+  private int minSamples = 20;
+
+  /**
+   * 헤지 예산 비율입니다.
+   *
+   * <p>헤지 대상 호출마다 이 비율만큼 헤지 가능 횟수가 적립되며, 헤지 요청을 보낼 때마다 1회씩 차감됩니다. 0.1이면 헤지 요청으로 늘어나는 부하는 최대 10%입니다.
+   */
+  @DecimalMin("0.0")
+  @DecimalMax("1.0")
+  private double budgetRatio = 0.1;
+}
@@ -1,9 +1,13 @@
 package site.icebang.global.config.properties;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 import org.springframework.validation.annotation.Validated;
 
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import lombok.Getter;
 import lombok.Setter;
@@ -50,9 +54,59 @@ public class FastApiProperties {
   private String url;
 
   /**
-   * API 호출 시 적용될 타임아웃 시간 (밀리초 단위)입니다.
+   * API 호출 시 응답을 기다리는 읽기(read) 타임아웃 시간 (밀리초 단위)입니다.
    *
    * <p>별도로 설정하지 않을 경우 기본값으로 5000ms (5초)가 적용됩니다.
    */
+  @Min(1)
   private int timeout = 5000; // 기본값 5초 설정
+
+  /**
+   * FastAPI 서버와 TCP 연결을 맺을 때까지 기다리는 연결 타임아웃 시간 (밀리초 단위)입니다.
+   *
+   * <p>별도로 설정하지 않을 경우 기본값으로 3000ms (3초)가 적용됩니다.
+   */
+  @Min(1)
+  private int connectTimeout = 3000;
+
+  /**
+   * 커넥션 풀에서 사용 가능한 연결을 얻을 때까지 기다리는 타임아웃 시간 (밀리초 단위)입니다.
+   *
+   * <p>풀이 모두 사용 중인 상태가 이 시간 이상 지속되면 요청은 실패합니다. 기본값은 5000ms (5초)입니다.
+   */
+  @Min(1)
+  private int connectionRequestTimeout = 5000;
+
+  /** 커넥션 풀이 유지하는 전체 연결의 최대 개수입니다. */
+  @Min(1)
+  private int maxConnTotal = 50;
+
+  /**
+   * 하나의 호스트(route)에 대해 유지하는 연결의 최대 개수입니다.
+   *
+   * <p>FastAPI 서버는 단일 호스트이므로, 동시에 진행되는 호출 수보다 크게 설정해야 풀 대기가 발생하지 않습니다. 동시에 진행되는 호출 수는 동시 실행 워크플로우
+   * 수와 {@code workflow.execution.task-parallelism}, 엔드포인트별 동시 호출 제한({@code
+   * api.fastapi.resilience})으로 정해집니다.
+   */
+  @Min(1)
+  private int maxConnPerRoute = 20;
+
+  /**
+   * 사용이 끝난 연결을 재사용을 위해 유지하는 시간 (밀리초 단위)입니다.
+   *
+   * <p>이 시간 동안 사용되지 않은 유휴 연결은 풀에서 정리됩니다. 기본값은 30000ms (30초)입니다.
+   */
+  @Min(1)
+  private long keepAlive = 30000;
+
+  /** 동시에 진행 중인 동일한 멱등 요청을 하나의 호출로 합칠지 여부입니다. */
+  private boolean coalescingEnabled = true;
+
+  /**
+   * GET/HEAD 외에 결과를 공유해도 안전한(멱등) 엔드포인트 목록입니다.
+   *
+   * <p>목록에 있는 엔드포인트는 HTTP 메소드와 관계없이, 같은 Body의 요청이 동시에 진행 중이면 하나의 호출로 합쳐지고, 멱등으로 표시된 Task의 호출이면 응답이
+   * 늦어질 때 헤지 요청을 보냅니다. 외부 상태를 변경하는 엔드포인트(업로드, 발행 등)는 포함해서는 안 됩니다.
+   */
+  private List<String> idempotentEndpoints = new ArrayList<>();
 }
@@ -0,0 +1,115 @@
+package site.icebang.global.config.properties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * FastAPI 엔드포인트별 회로 차단기(circuit breaker)와 동시 호출 제한(bulkhead) 설정을 application.yml에서 타입-세이프하게 바인딩하는
+ * 클래스입니다.
+ *
+ * <p>'api.fastapi.resilience' 경로의 설정값을 주입받습니다. 엔드포인트별 설정은 {@code endpoints."[<엔드포인트 경로>]"}로 지정하며,
+ * 지정하지 않은 엔드포인트는 {@code defaults}를 따릅니다.
+ *
+ * <h2>설정 예제:</h2>
+ *
+ * <pre>{@code
+ * api:
+ *   fastapi:
+ *     resilience:
+ *       enabled: true
+ *       defaults:
+ *         sliding-window-size: 20
+ *         minimum-calls: 10
+ *         failure-rate-threshold: 50
+ *         slow-call-rate-threshold: 80
+ *         slow-call-duration: 60000
+ *         wait-duration-in-open-state: 30000
+ *         permitted-calls-in-half-open-state: 3
+ *         max-concurrent-calls: 10
+ *       endpoints:
+ *         "[/products/crawl]":
+ *           max-concurrent-calls: 4
+ * }</pre>
+ *
+ * @since v0.1.0
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "api.fastapi.resilience")
+@Validated
+public class FastApiResilienceProperties {
+
+  /** 회로 차단기와 동시 호출 제한을 적용할지 여부입니다. */
+  private boolean enabled = true;
+
+  /** 엔드포인트별 설정이 없을 때 사용하는 기본 설정입니다. */
+  @Valid private Settings defaults = new Settings();
+
+  /**
+   * 엔드포인트 경로별 설정입니다.
+   *
+   * <p>엔드포인트별 설정에서 지정하지 않은 값은 {@code defaults}가 아닌 {@link Settings}의 기본값을 따릅니다.
+   */
+  @Valid private Map<String, Settings> endpoints = new HashMap<>();
+
+  /**
+   * 엔드포인트에 적용할 설정을 반환합니다.
+   *
+   * @param endpoint 엔드포인트 경로
+   * @return 엔드포인트별 설정, 없으면 기본 설정
+   */
+  public Settings settingsFor(String endpoint) {
+    return endpoints.getOrDefault(endpoint, defaults);
+  }
+
+  /** 하나의 엔드포인트에 적용되는 회로 차단기와 동시 호출 제한 설정입니다. */
+  @Getter
+  @Setter
+  public static class Settings {
+
+    /** 실패율과 느린 호출 비율을 계산하는 최근 호출 수입니다. */
+    @Min(1)
+    private int slidingWindowSize = 20;
+
+    /** 실패율을 계산하기 위해 필요한 최소 호출 수입니다. 이보다 적으면 회로를 열지 않습니다. */
+    @Min(1)
+    private int minimumCalls = 10;
+
+    /** 회로를 여는 실패율 (퍼센트)입니다. 4xx 응답은 실패로 보지 않습니다. */
+    @Min(1)
+    @Max(100)
+    private int failureRateThreshold = 50;
+
+    /** 회로를 여는 느린 호출 비율 (퍼센트)입니다. */
+    @Min(1)
+    @Max(100)
+    private int slowCallRateThreshold = 80;
+
+    /** 느린 호출로 판단하는 응답 시간 (밀리초 단위)입니다. */
+    @Min(1)
+    private long slowCallDuration = 60000;
+
+    /** 회로가 열린 뒤 시험 호출을 허용하기까지 기다리는 시간 (밀리초 단위)입니다. */
+    @Min(1)
+    private long waitDurationInOpenState = 30000;
+
+    /** 반열림(half-open) 상태에서 허용하는 시험 호출 수입니다. 모두 성공하면 회로를 닫습니다. */
+    @Min(1)
+    private int permittedCallsInHalfOpenState = 3;
+
+    /** 엔드포인트 하나에 동시에 보낼 수 있는 최대 호출 수입니다. 초과한 호출은 기다리지 않고 즉시 거절됩니다. */
+    @Min(1)
+    private int maxConcurrentCalls = 10;
+  }
+}
@@ -0,0 +1,51 @@
+package site.icebang.global.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Job/Task 실행 상태(job_run, task_run)의 지연 저장 방식을 application.yml에서 타입-세이프하게 바인딩하는 클래스입니다.
+ *
+ * <p>'workflow.run-journal' 경로의 설정값을 주입받으며, 메모리에 모인 상태 변경을 데이터베이스에 저장하는 주기와 한 번에 미리 할당받는 실행 ID의 수를
+ * 제어합니다. 워크플로우 실행이 끝날 때는 주기와 관계없이 남은 상태를 모두 저장합니다.
+ *
+ * <h2>설정 예제:</h2>
+ *
+ * <pre>{@code
+ * workflow:
+ *   run-journal:
+ *     flush-interval: 200
+ *     id-block-size: 100
+ *     shutdown-timeout: 10000
+ * }</pre>
+ *
+ * @since v0.1.0
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "workflow.run-journal")
+@Validated
+public class RunJournalProperties {
+
+  /** 메모리에 모인 실행 상태 변경을 저장하는 주기 (밀리초 단위)입니다. */
+  @Min(1)
+  private long flushInterval = 200;
+
+  /**
+   * job_run, task_run ID를 한 번에 미리 할당받는 개수입니다.
+   *
+   * <p>값이 클수록 ID 할당 쿼리가 줄어들지만, 애플리케이션이 재시작되면 사용하지 않은 ID만큼 번호가 건너뜁니다.
+   */
+  @Min(1)
+  private int idBlockSize = 100;
+
+  /** 애플리케이션 종료 시 저장 스레드가 끝나기를 기다리는 최대 시간 (밀리초 단위)입니다. */
+  @Min(0)
+  private long shutdownTimeout = 10000;
+}
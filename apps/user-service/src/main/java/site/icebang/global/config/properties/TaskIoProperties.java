@@ -0,0 +1,74 @@
+package site.icebang.global.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Task 입출력(task_io_data) 저장 방식을 application.yml에서 타입-세이프하게 바인딩하는 클래스입니다.
+ *
+ * <p>'workflow.task-io' 경로의 설정값을 주입받으며, 저장 대기열의 크기와 일괄 저장 단위, 압축을 적용할 값의 크기와 저장할 수 있는 값의 최대 크기를
+ * 제어합니다. 크기는 모두 압축 전 UTF-8 바이트 수를 기준으로 합니다.
+ *
+ * <h2>설정 예제:</h2>
+ *
+ * <pre>{@code
+ * workflow:
+ *   task-io:
+ *     enabled: true
+ *     queue-capacity: 2048
+ *     batch-size: 50
+ *     flush-interval: 500
+ *     compress-threshold: 8192
+ *     max-size: 4194304
+ *     shutdown-timeout: 10000
+ * }</pre>
+ *
+ * @since v0.1.0
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "workflow.task-io")
+@Validated
+public class TaskIoProperties {
+
+  /** Task 입출력 저장 여부입니다. */
+  private boolean enabled = true;
+
+  /**
+   * 저장을 기다리는 Task 입출력의 최대 개수입니다.
+   *
+   * <p>대기열이 가득 차면 워크플로우 실행을 지연시키지 않도록 새 입출력을 저장하지 않고 버립니다.
+   */
+  @Min(1)
+  private int queueCapacity = 2048;
+
+  /** 한 번의 INSERT로 저장하는 최대 입출력 수입니다. */
+  @Min(1)
+  private int batchSize = 50;
+
+  /** 대기열이 비어 있을 때 새 입출력을 기다리는 최대 시간 (밀리초 단위)입니다. */
+  @Min(1)
+  private long flushInterval = 500;
+
+  /** 이 크기 (바이트 단위)보다 큰 값은 gzip으로 압축하여 저장합니다. */
+  @Min(0)
+  private int compressThreshold = 8192;
+
+  /**
+   * 저장할 수 있는 값의 최대 크기 (바이트 단위)입니다.
+   *
+   * <p>이보다 큰 값은 저장하지 않고 원본 크기만 기록합니다.
+   */
+  @Min(0)
+  private int maxSize = 4 * 1024 * 1024;
+
+  /** 애플리케이션 종료 시 대기열에 남은 입출력을 저장하기 위해 기다리는 최대 시간 (밀리초 단위)입니다. */
+  @Min(0)
+  private long shutdownTimeout = 10000;
+}
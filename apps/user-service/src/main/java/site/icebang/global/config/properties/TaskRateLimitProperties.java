@@ -0,0 +1,74 @@
+package site.icebang.global.config.properties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Task 실행 요청 속도 제한 설정을 application.yml에서 타입-세이프하게 바인딩하는 클래스입니다.
+ *
+ * <p>'workflow.rate-limit' 경로의 설정값을 주입받습니다. 제한은 토큰 버킷 방식으로, 최대 {@code capacity}번까지 연달아 실행할 수 있고
+ * 이후에는 {@code refill-interval}마다 한 번씩 실행할 수 있습니다. 엔드포인트별 제한은 {@code task.parameters.endpoint}가 같은
+ * Task끼리, 설정별 제한은 Task 설정({@code default_config})의 값(예: {@code blog_id})이 같은 Task끼리 공유합니다.
+ *
+ * <h2>설정 예제:</h2>
+ *
+ * <pre>{@code
+ * workflow:
+ *   rate-limit:
+ *     enabled: true
+ *     endpoints:
+ *       "[/blogs/publish]":
+ *         capacity: 3
+ *         refill-interval: 10000
+ *     settings:
+ *       blog_id:
+ *         capacity: 1
+ *         refill-interval: 60000
+ * }</pre>
+ *
+ * @since v0.1.0
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "workflow.rate-limit")
+@Validated
+public class TaskRateLimitProperties {
+
+  /** 요청 속도 제한을 적용할지 여부입니다. */
+  private boolean enabled = true;
+
+  /** 엔드포인트 경로별 제한입니다. */
+  @Valid private Map<String, Limit> endpoints = new HashMap<>();
+
+  /**
+   * Task 설정 키별 제한입니다.
+   *
+   * <p>키가 {@code blog_id}이면 같은 {@code blog_id}(와 같은 {@code tag})로 실행되는 Task들이 하나의 버킷을 공유합니다. 설정에 해당
+   * 키가 없는 Task에는 적용되지 않습니다.
+   */
+  @Valid private Map<String, Limit> settings = new HashMap<>();
+
+  /** 하나의 토큰 버킷 설정입니다. */
+  @Getter
+  @Setter
+  public static class Limit {
+
+    /** 대기 없이 연달아 실행할 수 있는 최대 횟수입니다. */
+    @Min(1)
+    private int capacity = 1;
+
+    /** 실행 가능 횟수가 1회 채워지는 간격 (밀리초 단위)입니다. */
+    @Min(1)
+    private long refillInterval = 60000;
+  }
+}
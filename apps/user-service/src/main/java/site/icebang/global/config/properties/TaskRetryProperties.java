@@ -0,0 +1,113 @@
+package site.icebang.global.config.properties;
+
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+
+import site.icebang.external.fastapi.exception.FailureType;
+
+/**
+ * Task 실행 재시도 정책을 application.yml에서 타입-세이프하게 바인딩하는 클래스입니다.
+ *
+ * <p>'workflow.retry' 경로의 설정값을 주입받습니다. 재시도 간격은 시도할수록 {@code multiplier}배씩 늘어나는 상한값 안에서 무작위로
+ * 결정되며(full jitter), 429 응답은 서버가 요청한 {@code Retry-After}보다 먼저 재시도하지 않습니다. Task 타입별 정책은 {@code
+ * types.<task 타입 소문자>}로 지정하며, 지정하지 않은 타입은 {@code defaults}를 따릅니다.
+ *
+ * <h2>설정 예제:</h2>
+ *
+ * <pre>{@code
+ * workflow:
+ *   retry:
+ *     budget-ratio: 0.2
+ *     budget-min-retries-per-second: 10
+ *     max-retry-after: 60000
+ *     defaults:
+ *       max-attempts: 3
+ *       initial-interval: 500
+ *       multiplier: 2.0
+ *       max-interval: 10000
+ *       retry-on: CONNECT, TIMEOUT, SERVER_ERROR, RATE_LIMITED, REJECTED, UNKNOWN
+ *     types:
+ *       fastapi:
+ *         max-attempts: 4
+ * }</pre>
+ *
+ * @since v0.1.0
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "workflow.retry")
+@Validated
+public class TaskRetryProperties {
+
+  /** Task 타입별 정책이 없을 때 사용하는 기본 재시도 정책입니다. */
+  @Valid private Policy defaults = new Policy();
+
+  /**
+   * Task 타입(소문자)별 재시도 정책입니다.
+   *
+   * <p>타입별 정책에서 지정하지 않은 값은 {@code defaults}가 아닌 {@link Policy}의 기본값을 따릅니다.
+   */
+  @Valid private Map<String, Policy> types = new HashMap<>();
+
+  /**
+   * 재시도 예산 비율입니다.
+   *
+   * <p>Task의 첫 시도마다 이 비율만큼 재시도 가능 횟수가 적립되며, 재시도할 때마다 1회씩 차감됩니다. 0.2이면 재시도는 최근 첫 시도 수의 20%를 넘지 않으므로,
+   * FastAPI 서버 장애 시 재시도가 부하를 키우지 않습니다.
+   */
+  @DecimalMin("0.0")
+  private double budgetRatio = 0.2;
+
+  /** 재시도 예산과 관계없이 초당 허용되는 최소 재시도 횟수입니다. 요청이 적을 때도 재시도할 수 있게 합니다. */
+  @Min(0)
+  private int budgetMinRetriesPerSecond = 10;
+
+  /** 429 응답의 {@code Retry-After}를 따를 수 있는 최대 대기 시간 (밀리초 단위)입니다. */
+  @Min(0)
+  private long maxRetryAfter = 60000;
+
+  /** 하나의 Task 타입에 적용되는 재시도 정책입니다. */
+  @Getter
+  @Setter
+  public static class Policy {
+
+    /** 첫 시도를 포함한 최대 시도 횟수입니다. */
+    @Min(1)
+    private int maxAttempts = 3;
+
+    /** 첫 재시도 간격의 상한 (밀리초 단위)입니다. */
+    @Min(0)
+    private long initialInterval = 500;
+
+    /** 재시도할 때마다 재시도 간격의 상한을 늘리는 배수입니다. */
+    @DecimalMin("1.0")
+    private double multiplier = 2.0;
+
+    /** 재시도 간격 상한의 최댓값 (밀리초 단위)입니다. */
+    @Min(0)
+    private long maxInterval = 10000;
+
+    /** 재시도할 실패 유형입니다. 목록에 없는 유형(기본값은 4xx 응답)은 즉시 실패로 처리합니다. */
+    private Set<FailureType> retryOn =
+        EnumSet.of(
+            FailureType.CONNECT,
+            FailureType.TIMEOUT,
+            FailureType.SERVER_ERROR,
+            FailureType.RATE_LIMITED,
+            FailureType.REJECTED,
+            FailureType.UNKNOWN);
+  }
+}
@@ -0,0 +1,71 @@
+package site.icebang.global.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 워크플로우 관련 인메모리 캐시의 크기와 만료 시간을 application.yml에서 타입-세이프하게 바인딩하는 클래스입니다.
+ *
+ * <p>'workflow.cache' 경로의 설정값을 주입받습니다. 캐시는 모두 애플리케이션 인스턴스별 로컬 캐시이며, 최대 크기를 넘으면 오래 사용되지 않은 항목부터
+ * 제거됩니다.
+ *
+ * <h2>설정 예제:</h2>
+ *
+ * <pre>{@code
+ * workflow:
+ *   cache:
+ *     run-detail-max-weight: 100000
+ *     run-detail-expire-after-access: 3600000
+ *     plan-max-size: 1000
+ *     plan-expire-after-write: 600000
+ *     task-result-max-weight: 16000000
+ * }</pre>
+ *
+ * @since v0.1.0
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "workflow.cache")
+@Validated
+public class WorkflowCacheProperties {
+
+  /**
+   * 완료된 워크플로우 실행 상세 캐시의 최대 크기입니다.
+   *
+   * <p>항목 수가 아닌 각 실행 트리에 포함된 행 수(워크플로우 실행 1 + Job 실행 수 + Task 실행 수)의 합으로 계산되므로, Job/Task가 많은 실행일수록
+   * 캐시 공간을 많이 차지합니다.
+   */
+  @Min(1)
+  private long runDetailMaxWeight = 100000;
+
+  /** 완료된 워크플로우 실행 상세가 마지막 조회 후 캐시에서 제거되기까지의 시간 (밀리초 단위)입니다. */
+  @Min(1)
+  private long runDetailExpireAfterAccess = 3600000;
+
+  /** 캐시할 워크플로우 실행 계획의 최대 개수입니다. */
+  @Min(1)
+  private long planMaxSize = 1000;
+
+  /**
+   * 워크플로우 실행 계획이 컴파일된 후 다시 컴파일되기까지의 시간 (밀리초 단위)입니다.
+   *
+   * <p>정의 변경 시에는 즉시 무효화되므로, 이 값은 데이터베이스를 직접 수정한 경우에만 의미가 있습니다.
+   */
+  @Min(1)
+  private long planExpireAfterWrite = 600000;
+
+  /**
+   * Task 결과 캐시의 최대 크기입니다.
+   *
+   * <p>항목 수가 아닌 캐시된 결과(응답 Body)의 문자 수 합계로 계산됩니다. 어떤 Task를 얼마 동안 캐시할지는 Task의 {@code
+   * parameters.cache_ttl_seconds}로 지정합니다.
+   */
+  @Min(1)
+  private long taskResultMaxWeight = 16000000;
+}
@@ -0,0 +1,54 @@
+package site.icebang.global.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 워크플로우 실행 중 Task 결과를 보관하는 컨텍스트의 메모리 사용량을 application.yml에서 타입-세이프하게 바인딩하는 클래스입니다.
+ *
+ * <p>'workflow.context' 경로의 설정값을 주입받으며, 실행 하나가 메모리에 보관할 수 있는 Task 결과의 총 크기와 디스크로 내려 보낼 결과의 크기를
+ * 제어합니다. 크기는 모두 직렬화된 JSON의 바이트 수를 기준으로 합니다.
+ *
+ * <h2>설정 예제:</h2>
+ *
+ * <pre>{@code
+ * workflow:
+ *   context:
+ *     memory-budget: 4194304
+ *     spill-threshold: 1048576
+ *     spill-directory: /var/tmp/icebang/workflow-context
+ * }</pre>
+ *
+ * @since v0.1.0
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "workflow.context")
+@Validated
+public class WorkflowContextProperties {
+
+  /**
+   * 워크플로우 실행 하나가 메모리에 보관할 수 있는 Task 결과의 최대 크기 (바이트 단위)입니다.
+   *
+   * <p>한도를 넘는 결과는 메모리 대신 압축 파일로 저장되며, 이후 Task가 필요한 부분만 읽어 갑니다.
+   */
+  @Min(0)
+  private long memoryBudget = 4 * 1024 * 1024;
+
+  /**
+   * 메모리 한도와 관계없이 항상 파일로 저장할 Task 결과의 크기 (바이트 단위)입니다.
+   *
+   * <p>크롤링 결과처럼 큰 응답이 여러 실행에서 동시에 힙을 차지하지 않도록 합니다.
+   */
+  @Min(0)
+  private long spillThreshold = 1024 * 1024;
+
+  /** 파일로 저장한 Task 결과를 둘 디렉터리입니다. 비어 있으면 시스템 임시 디렉터리를 사용합니다. */
+  private String spillDirectory = "";
+}
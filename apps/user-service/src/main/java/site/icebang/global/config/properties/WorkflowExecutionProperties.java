@@ -0,0 +1,107 @@
+package site.icebang.global.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 워크플로우 실행 엔진의 동작 방식을 application.yml에서 타입-세이프하게 바인딩하는 클래스입니다.
+ *
+ * <p>'workflow.execution' 경로의 설정값을 주입받으며, 워크플로우 실행 스레드의 종류(플랫폼/가상 스레드), Task 완료 처리와 Job 병렬 실행에 사용되는
+ * 스레드 풀 크기와 동시에 실행될 수 있는 Task/Job 수를 제어합니다.
+ *
+ * <h2>설정 예제:</h2>
+ *
+ * <pre>{@code
+ * workflow:
+ *   execution:
+ *     executor-type: virtual
+ *     virtual-concurrency-limit: 1000
+ *     task-pool-size: 16
+ *     task-parallelism: 4
+ *     job-pool-size: 8
+ *     job-parallelism: 2
+ *     task-timeout: 900000
+ * }</pre>
+ *
+ * @since v0.1.0
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "workflow.execution")
+@Validated
+public class WorkflowExecutionProperties {
+
+  /**
+   * 워크플로우/Job/Task 실행에 사용할 스레드 종류입니다.
+   *
+   * <p>{@link ExecutorType#VIRTUAL}로 설정하면 고정 크기 스레드 풀 대신 Java 21 가상 스레드를 사용하므로, FastAPI 호출처럼 오래
+   * 블로킹되는 실행이 많아도 플랫폼 스레드를 점유하지 않습니다.
+   */
+  @NotNull private ExecutorType executorType = ExecutorType.PLATFORM;
+
+  /**
+   * 가상 스레드 모드에서 동시에 실행될 수 있는 워크플로우의 최대 개수입니다.
+   *
+   * <p>한도에 도달하면 새 실행 요청은 거부되지 않고 슬롯이 빌 때까지 대기합니다. 플랫폼 스레드 모드에서는 사용되지 않습니다.
+   */
+  @Min(1)
+  private int virtualConcurrencyLimit = 1000;
+
+  /**
+   * Task의 완료 처리와 재시도를 실행하는 스레드 풀의 최대 스레드 수입니다.
+   *
+   * <p>FastAPI 호출은 비동기 HTTP 클라이언트에서 진행되므로 응답을 기다리는 Task는 이 풀의 스레드를 점유하지 않습니다. 이 풀은 응답을 받은 뒤의 결과
+   * 보관(큰 결과의 압축 파일 저장 포함)과 실행 상태 기록, 재시도 호출 시작만 수행하므로, 동시에 진행되는 Task 수를 제한하지 않습니다. 진행 중인 Task 수는
+   * {@code task-parallelism}과 FastAPI 엔드포인트별 동시 호출 제한({@code api.fastapi.resilience}), 커넥션 풀 크기로
+   * 제한됩니다.
+   */
+  @Min(1)
+  private int taskPoolSize = 16;
+
+  /**
+   * 하나의 Job 안에서 동시에 실행될 수 있는 Task의 최대 개수입니다.
+   *
+   * <p>1로 설정하면 의존 관계와 무관하게 기존과 동일하게 execution_order 순서대로 하나씩 실행됩니다.
+   */
+  @Min(1)
+  private int taskParallelism = 4;
+
+  /**
+   * Job 병렬 실행 전용 스레드 풀의 최대 스레드 수입니다.
+   *
+   * <p>워크플로우의 default_config에 {@code execution.parallel}이 켜져 있는 경우에만 사용됩니다.
+   */
+  @Min(1)
+  private int jobPoolSize = 8;
+
+  /**
+   * 병렬 모드 워크플로우에서 동시에 실행될 수 있는 Job의 기본 최대 개수입니다.
+   *
+   * <p>워크플로우의 default_config에 {@code execution.max_concurrent_jobs}가 지정되어 있으면 그 값이 우선합니다.
+   */
+  @Min(1)
+  private int jobParallelism = 2;
+
+  /**
+   * 재시도를 포함한 Task 하나의 전체 실행 제한 시간 (밀리초 단위)입니다.
+   *
+   * <p>이 시간을 넘기면 진행 중인 시도와 남은 재시도를 기다리지 않고 Task를 실패로 처리합니다. 기본값은 900000ms (15분)입니다.
+   */
+  @Min(1)
+  private long taskTimeout = 900000;
+
+  /** 워크플로우 실행 스레드 종류 */
+  public enum ExecutorType {
+    /** 고정 크기의 플랫폼 스레드 풀 ({@code ThreadPoolTaskExecutor}) */
+    PLATFORM,
+    /** 실행마다 새 가상 스레드를 생성하는 실행기 ({@code SimpleAsyncTaskExecutor}) */
+    VIRTUAL
+  }
+}
@@ -0,0 +1,84 @@
+package site.icebang.global.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 워크플로우 실행 대기열 설정을 application.yml에서 타입-세이프하게 바인딩하는 클래스입니다.
+ *
+ * <p>'workflow.queue' 경로의 설정값을 주입받습니다. 수동 실행, 스케줄 실행, 재개 요청은 모두 {@code PENDING} 상태의 workflow_run으로
+ * 저장되며, 디스패처가 전체 동시 실행 수 안에서 오래 기다린 순서대로 실행합니다. 대기 중인 실행이 {@code max-pending}에 이르면 새 요청을 거절합니다.
+ *
+ * <p>{@code worker}가 켜진 인스턴스는 모두 같은 대기열에서 실행을 가져가며, 가져간 실행은 {@code lease-duration} 동안 임대됩니다. 임대는
+ * {@code heartbeat-interval}마다 갱신되고, 갱신이 멈춘(종료된) 인스턴스의 실행은 다른 인스턴스가 실패로 종료한 뒤 재개 실행으로 복구합니다.
+ *
+ * <h2>설정 예제:</h2>
+ *
+ * <pre>{@code
+ * workflow:
+ *   queue:
+ *     max-concurrent-runs: 10
+ *     max-pending: 1000
+ *     poll-interval: 1000
+ *     worker: true
+ *     lease-duration: 60000
+ *     heartbeat-interval: 15000
+ * }</pre>
+ *
+ * @since v0.1.0
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "workflow.queue")
+@Validated
+public class WorkflowQueueProperties {
+
+  /**
+   * 이 인스턴스에서 동시에 실행될 수 있는 최대 워크플로우 수입니다.
+   *
+   * <p>플랫폼 스레드 모드에서는 {@code traceExecutor}의 스레드 수보다 크지 않아야 실행기 대기열에 쌓이지 않습니다.
+   */
+  @Min(1)
+  private int maxConcurrentRuns = 10;
+
+  /** 실행 대기 중일 수 있는 최대 워크플로우 실행 수입니다. 넘으면 새 실행 요청을 거절합니다. */
+  @Min(1)
+  private long maxPending = 1000;
+
+  /** 새 요청이나 빈 실행 슬롯이 없어도 대기열을 확인하는 주기 (밀리초 단위)입니다. */
+  @Min(1)
+  private long pollInterval = 1000;
+
+  /** 이 인스턴스가 대기열에서 실행을 가져가 실행할지 여부입니다. 끄면 실행 요청을 대기열에 저장하기만 합니다. */
+  private boolean worker = true;
+
+  /** 다른 인스턴스와 구분되는 이 인스턴스의 이름입니다. 비어 있으면 호스트 이름과 무작위 값으로 만듭니다. */
+  private String nodeId;
+
+  /**
+   * 가져간 실행의 임대 기간 (밀리초 단위)입니다.
+   *
+   * <p>이 기간 동안 임대가 갱신되지 않으면 인스턴스가 종료된 것으로 보고 다른 인스턴스가 실행을 복구합니다. {@code heartbeat-interval}보다 충분히
+   * 길어야 GC 등으로 잠시 멈춘 인스턴스의 실행을 복구하지 않습니다.
+   */
+  @Min(1)
+  private long leaseDuration = 60000;
+
+  /** 실행 중인 워크플로우의 임대를 갱신하고, 임대가 만료된 실행을 확인하는 주기 (밀리초 단위)입니다. */
+  @Min(1)
+  private long heartbeatInterval = 15000;
+
+  /** 한 번에 복구하는 임대가 만료된 실행의 최대 수입니다. */
+  @Min(1)
+  private int recoveryBatchSize = 10;
+
+  /** 애플리케이션 종료 시 디스패처 스레드가 끝나기를 기다리는 최대 시간 (밀리초 단위)입니다. */
+  @Min(0)
+  private long shutdownTimeout = 10000;
+}
@@ -16,6 +16,9 @@ import lombok.extern.slf4j.Slf4j;
 
 import site.icebang.common.dto.ApiResponse;
 import site.icebang.common.exception.DuplicateDataException;
+import site.icebang.common.exception.InvalidQueryParameterException;
+import site.icebang.common.exception.InvalidWorkflowStateException;
+import site.icebang.common.exception.WorkflowQueueFullException;
 
 /**
  * 전역 예외 처리기 (Global Exception Handler).
@@ -31,6 +34,8 @@ import site.icebang.common.exception.DuplicateDataException;
  *   <li>{@link AuthenticationException} - 인증 실패
  *   <li>{@link AccessDeniedException} - 인가 실패
  *   <li>{@link DuplicateDataException} - 중복 데이터 발생
+ *   <li>{@link InvalidQueryParameterException} - 잘못된 목록 조회 조건
+ *   <li>{@link InvalidWorkflowStateException} - 현재 실행 상태에서 수행할 수 없는 요청
  *   <li>{@link Exception} - 그 외 처리되지 않은 일반 예외
  * </ul>
  *
@@ -118,4 +123,40 @@ public class GlobalExceptionHandler {
     log.warn(ex.getMessage(), ex);
     return ApiResponse.error("Duplicate: " + ex.getMessage(), HttpStatus.CONFLICT);
   }
+
+  /**
+   * 목록 조회 조건(커서, 필터, 정렬 등)이 올바르지 않을 때 발생하는 예외를 처리합니다.
+   *
+   * @param ex 발생한 {@link InvalidQueryParameterException}
+   * @return {@link ApiResponse} - 잘못된 조회 조건 메시지와 {@link HttpStatus#BAD_REQUEST}
+   */
+  @ExceptionHandler(InvalidQueryParameterException.class)
+  @ResponseStatus(HttpStatus.BAD_REQUEST)
+  public ApiResponse<String> handleInvalidQueryParameter(InvalidQueryParameterException ex) {
+    return ApiResponse.error("Invalid parameter: " + ex.getMessage(), HttpStatus.BAD_REQUEST);
+  }
+
+  /**
+   * 워크플로우 실행의 현재 상태에서 수행할 수 없는 요청(재개 불가능한 실행 등)을 처리합니다.
+   *
+   * @param ex 발생한 {@link InvalidWorkflowStateException}
+   * @return {@link ApiResponse} - 상태 충돌 메시지와 {@link HttpStatus#CONFLICT}
+   */
+  @ExceptionHandler(InvalidWorkflowStateException.class)
+  @ResponseStatus(HttpStatus.CONFLICT)
+  public ApiResponse<String> handleInvalidWorkflowState(InvalidWorkflowStateException ex) {
+    return ApiResponse.error("Invalid state: " + ex.getMessage(), HttpStatus.CONFLICT);
+  }
+
+  /**
+   * 실행 대기열이 가득 차 받을 수 없는 워크플로우 실행 요청을 처리합니다.
+   *
+   * @param ex 발생한 {@link WorkflowQueueFullException}
+   * @return {@link ApiResponse} - 대기열 포화 메시지와 {@link HttpStatus#SERVICE_UNAVAILABLE}
+   */
+  @ExceptionHandler(WorkflowQueueFullException.class)
+  @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+  public ApiResponse<String> handleWorkflowQueueFull(WorkflowQueueFullException ex) {
+    return ApiResponse.error("Queue full: " + ex.getMessage(), HttpStatus.SERVICE_UNAVAILABLE);
+  }
 }
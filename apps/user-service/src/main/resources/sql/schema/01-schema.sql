@@ -335,3 +335,28 @@ CREATE INDEX idx_duration ON execution_log(duration_ms);
 CREATE INDEX idx_execution_type_source ON execution_log(execution_type, source_id);
 
 
+-- v0.5
+-- 목록 조회 필터/정렬용 복합 인덱스 (필터 컬럼 + 기본 정렬 (created_at, id))
+CREATE INDEX idx_workflow_run_status_created ON workflow_run(status, created_at, id);
+CREATE INDEX idx_workflow_run_workflow_created ON workflow_run(workflow_id, created_at, id);
+CREATE INDEX idx_workflow_run_trigger_created ON workflow_run(trigger_type, created_at, id);
+CREATE INDEX idx_workflow_run_started_at ON workflow_run(started_at, id);
+CREATE INDEX idx_workflow_created_at ON workflow(created_at, id);
+CREATE INDEX idx_workflow_enabled_created ON workflow(is_enabled, created_at, id);
+
+-- job_run/task_run ID 블록 할당 (실행 상태를 모아서 저장하기 위해 ID를 INSERT 전에 미리 할당)
+CREATE TABLE `run_id_block` (
+    `name` varchar(50) NOT NULL,
+    `next_value` bigint unsigned NOT NULL,
+    PRIMARY KEY (`name`)
+    );
+
+-- 실패한 워크플로우 실행 재개 (재개된 실행이 원본 실행을 참조)
+ALTER TABLE `workflow_run` ADD COLUMN `resumed_from_run_id` bigint unsigned NULL;
+CREATE INDEX idx_workflow_run_resumed_from ON workflow_run(resumed_from_run_id);
+
+-- 여러 인스턴스가 실행 대기열을 나눠 처리 (실행 중인 workflow_run을 가져간 인스턴스와 임대 만료 시각)
+ALTER TABLE `workflow_run` ADD COLUMN `lease_owner` varchar(100) NULL;
+ALTER TABLE `workflow_run` ADD COLUMN `lease_expires_at` timestamp NULL;
+CREATE INDEX idx_workflow_run_lease_owner ON workflow_run(lease_owner);
+CREATE INDEX idx_workflow_run_status_lease ON workflow_run(status, lease_expires_at);
@@ -0,0 +1,51 @@
+package site.icebang.integration.setup.config;
+
+import java.sql.Connection;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.ibatis.executor.statement.StatementHandler;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+
+/**
+ * 테스트 중 실제로 준비(prepare)된 SQL 문의 개수를 세는 MyBatis 인터셉터입니다.
+ *
+ * <p>{@link #start()}를 호출한 스레드에서 실행된 SQL 문만 집계하므로, 다른 테스트나 백그라운드 작업에는 영향을 주지 않습니다. N+1 쿼리 회귀를 검증할 때
+ * 사용합니다.
+ */
+@Intercepts(
+    @Signature(
+        type = StatementHandler.class,
+        method = "prepare",
+        args = {Connection.class, Integer.class}))
+public class SqlStatementCounter implements Interceptor {
+
+  private final ThreadLocal<AtomicInteger> counter = new ThreadLocal<>();
+
+  /** 현재 스레드에서 SQL 문 집계를 시작합니다. */
+  public void start() {
+    counter.set(new AtomicInteger());
+  }
+
+  /**
+   * 현재 스레드의 집계를 종료하고, 시작 이후 실행된 SQL 문 개수를 반환합니다.
+   *
+   * @return 실행된 SQL 문 개수
+   */
+  public int stop() {
+    AtomicInteger count = counter.get();
+    counter.remove();
+    return count != null ? count.get() : 0;
+  }
+
+  @Override
+  public Object intercept(Invocation invocation) throws Throwable {
+    AtomicInteger count = counter.get();
+    if (count != null) {
+      count.incrementAndGet();
+    }
+    return invocation.proceed();
+  }
+}
@@ -12,12 +12,13 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 
 import site.icebang.integration.setup.annotation.IntegrationTest;
 import site.icebang.integration.setup.config.RestDocsConfiguration;
+import site.icebang.integration.setup.config.SqlStatementCounter;
 
 @IntegrationTest
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 @AutoConfigureMockMvc
 @AutoConfigureRestDocs
-@Import(RestDocsConfiguration.class)
+@Import({RestDocsConfiguration.class, SqlStatementCounter.class})
 public abstract class IntegrationTestSupport {
 
   @Autowired protected MockMvc mockMvc;
@@ -0,0 +1,107 @@
+package site.icebang.integration.tests.workflow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import site.icebang.domain.workflow.journal.RunIdAllocator;
+import site.icebang.domain.workflow.journal.RunStateJournal;
+import site.icebang.domain.workflow.mapper.WorkflowRunMapper;
+import site.icebang.domain.workflow.model.JobRun;
+import site.icebang.domain.workflow.model.TaskRun;
+import site.icebang.domain.workflow.model.WorkflowRun;
+import site.icebang.integration.setup.config.SqlStatementCounter;
+import site.icebang.integration.setup.support.IntegrationTestSupport;
+
+public class RunStateJournalIntegrationTest extends IntegrationTestSupport {
+
+  @Autowired private RunIdAllocator runIdAllocator;
+
+  @Autowired private RunStateJournal runStateJournal;
+
+  @Autowired private WorkflowRunMapper workflowRunMapper;
+
+  @Autowired private SqlStatementCounter sqlStatementCounter;
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  private WorkflowRun workflowRun;
+
+  @AfterEach
+  void tearDown() {
+    // 저널은 별도 트랜잭션으로 커밋하므로, 다른 테스트에 영향을 주지 않도록 직접 정리합니다.
+    if (workflowRun != null) {
+      jdbcTemplate.update(
+          "DELETE FROM task_run"
+              + " WHERE job_run_id IN (SELECT id FROM job_run WHERE workflow_run_id = ?)",
+          workflowRun.getId());
+      jdbcTemplate.update("DELETE FROM job_run WHERE workflow_run_id = ?", workflowRun.getId());
+      jdbcTemplate.update("DELETE FROM workflow_run WHERE id = ?", workflowRun.getId());
+    }
+  }
+
+  @Test
+  @DisplayName("Job/Task 상태 변경은 모아서 배치로 저장되고, 워크플로우 종료 시 모든 종료 상태가 함께 저장된다")
+  void complete_shouldPersistAllTerminalStatesInBatch() {
+    // given
+    workflowRun = WorkflowRun.enqueue(1L);
+    // 디스패처가 가져가지 않도록 실행 중 상태로 저장합니다.
+    workflowRun.markStarted(Instant.now());
+    workflowRunMapper.insert(workflowRun);
+
+    JobRun jobRun = JobRun.start(runIdAllocator.nextJobRunId(), workflowRun.getId(), 1L, 1);
+    runStateJournal.record(jobRun);
+    for (long taskId = 1; taskId <= 3; taskId++) {
+      TaskRun taskRun =
+          TaskRun.start(runIdAllocator.nextTaskRunId(), jobRun.getId(), taskId, (int) taskId);
+      runStateJournal.record(taskRun);
+      taskRun.finish("SUCCESS", "{}");
+      runStateJournal.record(taskRun);
+    }
+    jobRun.finish("SUCCESS");
+    runStateJournal.record(jobRun);
+    workflowRun.finish("SUCCESS");
+
+    // when
+    sqlStatementCounter.start();
+    boolean completed = runStateJournal.complete(workflowRun);
+    int statements = sqlStatementCounter.stop();
+
+    // then - 기존에는 Job 2회, Task 6회, workflow_run 1회의 개별 왕복이 필요했음
+    // 같은 SQL은 배치로 묶이므로 (INSERT/UPDATE × Job/Task) + workflow_run UPDATE를 넘지 않음
+    assertThat(completed).isTrue();
+    assertThat(statements).isLessThanOrEqualTo(5);
+    assertThat(
+            jdbcTemplate.queryForObject(
+                "SELECT status FROM workflow_run WHERE id = ?", String.class, workflowRun.getId()))
+        .isEqualTo("SUCCESS");
+    assertThat(
+            jdbcTemplate.queryForObject(
+                "SELECT status FROM job_run WHERE id = ?", String.class, jobRun.getId()))
+        .isEqualTo("SUCCESS");
+    assertThat(
+            jdbcTemplate.queryForList(
+                "SELECT status FROM task_run WHERE job_run_id = ?", String.class, jobRun.getId()))
+        .hasSize(3)
+        .containsOnly("SUCCESS");
+  }
+
+  @Test
+  @DisplayName("미리 할당된 실행 ID는 중복되지 않고 기존 행의 ID보다 크다")
+  void nextId_shouldAllocateUniqueIdsAfterExistingRows() {
+    Long maxTaskRunId =
+        jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM task_run", Long.class);
+
+    Long first = runIdAllocator.nextTaskRunId();
+    Long second = runIdAllocator.nextTaskRunId();
+
+    assertThat(first).isGreaterThan(maxTaskRunId);
+    assertThat(second).isGreaterThan(first);
+  }
+}
@@ -4,6 +4,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -18,6 +20,7 @@ import site.icebang.domain.workflow.model.TaskRun;
 import site.icebang.domain.workflow.runner.TaskRunner;
 import site.icebang.domain.workflow.runner.fastapi.FastApiTaskRunner;
 import site.icebang.domain.workflow.service.TaskExecutionService;
+import site.icebang.external.fastapi.exception.FastApiCallException;
 import site.icebang.integration.setup.support.IntegrationTestSupport;
 
 /**
@@ -57,4 +60,52 @@ public class TaskExecutionServiceIntegrationTest extends IntegrationTestSupport
     assertThat(finalResult.isFailure()).isTrue();
     assertThat(finalResult.message()).contains("최대 재시도 횟수 초과");
   }
+
+  @Test
+  @DisplayName("비동기 Task 실행이 3번 모두 실패하면, 3번 재시도 후 최종 FAILED 결과로 완료되어야 한다")
+  void executeWithRetryAsync_shouldRetry_andCompleteWithFailure_afterAllRetries() {
+    // given
+    Task testTask = new Task(1L, "테스트 태스크", "FastAPI", null, null, null, null);
+    TaskRun testTaskRun = new TaskRun();
+    ObjectNode testRequestBody = new ObjectMapper().createObjectNode();
+
+    // Mock Runner가 호출될 때마다 예외로 완료된 Future를 반환하도록 설정
+    when(mockFastApiTaskRunner.executeAsync(
+            any(Task.class), any(TaskRun.class), any(ObjectNode.class)))
+        .thenReturn(CompletableFuture.failedFuture(new RestClientException("Connection failed")));
+
+    // when
+    TaskRunner.TaskExecutionResult finalResult =
+        taskExecutionService.executeWithRetryAsync(testTask, testTaskRun, testRequestBody).join();
+
+    // then
+    verify(mockFastApiTaskRunner, times(3))
+        .executeAsync(any(Task.class), any(TaskRun.class), any(ObjectNode.class));
+    assertThat(finalResult.isFailure()).isTrue();
+    assertThat(finalResult.message()).contains("최대 재시도 횟수 초과");
+  }
+
+  @Test
+  @DisplayName("4xx 응답으로 실패한 Task는 재시도하지 않고 즉시 FAILED 결과로 완료되어야 한다")
+  void executeWithRetryAsync_shouldFailFast_onClientError() {
+    // given
+    Task testTask = new Task(1L, "테스트 태스크", "FastAPI", null, null, null, null);
+    TaskRun testTaskRun = new TaskRun();
+    ObjectNode testRequestBody = new ObjectMapper().createObjectNode();
+
+    when(mockFastApiTaskRunner.executeAsync(
+            any(Task.class), any(TaskRun.class), any(ObjectNode.class)))
+        .thenReturn(
+            CompletableFuture.failedFuture(new FastApiCallException(422, null, "Invalid body")));
+
+    // when
+    TaskRunner.TaskExecutionResult finalResult =
+        taskExecutionService.executeWithRetryAsync(testTask, testTaskRun, testRequestBody).join();
+
+    // then
+    verify(mockFastApiTaskRunner, times(1))
+        .executeAsync(any(Task.class), any(TaskRun.class), any(ObjectNode.class));
+    assertThat(finalResult.isFailure()).isTrue();
+    assertThat(finalResult.message()).contains("재시도하지 않는 실패 (CLIENT_ERROR)");
+  }
 }
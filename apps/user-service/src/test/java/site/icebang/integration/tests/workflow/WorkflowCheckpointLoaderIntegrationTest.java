@@ -0,0 +1,149 @@
+package site.icebang.integration.tests.workflow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import site.icebang.common.exception.InvalidWorkflowStateException;
+import site.icebang.domain.workflow.checkpoint.WorkflowCheckpoint;
+import site.icebang.domain.workflow.checkpoint.WorkflowCheckpointLoader;
+import site.icebang.domain.workflow.io.TaskIoCodec;
+import site.icebang.domain.workflow.io.TaskIoRecorder;
+import site.icebang.domain.workflow.journal.RunIdAllocator;
+import site.icebang.domain.workflow.journal.RunStateJournal;
+import site.icebang.domain.workflow.mapper.TaskIoDataMapper;
+import site.icebang.domain.workflow.mapper.WorkflowRunMapper;
+import site.icebang.domain.workflow.model.JobRun;
+import site.icebang.domain.workflow.model.TaskRun;
+import site.icebang.domain.workflow.model.WorkflowRun;
+import site.icebang.integration.setup.support.IntegrationTestSupport;
+
+public class WorkflowCheckpointLoaderIntegrationTest extends IntegrationTestSupport {
+
+  @Autowired private WorkflowCheckpointLoader workflowCheckpointLoader;
+
+  @Autowired private RunIdAllocator runIdAllocator;
+
+  @Autowired private RunStateJournal runStateJournal;
+
+  @Autowired private WorkflowRunMapper workflowRunMapper;
+
+  @Autowired private TaskIoDataMapper taskIoDataMapper;
+
+  @Autowired private TaskIoCodec taskIoCodec;
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  private final List<WorkflowRun> workflowRuns = new ArrayList<>();
+
+  @AfterEach
+  void tearDown() {
+    // 저널은 별도 트랜잭션으로 커밋하므로, 다른 테스트에 영향을 주지 않도록 직접 정리합니다.
+    for (WorkflowRun workflowRun : workflowRuns) {
+      jdbcTemplate.update(
+          "DELETE FROM task_io_data WHERE task_run_id IN (SELECT tr.id FROM task_run tr"
+              + " JOIN job_run jr ON tr.job_run_id = jr.id WHERE jr.workflow_run_id = ?)",
+          workflowRun.getId());
+      jdbcTemplate.update(
+          "DELETE FROM task_run"
+              + " WHERE job_run_id IN (SELECT id FROM job_run WHERE workflow_run_id = ?)",
+          workflowRun.getId());
+      jdbcTemplate.update("DELETE FROM job_run WHERE workflow_run_id = ?", workflowRun.getId());
+      jdbcTemplate.update("DELETE FROM workflow_run WHERE id = ?", workflowRun.getId());
+    }
+  }
+
+  @Test
+  @DisplayName("재개를 반복한 실행은 이전 실행까지 거슬러 올라가 성공한 Task의 최신 결과를 복원한다")
+  void load_shouldRestoreSucceededOutputsAcrossResumedRuns() throws Exception {
+    // given - 최초 실행: Task 1, 2 성공 / Task 3 실패
+    WorkflowRun firstRun = WorkflowRun.enqueue(1L);
+    firstRun.markStarted(Instant.now());
+    workflowRunMapper.insert(firstRun);
+    workflowRuns.add(firstRun);
+    JobRun firstJob = JobRun.start(runIdAllocator.nextJobRunId(), firstRun.getId(), 1L, 1);
+    runStateJournal.record(firstJob);
+    recordTask(firstJob, 1L, "SUCCESS", "{\"data\": {\"keyword\": \"캠핑\"}}");
+    TaskRun firstSearch = recordTask(firstJob, 2L, "SUCCESS", "{\"data\": {\"v\": 1}}");
+    recordTask(firstJob, 3L, "FAILED", null);
+    firstJob.finish("FAILED");
+    runStateJournal.record(firstJob);
+    firstRun.finish("FAILED");
+    runStateJournal.complete(firstRun);
+
+    // 재개된 실행: Task 1, 2 건너뜀 / Task 3 성공 / Task 4 실패
+    WorkflowRun resumedRun = WorkflowRun.enqueueResume(1L, firstRun.getId());
+    workflowRunMapper.insert(resumedRun);
+    workflowRuns.add(resumedRun);
+    JobRun resumedJob = JobRun.start(runIdAllocator.nextJobRunId(), resumedRun.getId(), 1L, 1);
+    runStateJournal.record(resumedJob);
+    recordTask(resumedJob, 1L, "SKIPPED", null);
+    recordTask(resumedJob, 2L, "SKIPPED", null);
+    TaskRun resumedCrawl = recordTask(resumedJob, 3L, "SUCCESS", "{\"data\": {\"v\": 3}}");
+    recordTask(resumedJob, 4L, "FAILED", null);
+    resumedJob.finish("FAILED");
+    runStateJournal.record(resumedJob);
+    resumedRun.finish("FAILED");
+    runStateJournal.complete(resumedRun);
+
+    // when
+    WorkflowCheckpoint checkpoint = workflowCheckpointLoader.load(resumedRun.getId());
+
+    // then
+    assertThat(checkpoint.getWorkflowId()).isEqualTo(1L);
+    assertThat(checkpoint.getWorkflowRunId()).isEqualTo(resumedRun.getId());
+    assertThat(checkpoint.getRestoredTasks()).containsOnlyKeys(1L, 2L, 3L);
+    assertThat(checkpoint.get(1L).output()).contains("캠핑");
+    assertThat(checkpoint.get(2L).taskRunId()).isEqualTo(firstSearch.getId());
+    assertThat(checkpoint.get(3L).taskRunId()).isEqualTo(resumedCrawl.getId());
+    assertThat(checkpoint.get(4L)).isNull();
+    assertThat(workflowRunMapper.findById(resumedRun.getId()).getResumedFromRunId())
+        .isEqualTo(firstRun.getId());
+  }
+
+  @Test
+  @DisplayName("실패하지 않은 실행이나 존재하지 않는 실행은 재개할 수 없다")
+  void load_shouldRejectRunsThatAreNotFailed() {
+    WorkflowRun succeededRun = WorkflowRun.enqueue(1L);
+    succeededRun.markStarted(Instant.now());
+    workflowRunMapper.insert(succeededRun);
+    workflowRuns.add(succeededRun);
+    succeededRun.finish("SUCCESS");
+    runStateJournal.complete(succeededRun);
+
+    assertThatThrownBy(() -> workflowCheckpointLoader.load(succeededRun.getId()))
+        .isInstanceOf(InvalidWorkflowStateException.class);
+    assertThatThrownBy(() -> workflowCheckpointLoader.load(Long.MAX_VALUE))
+        .isInstanceOf(InvalidWorkflowStateException.class);
+  }
+
+  private TaskRun recordTask(JobRun jobRun, Long taskId, String status, String output)
+      throws Exception {
+    TaskRun taskRun =
+        TaskRun.start(runIdAllocator.nextTaskRunId(), jobRun.getId(), taskId, taskId.intValue());
+    runStateJournal.record(taskRun);
+    taskRun.finish(status, output);
+    runStateJournal.record(taskRun);
+    if (output != null) {
+      taskIoDataMapper.insertBatch(
+          List.of(
+              taskIoCodec.encode(
+                  taskRun.getId(),
+                  TaskIoRecorder.OUTPUT,
+                  "response_body",
+                  TaskIoCodec.JSON,
+                  output,
+                  Instant.now())));
+    }
+    return taskRun;
+  }
+}
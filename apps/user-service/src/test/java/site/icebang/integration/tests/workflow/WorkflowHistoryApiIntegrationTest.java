@@ -2,6 +2,7 @@ package site.icebang.integration.tests.workflow;
 
 import static com.epages.restdocs.apispec.MockMvcRestDocumentationWrapper.document;
 import static com.epages.restdocs.apispec.ResourceDocumentation.*;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.matchesPattern;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
 import static org.springframework.restdocs.operation.preprocess.Preprocessors.*;
@@ -10,6 +11,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.restdocs.payload.JsonFieldType;
 import org.springframework.security.test.context.support.WithUserDetails;
 import org.springframework.test.context.jdbc.Sql;
@@ -17,6 +19,8 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.epages.restdocs.apispec.ResourceSnippetParameters;
 
+import site.icebang.domain.workflow.cache.WorkflowRunDetailCache;
+import site.icebang.integration.setup.config.SqlStatementCounter;
 import site.icebang.integration.setup.support.IntegrationTestSupport;
 
 @Sql(
@@ -28,6 +32,10 @@ import site.icebang.integration.setup.support.IntegrationTestSupport;
     executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
 @Transactional
 public class WorkflowHistoryApiIntegrationTest extends IntegrationTestSupport {
+  @Autowired private SqlStatementCounter sqlStatementCounter;
+
+  @Autowired private WorkflowRunDetailCache workflowRunDetailCache;
+
   @Test
   @DisplayName("워크플로우 실행 상세 조회 성공")
   @WithUserDetails("admin@icebang.site")
@@ -298,4 +306,55 @@ public class WorkflowHistoryApiIntegrationTest extends IntegrationTestSupport {
         .andExpect(jsonPath("$.data.workflowRun.startedAt").value("2025-09-22T18:18:43Z"))
         .andExpect(jsonPath("$.data.workflowRun.finishedAt").value("2025-09-22T18:18:44Z"));
   }
+
+  @Test
+  @DisplayName("워크플로우 실행 상세 조회는 Job/Task 수와 관계없이 단일 쿼리로 수행")
+  @WithUserDetails("admin@icebang.site")
+  void getWorkflowRunDetail_singleQuery() throws Exception {
+    // given
+    Long runId = 1L;
+    workflowRunDetailCache.evict(runId);
+    sqlStatementCounter.start();
+
+    // when
+    mockMvc
+        .perform(
+            get("/v0/workflow-runs/{runId}", runId)
+                .header("Origin", "https://admin.icebang.site")
+                .header("Referer", "https://admin.icebang.site/"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.jobRuns[0].taskRuns[0].id").value(1));
+
+    // then
+    assertThat(sqlStatementCounter.stop()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("종료된 워크플로우 실행 상세는 캐시되어 두 번째 조회부터 데이터베이스를 조회하지 않음")
+  @WithUserDetails("admin@icebang.site")
+  void getWorkflowRunDetail_finishedRun_servedFromCache() throws Exception {
+    // given - runId 1은 FAILED 상태로 종료된 실행
+    Long runId = 1L;
+    workflowRunDetailCache.evict(runId);
+    mockMvc
+        .perform(
+            get("/v0/workflow-runs/{runId}", runId)
+                .header("Origin", "https://admin.icebang.site")
+                .header("Referer", "https://admin.icebang.site/"))
+        .andExpect(status().isOk());
+    sqlStatementCounter.start();
+
+    // when
+    mockMvc
+        .perform(
+            get("/v0/workflow-runs/{runId}", runId)
+                .header("Origin", "https://admin.icebang.site")
+                .header("Referer", "https://admin.icebang.site/"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.workflowRun.status").value("FAILED"))
+        .andExpect(jsonPath("$.data.jobRuns[0].taskRuns[0].id").value(1));
+
+    // then
+    assertThat(sqlStatementCounter.stop()).isZero();
+  }
 }
@@ -2,22 +2,29 @@ package site.icebang.integration.tests.workflow;
 
 import static com.epages.restdocs.apispec.MockMvcRestDocumentationWrapper.document;
 import static com.epages.restdocs.apispec.ResourceDocumentation.resource;
-import static org.mockito.Mockito.timeout;
-import static org.mockito.Mockito.verify;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.post;
 import static org.springframework.restdocs.operation.preprocess.Preprocessors.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.time.Instant;
+
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.test.context.support.WithUserDetails;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.epages.restdocs.apispec.ResourceSnippetParameters;
+import com.fasterxml.jackson.databind.JsonNode;
 
+import site.icebang.domain.workflow.mapper.WorkflowRunMapper;
+import site.icebang.domain.workflow.model.WorkflowRun;
 import site.icebang.domain.workflow.service.WorkflowExecutionService;
 import site.icebang.integration.setup.support.IntegrationTestSupport;
 
@@ -32,6 +39,10 @@ public class WorkflowRunApiIntegrationTest extends IntegrationTestSupport {
 
   @MockitoBean private WorkflowExecutionService mockWorkflowExecutionService;
 
+  @Autowired private WorkflowRunMapper workflowRunMapper;
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+
   @Test
   @DisplayName("워크플로우 수동 실행 API 호출 성공")
   @WithUserDetails("admin@icebang.site")
@@ -40,28 +51,86 @@ public class WorkflowRunApiIntegrationTest extends IntegrationTestSupport {
     Long workflowId = 1L;
 
     // when & then
+    String response =
+        mockMvc
+            .perform(
+                post(getApiUrlForDocs("/v0/workflows/{workflowId}/run"), workflowId)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .header("Origin", "https://admin.icebang.site")
+                    .header("Referer", "https://admin.icebang.site/"))
+            .andExpect(status().isAccepted()) // 📌 1. 즉시 202 Accepted 응답을 받는지 확인
+            .andExpect(jsonPath("$.success").value(true))
+            .andExpect(jsonPath("$.data.workflowRunId").isNumber())
+            .andDo(
+                document(
+                    "workflow-run",
+                    preprocessRequest(prettyPrint()),
+                    preprocessResponse(prettyPrint()),
+                    resource(
+                        ResourceSnippetParameters.builder()
+                            .tag("Workflow Execution")
+                            .summary("워크플로우 수동 실행")
+                            .description(
+                                "지정된 ID의 워크플로우 실행을 대기열에 저장합니다. "
+                                    + "성공 시 202 Accepted와 대기열에 저장된 실행 ID를 반환하며, "
+                                    + "실제 실행은 동시 실행 수 안에서 백그라운드로 진행됩니다. "
+                                    + "대기 중인 실행이 너무 많으면 503 Service Unavailable을 반환합니다.")
+                            .build())))
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+
+    // 📌 2. 실행 요청이 PENDING 상태의 workflow_run으로 저장되었는지 검증
+    JsonNode data = objectMapper.readTree(response).path("data");
+    String status =
+        jdbcTemplate.queryForObject(
+            "SELECT status FROM workflow_run WHERE id = ?",
+            String.class,
+            data.path("workflowRunId").asLong());
+    assertThat(status).isEqualTo("PENDING");
+  }
+
+  @Test
+  @DisplayName("실패한 워크플로우 실행은 한 번만 재개되고, 이미 재개된 실행의 재개 요청은 409를 반환한다")
+  @WithUserDetails("admin@icebang.site")
+  void resumeWorkflowRun_shouldRejectDuplicateResume() throws Exception {
+    // given
+    WorkflowRun failedRun = WorkflowRun.enqueue(1L);
+    failedRun.markStarted(Instant.now());
+    workflowRunMapper.insert(failedRun);
+    failedRun.finish("FAILED");
+    workflowRunMapper.update(failedRun);
+
+    // when & then - 첫 재개 요청은 대기열에 저장된다
+    String response =
+        mockMvc
+            .perform(
+                post("/v0/workflow-runs/{runId}/resume", failedRun.getId())
+                    .header("Origin", "https://admin.icebang.site")
+                    .header("Referer", "https://admin.icebang.site/"))
+            .andExpect(status().isAccepted())
+            .andExpect(jsonPath("$.data.workflowRunId").isNumber())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+
+    // when & then - 재개 실행이 대기 중이면 다시 재개하지 않는다
     mockMvc
         .perform(
-            post(getApiUrlForDocs("/v0/workflows/{workflowId}/run"), workflowId)
-                .contentType(MediaType.APPLICATION_JSON)
+            post("/v0/workflow-runs/{runId}/resume", failedRun.getId())
                 .header("Origin", "https://admin.icebang.site")
                 .header("Referer", "https://admin.icebang.site/"))
-        .andExpect(status().isAccepted()) // 📌 1. 즉시 202 Accepted 응답을 받는지 확인
-        .andDo(
-            document(
-                "workflow-run",
-                preprocessRequest(prettyPrint()),
-                preprocessResponse(prettyPrint()),
-                resource(
-                    ResourceSnippetParameters.builder()
-                        .tag("Workflow Execution")
-                        .summary("워크플로우 수동 실행")
-                        .description(
-                            "지정된 ID의 워크플로우를 즉시 비동기적으로 실행합니다. "
-                                + "성공 시 202 Accepted를 반환하며, 실제 실행은 백그라운드에서 진행됩니다.")
-                        .build())));
-
-    // 📌 2. 비동기 호출된 executeWorkflow 메소드가 1초 이내에 1번 실행되었는지 검증
-    verify(mockWorkflowExecutionService, timeout(1000).times(1)).executeWorkflow(workflowId);
+        .andExpect(status().isConflict())
+        .andExpect(jsonPath("$.success").value(false));
+
+    Long resumedRunId = objectMapper.readTree(response).path("data").path("workflowRunId").asLong();
+    assertThat(workflowRunMapper.findById(resumedRunId).getResumedFromRunId())
+        .isEqualTo(failedRun.getId());
+    assertThat(
+            jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM workflow_run WHERE resumed_from_run_id = ?",
+                Long.class,
+                failedRun.getId()))
+        .isEqualTo(1L);
   }
 }
@@ -0,0 +1,136 @@
+package site.icebang.integration.tests.workflow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import site.icebang.domain.workflow.journal.RunIdAllocator;
+import site.icebang.domain.workflow.journal.RunStateJournal;
+import site.icebang.domain.workflow.mapper.JobRunMapper;
+import site.icebang.domain.workflow.mapper.TaskRunMapper;
+import site.icebang.domain.workflow.mapper.WorkflowRunMapper;
+import site.icebang.domain.workflow.model.JobRun;
+import site.icebang.domain.workflow.model.WorkflowRun;
+import site.icebang.domain.workflow.queue.WorkflowRunLeases;
+import site.icebang.global.config.properties.WorkflowQueueProperties;
+import site.icebang.integration.setup.support.IntegrationTestSupport;
+
+public class WorkflowRunLeasesIntegrationTest extends IntegrationTestSupport {
+
+  @Autowired private WorkflowRunLeases workflowRunLeases;
+
+  @Autowired private WorkflowRunMapper workflowRunMapper;
+
+  @Autowired private JobRunMapper jobRunMapper;
+
+  @Autowired private TaskRunMapper taskRunMapper;
+
+  @Autowired private RunIdAllocator runIdAllocator;
+
+  @Autowired private RunStateJournal runStateJournal;
+
+  @Autowired private PlatformTransactionManager transactionManager;
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  private final List<Long> workflowRunIds = new ArrayList<>();
+
+  @AfterEach
+  void tearDown() {
+    // 임대는 별도 트랜잭션으로 커밋하므로, 다른 테스트에 영향을 주지 않도록 직접 정리합니다.
+    for (Long workflowRunId : workflowRunIds) {
+      jdbcTemplate.update("DELETE FROM job_run WHERE workflow_run_id = ?", workflowRunId);
+      jdbcTemplate.update("DELETE FROM workflow_run WHERE id = ?", workflowRunId);
+    }
+  }
+
+  @Test
+  @DisplayName("대기 중인 실행은 오래 기다린 순서대로 한 번씩만 임대된다")
+  void acquire_shouldLeaseEachPendingRunOnce() {
+    // given
+    Long first = enqueue();
+    Long second = enqueue();
+    Long third = enqueue();
+
+    // when
+    List<WorkflowRun> firstBatch = workflowRunLeases.acquire(2);
+    List<WorkflowRun> secondBatch = workflowRunLeases.acquire(5);
+
+    // then
+    assertThat(firstBatch).extracting(WorkflowRun::getId).containsExactly(first, second);
+    assertThat(secondBatch).extracting(WorkflowRun::getId).containsExactly(third);
+    assertThat(firstBatch)
+        .allSatisfy(
+            workflowRun -> {
+              assertThat(workflowRun.getStatus()).isEqualTo("RUNNING");
+              assertThat(workflowRun.getLeaseOwner()).isEqualTo(workflowRunLeases.getOwner());
+              assertThat(workflowRun.getLeaseExpiresAt()).isAfter(workflowRun.getStartedAt());
+            });
+    assertThat(workflowRunLeases.acquire(5)).isEmpty();
+    assertThat(workflowRunLeases.renew()).contains(first, second, third);
+  }
+
+  @Test
+  @DisplayName("임대가 만료된 실행은 실패로 종료되고 재개 실행으로 복구되며, 임대를 잃은 인스턴스는 Job/워크플로우 종료 상태를 덮어쓰지 않는다")
+  void recoverExpired_shouldFailOrphanedRun_andEnqueueResume() throws Exception {
+    // given - 임대를 갱신하지 못하고 멈춘 인스턴스
+    WorkflowQueueProperties deadNodeProperties = new WorkflowQueueProperties();
+    deadNodeProperties.setNodeId("dead-node");
+    deadNodeProperties.setLeaseDuration(1);
+    WorkflowRunLeases deadNode =
+        new WorkflowRunLeases(
+            workflowRunMapper,
+            jobRunMapper,
+            taskRunMapper,
+            deadNodeProperties,
+            transactionManager);
+    Long orphanId = enqueue();
+    WorkflowRun orphan = deadNode.acquire(1).getFirst();
+    JobRun jobRun = JobRun.start(runIdAllocator.nextJobRunId(), orphanId, 1L, 1);
+    runStateJournal.record(jobRun);
+    runStateJournal.flush();
+    Thread.sleep(20);
+
+    // when
+    List<WorkflowRun> recovered = workflowRunLeases.recoverExpired();
+    recovered.forEach(workflowRun -> workflowRunIds.add(workflowRun.getId()));
+
+    // then
+    assertThat(recovered).hasSize(1);
+    assertThat(recovered.getFirst().getResumedFromRunId()).isEqualTo(orphanId);
+    assertThat(workflowRunMapper.findById(recovered.getFirst().getId()).getStatus())
+        .isEqualTo("PENDING");
+    assertThat(workflowRunMapper.findById(orphanId).getStatus()).isEqualTo("FAILED");
+    assertThat(
+            jdbcTemplate.queryForObject(
+                "SELECT status FROM job_run WHERE id = ?", String.class, jobRun.getId()))
+        .isEqualTo("FAILED");
+
+    // 멈췄던 인스턴스가 뒤늦게 실행을 끝내도 복구된 상태를 덮어쓰지 않는다
+    jobRun.finish("SUCCESS");
+    runStateJournal.record(jobRun);
+    orphan.finish("SUCCESS");
+    runStateJournal.complete(orphan);
+    assertThat(workflowRunMapper.findById(orphanId).getStatus()).isEqualTo("FAILED");
+    assertThat(
+            jdbcTemplate.queryForObject(
+                "SELECT status FROM job_run WHERE id = ?", String.class, jobRun.getId()))
+        .isEqualTo("FAILED");
+    assertThat(workflowRunLeases.recoverExpired()).isEmpty();
+  }
+
+  private Long enqueue() {
+    WorkflowRun workflowRun = WorkflowRun.enqueue(1L);
+    workflowRunMapper.insert(workflowRun);
+    workflowRunIds.add(workflowRun.getId());
+    return workflowRun.getId();
+  }
+}
@@ -0,0 +1,93 @@
+package site.icebang.unit.tests.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.math.BigInteger;
+import java.time.Instant;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import site.icebang.common.dto.PageCursor;
+import site.icebang.common.dto.PageParams;
+import site.icebang.common.exception.InvalidQueryParameterException;
+import site.icebang.common.query.ListQuery;
+import site.icebang.common.query.ListQuerySpec;
+import site.icebang.common.query.ListQuerySpec.Operator;
+import site.icebang.unit.setup.support.UnitTestSupport;
+
+class ListQuerySpecTest extends UnitTestSupport {
+
+  private static final ListQuerySpec SPEC =
+      ListQuerySpec.builder("wr.created_at", "wr.id")
+          .filter("status", "wr.status", Operator.IN, ListQuerySpec::upperCase)
+          .filter("workflowId", "wr.workflow_id", Operator.IN, Long::valueOf)
+          .filter("createdTo", "wr.created_at", Operator.LT, ListQuerySpec::endInstant)
+          .sorter("startedAt", "wr.started_at")
+          .build();
+
+  @Test
+  @DisplayName("등록된 필터와 정렬은 컬럼 조건으로 변환되고, 정렬 끝에는 ID가 추가된다")
+  void resolve_shouldMapWhitelistedFields() {
+    PageParams params = new PageParams();
+    params.setFilters(new String[] {"status:failed,success", "createdTo:2025-09-22"});
+    params.setSorters(new String[] {"startedAt:asc"});
+
+    ListQuery query = SPEC.resolve(params);
+
+    assertThat(query.getConditions()).hasSize(2);
+    assertThat(query.getConditions().get(0).getColumn()).isEqualTo("wr.status");
+    assertThat(query.getConditions().get(0).getValues()).containsExactly("FAILED", "SUCCESS");
+    assertThat(query.getConditions().get(1).getOperator()).isEqualTo("<");
+    assertThat(query.getConditions().get(1).getValue())
+        .isEqualTo(Instant.parse("2025-09-23T00:00:00Z"));
+    assertThat(query.getOrders())
+        .extracting(ListQuery.Order::getColumn, ListQuery.Order::getDirection)
+        .containsExactly(tuple("wr.started_at", "ASC"), tuple("wr.id", "ASC"));
+    assertThat(query.isDefaultSort()).isFalse();
+  }
+
+  @Test
+  @DisplayName("정렬 조건이 없으면 생성 시각 DESC, ID DESC 기본 정렬이 적용된다")
+  void resolve_withoutSorters_shouldUseDefaultSort() {
+    ListQuery query = SPEC.resolve(new PageParams());
+
+    assertThat(query.isDefaultSort()).isTrue();
+    assertThat(query.getOrders())
+        .extracting(ListQuery.Order::getColumn)
+        .containsExactly("wr.created_at", "wr.id");
+  }
+
+  @Test
+  @DisplayName("등록되지 않은 필드, 잘못된 값, 허용되지 않은 정렬 방향은 거부된다")
+  void resolve_shouldRejectInvalidParameters() {
+    assertThatThrownBy(() -> SPEC.resolve(filters("name:x")))
+        .isInstanceOf(InvalidQueryParameterException.class);
+    assertThatThrownBy(() -> SPEC.resolve(filters("workflowId:1 OR 1=1")))
+        .isInstanceOf(InvalidQueryParameterException.class);
+
+    PageParams params = new PageParams();
+    params.setSorters(new String[] {"startedAt:asc; DROP TABLE workflow_run"});
+    assertThatThrownBy(() -> SPEC.resolve(params))
+        .isInstanceOf(InvalidQueryParameterException.class);
+  }
+
+  @Test
+  @DisplayName("커서 기반 페이징은 기본 정렬이 아니면 거부된다")
+  void resolve_cursorWithCustomSort_shouldBeRejected() {
+    PageParams params = new PageParams();
+    params.setCursor(PageCursor.of(Instant.now(), BigInteger.ONE).encode());
+    params.setSorters(new String[] {"startedAt:desc"});
+
+    assertThatThrownBy(() -> SPEC.resolve(params))
+        .isInstanceOf(InvalidQueryParameterException.class);
+  }
+
+  private static PageParams filters(String... filters) {
+    PageParams params = new PageParams();
+    params.setFilters(filters);
+    return params;
+  }
+}
@@ -0,0 +1,92 @@
+package site.icebang.unit.tests.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigInteger;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import site.icebang.common.dto.PageCursor;
+import site.icebang.common.dto.PageParams;
+import site.icebang.common.dto.PageResult;
+import site.icebang.common.exception.InvalidQueryParameterException;
+import site.icebang.unit.setup.support.UnitTestSupport;
+
+class PageResultTest extends UnitTestSupport {
+
+  private record Row(long id, Instant createdAt) {}
+
+  private static final Instant NOW = Instant.parse("2025-09-22T18:18:43Z");
+
+  private static PageCursor cursorOf(Row row) {
+    return PageCursor.of(row.createdAt(), BigInteger.valueOf(row.id()));
+  }
+
+  @Test
+  @DisplayName("OFFSET 모드에서는 전체 개수를 조회하고, 다음 페이지가 있으면 마지막 행의 커서를 반환한다")
+  void from_offsetMode_shouldCountTotalAndReturnNextCursor() {
+    PageParams params = new PageParams();
+    params.setPageSize(2);
+    List<Row> rows = List.of(new Row(3, NOW), new Row(2, NOW), new Row(1, NOW));
+
+    PageResult<Row> result = PageResult.from(params, () -> rows, () -> 3, PageResultTest::cursorOf);
+
+    assertThat(result.getData()).extracting(Row::id).containsExactly(3L, 2L);
+    assertThat(result.getTotal()).isEqualTo(3);
+    assertThat(result.getTotalPages()).isEqualTo(2);
+    assertThat(result.isHasNext()).isTrue();
+    PageCursor next = PageCursor.decode(result.getNextCursor());
+    assertThat(next.getCreatedAt()).isEqualTo(NOW);
+    assertThat(next.getId()).isEqualTo(BigInteger.TWO);
+  }
+
+  @Test
+  @DisplayName("커서 모드에서는 전체 개수를 조회하지 않고, 마지막 페이지에서는 커서를 반환하지 않는다")
+  void from_cursorMode_shouldSkipCount() {
+    PageParams params = new PageParams();
+    params.setPageSize(2);
+    params.setCursor(cursorOf(new Row(2, NOW)).encode());
+    AtomicInteger countCalls = new AtomicInteger();
+
+    PageResult<Row> result =
+        PageResult.from(
+            params,
+            () -> List.of(new Row(1, NOW)),
+            countCalls::incrementAndGet,
+            PageResultTest::cursorOf);
+
+    assertThat(countCalls).hasValue(0);
+    assertThat(result.getTotal()).isNull();
+    assertThat(result.getTotalPages()).isNull();
+    assertThat(result.isHasNext()).isFalse();
+    assertThat(result.isHasPrevious()).isTrue();
+    assertThat(result.isLastPage()).isTrue();
+    assertThat(result.getNextCursor()).isNull();
+  }
+
+  @Test
+  @DisplayName("해석할 수 없는 커서는 쿼리를 실행하기 전에 거부된다")
+  void from_invalidCursor_shouldThrowBeforeQuery() {
+    PageParams params = new PageParams();
+    params.setCursor("not-a-cursor");
+    AtomicInteger dataCalls = new AtomicInteger();
+
+    assertThatThrownBy(
+            () ->
+                PageResult.from(
+                    params,
+                    () -> {
+                      dataCalls.incrementAndGet();
+                      return List.<Row>of();
+                    },
+                    () -> 0,
+                    PageResultTest::cursorOf))
+        .isInstanceOf(InvalidQueryParameterException.class);
+    assertThat(dataCalls).hasValue(0);
+  }
+}
@@ -0,0 +1,147 @@
+package site.icebang.unit.tests.global.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+import site.icebang.global.config.asnyc.AsyncConfig;
+import site.icebang.global.config.properties.WorkflowExecutionProperties;
+import site.icebang.global.config.properties.WorkflowExecutionProperties.ExecutorType;
+import site.icebang.unit.setup.support.UnitTestSupport;
+
+/**
+ * traceExecutor의 플랫폼 스레드 모드와 가상 스레드 모드가 동시 실행 요청을 어떻게 받아들이는지 확인하는 테스트입니다.
+ *
+ * <p>각 실행은 모든 요청이 제출될 때까지 블로킹되므로, 실행기가 동시에 실행하는 수와 거절하거나 제출을 지연시키는 시점만 확인합니다. 실제 FastAPI 호출의 지연
+ * 시간이나 처리량은 측정하지 않으며, 한 인스턴스가 유지할 수 있는 동시 실행 수는 이 테스트로 알 수 없습니다.
+ */
+class WorkflowExecutorAdmissionTest extends UnitTestSupport {
+
+  private static final int CONCURRENT_RUNS = 200;
+
+  private static final long AWAIT_TIMEOUT_SECONDS = 5;
+
+  @Test
+  @DisplayName("플랫폼 스레드 풀은 최대 스레드(50) + 큐(100)를 넘는 동시 실행 요청을 거부한다")
+  void platformExecutor_shouldRejectRunsBeyondPoolAndQueueCapacity() throws Exception {
+    WorkflowExecutionProperties properties = new WorkflowExecutionProperties();
+    properties.setExecutorType(ExecutorType.PLATFORM);
+
+    AdmissionResult result = submitBlockingRuns(properties, 50);
+
+    assertThat(result.acceptedWhileBlocked()).isEqualTo(150);
+    assertThat(result.accepted()).isEqualTo(150);
+    assertThat(result.rejected()).isEqualTo(CONCURRENT_RUNS - 150);
+    assertThat(result.peakRunning()).isEqualTo(50);
+    assertThat(result.completed()).isEqualTo(150);
+  }
+
+  @Test
+  @DisplayName("가상 스레드 실행기는 동시 실행 한도 안의 요청을 거부 없이 모두 동시에 실행한다")
+  void virtualExecutor_shouldRunAllConcurrentRuns_withinLimit() throws Exception {
+    WorkflowExecutionProperties properties = new WorkflowExecutionProperties();
+    properties.setExecutorType(ExecutorType.VIRTUAL);
+
+    AdmissionResult result = submitBlockingRuns(properties, CONCURRENT_RUNS);
+
+    assertThat(result.accepted()).isEqualTo(CONCURRENT_RUNS);
+    assertThat(result.rejected()).isZero();
+    assertThat(result.peakRunning()).isEqualTo(CONCURRENT_RUNS);
+    assertThat(result.completed()).isEqualTo(CONCURRENT_RUNS);
+  }
+
+  @Test
+  @DisplayName("가상 스레드 실행기는 동시 실행 한도에 이르면 거부하지 않고 빈 자리가 생길 때까지 제출을 지연시킨다")
+  void virtualExecutor_shouldThrottleSubmissions_atConcurrencyLimit() throws Exception {
+    WorkflowExecutionProperties properties = new WorkflowExecutionProperties();
+    properties.setExecutorType(ExecutorType.VIRTUAL);
+    properties.setVirtualConcurrencyLimit(50);
+
+    AdmissionResult result = submitBlockingRuns(properties, 50);
+
+    assertThat(result.acceptedWhileBlocked()).isEqualTo(50);
+    assertThat(result.peakRunning()).isEqualTo(50);
+    assertThat(result.accepted()).isEqualTo(CONCURRENT_RUNS);
+    assertThat(result.rejected()).isZero();
+    assertThat(result.completed()).isEqualTo(CONCURRENT_RUNS);
+  }
+
+  /**
+   * 별도 스레드에서 블로킹되는 실행을 제출하고, 동시에 실행 중인 수가 {@code expectedRunning}에 이르면 실행을 풀어 줍니다.
+   *
+   * <p>가상 스레드 실행기는 한도에 이르면 제출하는 스레드를 멈추므로, 제출은 테스트 스레드가 아닌 별도 스레드에서 합니다.
+   */
+  private AdmissionResult submitBlockingRuns(
+      WorkflowExecutionProperties properties, int expectedRunning) throws Exception {
+    AsyncTaskExecutor executor = new AsyncConfig().traceExecutor(properties);
+
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger peakRunning = new AtomicInteger();
+    AtomicInteger completed = new AtomicInteger();
+    AtomicInteger accepted = new AtomicInteger();
+    AtomicInteger rejected = new AtomicInteger();
+
+    Thread submitter =
+        Thread.ofPlatform()
+            .name("admission-test-submitter")
+            .start(
+                () -> {
+                  for (int i = 0; i < CONCURRENT_RUNS; i++) {
+                    try {
+                      executor.execute(
+                          () -> {
+                            peakRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                            try {
+                              release.await(AWAIT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                            } catch (InterruptedException e) {
+                              Thread.currentThread().interrupt();
+                            } finally {
+                              running.decrementAndGet();
+                              completed.incrementAndGet();
+                            }
+                          });
+                      accepted.incrementAndGet();
+                    } catch (TaskRejectedException e) {
+                      rejected.incrementAndGet();
+                    }
+                  }
+                });
+
+    try {
+      awaitAtLeast(running, expectedRunning);
+      // 📌 한도에 이른 뒤 제출이 더 진행되지 않는지 확인할 수 있도록 잠시 기다립니다.
+      Thread.sleep(100);
+      int acceptedWhileBlocked = accepted.get();
+      int peak = peakRunning.get();
+      release.countDown();
+      submitter.join(TimeUnit.SECONDS.toMillis(AWAIT_TIMEOUT_SECONDS));
+      awaitAtLeast(completed, accepted.get());
+      return new AdmissionResult(
+          acceptedWhileBlocked, accepted.get(), rejected.get(), peak, completed.get());
+    } finally {
+      release.countDown();
+      if (executor instanceof DisposableBean disposable) {
+        disposable.destroy();
+      }
+    }
+  }
+
+  private void awaitAtLeast(AtomicInteger counter, int expected) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(AWAIT_TIMEOUT_SECONDS);
+    while (counter.get() < expected && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+  }
+
+  private record AdmissionResult(
+      int acceptedWhileBlocked, int accepted, int rejected, int peakRunning, int completed) {}
+}
@@ -0,0 +1,85 @@
+package site.icebang.unit.tests.log;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.apache.logging.log4j.util.SortedArrayStringMap;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import site.icebang.domain.log.model.ExecutionLogEntry;
+import site.icebang.domain.log.sink.ExecutionLogBuffer;
+import site.icebang.unit.setup.support.UnitTestSupport;
+
+class ExecutionLogBufferTest extends UnitTestSupport {
+
+  @Test
+  @DisplayName("버퍼가 가득 차면 새 로그는 대기 없이 버려지고 버려진 건수가 기록된다")
+  void offer_whenFull_shouldDropNewest() {
+    ExecutionLogBuffer buffer = new ExecutionLogBuffer(2);
+
+    assertThat(buffer.offer(entry("first"))).isTrue();
+    assertThat(buffer.offer(entry("second"))).isTrue();
+    assertThat(buffer.offer(entry("third"))).isFalse();
+
+    List<ExecutionLogEntry> drained = new ArrayList<>();
+    buffer.drainTo(drained, 10);
+
+    assertThat(drained)
+        .extracting(ExecutionLogEntry::getLogMessage)
+        .containsExactly("first", "second");
+    assertThat(buffer.droppedCount()).isEqualTo(1);
+    assertThat(buffer.size()).isZero();
+  }
+
+  @Test
+  @DisplayName("drainTo는 요청한 최대 건수까지만 꺼낸다")
+  void drainTo_shouldRespectMaxEntries() {
+    ExecutionLogBuffer buffer = new ExecutionLogBuffer(10);
+    for (int i = 0; i < 5; i++) {
+      buffer.offer(entry("log-" + i));
+    }
+
+    List<ExecutionLogEntry> batch = new ArrayList<>();
+    int drained = buffer.drainTo(batch, 3);
+
+    assertThat(drained).isEqualTo(3);
+    assertThat(buffer.size()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("로그 이벤트의 MDC에서 실행 컨텍스트를 추출하고, 메시지는 컬럼 길이에 맞게 잘라낸다")
+  void from_shouldCopyMdcAndTruncateMessage() {
+    SortedArrayStringMap contextData = new SortedArrayStringMap();
+    contextData.putValue("executionType", "TASK");
+    contextData.putValue("sourceId", "42");
+    contextData.putValue("traceId", "trace-1");
+    LogEvent event =
+        Log4jLogEvent.newBuilder()
+            .setLevel(Level.INFO)
+            .setMessage(new SimpleMessage("a".repeat(600)))
+            .setContextData(contextData)
+            .setTimeMillis(1_000L)
+            .build();
+
+    ExecutionLogEntry entry = ExecutionLogEntry.from(event);
+
+    assertThat(entry.getExecutionType()).isEqualTo("TASK");
+    assertThat(entry.getSourceId()).isEqualTo(42L);
+    assertThat(entry.getTraceId()).isEqualTo("trace-1");
+    assertThat(entry.getLogLevel()).isEqualTo("INFO");
+    assertThat(entry.getExecutedAt()).isEqualTo(Instant.ofEpochMilli(1_000L));
+    assertThat(entry.getLogMessage()).hasSize(ExecutionLogEntry.MAX_MESSAGE_LENGTH);
+  }
+
+  private ExecutionLogEntry entry(String message) {
+    return ExecutionLogEntry.of("WORKFLOW", 1L, "INFO", Instant.now(), message, null, null);
+  }
+}
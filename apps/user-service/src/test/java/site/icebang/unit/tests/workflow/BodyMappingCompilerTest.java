@@ -0,0 +1,91 @@
+package site.icebang.unit.tests.workflow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import site.icebang.domain.workflow.context.WorkflowContext;
+import site.icebang.domain.workflow.context.WorkflowContextFactory;
+import site.icebang.domain.workflow.model.Task;
+import site.icebang.domain.workflow.runner.fastapi.body.BodyMappingCompiler;
+import site.icebang.domain.workflow.runner.fastapi.body.TaskBodyBuilder;
+import site.icebang.global.config.properties.WorkflowContextProperties;
+import site.icebang.unit.setup.support.UnitTestSupport;
+
+class BodyMappingCompilerTest extends UnitTestSupport {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final BodyMappingCompiler compiler = new BodyMappingCompiler();
+
+  @Test
+  @DisplayName("선행 Task 결과, Task 설정, 기본값으로 요청 Body를 구성하고 선행 Task를 의존 관계로 노출한다")
+  void compile_shouldBuildBodyFromSpec() throws Exception {
+    Task task =
+        task(
+            """
+            {"endpoint": "/blogs/rag/create", "body_mapping": [
+              {"target": "keyword", "source": "키워드 검색 태스크", "pointer": "/data/keyword"},
+              {"target": "product_info", "source": "상품 선택 태스크", "pointer": "/data/selected"},
+              {"target": "tag", "setting": "tag"},
+              {"target": "content_type", "default": "review_blog"},
+              {"target": "target_length", "source": "상품 선택 태스크", "pointer": "/data/length",
+               "default": 1000}
+            ]}
+            """,
+            "{\"tag\": \"naver\"}");
+    WorkflowContext context =
+        new WorkflowContextFactory(
+                new WorkflowContextProperties(), objectMapper, new SimpleMeterRegistry())
+            .create(1L);
+    context.put("키워드 검색 태스크", "{\"data\": {\"keyword\": \"캠핑\"}}");
+    context.put("상품 선택 태스크", "{\"data\": {\"selected\": {\"id\": 7}}}");
+
+    TaskBodyBuilder builder = compiler.compile(task).orElseThrow();
+    ObjectNode body = builder.build(task, context);
+
+    assertThat(builder.getSourceTaskNames()).containsExactly("키워드 검색 태스크", "상품 선택 태스크");
+    assertThat(body.path("keyword").asText()).isEqualTo("캠핑");
+    assertThat(body.path("product_info").path("id").asInt()).isEqualTo(7);
+    assertThat(body.path("tag").asText()).isEqualTo("naver");
+    assertThat(body.path("content_type").asText()).isEqualTo("review_blog");
+    assertThat(body.path("target_length").asInt()).isEqualTo(1000);
+  }
+
+  @Test
+  @DisplayName("명세가 없으면 기존 BodyBuilder를 사용하도록 빈 값을 반환하고, 잘못된 명세는 거부한다")
+  void compile_withoutSpec_orInvalidSpec() throws Exception {
+    assertThat(compiler.compile(task("{\"endpoint\": \"/keywords/search\"}", "{}"))).isEmpty();
+
+    assertThatThrownBy(() -> compiler.compile(task("{\"body_mapping\": {}}", "{}")))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(
+            () -> compiler.compile(task("{\"body_mapping\": [{\"target\": \"keyword\"}]}", "{}")))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(
+            () ->
+                compiler.compile(
+                    task(
+                        "{\"body_mapping\":"
+                            + " [{\"target\": \"a\", \"source\": \"b\", \"pointer\": \"data\"}]}",
+                        "{}")))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private Task task(String parameters, String settings) throws Exception {
+    return new Task(
+        1L,
+        "블로그 RAG 생성 태스크",
+        "FastAPI",
+        objectMapper.readTree(parameters),
+        objectMapper.readTree(settings),
+        null,
+        null);
+  }
+}
@@ -0,0 +1,153 @@
+package site.icebang.unit.tests.workflow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import site.icebang.domain.workflow.executor.DependencyGraph;
+import site.icebang.domain.workflow.executor.DependencyGraphExecutor;
+import site.icebang.unit.setup.support.UnitTestSupport;
+
+class DependencyGraphExecutorTest extends UnitTestSupport {
+
+  private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  private record Node(String name, List<String> reads) {}
+
+  @Test
+  @DisplayName("앞선 노드만 의존 관계로 연결되고, 의존 관계를 모르는 노드는 앞선 모든 노드에 의존한다")
+  void of_shouldLinkOnlyPreviousNodes() {
+    List<Node> nodes =
+        List.of(
+            new Node("keyword", List.of()),
+            new Node("search", List.of("keyword")),
+            new Node("match", List.of("keyword", "later", "external")),
+            new Node("unknown", null),
+            new Node("later", List.of()));
+
+    DependencyGraph<Node> graph = DependencyGraph.of(nodes, Node::name, Node::reads);
+
+    assertThat(graph.dependenciesOf(0)).isEmpty();
+    assertThat(graph.dependenciesOf(1)).containsExactly(0);
+    assertThat(graph.dependenciesOf(2)).containsExactly(0);
+    assertThat(graph.dependenciesOf(3)).containsExactly(0, 1, 2);
+    assertThat(graph.dependenciesOf(4)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("서로 의존하지 않는 노드는 동시에 실행되고, 의존 노드는 선행 노드가 끝난 뒤 실행된다")
+  void execute_shouldRunIndependentNodesConcurrently() {
+    List<Node> nodes =
+        List.of(
+            new Node("a", List.of()),
+            new Node("b", List.of()),
+            new Node("c", List.of("a", "b")));
+    DependencyGraph<Node> graph = DependencyGraph.of(nodes, Node::name, Node::reads);
+    CountDownLatch bothStarted = new CountDownLatch(2);
+    Map<String, Long> finishedAt = new ConcurrentHashMap<>();
+    AtomicInteger finishedBeforeC = new AtomicInteger(-1);
+
+    DependencyGraphExecutor.execute(
+        graph,
+        4,
+        executor,
+        node -> {
+          if (!node.name().equals("c")) {
+            bothStarted.countDown();
+            awaitQuietly(bothStarted);
+          } else {
+            finishedBeforeC.set(finishedAt.size());
+          }
+          finishedAt.put(node.name(), System.nanoTime());
+        });
+
+    assertThat(bothStarted.getCount()).isZero();
+    assertThat(finishedBeforeC.get()).isEqualTo(2);
+    assertThat(finishedAt).containsKeys("a", "b", "c");
+  }
+
+  @Test
+  @DisplayName("동시 실행 수가 1이면 입력 순서대로 하나씩 실행된다")
+  void execute_withSingleConcurrency_shouldRunSequentially() {
+    List<Node> nodes =
+        List.of(new Node("a", List.of()), new Node("b", List.of()), new Node("c", List.of()));
+    DependencyGraph<Node> graph = DependencyGraph.of(nodes, Node::name, Node::reads);
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxRunning = new AtomicInteger();
+    StringBuffer order = new StringBuffer();
+
+    DependencyGraphExecutor.execute(
+        graph,
+        1,
+        executor,
+        node -> {
+          maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+          order.append(node.name());
+          running.decrementAndGet();
+        });
+
+    assertThat(maxRunning.get()).isEqualTo(1);
+    assertThat(order.toString()).isEqualTo("abc");
+  }
+
+  @Test
+  @DisplayName("취소되면 실행 중인 노드는 끝까지 기다리고, 아직 시작하지 않은 노드는 실행하지 않는다")
+  void execute_shouldNotStartRemainingNodes_whenCancelled() {
+    List<Node> nodes =
+        List.of(
+            new Node("a", List.of()),
+            new Node("b", List.of()),
+            new Node("c", List.of("a")),
+            new Node("d", List.of()));
+    DependencyGraph<Node> graph = DependencyGraph.of(nodes, Node::name, Node::reads);
+    CountDownLatch bothStarted = new CountDownLatch(2);
+    CountDownLatch cancelledLatch = new CountDownLatch(1);
+    AtomicBoolean cancelled = new AtomicBoolean();
+    StringBuffer order = new StringBuffer();
+
+    // a와 b가 모두 시작된 뒤 취소되고, 두 노드 모두 취소된 뒤에 끝난다
+    DependencyGraphExecutor.execute(
+        graph,
+        2,
+        executor,
+        cancelled::get,
+        node -> {
+          bothStarted.countDown();
+          awaitQuietly(bothStarted);
+          if (node.name().equals("a")) {
+            cancelled.set(true);
+            cancelledLatch.countDown();
+          } else {
+            awaitQuietly(cancelledLatch);
+          }
+          order.append(node.name());
+        });
+
+    assertThat(order.toString()).contains("a", "b").doesNotContain("c", "d");
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
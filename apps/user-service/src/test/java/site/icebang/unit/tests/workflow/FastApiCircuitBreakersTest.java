@@ -0,0 +1,119 @@
+package site.icebang.unit.tests.workflow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import site.icebang.external.fastapi.adapter.FastApiCircuitBreakers;
+import site.icebang.external.fastapi.exception.FailureType;
+import site.icebang.external.fastapi.exception.FastApiCallException;
+import site.icebang.global.config.properties.FastApiResilienceProperties;
+import site.icebang.unit.setup.support.UnitTestSupport;
+
+class FastApiCircuitBreakersTest extends UnitTestSupport {
+
+  private static final String CRAWL = "/products/crawl";
+  private static final String SEARCH = "/keywords/search";
+
+  private SimpleMeterRegistry meterRegistry;
+  private FastApiCircuitBreakers circuitBreakers;
+
+  @BeforeEach
+  void setUp() {
+    FastApiResilienceProperties.Settings settings = new FastApiResilienceProperties.Settings();
+    settings.setSlidingWindowSize(4);
+    settings.setMinimumCalls(4);
+    settings.setFailureRateThreshold(50);
+    settings.setWaitDurationInOpenState(100);
+    settings.setPermittedCallsInHalfOpenState(2);
+    settings.setMaxConcurrentCalls(2);
+    FastApiResilienceProperties properties = new FastApiResilienceProperties();
+    properties.setDefaults(settings);
+    meterRegistry = new SimpleMeterRegistry();
+    circuitBreakers = new FastApiCircuitBreakers(properties, meterRegistry);
+  }
+
+  @Test
+  @DisplayName("실패율이 임계값을 넘으면 해당 엔드포인트만 회로를 열고, 대기 후 시험 호출이 성공하면 닫는다")
+  void acquire_shouldOpenOnFailureRate_andCloseAfterHalfOpenProbes() throws Exception {
+    circuitBreakers.acquire(CRAWL).onSuccess();
+    circuitBreakers.acquire(CRAWL).onFailure(new FastApiCallException(503, null, "unavailable"));
+    // 4xx 응답은 실패로 집계하지 않습니다.
+    circuitBreakers.acquire(CRAWL).onFailure(new FastApiCallException(400, null, "bad request"));
+    assertThat(circuitBreakers.stateOf(CRAWL)).isEqualTo(FastApiCircuitBreakers.State.CLOSED);
+
+    circuitBreakers.acquire(CRAWL).onFailure(new FastApiCallException(503, null, "unavailable"));
+
+    assertThat(circuitBreakers.stateOf(CRAWL)).isEqualTo(FastApiCircuitBreakers.State.OPEN);
+    assertThatThrownBy(() -> circuitBreakers.acquire(CRAWL))
+        .isInstanceOfSatisfying(
+            FastApiCallException.class,
+            e -> {
+              assertThat(e.getFailureType()).isEqualTo(FailureType.REJECTED);
+              assertThat(e.getRetryAfter()).isPositive();
+            });
+    assertThat(rejected(CRAWL, "circuit_open")).isEqualTo(1.0);
+    assertThat(stateGauge(CRAWL, "open")).isEqualTo(1.0);
+    circuitBreakers.acquire(SEARCH).onSuccess();
+
+    Thread.sleep(150);
+    FastApiCircuitBreakers.Permit first = circuitBreakers.acquire(CRAWL);
+    FastApiCircuitBreakers.Permit second = circuitBreakers.acquire(CRAWL);
+    assertThat(circuitBreakers.stateOf(CRAWL)).isEqualTo(FastApiCircuitBreakers.State.HALF_OPEN);
+    assertThatThrownBy(() -> circuitBreakers.acquire(CRAWL))
+        .isInstanceOf(FastApiCallException.class);
+
+    first.onSuccess();
+    second.onSuccess();
+
+    assertThat(circuitBreakers.stateOf(CRAWL)).isEqualTo(FastApiCircuitBreakers.State.CLOSED);
+    assertThat(stateGauge(CRAWL, "closed")).isEqualTo(1.0);
+  }
+
+  @Test
+  @DisplayName("동시 호출 수가 한도에 도달하면 기다리지 않고 거절하며, 허가가 반환되면 다시 허용한다")
+  void acquire_shouldRejectWhenBulkheadIsFull() {
+    FastApiCircuitBreakers.Permit first = circuitBreakers.acquire(CRAWL);
+    circuitBreakers.acquire(CRAWL);
+
+    assertThatThrownBy(() -> circuitBreakers.acquire(CRAWL))
+        .isInstanceOfSatisfying(
+            FastApiCallException.class,
+            e -> assertThat(e.getFailureType()).isEqualTo(FailureType.REJECTED));
+    assertThat(rejected(CRAWL, "bulkhead_full")).isEqualTo(1.0);
+    assertThat(meterRegistry.get("fastapi.bulkhead.active").tag("endpoint", CRAWL).gauge().value())
+        .isEqualTo(2.0);
+
+    // 다른 엔드포인트는 영향을 받지 않습니다.
+    circuitBreakers.acquire(SEARCH).onSuccess();
+
+    first.onSuccess();
+    first.onSuccess();
+    circuitBreakers.acquire(CRAWL);
+    assertThatThrownBy(() -> circuitBreakers.acquire(CRAWL))
+        .isInstanceOf(FastApiCallException.class);
+  }
+
+  private double rejected(String endpoint, String reason) {
+    return meterRegistry
+        .get("fastapi.circuitbreaker.rejected")
+        .tag("endpoint", endpoint)
+        .tag("reason", reason)
+        .counter()
+        .count();
+  }
+
+  private double stateGauge(String endpoint, String state) {
+    return meterRegistry
+        .get("fastapi.circuitbreaker.state")
+        .tag("endpoint", endpoint)
+        .tag("state", state)
+        .gauge()
+        .value();
+  }
+}
@@ -0,0 +1,131 @@
+package site.icebang.unit.tests.workflow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import site.icebang.external.fastapi.adapter.FastApiRequestCoalescer;
+import site.icebang.global.config.properties.FastApiProperties;
+import site.icebang.unit.setup.support.UnitTestSupport;
+
+class FastApiRequestCoalescerTest extends UnitTestSupport {
+
+  private SimpleMeterRegistry meterRegistry;
+  private FastApiRequestCoalescer coalescer;
+
+  @BeforeEach
+  void setUp() {
+    FastApiProperties properties = new FastApiProperties();
+    properties.setIdempotentEndpoints(List.of("/keywords/search"));
+    meterRegistry = new SimpleMeterRegistry();
+    coalescer = new FastApiRequestCoalescer(properties, meterRegistry);
+  }
+
+  @Test
+  @DisplayName("진행 중인 동일한 멱등 요청은 한 번만 전송되고, 모든 호출자가 같은 결과를 받는다")
+  void execute_shouldCoalesceIdenticalInFlightRequests() {
+    AtomicInteger upstreamCalls = new AtomicInteger();
+    CompletableFuture<String> upstream = new CompletableFuture<>();
+
+    CompletableFuture<String> first =
+        coalescer.execute(
+            "/keywords/search",
+            HttpMethod.POST,
+            "{\"tag\":\"naver\"}",
+            () -> {
+              upstreamCalls.incrementAndGet();
+              return upstream;
+            });
+    CompletableFuture<String> second =
+        coalescer.execute(
+            "/keywords/search",
+            HttpMethod.POST,
+            "{\"tag\":\"naver\"}",
+            () -> {
+              upstreamCalls.incrementAndGet();
+              return CompletableFuture.completedFuture("unexpected");
+            });
+    upstream.complete("{\"data\": {\"keyword\": \"캠핑\"}}");
+
+    assertThat(upstreamCalls).hasValue(1);
+    assertThat(first.join()).isEqualTo(second.join()).contains("캠핑");
+    assertThat(requests("leader")).isEqualTo(1);
+    assertThat(requests("coalesced")).isEqualTo(1);
+    assertThat(meterRegistry.get("fastapi.coalescing.in.flight").gauge().value()).isZero();
+
+    // 완료된 요청은 보관하지 않으므로 다음 요청은 다시 전송됩니다.
+    coalescer.execute(
+        "/keywords/search",
+        HttpMethod.POST,
+        "{\"tag\":\"naver\"}",
+        () -> {
+          upstreamCalls.incrementAndGet();
+          return CompletableFuture.completedFuture("{}");
+        });
+    assertThat(upstreamCalls).hasValue(2);
+  }
+
+  @Test
+  @DisplayName("멱등으로 지정되지 않은 엔드포인트나 Body가 다른 요청은 합치지 않는다")
+  void execute_shouldNotCoalesceNonIdempotentOrDifferentRequests() {
+    AtomicInteger upstreamCalls = new AtomicInteger();
+    CompletableFuture<String> pending = new CompletableFuture<>();
+
+    coalescer.execute(
+        "/blogs/publish",
+        HttpMethod.POST,
+        "{}",
+        () -> {
+          upstreamCalls.incrementAndGet();
+          return pending;
+        });
+    coalescer.execute(
+        "/blogs/publish",
+        HttpMethod.POST,
+        "{}",
+        () -> {
+          upstreamCalls.incrementAndGet();
+          return pending;
+        });
+    coalescer.execute(
+        "/keywords/search",
+        HttpMethod.POST,
+        "{\"tag\":\"naver\"}",
+        () -> {
+          upstreamCalls.incrementAndGet();
+          return pending;
+        });
+    coalescer.execute(
+        "/keywords/search",
+        HttpMethod.POST,
+        "{\"tag\":\"naver_store\"}",
+        () -> {
+          upstreamCalls.incrementAndGet();
+          return pending;
+        });
+
+    assertThat(upstreamCalls).hasValue(4);
+    assertThat(coalescer.isCoalescable("/products/select", HttpMethod.GET)).isTrue();
+    assertThat(coalescer.isCoalescable("/products/select", HttpMethod.POST)).isFalse();
+    assertThat(coalescer.isIdempotent("/keywords/search", HttpMethod.POST)).isTrue();
+    assertThat(coalescer.isIdempotent("/blogs/publish", HttpMethod.POST)).isFalse();
+  }
+
+  private double requests(String result) {
+    return meterRegistry
+        .get("fastapi.coalescing.requests")
+        .tag("endpoint", "/keywords/search")
+        .tag("result", result)
+        .counter()
+        .count();
+  }
+}
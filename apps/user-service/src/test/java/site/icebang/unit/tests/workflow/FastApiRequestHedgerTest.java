@@ -0,0 +1,133 @@
+package site.icebang.unit.tests.workflow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import site.icebang.external.fastapi.adapter.FastApiRequestHedger;
+import site.icebang.external.fastapi.exception.FailureType;
+import site.icebang.external.fastapi.exception.FastApiCallException;
+import site.icebang.global.config.properties.FastApiHedgingProperties;
+import site.icebang.unit.setup.support.UnitTestSupport;
+
+class FastApiRequestHedgerTest extends UnitTestSupport {
+
+  private static final String ENDPOINT = "/keywords/search";
+
+  private SimpleMeterRegistry meterRegistry;
+  private FastApiRequestHedger hedger;
+
+  @BeforeEach
+  void setUp() {
+    FastApiHedgingProperties properties = new FastApiHedgingProperties();
+    properties.setMinSamples(5);
+    properties.setMinDelay(20);
+    properties.setBudgetRatio(0.5);
+    meterRegistry = new SimpleMeterRegistry();
+    hedger = new FastApiRequestHedger(properties, meterRegistry);
+  }
+
+  @AfterEach
+  void tearDown() {
+    hedger.shutdown();
+  }
+
+  @Test
+  @DisplayName("표본이 쌓이기 전에는 헤지하지 않고, 이후 응답이 늦어지면 헤지 요청의 응답으로 먼저 완료된다")
+  void execute_shouldHedgeSlowCall_afterWarmUp() throws Exception {
+    AtomicInteger calls = new AtomicInteger();
+    for (int i = 0; i < 5; i++) {
+      assertThat(hedger.execute(ENDPOINT, () -> respond(calls, "fast")).get(1, TimeUnit.SECONDS))
+          .isEqualTo("fast");
+    }
+    assertThat(calls.get()).isEqualTo(5);
+    assertThat(gauge("fastapi.hedging.delay")).isEqualTo(20.0);
+
+    CompletableFuture<String> stuck = new CompletableFuture<>();
+    AtomicInteger attempts = new AtomicInteger();
+    CompletableFuture<String> result =
+        hedger.execute(
+            ENDPOINT,
+            () ->
+                attempts.incrementAndGet() == 1
+                    ? stuck
+                    : CompletableFuture.completedFuture("hedged"));
+
+    assertThat(result.get(1, TimeUnit.SECONDS)).isEqualTo("hedged");
+    assertThat(attempts.get()).isEqualTo(2);
+    assertThat(counter("fastapi.hedging.sent")).isEqualTo(1.0);
+    assertThat(counter("fastapi.hedging.wins")).isEqualTo(1.0);
+
+    // 늦게 도착한 응답은 결과를 바꾸지 않습니다.
+    stuck.complete("late");
+    assertThat(result.get()).isEqualTo("hedged");
+  }
+
+  @Test
+  @DisplayName("헤지 예산이 없으면 헤지하지 않고, 헤지 전에 실패한 요청은 바로 실패한다")
+  void execute_shouldRespectBudget_andFailFastBeforeHedge() throws Exception {
+    FastApiHedgingProperties properties = new FastApiHedgingProperties();
+    properties.setMinSamples(1);
+    properties.setMinDelay(20);
+    properties.setBudgetRatio(0.0);
+    FastApiRequestHedger noBudget = new FastApiRequestHedger(properties, meterRegistry);
+    try {
+      noBudget.execute(ENDPOINT, () -> CompletableFuture.completedFuture("warm")).get();
+
+      CompletableFuture<String> slow = new CompletableFuture<>();
+      AtomicInteger attempts = new AtomicInteger();
+      CompletableFuture<String> result =
+          noBudget.execute(
+              ENDPOINT,
+              () -> {
+                attempts.incrementAndGet();
+                return slow;
+              });
+      Thread.sleep(100);
+      assertThat(attempts.get()).isEqualTo(1);
+      assertThat(counter("fastapi.hedging.budget.exhausted")).isEqualTo(1.0);
+      slow.complete("slow");
+      assertThat(result.get(1, TimeUnit.SECONDS)).isEqualTo("slow");
+    } finally {
+      noBudget.shutdown();
+    }
+
+    CompletableFuture<String> failed =
+        hedger.execute(
+            "/products/search",
+            () ->
+                CompletableFuture.failedFuture(
+                    new FastApiCallException(503, null, "unavailable")));
+    assertThatThrownBy(() -> failed.get(1, TimeUnit.SECONDS))
+        .isInstanceOf(ExecutionException.class)
+        .hasCauseInstanceOf(FastApiCallException.class)
+        .satisfies(
+            e ->
+                assertThat(((FastApiCallException) e.getCause()).getFailureType())
+                    .isEqualTo(FailureType.SERVER_ERROR));
+  }
+
+  private static CompletableFuture<String> respond(AtomicInteger calls, String body) {
+    calls.incrementAndGet();
+    return CompletableFuture.completedFuture(body);
+  }
+
+  private double gauge(String name) {
+    return meterRegistry.get(name).tag("endpoint", ENDPOINT).gauge().value();
+  }
+
+  private double counter(String name) {
+    return meterRegistry.get(name).tag("endpoint", ENDPOINT).counter().count();
+  }
+}
@@ -0,0 +1,83 @@
+package site.icebang.unit.tests.workflow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import site.icebang.common.utils.MdcPropagation;
+import site.icebang.domain.workflow.retry.RetryScheduler;
+import site.icebang.unit.setup.support.UnitTestSupport;
+
+class RetrySchedulerTest extends UnitTestSupport {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final RetryScheduler scheduler = new RetryScheduler(meterRegistry);
+  private final ExecutorService executor =
+      Executors.newSingleThreadExecutor(Thread.ofPlatform().name("retry-worker").factory());
+
+  @AfterEach
+  void tearDown() {
+    scheduler.shutdown();
+    executor.shutdownNow();
+    MDC.clear();
+  }
+
+  @Test
+  @DisplayName("대기가 끝나면 전달받은 실행기에서 재시도를 시작하고, 호출 시점의 MDC를 유지한다")
+  void schedule_shouldRunRetryOnExecutor_withMdc() throws Exception {
+    MDC.put("traceId", "trace-1");
+    long startedAt = System.nanoTime();
+
+    CompletableFuture<String> result =
+        scheduler.schedule(
+            100,
+            MdcPropagation.withCurrentMdc(executor),
+            () ->
+                CompletableFuture.completedFuture(
+                    Thread.currentThread().getName() + ":" + MDC.get("traceId")));
+
+    assertThat(pendingGauge()).isEqualTo(1.0);
+    assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("retry-worker:trace-1");
+    assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt))
+        .isGreaterThanOrEqualTo(100);
+    assertThat(pendingGauge()).isZero();
+  }
+
+  @Test
+  @DisplayName("재시도가 실패하면 같은 예외로 완료되고, 종료 시 대기 중인 재시도는 취소된다")
+  void schedule_shouldPropagateFailure_andCancelOnShutdown() {
+    CompletableFuture<String> failed =
+        scheduler.schedule(
+            0, executor, () -> CompletableFuture.failedFuture(new IllegalStateException("boom")));
+    assertThatThrownBy(() -> failed.get(5, TimeUnit.SECONDS))
+        .isInstanceOf(ExecutionException.class)
+        .hasCauseInstanceOf(IllegalStateException.class);
+
+    CompletableFuture<String> waiting =
+        scheduler.schedule(60000, executor, () -> CompletableFuture.completedFuture("late"));
+    assertThat(scheduler.getPendingCount()).isEqualTo(1);
+
+    scheduler.shutdown();
+
+    assertThat(waiting).isCompletedExceptionally();
+    assertThatThrownBy(waiting::join).isInstanceOf(CancellationException.class);
+    assertThat(pendingGauge()).isZero();
+  }
+
+  private double pendingGauge() {
+    return meterRegistry.get("workflow.task.retry.pending").gauge().value();
+  }
+}
@@ -0,0 +1,67 @@
+package site.icebang.unit.tests.workflow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import site.icebang.domain.workflow.io.TaskIoCodec;
+import site.icebang.domain.workflow.model.TaskIoData;
+import site.icebang.global.config.properties.TaskIoProperties;
+import site.icebang.unit.setup.support.UnitTestSupport;
+
+class TaskIoCodecTest extends UnitTestSupport {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @Test
+  @DisplayName("작은 값은 그대로, 큰 값은 압축하여 저장하고 원래 값으로 복원한다")
+  void encode_shouldCompressLargeValues_andDecodeToOriginal() throws Exception {
+    TaskIoCodec codec = codec(64, 1024);
+    String small = "{\"data\": {\"keyword\": \"캠핑\"}}";
+    String large = "{\"data\": {\"products\": \"" + "상품".repeat(100) + "\"}}";
+
+    TaskIoData smallRow = codec.encode(1L, "INPUT", "request_body", "json", small, Instant.now());
+    TaskIoData largeRow = codec.encode(1L, "OUTPUT", "response_body", "json", large, Instant.now());
+    TaskIoData errorRow =
+        codec.encode(1L, "OUTPUT", "error_message", "string", "HTTP 500 \"오류\"", Instant.now());
+
+    assertThat(smallRow.getDataType()).isEqualTo("json");
+    assertThat(smallRow.getDataSize()).isEqualTo(small.getBytes("UTF-8").length);
+    assertThat(codec.decode(smallRow)).isEqualTo(objectMapper.readTree(small));
+
+    assertThat(largeRow.getDataType()).isEqualTo("json+gzip");
+    assertThat(TaskIoCodec.isCompressed(largeRow)).isTrue();
+    assertThat(TaskIoCodec.baseType(largeRow)).isEqualTo("json");
+    assertThat(largeRow.getDataValue().length()).isLessThan(large.length());
+    assertThat(objectMapper.readTree(largeRow.getDataValue()).isTextual()).isTrue();
+    assertThat(codec.decode(largeRow)).isEqualTo(objectMapper.readTree(large));
+
+    assertThat(errorRow.getDataType()).isEqualTo("string");
+    assertThat(codec.decode(errorRow).asText()).isEqualTo("HTTP 500 \"오류\"");
+  }
+
+  @Test
+  @DisplayName("최대 크기를 넘는 값은 저장하지 않고 원본 크기만 기록한다")
+  void encode_shouldOmitValuesOverMaxSize() throws Exception {
+    TaskIoCodec codec = codec(64, 128);
+    String huge = "{\"data\": \"" + "x".repeat(500) + "\"}";
+
+    TaskIoData row = codec.encode(1L, "OUTPUT", "response_body", "json", huge, Instant.now());
+
+    assertThat(row.getDataValue()).isNull();
+    assertThat(row.getDataSize()).isEqualTo(huge.length());
+    assertThat(codec.decode(row)).isNull();
+  }
+
+  private TaskIoCodec codec(int compressThreshold, int maxSize) {
+    TaskIoProperties properties = new TaskIoProperties();
+    properties.setCompressThreshold(compressThreshold);
+    properties.setMaxSize(maxSize);
+    return new TaskIoCodec(objectMapper, properties);
+  }
+}
@@ -0,0 +1,117 @@
+package site.icebang.unit.tests.workflow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import site.icebang.domain.workflow.model.Task;
+import site.icebang.domain.workflow.ratelimit.TaskRateLimiter;
+import site.icebang.global.config.properties.TaskRateLimitProperties;
+import site.icebang.unit.setup.support.UnitTestSupport;
+
+class TaskRateLimiterTest extends UnitTestSupport {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private SimpleMeterRegistry meterRegistry;
+  private TaskRateLimiter rateLimiter;
+
+  @BeforeEach
+  void setUp() {
+    TaskRateLimitProperties properties = new TaskRateLimitProperties();
+    properties.getEndpoints().put("/blogs/publish", limit(2, 100));
+    properties.getSettings().put("blog_id", limit(1, 200));
+    meterRegistry = new SimpleMeterRegistry();
+    rateLimiter = new TaskRateLimiter(properties, meterRegistry);
+  }
+
+  @AfterEach
+  void tearDown() {
+    rateLimiter.shutdown();
+  }
+
+  @Test
+  @DisplayName("같은 계정으로 게시하는 Task는 실패하지 않고 토큰이 채워질 때까지 순서대로 대기한다")
+  void acquire_shouldQueueTasksSharingAccount() throws Exception {
+    Task first = publishTask(1L, "naver_blog", "account-a");
+    Task second = publishTask(2L, "naver_blog", "account-a");
+
+    assertThat(rateLimiter.acquire(first)).isCompletedWithValue(0L);
+    CompletableFuture<Long> queued = rateLimiter.acquire(second);
+
+    assertThat(queued).isNotDone();
+    assertThat(meterRegistry.get("workflow.task.rate.limit.queued").gauge().value())
+        .isEqualTo(1.0);
+    assertThat(queued.get(1, TimeUnit.SECONDS)).isBetween(150L, 200L);
+    assertThat(meterRegistry.get("workflow.task.rate.limit.queued").gauge().value()).isZero();
+    assertThat(
+            meterRegistry
+                .get("workflow.task.rate.limit.wait")
+                .tag("limit", "setting:blog_id")
+                .timer()
+                .count())
+        .isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("다른 계정이나 다른 플랫폼의 같은 계정 ID는 엔드포인트 한도 안에서 대기 없이 실행되고, 제한이 없는 Task는 바로 실행된다")
+  void acquire_shouldSeparateBucketsByAccountAndPlatform() {
+    assertThat(rateLimiter.acquire(publishTask(1L, "naver_blog", "account-a")))
+        .isCompletedWithValue(0L);
+    assertThat(rateLimiter.acquire(publishTask(2L, "tstory_blog", "account-a")))
+        .isCompletedWithValue(0L);
+    // 엔드포인트 버킷(capacity 2)이 소진되어 세 번째 게시는 대기합니다.
+    assertThat(rateLimiter.acquire(publishTask(3L, "blogger", "account-b"))).isNotDone();
+
+    ObjectNode parameters = objectMapper.createObjectNode().put("endpoint", "/keywords/search");
+    Task search = new Task(4L, "키워드 검색 태스크", "FastAPI", parameters, null, null, null);
+    assertThat(rateLimiter.acquire(search)).isCompletedWithValue(0L);
+  }
+
+  @Test
+  @DisplayName("대기가 제한 시간을 넘으면 어떤 버킷의 토큰도 예약하지 않고 바로 실패하며, 실행하지 않은 토큰은 돌려줄 수 있다")
+  void acquire_shouldFailWithoutReserving_whenWaitExceedsDeadline() {
+    Task first = publishTask(1L, "naver_blog", "account-a");
+    Task late = publishTask(2L, "naver_blog", "account-a");
+    assertThat(rateLimiter.acquire(first)).isCompletedWithValue(0L);
+
+    // 계정 버킷 대기(약 200ms)가 남은 제한 시간(50ms)을 넘는다
+    CompletableFuture<Long> rejected =
+        rateLimiter.acquire(late, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(50));
+    assertThat(rejected).isCompletedExceptionally();
+    assertThat(rejected.exceptionNow()).isInstanceOf(TimeoutException.class);
+
+    // 엔드포인트 버킷(capacity 2)의 토큰도 돌려주었으므로 다른 계정은 대기 없이 실행된다
+    assertThat(rateLimiter.acquire(publishTask(3L, "naver_blog", "account-b")))
+        .isCompletedWithValue(0L);
+
+    // 실행하지 않은 첫 Task의 토큰을 돌려주면 같은 계정도 대기 없이 실행된다
+    rateLimiter.release(first);
+    assertThat(rateLimiter.acquire(publishTask(4L, "naver_blog", "account-a")))
+        .isCompletedWithValue(0L);
+  }
+
+  private Task publishTask(Long id, String tag, String blogId) {
+    ObjectNode parameters = objectMapper.createObjectNode().put("endpoint", "/blogs/publish");
+    ObjectNode settings = objectMapper.createObjectNode().put("tag", tag).put("blog_id", blogId);
+    return new Task(id, "블로그 발행 태스크", "FastAPI", parameters, settings, null, null);
+  }
+
+  private static TaskRateLimitProperties.Limit limit(int capacity, long refillInterval) {
+    TaskRateLimitProperties.Limit limit = new TaskRateLimitProperties.Limit();
+    limit.setCapacity(capacity);
+    limit.setRefillInterval(refillInterval);
+    return limit;
+  }
+}
@@ -0,0 +1,78 @@
+package site.icebang.unit.tests.workflow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import site.icebang.domain.workflow.cache.TaskResultCache;
+import site.icebang.domain.workflow.model.Task;
+import site.icebang.global.config.properties.WorkflowCacheProperties;
+import site.icebang.unit.setup.support.UnitTestSupport;
+
+class TaskResultCacheTest extends UnitTestSupport {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final TaskResultCache cache =
+      new TaskResultCache(objectMapper, new WorkflowCacheProperties(), meterRegistry);
+
+  private Task task(Long id, String parameters) throws Exception {
+    JsonNode node = parameters == null ? null : objectMapper.readTree(parameters);
+    return new Task(id, "키워드 검색 태스크", "FastAPI", node, null, null, null);
+  }
+
+  @Test
+  @DisplayName("필드 순서만 다른 요청 Body는 같은 키를 갖고, 값이 다르면 다른 키를 갖는다")
+  void keyOf_shouldIgnoreFieldOrder() throws Exception {
+    Task task = task(1L, "{\"cache_ttl_seconds\": 300}");
+
+    JsonNode body = objectMapper.readTree("{\"tag\": \"naver\", \"opt\": {\"a\": 1, \"b\": 2}}");
+    JsonNode reorderedBody =
+        objectMapper.readTree("{\"opt\": {\"b\": 2, \"a\": 1}, \"tag\": \"naver\"}");
+    JsonNode differentBody = objectMapper.readTree("{\"tag\": \"naver_store\"}");
+
+    TaskResultCache.Key key = cache.keyOf(task, body);
+
+    assertThat(key).isNotNull().isEqualTo(cache.keyOf(task, reorderedBody));
+    assertThat(cache.keyOf(task, differentBody)).isNotEqualTo(key);
+    assertThat(cache.keyOf(task(2L, "{\"cache_ttl_seconds\": 300}"), body)).isNotEqualTo(key);
+  }
+
+  @Test
+  @DisplayName("cache_ttl_seconds가 없는 Task는 캐시하지 않고, 캐시된 결과의 적중/미스가 메트릭으로 노출된다")
+  void get_shouldCacheOnlyOptedInTasks_andRecordMetrics() throws Exception {
+    JsonNode body = objectMapper.readTree("{\"tag\": \"naver\"}");
+    assertThat(cache.keyOf(task(1L, null), body)).isNull();
+    assertThat(cache.keyOf(task(1L, "{\"cache_ttl_seconds\": 0}"), body)).isNull();
+
+    Task task = task(1L, "{\"cache_ttl_seconds\": 300}");
+    TaskResultCache.Key key = cache.keyOf(task, body);
+    assertThat(cache.get(key)).isNull();
+
+    cache.put(task, key, "{\"data\": {\"keyword\": \"캠핑\"}}");
+
+    assertThat(cache.get(key)).isEqualTo("{\"data\": {\"keyword\": \"캠핑\"}}");
+    assertThat(
+            meterRegistry
+                .get("cache.gets")
+                .tag("cache", "taskResult")
+                .tag("result", "hit")
+                .functionCounter()
+                .count())
+        .isEqualTo(1);
+    assertThat(
+            meterRegistry
+                .get("cache.gets")
+                .tag("cache", "taskResult")
+                .tag("result", "miss")
+                .functionCounter()
+                .count())
+        .isEqualTo(1);
+  }
+}
@@ -0,0 +1,133 @@
+package site.icebang.unit.tests.workflow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.ConnectException;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.concurrent.CompletionException;
+
+import org.apache.hc.client5.http.ConnectTimeoutException;
+import org.apache.hc.core5.http.ConnectionRequestTimeoutException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import site.icebang.domain.workflow.model.Task;
+import site.icebang.domain.workflow.retry.RetryDecision;
+import site.icebang.domain.workflow.retry.TaskRetryPolicies;
+import site.icebang.external.fastapi.exception.FailureType;
+import site.icebang.external.fastapi.exception.FastApiCallException;
+import site.icebang.global.config.properties.TaskRetryProperties;
+import site.icebang.unit.setup.support.UnitTestSupport;
+
+class TaskRetryPoliciesTest extends UnitTestSupport {
+
+  private static final Task FASTAPI_TASK =
+      new Task(1L, "키워드 검색 태스크", "FastAPI", null, null, null, null);
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private TaskRetryPolicies policies(TaskRetryProperties properties) {
+    return new TaskRetryPolicies(properties, meterRegistry);
+  }
+
+  @Test
+  @DisplayName("감싸진 예외도 원인을 따라가 실패 유형을 분류한다")
+  void classify_shouldUnwrapCauses() {
+    assertThat(
+            FailureType.classify(
+                new CompletionException(new FastApiCallException(503, null, "unavailable"))))
+        .isEqualTo(FailureType.SERVER_ERROR);
+    assertThat(FailureType.classify(new ResourceAccessException("I/O", new ConnectException())))
+        .isEqualTo(FailureType.CONNECT);
+    assertThat(FailureType.classify(new CompletionException(new HttpTimeoutException("timeout"))))
+        .isEqualTo(FailureType.TIMEOUT);
+    assertThat(FailureType.classify(new CompletionException(new ConnectTimeoutException("conn"))))
+        .isEqualTo(FailureType.CONNECT);
+    assertThat(
+            FailureType.classify(
+                new CompletionException(new ConnectionRequestTimeoutException("pool"))))
+        .isEqualTo(FailureType.TIMEOUT);
+    assertThat(FailureType.fromStatus(429)).isEqualTo(FailureType.RATE_LIMITED);
+    assertThat(FailureType.fromStatus(404)).isEqualTo(FailureType.CLIENT_ERROR);
+    assertThat(FailureType.classify(new IllegalStateException())).isEqualTo(FailureType.UNKNOWN);
+  }
+
+  @Test
+  @DisplayName("4xx 응답은 재시도하지 않고, 일시적인 실패는 최대 시도 횟수까지 지수 상한 안에서 재시도한다")
+  void decide_shouldFailFastOnClientError_andBackOffWithJitter() {
+    TaskRetryPolicies policies = policies(new TaskRetryProperties());
+
+    RetryDecision clientError =
+        policies.decide(
+            FASTAPI_TASK, 1, new FastApiCallException(400, null, "bad request"), 60000);
+    assertThat(clientError.outcome()).isEqualTo(RetryDecision.Outcome.NOT_RETRYABLE);
+
+    FastApiCallException serverError = new FastApiCallException(502, null, "bad gateway");
+    RetryDecision first = policies.decide(FASTAPI_TASK, 1, serverError, 60000);
+    RetryDecision second = policies.decide(FASTAPI_TASK, 2, serverError, 60000);
+    RetryDecision third = policies.decide(FASTAPI_TASK, 3, serverError, 60000);
+
+    assertThat(first.shouldRetry()).isTrue();
+    assertThat(first.delayMillis()).isBetween(0L, 500L);
+    assertThat(second.delayMillis()).isBetween(0L, 1000L);
+    assertThat(third.outcome()).isEqualTo(RetryDecision.Outcome.EXHAUSTED);
+    assertThat(
+            meterRegistry
+                .get("workflow.task.retry.decisions")
+                .tag("failure", "SERVER_ERROR")
+                .tag("decision", "RETRY")
+                .counter()
+                .count())
+        .isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("429 응답은 Retry-After 이후에 재시도하며, 제한 시간을 넘기게 되면 재시도하지 않는다")
+  void decide_shouldHonourRetryAfter_withinDeadline() {
+    TaskRetryPolicies policies = policies(new TaskRetryProperties());
+    FastApiCallException rateLimited =
+        new FastApiCallException(429, Duration.ofSeconds(3), "too many requests");
+
+    RetryDecision decision = policies.decide(FASTAPI_TASK, 1, rateLimited, 60000);
+    RetryDecision nearDeadline = policies.decide(FASTAPI_TASK, 1, rateLimited, 1000);
+
+    assertThat(decision.shouldRetry()).isTrue();
+    assertThat(decision.delayMillis()).isEqualTo(3000);
+    assertThat(nearDeadline.outcome()).isEqualTo(RetryDecision.Outcome.DEADLINE);
+  }
+
+  @Test
+  @DisplayName("재시도 예산을 넘는 재시도는 거부되고, Task 타입별 정책이 기본 정책보다 우선한다")
+  void decide_shouldRespectRetryBudget_andTypePolicies() {
+    TaskRetryProperties properties = new TaskRetryProperties();
+    properties.setBudgetRatio(0.5);
+    properties.setBudgetMinRetriesPerSecond(0);
+    TaskRetryProperties.Policy fastApiPolicy = new TaskRetryProperties.Policy();
+    fastApiPolicy.setMaxAttempts(5);
+    fastApiPolicy.setRetryOn(EnumSet.of(FailureType.CONNECT));
+    properties.getTypes().put("fastapi", fastApiPolicy);
+    TaskRetryPolicies policies = policies(properties);
+
+    assertThat(policies.policyFor(FASTAPI_TASK).maxAttempts()).isEqualTo(5);
+    Task batchTask = new Task(2L, "배치", "Batch", null, null, null, null);
+    assertThat(policies.policyFor(batchTask).maxAttempts()).isEqualTo(3);
+
+    FastApiCallException connectFailure =
+        new FastApiCallException(FailureType.CONNECT, "refused", new ConnectException());
+    policies.onFirstAttempt();
+    policies.onFirstAttempt();
+    assertThat(policies.decide(FASTAPI_TASK, 1, connectFailure, 60000).shouldRetry()).isTrue();
+    assertThat(policies.decide(FASTAPI_TASK, 2, connectFailure, 60000).outcome())
+        .isEqualTo(RetryDecision.Outcome.BUDGET_EXHAUSTED);
+    assertThat(
+            policies
+                .decide(FASTAPI_TASK, 1, new FastApiCallException(500, null, "error"), 60000)
+                .outcome())
+        .isEqualTo(RetryDecision.Outcome.NOT_RETRYABLE);
+  }
+}
@@ -0,0 +1,106 @@
+package site.icebang.unit.tests.workflow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import site.icebang.domain.workflow.context.WorkflowContext;
+import site.icebang.domain.workflow.context.WorkflowContextFactory;
+import site.icebang.global.config.properties.WorkflowContextProperties;
+import site.icebang.unit.setup.support.UnitTestSupport;
+
+class WorkflowContextTest extends UnitTestSupport {
+
+  private static final String SMALL = "{\"data\": {\"keyword\": \"캠핑\"}}";
+  private static final String LARGE =
+      "{\"data\": {\"keyword\": \"캠핑\", \"crawled_products\": [{\"url\": \"a\"}, {\"url\": \"b\"}],"
+          + " \"padding\": \"" + "x".repeat(200) + "\"}}";
+
+  @TempDir Path spillDirectory;
+
+  private SimpleMeterRegistry meterRegistry;
+  private WorkflowContextFactory factory;
+
+  @BeforeEach
+  void setUp() {
+    WorkflowContextProperties properties = new WorkflowContextProperties();
+    properties.setMemoryBudget(70);
+    properties.setSpillThreshold(80);
+    properties.setSpillDirectory(spillDirectory.toString());
+    meterRegistry = new SimpleMeterRegistry();
+    factory = new WorkflowContextFactory(properties, new ObjectMapper(), meterRegistry);
+  }
+
+  @Test
+  @DisplayName("한도를 넘는 결과는 압축 파일로 저장하고, JSON Pointer로 필요한 부분만 읽는다")
+  void put_shouldSpillLargeResult_andReadLazilyByPointer() throws Exception {
+    try (WorkflowContext context = factory.create(1L)) {
+      context.put("키워드 검색 태스크", SMALL);
+      context.put("상품 정보 크롤링 태스크", LARGE);
+
+      assertThat(context.isSpilled("키워드 검색 태스크")).isFalse();
+      assertThat(context.isSpilled("상품 정보 크롤링 태스크")).isTrue();
+      assertThat(context.at("키워드 검색 태스크", "/data/keyword").asText()).isEqualTo("캠핑");
+      assertThat(context.at("상품 정보 크롤링 태스크", "/data/crawled_products").size()).isEqualTo(2);
+      assertThat(context.at("상품 정보 크롤링 태스크", "/data/crawled_products/1/url").asText())
+          .isEqualTo("b");
+      assertThat(context.at("상품 정보 크롤링 태스크", "/data/missing").isMissingNode()).isTrue();
+      assertThat(context.get("상품 정보 크롤링 태스크").path("data").path("keyword").asText())
+          .isEqualTo("캠핑");
+      assertThat(context.get("없는 태스크")).isNull();
+
+      assertThat(bytesGauge("memory")).isEqualTo((double) context.getMemoryBytes());
+      assertThat(bytesGauge("disk")).isEqualTo((double) context.getSpilledBytes()).isPositive();
+      assertThat(spilledFiles()).isEqualTo(1);
+    }
+
+    assertThat(bytesGauge("memory")).isZero();
+    assertThat(bytesGauge("disk")).isZero();
+    assertThat(spilledFiles()).isZero();
+  }
+
+  @Test
+  @DisplayName("실행별 메모리 한도를 넘으면 작은 결과도 파일로 저장하고, 잘못된 JSON은 거부한다")
+  void put_shouldRespectMemoryBudget_andRejectInvalidJson() throws Exception {
+    try (WorkflowContext context = factory.create(2L)) {
+      context.put("A", SMALL);
+      context.put("B", SMALL);
+      context.put("C", SMALL);
+
+      assertThat(context.isSpilled("A")).isFalse();
+      assertThat(context.isSpilled("B")).isFalse();
+      assertThat(context.isSpilled("C")).isTrue();
+      assertThat(context.getMemoryBytes()).isLessThanOrEqualTo(70);
+      assertThat(context.at("C", "/data/keyword").asText()).isEqualTo("캠핑");
+
+      assertThatThrownBy(() -> context.put("D", "{\"data\": ")).isInstanceOf(IOException.class);
+      assertThatThrownBy(() -> context.put("E", "{\"data\": \"" + "x".repeat(100)))
+          .isInstanceOf(IOException.class);
+      assertThat(context.get("D")).isNull();
+      assertThat(context.get("E")).isNull();
+    }
+  }
+
+  private double bytesGauge(String storage) {
+    return meterRegistry.get("workflow.context.bytes").tag("storage", storage).gauge().value();
+  }
+
+  private long spilledFiles() throws IOException {
+    try (Stream<Path> files = Files.walk(spillDirectory)) {
+      return files.filter(Files::isRegularFile).count();
+    }
+  }
+}
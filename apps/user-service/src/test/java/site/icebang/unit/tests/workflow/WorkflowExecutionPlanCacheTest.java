@@ -0,0 +1,130 @@
+package site.icebang.unit.tests.workflow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import site.icebang.domain.workflow.cache.WorkflowExecutionPlanCache;
+import site.icebang.domain.workflow.dto.JobDto;
+import site.icebang.domain.workflow.dto.TaskDto;
+import site.icebang.domain.workflow.dto.WorkflowDetailCardDto;
+import site.icebang.domain.workflow.mapper.JobMapper;
+import site.icebang.domain.workflow.mapper.WorkflowMapper;
+import site.icebang.domain.workflow.plan.WorkflowExecutionPlan;
+import site.icebang.domain.workflow.plan.WorkflowExecutionPlanCompiler;
+import site.icebang.domain.workflow.runner.TaskRunner;
+import site.icebang.domain.workflow.runner.fastapi.body.BodyMappingCompiler;
+import site.icebang.domain.workflow.runner.fastapi.body.KeywordSearchBodyBuilder;
+import site.icebang.global.config.properties.WorkflowCacheProperties;
+import site.icebang.global.config.properties.WorkflowExecutionProperties;
+import site.icebang.unit.setup.support.UnitTestSupport;
+
+class WorkflowExecutionPlanCacheTest extends UnitTestSupport {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final WorkflowMapper workflowMapper = mock(WorkflowMapper.class);
+  private final JobMapper jobMapper = mock(JobMapper.class);
+  private final TaskRunner fastApiTaskRunner = mock(TaskRunner.class);
+  private WorkflowExecutionPlanCache cache;
+
+  @BeforeEach
+  void setUp() {
+    WorkflowExecutionPlanCompiler compiler =
+        new WorkflowExecutionPlanCompiler(
+            workflowMapper,
+            jobMapper,
+            objectMapper,
+            Map.of("fastapiTaskRunner", fastApiTaskRunner),
+            List.of(new KeywordSearchBodyBuilder(objectMapper)),
+            new BodyMappingCompiler(),
+            new WorkflowExecutionProperties());
+    cache =
+        new WorkflowExecutionPlanCache(
+            compiler, new WorkflowCacheProperties(), new SimpleMeterRegistry());
+
+    WorkflowDetailCardDto workflow = new WorkflowDetailCardDto();
+    workflow.setDefaultConfig(
+        "{\"1\": {\"tag\": \"naver\"},"
+            + " \"execution\": {\"parallel\": true, \"max_concurrent_jobs\": 3}}");
+    when(workflowMapper.selectWorkflowDetailById(BigInteger.ONE)).thenReturn(workflow);
+    when(jobMapper.findJobsByWorkflowId(1L))
+        .thenReturn(new ArrayList<>(List.of(job(2L, 2), job(1L, 1))));
+    when(jobMapper.findTasksByJobId(1L))
+        .thenReturn(
+            new ArrayList<>(
+                List.of(
+                    task(2L, "알 수 없는 태스크", "UNKNOWN", 2),
+                    task(1L, "키워드 검색 태스크", "FastAPI", 1))));
+    when(jobMapper.findTasksByJobId(2L)).thenReturn(new ArrayList<>());
+  }
+
+  @Test
+  @DisplayName("정렬된 Job/Task, 병합된 설정, 실행기와 BodyBuilder가 실행 계획에 포함된다")
+  void get_shouldCompileOrderedPlanWithResolvedComponents() {
+    WorkflowExecutionPlan plan = cache.get(1L);
+
+    assertThat(plan.isParallel()).isTrue();
+    assertThat(plan.getMaxConcurrentJobs()).isEqualTo(3);
+    assertThat(plan.getJobs())
+        .extracting(jobPlan -> jobPlan.job().getId(), WorkflowExecutionPlan.JobPlan::executionOrder)
+        .containsExactly(tuple(1L, 1), tuple(2L, 2));
+
+    List<WorkflowExecutionPlan.TaskPlan> tasks = plan.getJobs().get(0).tasks();
+    assertThat(tasks).extracting(taskPlan -> taskPlan.task().getId()).containsExactly(1L, 2L);
+    assertThat(tasks.get(0).task().getSettings().get("tag").asText()).isEqualTo("naver");
+    assertThat(tasks.get(0).runner()).isSameAs(fastApiTaskRunner);
+    assertThat(tasks.get(0).bodyBuilder()).isInstanceOf(KeywordSearchBodyBuilder.class);
+    assertThat(tasks.get(1).runner()).isNull();
+    assertThat(tasks.get(1).bodyBuilder()).isNull();
+  }
+
+  @Test
+  @DisplayName("캐시된 실행 계획은 정의를 다시 조회하지 않고, 무효화하면 다시 컴파일한다")
+  void get_shouldReuseCompiledPlanUntilInvalidated() {
+    WorkflowExecutionPlan first = cache.get(1L);
+    WorkflowExecutionPlan second = cache.get(1L);
+
+    assertThat(second).isSameAs(first);
+    verify(workflowMapper, times(1)).selectWorkflowDetailById(any());
+    verify(jobMapper, times(1)).findJobsByWorkflowId(any());
+
+    cache.invalidate(1L);
+    cache.get(1L);
+
+    verify(workflowMapper, times(2)).selectWorkflowDetailById(any());
+  }
+
+  private static JobDto job(Long id, Integer executionOrder) {
+    JobDto job = new JobDto();
+    job.setId(id);
+    job.setIsEnabled(true);
+    job.setExecutionOrder(executionOrder);
+    return job;
+  }
+
+  private static TaskDto task(Long id, String name, String type, Integer executionOrder) {
+    TaskDto task = new TaskDto();
+    task.setId(id);
+    task.setName(name);
+    task.setType(type);
+    task.setExecutionOrder(executionOrder);
+    return task;
+  }
+}
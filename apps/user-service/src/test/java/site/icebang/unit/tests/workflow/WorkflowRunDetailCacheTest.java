@@ -0,0 +1,75 @@
+package site.icebang.unit.tests.workflow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import site.icebang.domain.workflow.cache.WorkflowRunDetailCache;
+import site.icebang.domain.workflow.dto.JobRunDto;
+import site.icebang.domain.workflow.dto.TaskRunDto;
+import site.icebang.domain.workflow.dto.WorkflowRunDetailResponse;
+import site.icebang.domain.workflow.dto.WorkflowRunDto;
+import site.icebang.global.config.properties.WorkflowCacheProperties;
+import site.icebang.unit.setup.support.UnitTestSupport;
+
+class WorkflowRunDetailCacheTest extends UnitTestSupport {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final WorkflowRunDetailCache cache =
+      new WorkflowRunDetailCache(new WorkflowCacheProperties(), meterRegistry);
+
+  private static WorkflowRunDetailResponse detail(Long runId, String status) {
+    return WorkflowRunDetailResponse.builder()
+        .workflowRun(WorkflowRunDto.builder().id(runId).status(status).build())
+        .jobRuns(
+            List.of(
+                JobRunDto.builder()
+                    .id(1L)
+                    .taskRuns(List.of(TaskRunDto.builder().id(1L).build()))
+                    .build()))
+        .build();
+  }
+
+  @Test
+  @DisplayName("종료된 실행만 캐시되고, 진행 중인 실행은 캐시되지 않는다")
+  void putIfFinished_shouldCacheOnlyFinishedRuns() {
+    assertThat(cache.putIfFinished(1L, detail(1L, "SUCCESS"))).isTrue();
+    assertThat(cache.putIfFinished(2L, detail(2L, "FAILED"))).isTrue();
+    assertThat(cache.putIfFinished(3L, detail(3L, "RUNNING"))).isFalse();
+
+    assertThat(cache.get(1L)).isNotNull();
+    assertThat(cache.get(2L)).isNotNull();
+    assertThat(cache.get(3L)).isNull();
+  }
+
+  @Test
+  @DisplayName("캐시 적중/미스 횟수가 메트릭으로 노출된다")
+  void get_shouldRecordHitAndMissMetrics() {
+    cache.putIfFinished(1L, detail(1L, "SUCCESS"));
+
+    cache.get(1L);
+    cache.get(99L);
+
+    assertThat(
+            meterRegistry
+                .get("cache.gets")
+                .tag("cache", "workflowRunDetail")
+                .tag("result", "hit")
+                .functionCounter()
+                .count())
+        .isEqualTo(1);
+    assertThat(
+            meterRegistry
+                .get("cache.gets")
+                .tag("cache", "workflowRunDetail")
+                .tag("result", "miss")
+                .functionCounter()
+                .count())
+        .isEqualTo(1);
+  }
+}
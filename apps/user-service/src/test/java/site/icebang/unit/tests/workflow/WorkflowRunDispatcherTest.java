@@ -0,0 +1,146 @@
+package site.icebang.unit.tests.workflow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import site.icebang.domain.workflow.mapper.WorkflowRunMapper;
+import site.icebang.domain.workflow.model.WorkflowRun;
+import site.icebang.domain.workflow.queue.WorkflowRunDispatcher;
+import site.icebang.domain.workflow.queue.WorkflowRunLeases;
+import site.icebang.domain.workflow.service.WorkflowExecutionService;
+import site.icebang.global.config.properties.WorkflowQueueProperties;
+import site.icebang.unit.setup.support.UnitTestSupport;
+
+class WorkflowRunDispatcherTest extends UnitTestSupport {
+
+  private final WorkflowRunMapper workflowRunMapper = mock(WorkflowRunMapper.class);
+  private final WorkflowRunLeases leases = mock(WorkflowRunLeases.class);
+  private final WorkflowExecutionService workflowExecutionService =
+      mock(WorkflowExecutionService.class);
+  private SimpleMeterRegistry meterRegistry;
+  private WorkflowRunDispatcher dispatcher;
+
+  @BeforeEach
+  void setUp() {
+    dispatcherWithCapacity(2);
+    when(leases.recoverExpired()).thenReturn(List.of());
+  }
+
+  @Test
+  @DisplayName("동시 실행 수만큼만 임대하고, 실행이 끝나 빈 슬롯이 생기면 다음 실행을 임대한다")
+  void dispatch_shouldRespectConcurrencyLimit() {
+    // given
+    WorkflowRun first = leasedRun(1L);
+    WorkflowRun second = leasedRun(2L);
+    WorkflowRun third = leasedRun(3L);
+    CompletableFuture<Void> firstCompletion = new CompletableFuture<>();
+    when(workflowRunMapper.countByStatus("PENDING")).thenReturn(3L);
+    when(leases.acquire(2)).thenReturn(List.of(first, second));
+    when(workflowExecutionService.executeQueued(first)).thenReturn(firstCompletion);
+    when(workflowExecutionService.executeQueued(second)).thenReturn(new CompletableFuture<>());
+
+    // when & then - 슬롯 2개를 모두 사용하면 더 이상 임대하지 않는다
+    assertThat(dispatcher.dispatch()).isEqualTo(2);
+    assertThat(dispatcher.getRunningCount()).isEqualTo(2);
+    assertThat(dispatcher.dispatch()).isZero();
+    verify(leases, times(1)).acquire(anyInt());
+
+    // when & then - 첫 실행이 끝나면 남은 1개를 임대한다
+    when(workflowRunMapper.countByStatus("PENDING")).thenReturn(1L);
+    when(leases.acquire(1)).thenReturn(List.of(third));
+    when(workflowExecutionService.executeQueued(third)).thenReturn(new CompletableFuture<>());
+    firstCompletion.complete(null);
+    assertThat(dispatcher.getRunningCount()).isEqualTo(1);
+    assertThat(dispatcher.dispatch()).isEqualTo(1);
+    assertThat(dispatcher.getRunningCount()).isEqualTo(2);
+
+    assertThat(meterRegistry.get("workflow.queue.wait").timer().count()).isEqualTo(3);
+    assertThat(meterRegistry.get("workflow.queue.running").gauge().value()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("실행기가 거절하면 거절된 실행과 아직 시작하지 않은 실행의 임대를 모두 반납한다")
+  void dispatch_shouldReleaseUnstartedLeases_whenExecutorRejects() {
+    // given
+    WorkflowRun started = leasedRun(1L);
+    WorkflowRun rejected = leasedRun(2L);
+    WorkflowRun unstarted = leasedRun(3L);
+    dispatcherWithCapacity(3);
+    when(workflowRunMapper.countByStatus("PENDING")).thenReturn(3L);
+    when(leases.acquire(3)).thenReturn(List.of(started, rejected, unstarted));
+    when(workflowExecutionService.executeQueued(started)).thenReturn(new CompletableFuture<>());
+    when(workflowExecutionService.executeQueued(rejected))
+        .thenThrow(new TaskRejectedException("full"));
+
+    // when
+    int dispatched = dispatcher.dispatch();
+
+    // then
+    assertThat(dispatched).isEqualTo(1);
+    assertThat(dispatcher.getRunningCount()).isEqualTo(1);
+    verify(leases, never()).release(1L);
+    verify(leases).release(2L);
+    verify(leases).release(3L);
+    verify(workflowExecutionService, never()).executeQueued(unstarted);
+  }
+
+  @Test
+  @DisplayName("갱신 후 소유하지 않은 실행은 임대를 잃은 것으로 한 번만 기록하여 취소하고, 만료된 실행 복구 수를 기록한다")
+  void maintainLeases_shouldDetectLostLeases_andCountRecoveredRuns() {
+    // given
+    WorkflowRun kept = leasedRun(1L);
+    WorkflowRun lost = leasedRun(2L);
+    when(workflowRunMapper.countByStatus("PENDING")).thenReturn(2L);
+    when(leases.acquire(2)).thenReturn(List.of(kept, lost));
+    when(workflowExecutionService.executeQueued(any())).thenReturn(new CompletableFuture<>());
+    dispatcher.dispatch();
+    when(leases.renew()).thenReturn(Set.of(1L));
+    when(leases.recoverExpired()).thenReturn(List.of(WorkflowRun.enqueueResume(1L, 9L)));
+
+    // when
+    int recovered = dispatcher.maintainLeases();
+    dispatcher.maintainLeases();
+
+    // then
+    assertThat(recovered).isEqualTo(1);
+    assertThat(lost.isCancelled()).isTrue();
+    assertThat(kept.isCancelled()).isFalse();
+    assertThat(meterRegistry.get("workflow.queue.lease.lost").counter().count()).isEqualTo(1);
+    assertThat(meterRegistry.get("workflow.queue.recovered").counter().count()).isEqualTo(2);
+  }
+
+  private void dispatcherWithCapacity(int maxConcurrentRuns) {
+    WorkflowQueueProperties properties = new WorkflowQueueProperties();
+    properties.setMaxConcurrentRuns(maxConcurrentRuns);
+    meterRegistry = new SimpleMeterRegistry();
+    dispatcher =
+        new WorkflowRunDispatcher(
+            workflowRunMapper, leases, workflowExecutionService, properties, meterRegistry);
+  }
+
+  private WorkflowRun leasedRun(Long id) {
+    WorkflowRun workflowRun = WorkflowRun.enqueue(1L);
+    ReflectionTestUtils.setField(workflowRun, "id", id);
+    workflowRun.markStarted(Instant.now());
+    return workflowRun;
+  }
+}